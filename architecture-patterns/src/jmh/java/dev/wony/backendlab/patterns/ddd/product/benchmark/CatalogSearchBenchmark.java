@@ -0,0 +1,105 @@
+package dev.wony.backendlab.patterns.ddd.product.benchmark;
+
+import dev.wony.backendlab.patterns.ddd.product.domain.catalog.CatalogIndex;
+import dev.wony.backendlab.patterns.ddd.product.domain.catalog.CatalogQuery;
+import dev.wony.backendlab.patterns.ddd.product.domain.catalog.CatalogResult;
+import dev.wony.backendlab.patterns.ddd.product.domain.catalog.CatalogSort;
+import dev.wony.backendlab.patterns.ddd.product.domain.category.CategoryTree;
+import dev.wony.backendlab.patterns.ddd.product.domain.entity.Category;
+import dev.wony.backendlab.patterns.ddd.product.domain.entity.Product;
+import dev.wony.backendlab.patterns.ddd.product.domain.entity.ProductStatus;
+import dev.wony.backendlab.patterns.ddd.product.domain.vo.*;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 상품 100만 개, 카테고리 3단계 (10 x 10 x 10) 카탈로그의 필터 + facet 검색 비용.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CatalogSearchBenchmark {
+
+    private static final int PRODUCTS = 1_000_000;
+
+    private CatalogIndex index;
+    private CatalogQuery allOnSale;
+    private CatalogQuery topCategory;
+    private CatalogQuery leafCategory;
+    private CatalogQuery narrowPrice;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(1);
+        LocalDateTime createdAt = LocalDateTime.of(2026, 1, 1, 0, 0);
+        List<Category> categories = new ArrayList<>();
+        List<CategoryId> leaves = new ArrayList<>();
+        for (int a = 0; a < 10; a++) {
+            CategoryId top = CategoryId.of("c" + a);
+            categories.add(Category.reconstitute(top, top.getValue(), null, null, a, true, createdAt, null));
+            for (int b = 0; b < 10; b++) {
+                CategoryId middle = CategoryId.of("c" + a + "-" + b);
+                categories.add(Category.reconstitute(middle, middle.getValue(), null, top, b, true, createdAt, null));
+                for (int c = 0; c < 10; c++) {
+                    CategoryId leaf = CategoryId.of("c" + a + "-" + b + "-" + c);
+                    categories.add(Category.reconstitute(leaf, leaf.getValue(), null, middle, c, true, createdAt, null));
+                    leaves.add(leaf);
+                }
+            }
+        }
+
+        ProductStatus[] statuses = ProductStatus.values();
+        List<Product> products = new ArrayList<>(PRODUCTS);
+        for (int i = 0; i < PRODUCTS; i++) {
+            products.add(Product.reconstitute(ProductId.of("p" + i), ProductName.of("상품"), null,
+                    Money.of(100L * (10 + random.nextInt(20_000))), Quantity.of(random.nextInt(4)),
+                    leaves.get(random.nextInt(leaves.size())), statuses[random.nextInt(statuses.length)],
+                    createdAt.plusSeconds(random.nextInt(10_000_000)), null));
+        }
+        index = CatalogIndex.build(products, CategoryTree.of(categories));
+
+        allOnSale = CatalogQuery.builder()
+                .statuses(Set.of(ProductStatus.ON_SALE))
+                .minPrice(Money.of(20_000))
+                .maxPrice(Money.of(250_000))
+                .inStockOnly(true)
+                .sort(CatalogSort.PRICE_ASC)
+                .build();
+        topCategory = allOnSale.toBuilder().categoryId(CategoryId.of("c3")).build();
+        leafCategory = allOnSale.toBuilder().categoryId(CategoryId.of("c3-4-5")).sort(CatalogSort.NEWEST).build();
+        narrowPrice = allOnSale.toBuilder().minPrice(Money.of(100_000)).maxPrice(Money.of(100_500))
+                .sort(CatalogSort.PRICE_DESC).build();
+    }
+
+    @Benchmark
+    public CatalogResult allCategories() {
+        return index.search(allOnSale);
+    }
+
+    @Benchmark
+    public CatalogResult topCategory() {
+        return index.search(topCategory);
+    }
+
+    @Benchmark
+    public CatalogResult leafCategory() {
+        return index.search(leafCategory);
+    }
+
+    @Benchmark
+    public CatalogResult narrowPriceRange() {
+        return index.search(narrowPrice);
+    }
+}
@@ -0,0 +1,74 @@
+package dev.wony.backendlab.patterns.ddd.product.benchmark;
+
+import dev.wony.backendlab.patterns.ddd.product.domain.entity.Product;
+import dev.wony.backendlab.patterns.ddd.product.domain.vo.CategoryId;
+import dev.wony.backendlab.patterns.ddd.product.domain.vo.Money;
+import dev.wony.backendlab.patterns.ddd.product.domain.vo.ProductName;
+import dev.wony.backendlab.patterns.ddd.product.domain.vo.Quantity;
+import dev.wony.backendlab.patterns.ddd.product.infrastructure.eventsourcing.EventSourcedProductRepository;
+import dev.wony.backendlab.patterns.ddd.product.infrastructure.eventsourcing.JdbcProductEventStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.time.Clock;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 재고 변경 이력이 {@code changes}건 쌓인 상품을 {@link EventSourcedProductRepository}로 복원하는 비용. (임베디드 H2)
+ * 스냅샷 + 꼬리 이벤트만 재생하므로 이력 길이와 관계없이 비슷해야 합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EventSourcedLoadBenchmark {
+
+    @Param({"1000", "100000"})
+    private int changes;
+
+    private EmbeddedDatabase database;
+    private EventSourcedProductRepository repository;
+    private Product product;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .addScript("db/product/event-store.sql")
+                .build();
+        repository = new EventSourcedProductRepository(new JdbcProductEventStore(database, Clock.systemDefaultZone()),
+                events -> {
+                });
+        product = Product.create(ProductName.of("키보드"), "기계식", Money.of(59000), Quantity.of(10),
+                CategoryId.generate());
+        for (int i = 0; i < changes; i++) {
+            product.addStock(Quantity.of(1));
+            if ((i + 1) % 10_000 == 0) {
+                repository.save(product);
+            }
+        }
+        product.addStock(Quantity.of(1));
+        repository.save(product);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        database.shutdown();
+    }
+
+    @Benchmark
+    public Product load() {
+        return repository.getById(product.getId());
+    }
+}
@@ -0,0 +1,131 @@
+package dev.wony.backendlab.patterns.ddd.product.benchmark;
+
+import dev.wony.backendlab.patterns.ddd.product.domain.entity.Product;
+import dev.wony.backendlab.patterns.ddd.product.domain.pricing.CompiledPricingRule;
+import dev.wony.backendlab.patterns.ddd.product.domain.pricing.PricingContext;
+import dev.wony.backendlab.patterns.ddd.product.domain.pricing.PricingRule;
+import dev.wony.backendlab.patterns.ddd.product.domain.pricing.PricingRule.Tier;
+import dev.wony.backendlab.patterns.ddd.product.domain.service.PricingPolicy;
+import dev.wony.backendlab.patterns.ddd.product.domain.vo.*;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 규칙 20개짜리 프로모션의 {@link CompiledPricingRule} 평가 비용을 단일 {@link PricingPolicy} 호출, 트리 평가와 비교.
+ * {@code bigDecimalPolicy}는 {@link Money}가 BigDecimal 로 정률 할인을 계산하던 때의 단일 정책 연산입니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PricingRuleBenchmark {
+
+    private static final Instant NOW = Instant.parse("2026-11-27T10:00:00Z");
+
+    /**
+     * electronics: 카테고리 규칙 3개와 공통 규칙이 적용되는 상품, grocery: 공통 규칙만 적용되는 상품
+     */
+    @Param({"electronics", "grocery"})
+    public String category;
+
+    private Product product;
+    private Quantity quantity;
+    private PricingContext context;
+
+    private PricingPolicy singlePolicy;
+    private PricingRule promotion;
+    private CompiledPricingRule compiled;
+
+    @Setup
+    public void setUp() {
+        List<CategoryId> categories = List.of(
+                CategoryId.of("electronics"), CategoryId.of("books"), CategoryId.of("food"),
+                CategoryId.of("fashion"), CategoryId.of("beauty"), CategoryId.of("sports"));
+        product = Product.create(ProductName.of("벤치마크 상품"), "설명", Money.of(129_000), Quantity.of(1000),
+                CategoryId.of(category));
+        quantity = Quantity.of(12);
+        context = new PricingContext(product.getCategoryId(), quantity.getValue(), NOW.toEpochMilli());
+
+        // 카테고리 12 + 기간 4 + 공통 4 = 규칙 20개
+        promotion = PricingRule.stack(
+                PricingRule.forCategories(Set.of(categories.get(0)), PricingRule.percentOff(5)),
+                PricingRule.forCategories(Set.of(categories.get(0)),
+                        PricingRule.capped(Money.of(5_000), PricingRule.amountOff(Money.of(7_000)))),
+                PricingRule.forCategories(Set.of(categories.get(0), categories.get(5)),
+                        PricingRule.minQuantity(10, PricingRule.amountOff(Money.of(2_000)))),
+                PricingRule.forCategories(Set.of(categories.get(1)), PricingRule.percentOff(10)),
+                PricingRule.forCategories(Set.of(categories.get(1)), PricingRule.amountOff(Money.of(1_000))),
+                PricingRule.forCategories(Set.of(categories.get(2)), PricingRule.amountOff(Money.of(500))),
+                PricingRule.forCategories(Set.of(categories.get(2)),
+                        PricingRule.tiered(List.of(new Tier(5, 3), new Tier(20, 7)))),
+                PricingRule.forCategories(Set.of(categories.get(3), categories.get(4)), PricingRule.percentOff(15)),
+                PricingRule.forCategories(Set.of(categories.get(3)),
+                        PricingRule.bestOf(PricingRule.percentOff(10), PricingRule.amountOff(Money.of(3_000)))),
+                PricingRule.forCategories(Set.of(categories.get(4)), PricingRule.amountOff(Money.of(700))),
+                PricingRule.forCategories(Set.of(categories.get(5)), PricingRule.percentOff(12)),
+                PricingRule.forCategories(Set.of(categories.get(5)),
+                        PricingRule.capped(Money.of(10_000), PricingRule.percentOff(30))),
+                PricingRule.during(NOW.minus(Duration.ofDays(1)), NOW.plus(Duration.ofDays(1)),
+                        PricingRule.bestOf(
+                                PricingRule.percentOff(20),
+                                PricingRule.amountOff(Money.of(30_000)),
+                                PricingRule.tiered(List.of(new Tier(10, 12), new Tier(50, 25))))),
+                PricingRule.during(NOW.plus(Duration.ofDays(7)), NOW.plus(Duration.ofDays(8)),
+                        PricingRule.percentOff(50)),
+                PricingRule.during(NOW.minus(Duration.ofDays(30)), NOW.minus(Duration.ofDays(29)),
+                        PricingRule.amountOff(Money.of(10_000))),
+                PricingRule.during(NOW.minus(Duration.ofHours(1)), NOW.plus(Duration.ofHours(1)),
+                        PricingRule.amountOff(Money.of(1_000))),
+                PricingRule.capped(Money.of(100_000), PricingRule.minQuantity(10, PricingRule.percentOff(8))),
+                PricingRule.minQuantity(100, PricingRule.amountOff(Money.of(50_000))),
+                PricingRule.amountOff(Money.of(500)),
+                PricingRule.capped(Money.of(2_000), PricingRule.amountOff(Money.of(2_500))));
+        compiled = CompiledPricingRule.compile(promotion, Clock.fixed(NOW, ZoneOffset.UTC));
+        singlePolicy = PricingPolicy.percentDiscount(10);
+    }
+
+    @Benchmark
+    public Money singlePolicy() {
+        return singlePolicy.calculatePrice(product, quantity);
+    }
+
+    @Benchmark
+    public Money bigDecimalPolicy() {
+        long discounted = product.getPrice().getAmount()
+                .multiply(BigDecimal.valueOf(quantity.getValue()))
+                .multiply(BigDecimal.valueOf(90))
+                .divide(BigDecimal.valueOf(100), RoundingMode.HALF_UP)
+                .longValue();
+        return Money.of(discounted);
+    }
+
+    @Benchmark
+    public Money compiledPromotion() {
+        return compiled.calculatePrice(product, quantity);
+    }
+
+    @Benchmark
+    public long compiledPromotionAsLong() {
+        return compiled.priceAsLong(129_000, 12, context.categoryId(), context.epochMilli());
+    }
+
+    @Benchmark
+    public Money treePromotion() {
+        return promotion.price(product.getPrice(), context);
+    }
+}
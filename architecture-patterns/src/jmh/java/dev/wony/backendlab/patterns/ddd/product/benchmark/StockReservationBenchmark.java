@@ -0,0 +1,81 @@
+package dev.wony.backendlab.patterns.ddd.product.benchmark;
+
+import dev.wony.backendlab.patterns.ddd.product.domain.stock.StockReservation;
+import dev.wony.backendlab.patterns.ddd.product.domain.stock.StockReservationEngine;
+import dev.wony.backendlab.patterns.ddd.product.domain.stock.StockStore;
+import dev.wony.backendlab.patterns.ddd.product.domain.vo.ProductId;
+import dev.wony.backendlab.patterns.ddd.product.domain.vo.Quantity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 단일 인기 상품에 16개 스레드가 동시에 예약을 넣을 때의 {@link StockReservationEngine} 처리량.
+ * 저장소는 조건부 차감을 CAS 로 흉내 낸 메모리 구현이라 엔진 자체의 경합 비용만 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(16)
+public class StockReservationBenchmark {
+
+    private static final Quantity ONE = Quantity.of(1);
+
+    private ProductId productId;
+    private StockReservationEngine engine;
+
+    @Setup
+    public void setUp() {
+        productId = ProductId.generate();
+        engine = new StockReservationEngine(new InMemoryStockStore(Integer.MAX_VALUE), Clock.systemUTC(),
+                Duration.ofMinutes(10));
+    }
+
+    @Benchmark
+    public void reserveAndRelease() {
+        StockReservation reservation = engine.reserve(productId, ONE);
+        engine.release(reservation.id());
+    }
+
+    @Benchmark
+    public void reserveAndConfirm() {
+        StockReservation reservation = engine.reserve(productId, ONE);
+        engine.confirm(reservation.id());
+    }
+
+    private static class InMemoryStockStore implements StockStore {
+
+        private final AtomicInteger stock;
+
+        InMemoryStockStore(int stock) {
+            this.stock = new AtomicInteger(stock);
+        }
+
+        @Override
+        public int loadSellableStock(ProductId productId) {
+            return stock.get();
+        }
+
+        @Override
+        public boolean decrease(ProductId productId, Quantity quantity) {
+            int current;
+            do {
+                current = stock.get();
+                if (current < quantity.getValue()) {
+                    return false;
+                }
+            } while (!stock.compareAndSet(current, current - quantity.getValue()));
+            return true;
+        }
+    }
+}
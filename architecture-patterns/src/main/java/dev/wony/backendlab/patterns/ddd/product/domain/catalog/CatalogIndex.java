@@ -0,0 +1,486 @@
+package dev.wony.backendlab.patterns.ddd.product.domain.catalog;
+
+import dev.wony.backendlab.patterns.ddd.product.domain.category.CategoryTree;
+import dev.wony.backendlab.patterns.ddd.product.domain.entity.Product;
+import dev.wony.backendlab.patterns.ddd.product.domain.entity.ProductStatus;
+import dev.wony.backendlab.patterns.ddd.product.domain.vo.CategoryId;
+import dev.wony.backendlab.patterns.ddd.product.domain.vo.Money;
+import dev.wony.backendlab.patterns.ddd.product.domain.vo.ProductId;
+
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * 상품 카탈로그 검색 인덱스 (불변 스냅샷).
+ * <p>
+ * 상품마다 0부터 시작하는 문서 번호를 붙이고, 조건을 문서 번호 비트셋({@code long[]}, 64개씩 한 word)으로 표현합니다.
+ * <ul>
+ *     <li>문서 번호는 카테고리 트리의 전위 순회 순서로 매깁니다. 서브트리가 연속된 구간이므로
+ *     카테고리 조건(하위 카테고리 포함)은 카테고리별 비트셋 없이 문서 번호 구간 하나가 됩니다.</li>
+ *     <li>상태별, 재고 유무, 가격대별 비트셋을 미리 만들어 둡니다.</li>
+ *     <li>가격 조건은 완전히 포함되는 가격대 비트셋을 OR 하고, 경계에 걸친 가격대의 문서만 가격 열({@code long[]})과 비교합니다.</li>
+ *     <li>조건별 상품 수(facet)는 word 마다 해당 조건만 뺀 나머지 조건의 AND 결과를 {@link Long#bitCount}로 셉니다.</li>
+ *     <li>정렬은 가격순/등록순 문서 배열을 따라가며 결과 비트를 확인하고, 결과가 적으면 결과만 모아 순위로 정렬합니다.</li>
+ * </ul>
+ * 스냅샷은 만들 때의 상품 상태와 카테고리 트리를 기준으로 합니다. 상품이나 카테고리가 바뀌면 다시 만들어야 하며,
+ * {@link #categoryTreeVersion()}으로 어떤 트리 버전으로 만든 스냅샷인지 확인할 수 있습니다.
+ * 가격이 {@code long} 범위를 넘는 상품은 {@link Long#MAX_VALUE}로 취급합니다.
+ */
+public final class CatalogIndex {
+
+    /**
+     * 기본 가격대 경계
+     */
+    public static final List<Money> DEFAULT_PRICE_BANDS = List.of(
+            Money.of(10_000), Money.of(30_000), Money.of(50_000), Money.of(100_000),
+            Money.of(300_000), Money.of(1_000_000));
+
+    /**
+     * 결과가 이 수 이하이면 정렬 배열을 따라가지 않고 결과만 모아 정렬합니다.
+     */
+    static final int COLLECT_THRESHOLD = 4096;
+
+    private static final ProductStatus[] STATUSES = ProductStatus.values();
+
+    private final CategoryTree tree;
+    private final int size;
+
+    // 문서 번호별 값
+    private final ProductId[] ids;
+    private final long[] prices;
+    private final int[] priceRank;
+    private final int[] newestRank;
+
+    // 전위 순회 위치별 첫 문서 번호. [tree.size()]부터는 트리에 없는 카테고리의 상품
+    private final int[] categoryStart;
+
+    private final long[][] statusBits;
+    private final long[] inStockBits;
+    private final long[] bandBounds;
+    private final long[][] bandBits;
+
+    // 정렬 순서별 문서 번호
+    private final int[] byPrice;
+    private final int[] byNewest;
+
+    private CatalogIndex(CategoryTree tree, int size, ProductId[] ids, long[] prices, int[] categoryStart,
+                         long[][] statusBits, long[] inStockBits, long[] bandBounds, long[][] bandBits,
+                         int[] byPrice, int[] byNewest) {
+        this.tree = tree;
+        this.size = size;
+        this.ids = ids;
+        this.prices = prices;
+        this.categoryStart = categoryStart;
+        this.statusBits = statusBits;
+        this.inStockBits = inStockBits;
+        this.bandBounds = bandBounds;
+        this.bandBits = bandBits;
+        this.byPrice = byPrice;
+        this.byNewest = byNewest;
+        this.priceRank = ranks(byPrice);
+        this.newestRank = ranks(byNewest);
+    }
+
+    /**
+     * 기본 가격대로 인덱스 생성
+     *
+     * @param products 상품 목록
+     * @param tree     카테고리 트리
+     * @return 카탈로그 인덱스
+     */
+    public static CatalogIndex build(Collection<Product> products, CategoryTree tree) {
+        return build(products, tree, DEFAULT_PRICE_BANDS);
+    }
+
+    /**
+     * 인덱스 생성
+     *
+     * @param products   상품 목록
+     * @param tree       카테고리 트리
+     * @param priceBands 가격대 경계 (오름차순). 경계가 k개이면 가격대는 k + 1개입니다.
+     * @return 카탈로그 인덱스
+     */
+    public static CatalogIndex build(Collection<Product> products, CategoryTree tree, List<Money> priceBands) {
+        checkNotNull(products, "상품 목록은 null일 수 없습니다");
+        checkNotNull(tree, "카테고리 트리는 null일 수 없습니다");
+        checkNotNull(priceBands, "가격대는 null일 수 없습니다");
+        long[] bounds = priceBands.stream().mapToLong(CatalogIndex::toLong).toArray();
+        for (int i = 1; i < bounds.length; i++) {
+            checkArgument(bounds[i - 1] < bounds[i], "가격대 경계는 오름차순이어야 합니다: %s", priceBands);
+        }
+
+        // 카테고리 전위 순회 위치별 계수 정렬로 문서 번호 부여
+        Product[] input = products.toArray(Product[]::new);
+        int n = input.length;
+        int outside = tree.size();
+        int[] positions = new int[n];
+        int[] categoryStart = new int[outside + 2];
+        for (int i = 0; i < n; i++) {
+            CategoryId categoryId = input[i].getCategoryId();
+            positions[i] = tree.contains(categoryId) ? tree.position(categoryId) : outside;
+            categoryStart[positions[i] + 1]++;
+        }
+        for (int pos = 0; pos <= outside; pos++) {
+            categoryStart[pos + 1] += categoryStart[pos];
+        }
+        int[] fill = Arrays.copyOf(categoryStart, outside + 1);
+
+        int words = wordCount(n);
+        ProductId[] ids = new ProductId[n];
+        long[] prices = new long[n];
+        long[] createdAt = new long[n];
+        long[][] statusBits = new long[STATUSES.length][words];
+        long[] inStockBits = new long[words];
+        long[][] bandBits = new long[bounds.length + 1][words];
+        for (int i = 0; i < n; i++) {
+            Product product = input[i];
+            int doc = fill[positions[i]]++;
+            ids[doc] = product.getId();
+            prices[doc] = toLong(product.getPrice());
+            createdAt[doc] = product.getCreatedAt().toEpochSecond(ZoneOffset.UTC) * 1_000_000_000L
+                    + product.getCreatedAt().getNano();
+            set(statusBits[product.getStatus().ordinal()], doc);
+            if (product.getStockQuantity().isPositive()) {
+                set(inStockBits, doc);
+            }
+            set(bandBits[bandOf(bounds, prices[doc])], doc);
+        }
+        return new CatalogIndex(tree, n, ids, prices, categoryStart, statusBits, inStockBits, bounds, bandBits,
+                orderBy(prices, false), orderBy(createdAt, true));
+    }
+
+    /**
+     * 상품 수
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 인덱스를 만들 때 사용한 카테고리 트리 버전
+     */
+    public long categoryTreeVersion() {
+        return tree.version();
+    }
+
+    /**
+     * 검색
+     *
+     * @param query 검색 조건
+     * @return 검색 결과와 조건별 상품 수
+     * @throws dev.wony.backendlab.patterns.ddd.product.domain.repository.CategoryRepository.CategoryNotFoundException
+     *         트리에 없는 카테고리로 검색한 경우
+     */
+    public CatalogResult search(CatalogQuery query) {
+        checkNotNull(query, "검색 조건은 null일 수 없습니다");
+        Filter filter = new Filter(query);
+        long[] matches = new long[wordCount(size)];
+        Counts counts = new Counts(bandBits.length);
+        if (filter.from < filter.to) {
+            scan(filter, matches, counts);
+        }
+
+        Map<CategoryId, Long> categories = new LinkedHashMap<>();
+        List<CategoryId> facetCategories = query.categoryId() != null ? tree.children(query.categoryId()) : tree.roots();
+        for (CategoryId child : facetCategories) {
+            int pos = tree.position(child);
+            categories.put(child, count(matches, categoryStart[pos], categoryStart[pos + tree.subtreeSize(child)]));
+        }
+        Map<ProductStatus, Long> statuses = new EnumMap<>(ProductStatus.class);
+        for (ProductStatus status : STATUSES) {
+            statuses.put(status, counts.statuses[status.ordinal()]);
+        }
+        List<CatalogResult.PriceBand> bands = new ArrayList<>(bandBits.length);
+        for (int b = 0; b < bandBits.length; b++) {
+            bands.add(new CatalogResult.PriceBand(b == 0 ? null : Money.of(bandBounds[b - 1]),
+                    b == bandBounds.length ? null : Money.of(bandBounds[b]), counts.bands[b]));
+        }
+
+        List<ProductId> page = page(query, filter, matches, counts.total);
+        return new CatalogResult(counts.total, page,
+                new CatalogResult.Facets(statuses, categories, bands, counts.inStock));
+    }
+
+    /**
+     * 검색 범위의 word 를 한 번 순회하며 결과 비트셋과 조건별 상품 수 계산
+     */
+    private void scan(Filter filter, long[] matches, Counts counts) {
+        int firstWord = filter.from >>> 6;
+        int lastWord = (filter.to - 1) >>> 6;
+        for (int w = firstWord; w <= lastWord; w++) {
+            long range = -1L;
+            if (w == firstWord) {
+                range &= -1L << (filter.from & 63);
+            }
+            if (w == lastWord) {
+                range &= -1L >>> (63 - ((filter.to - 1) & 63));
+            }
+
+            long status = range;
+            if (filter.statuses != null) {
+                status = 0;
+                for (int s : filter.statuses) {
+                    status |= statusBits[s][w];
+                }
+            }
+            long stock = filter.inStockOnly ? inStockBits[w] : -1L;
+            long price = filter.hasPrice ? priceWord(filter, w, range) : -1L;
+
+            long match = range & status & stock & price;
+            matches[w] = match;
+            counts.total += Long.bitCount(match);
+
+            long withoutStatus = range & stock & price;
+            if (withoutStatus != 0) {
+                for (int s = 0; s < STATUSES.length; s++) {
+                    counts.statuses[s] += Long.bitCount(withoutStatus & statusBits[s][w]);
+                }
+            }
+            counts.inStock += Long.bitCount(range & status & price & inStockBits[w]);
+            long withoutPrice = range & status & stock;
+            if (withoutPrice != 0) {
+                for (int b = 0; b < bandBits.length; b++) {
+                    counts.bands[b] += Long.bitCount(withoutPrice & bandBits[b][w]);
+                }
+            }
+        }
+    }
+
+    /**
+     * word 안에서 가격 조건에 맞는 문서 비트
+     */
+    private long priceWord(Filter filter, int w, long range) {
+        long bits = 0;
+        for (int b = filter.firstFullBand; b <= filter.lastFullBand; b++) {
+            bits |= bandBits[b][w];
+        }
+        for (int b : filter.edgeBands) {
+            long edge = bandBits[b][w] & range;
+            while (edge != 0) {
+                int bit = Long.numberOfTrailingZeros(edge);
+                long price = prices[(w << 6) + bit];
+                if (price >= filter.minPrice && price <= filter.maxPrice) {
+                    bits |= 1L << bit;
+                }
+                edge &= edge - 1;
+            }
+        }
+        return bits;
+    }
+
+    private List<ProductId> page(CatalogQuery query, Filter filter, long[] matches, long total) {
+        int skip = query.offset();
+        if (total <= skip) {
+            return List.of();
+        }
+        int limit = (int) Math.min(query.limit(), total - skip);
+        List<ProductId> page = new ArrayList<>(limit);
+
+        int[] order = query.sort() == CatalogSort.NEWEST ? byNewest : byPrice;
+        boolean descending = query.sort() == CatalogSort.PRICE_DESC;
+        if (total <= COLLECT_THRESHOLD) {
+            // 결과 문서의 순위만 모아 정렬
+            int[] rank = query.sort() == CatalogSort.NEWEST ? newestRank : priceRank;
+            int[] ranks = new int[(int) total];
+            int k = 0;
+            for (int w = filter.from >>> 6; k < ranks.length; w++) {
+                for (long bits = matches[w]; bits != 0; bits &= bits - 1) {
+                    ranks[k++] = rank[(w << 6) + Long.numberOfTrailingZeros(bits)];
+                }
+            }
+            Arrays.sort(ranks);
+            for (int i = 0; i < limit; i++) {
+                int r = descending ? ranks[ranks.length - 1 - skip - i] : ranks[skip + i];
+                page.add(ids[order[r]]);
+            }
+            return page;
+        }
+
+        for (int i = 0; i < size && page.size() < limit; i++) {
+            int doc = order[descending ? size - 1 - i : i];
+            if ((matches[doc >>> 6] & (1L << doc)) != 0) {
+                if (skip > 0) {
+                    skip--;
+                } else {
+                    page.add(ids[doc]);
+                }
+            }
+        }
+        return page;
+    }
+
+    /**
+     * 문서 구간 {@code [from, to)}의 결과 수
+     */
+    private static long count(long[] bits, int from, int to) {
+        if (from >= to) {
+            return 0;
+        }
+        int firstWord = from >>> 6;
+        int lastWord = (to - 1) >>> 6;
+        long first = -1L << (from & 63);
+        long last = -1L >>> (63 - ((to - 1) & 63));
+        if (firstWord == lastWord) {
+            return Long.bitCount(bits[firstWord] & first & last);
+        }
+        long count = Long.bitCount(bits[firstWord] & first) + Long.bitCount(bits[lastWord] & last);
+        for (int w = firstWord + 1; w < lastWord; w++) {
+            count += Long.bitCount(bits[w]);
+        }
+        return count;
+    }
+
+    /**
+     * 검색 조건을 문서 번호 구간, 상태 번호, 가격대 번호로 변환한 값
+     */
+    private final class Filter {
+
+        final int from;
+        final int to;
+        final int[] statuses;
+        final boolean inStockOnly;
+        final boolean hasPrice;
+        final long minPrice;
+        final long maxPrice;
+        int firstFullBand = 0;
+        int lastFullBand = -1;
+        int[] edgeBands = new int[0];
+
+        Filter(CatalogQuery query) {
+            if (query.categoryId() != null) {
+                int pos = tree.position(query.categoryId());
+                from = categoryStart[pos];
+                to = categoryStart[pos + tree.subtreeSize(query.categoryId())];
+            } else {
+                from = 0;
+                to = size;
+            }
+            statuses = query.statuses().isEmpty() ? null
+                    : query.statuses().stream().mapToInt(ProductStatus::ordinal).toArray();
+            inStockOnly = query.inStockOnly();
+            hasPrice = query.minPrice() != null || query.maxPrice() != null;
+            minPrice = query.minPrice() != null ? toLong(query.minPrice()) : Long.MIN_VALUE;
+            maxPrice = query.maxPrice() != null ? toLong(query.maxPrice()) : Long.MAX_VALUE;
+            if (hasPrice) {
+                classifyBands();
+            }
+        }
+
+        /**
+         * 가격 조건과 겹치는 가격대를 완전히 포함되는 것과 경계에 걸친 것으로 분류
+         */
+        private void classifyBands() {
+            int low = bandOf(bandBounds, minPrice);
+            int high = bandOf(bandBounds, maxPrice);
+            boolean lowFull = low == 0 ? minPrice == Long.MIN_VALUE : bandBounds[low - 1] >= minPrice;
+            boolean highFull = high == bandBounds.length ? maxPrice == Long.MAX_VALUE : bandBounds[high] - 1 <= maxPrice;
+            if (low == high) {
+                if (lowFull && highFull) {
+                    firstFullBand = low;
+                    lastFullBand = low;
+                } else {
+                    edgeBands = new int[]{low};
+                }
+                return;
+            }
+            firstFullBand = lowFull ? low : low + 1;
+            lastFullBand = highFull ? high : high - 1;
+            if (!lowFull && !highFull) {
+                edgeBands = new int[]{low, high};
+            } else if (!lowFull) {
+                edgeBands = new int[]{low};
+            } else if (!highFull) {
+                edgeBands = new int[]{high};
+            }
+        }
+    }
+
+    private static final class Counts {
+
+        long total;
+        long inStock;
+        final long[] statuses = new long[STATUSES.length];
+        final long[] bands;
+
+        Counts(int bandCount) {
+            this.bands = new long[bandCount];
+        }
+    }
+
+    private static long toLong(Money money) {
+        return money.fitsInLong() ? money.longValue() : Long.MAX_VALUE;
+    }
+
+    private static int wordCount(int bits) {
+        return (bits + 63) >>> 6;
+    }
+
+    private static void set(long[] bits, int index) {
+        bits[index >>> 6] |= 1L << index;
+    }
+
+    /**
+     * 가격이 속한 가격대 번호 (경계 이상인 가장 큰 경계의 다음 번호)
+     */
+    private static int bandOf(long[] bounds, long price) {
+        int low = 0;
+        int high = bounds.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (bounds[mid] <= price) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * 값 순서의 문서 번호 배열. 같은 값은 문서 번호 오름차순입니다.
+     */
+    private static int[] orderBy(long[] keys, boolean descending) {
+        int n = keys.length;
+        long[] distinct = keys.clone();
+        Arrays.sort(distinct);
+        int unique = 0;
+        for (int i = 0; i < n; i++) {
+            if (i == 0 || distinct[i] != distinct[i - 1]) {
+                distinct[unique++] = distinct[i];
+            }
+        }
+        // 서로 다른 값의 순위별 계수 정렬
+        int[] start = new int[unique + 1];
+        int[] rank = new int[n];
+        for (int doc = 0; doc < n; doc++) {
+            int r = Arrays.binarySearch(distinct, 0, unique, keys[doc]);
+            rank[doc] = descending ? unique - 1 - r : r;
+            start[rank[doc] + 1]++;
+        }
+        for (int r = 0; r < unique; r++) {
+            start[r + 1] += start[r];
+        }
+        int[] order = new int[n];
+        for (int doc = 0; doc < n; doc++) {
+            order[start[rank[doc]]++] = doc;
+        }
+        return order;
+    }
+
+    private static int[] ranks(int[] order) {
+        int[] rank = new int[order.length];
+        for (int r = 0; r < order.length; r++) {
+            rank[order[r]] = r;
+        }
+        return rank;
+    }
+}
@@ -0,0 +1,59 @@
+package dev.wony.backendlab.patterns.ddd.product.domain.catalog;
+
+import dev.wony.backendlab.patterns.ddd.product.domain.entity.ProductStatus;
+import dev.wony.backendlab.patterns.ddd.product.domain.vo.CategoryId;
+import dev.wony.backendlab.patterns.ddd.product.domain.vo.Money;
+import lombok.Builder;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * 카탈로그 검색 조건. 지정하지 않은 조건은 적용하지 않습니다.
+ *
+ * <pre>{@code
+ * CatalogQuery query = CatalogQuery.builder()
+ *         .categoryId(electronics)
+ *         .statuses(Set.of(ProductStatus.ON_SALE))
+ *         .minPrice(Money.of(10_000))
+ *         .maxPrice(Money.of(50_000))
+ *         .inStockOnly(true)
+ *         .sort(CatalogSort.PRICE_ASC)
+ *         .build();
+ * }</pre>
+ *
+ * @param categoryId  카테고리 (하위 카테고리 포함, null이면 전체)
+ * @param statuses    상품 상태 (null 또는 비어 있으면 전체)
+ * @param minPrice    최저 가격 (포함, null이면 제한 없음)
+ * @param maxPrice    최고 가격 (포함, null이면 제한 없음)
+ * @param inStockOnly 재고가 있는 상품만
+ * @param sort        정렬 기준 (null이면 {@link CatalogSort#NEWEST})
+ * @param offset      건너뛸 결과 수
+ * @param limit       결과 수 (0이면 {@value #DEFAULT_LIMIT}, 최대 {@value #MAX_LIMIT})
+ */
+@Builder(toBuilder = true)
+public record CatalogQuery(CategoryId categoryId, Set<ProductStatus> statuses, Money minPrice, Money maxPrice,
+                           boolean inStockOnly, CatalogSort sort, int offset, int limit) {
+
+    public static final int DEFAULT_LIMIT = 20;
+    public static final int MAX_LIMIT = 1000;
+
+    public CatalogQuery {
+        statuses = statuses == null || statuses.isEmpty() ? Set.of() : Set.copyOf(EnumSet.copyOf(statuses));
+        checkArgument(minPrice == null || maxPrice == null || minPrice.isLessThanOrEqual(maxPrice),
+                "최저 가격은 최고 가격보다 클 수 없습니다: %s > %s", minPrice, maxPrice);
+        sort = sort == null ? CatalogSort.NEWEST : sort;
+        checkArgument(offset >= 0, "offset은 음수일 수 없습니다: %s", offset);
+        checkArgument(limit >= 0 && limit <= MAX_LIMIT, "limit은 0-%s 사이여야 합니다: %s", MAX_LIMIT, limit);
+        limit = limit == 0 ? DEFAULT_LIMIT : limit;
+    }
+
+    /**
+     * 전체 상품 조회 조건 (최근 등록순)
+     */
+    public static CatalogQuery all() {
+        return builder().build();
+    }
+}
@@ -0,0 +1,55 @@
+package dev.wony.backendlab.patterns.ddd.product.domain.catalog;
+
+import dev.wony.backendlab.patterns.ddd.product.domain.entity.ProductStatus;
+import dev.wony.backendlab.patterns.ddd.product.domain.vo.CategoryId;
+import dev.wony.backendlab.patterns.ddd.product.domain.vo.Money;
+import dev.wony.backendlab.patterns.ddd.product.domain.vo.ProductId;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 카탈로그 검색 결과.
+ *
+ * @param total      조건에 맞는 전체 상품 수
+ * @param productIds 요청한 페이지의 상품 ID (정렬 순)
+ * @param facets     조건별 상품 수
+ */
+public record CatalogResult(long total, List<ProductId> productIds, Facets facets) {
+
+    public CatalogResult {
+        productIds = List.copyOf(productIds);
+    }
+
+    /**
+     * 조건별 상품 수. 각 항목은 해당 항목의 조건만 빼고 나머지 조건을 모두 적용한 수입니다.
+     * (예: 상태별 수는 상태 조건을 제외하고 계산하므로 다른 상태를 선택했을 때의 결과 수와 같습니다.)
+     *
+     * @param statuses   상태별 상품 수
+     * @param categories 검색한 카테고리의 바로 아래 카테고리별 상품 수 (카테고리 조건이 없으면 최상위 카테고리별, 모든 조건 적용)
+     * @param priceBands 가격대별 상품 수
+     * @param inStock    재고가 있는 상품 수
+     */
+    public record Facets(Map<ProductStatus, Long> statuses, Map<CategoryId, Long> categories,
+                         List<PriceBand> priceBands, long inStock) {
+
+        public Facets {
+            statuses = Collections.unmodifiableMap(new EnumMap<>(statuses));
+            categories = Collections.unmodifiableMap(new LinkedHashMap<>(categories));
+            priceBands = List.copyOf(priceBands);
+        }
+    }
+
+    /**
+     * 가격대 {@code [from, to)}의 상품 수
+     *
+     * @param from  시작 가격 (null이면 제한 없음)
+     * @param to    끝 가격 (미포함, null이면 제한 없음)
+     * @param count 상품 수
+     */
+    public record PriceBand(Money from, Money to, long count) {
+    }
+}
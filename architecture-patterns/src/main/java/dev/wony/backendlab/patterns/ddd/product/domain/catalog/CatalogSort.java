@@ -0,0 +1,22 @@
+package dev.wony.backendlab.patterns.ddd.product.domain.catalog;
+
+/**
+ * 카탈로그 검색 정렬 기준. 값이 같은 상품의 순서는 같은 인덱스에서 항상 같습니다.
+ */
+public enum CatalogSort {
+
+    /**
+     * 최근 등록순
+     */
+    NEWEST,
+
+    /**
+     * 낮은 가격순
+     */
+    PRICE_ASC,
+
+    /**
+     * 높은 가격순
+     */
+    PRICE_DESC
+}
@@ -0,0 +1,473 @@
+package dev.wony.backendlab.patterns.ddd.product.domain.category;
+
+import dev.wony.backendlab.patterns.ddd.product.domain.entity.Category;
+import dev.wony.backendlab.patterns.ddd.product.domain.repository.CategoryRepository.CategoryNotFoundException;
+import dev.wony.backendlab.patterns.ddd.product.domain.vo.CategoryId;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+/**
+ * 카테고리 트리 스냅샷 (불변).
+ * <p>
+ * 카테고리를 전위 순회 순서로 배열에 펼치고, 각 카테고리에 {@code [진입 위치, 진입 위치 + 서브트리 크기)} 구간을 둡니다.
+ * 서브트리는 항상 연속된 구간이므로 다음 질의를 상위 카테고리를 따라 올라가거나 저장소를 반복 조회하지 않고 처리합니다.
+ * <ul>
+ *     <li>{@link #isDescendant}: 구간 포함 여부 비교, O(1)</li>
+ *     <li>{@link #descendants}: 구간을 그대로 복사, O(하위 카테고리 수)</li>
+ *     <li>{@link #ancestors}: 상위 배열을 따라 올라감, O(깊이)</li>
+ * </ul>
+ * 변경({@link #with}, {@link #without})은 새 버전의 스냅샷을 돌려줍니다.
+ * 전체를 다시 순회하지 않고 배열을 복사한 뒤 이동한 구간의 위치만 다시 계산합니다.
+ * 형제 카테고리의 순서는 추가된 순서입니다.
+ */
+public final class CategoryTree {
+
+    private static final int NONE = -1;
+
+    private static final CategoryTree EMPTY = new CategoryTree(0, new CategoryId[0], Map.of(),
+            new int[0], new int[0], new int[0], new int[0], new int[0]);
+
+    private final long version;
+
+    // 노드 번호별 값. 노드 번호는 삭제 전까지 유지됩니다.
+    private final CategoryId[] ids;
+    private final Map<CategoryId, Integer> indexOf;
+    private final int[] parent;
+    private final int[] depth;
+    private final int[] size;
+    private final int[] enter;
+
+    // 전위 순회 위치별 노드 번호
+    private final int[] order;
+
+    private CategoryTree(long version, CategoryId[] ids, Map<CategoryId, Integer> indexOf,
+                         int[] parent, int[] depth, int[] size, int[] enter, int[] order) {
+        this.version = version;
+        this.ids = ids;
+        this.indexOf = indexOf;
+        this.parent = parent;
+        this.depth = depth;
+        this.size = size;
+        this.enter = enter;
+        this.order = order;
+    }
+
+    /**
+     * 빈 트리 (버전 0)
+     */
+    public static CategoryTree empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 카테고리 목록으로 트리 생성 (버전 1)
+     *
+     * @param categories 전체 카테고리
+     * @return 트리 스냅샷
+     * @throws IllegalArgumentException ID가 중복되거나, 상위 카테고리가 목록에 없거나, 순환 참조가 있는 경우
+     */
+    public static CategoryTree of(Collection<Category> categories) {
+        checkNotNull(categories, "카테고리 목록은 null일 수 없습니다");
+        int n = categories.size();
+        CategoryId[] ids = new CategoryId[n];
+        Map<CategoryId, Integer> indexOf = new HashMap<>(n * 2);
+        int i = 0;
+        for (Category category : categories) {
+            ids[i] = category.getId();
+            checkArgument(indexOf.put(category.getId(), i) == null, "카테고리 ID가 중복됩니다: %s", category.getId());
+            i++;
+        }
+
+        int[] parent = new int[n];
+        int[] childCount = new int[n + 1];
+        i = 0;
+        for (Category category : categories) {
+            parent[i] = category.getParentId() == null ? NONE : indexOfParent(indexOf, category);
+            childCount[parent[i] + 1]++;
+            i++;
+        }
+
+        // 상위 노드별 하위 노드 목록 (CSR, 0번은 최상위)
+        int[] childStart = new int[n + 2];
+        for (int p = 0; p <= n; p++) {
+            childStart[p + 1] = childStart[p] + childCount[p];
+        }
+        int[] children = new int[n];
+        int[] fill = Arrays.copyOf(childStart, n + 1);
+        for (int node = 0; node < n; node++) {
+            children[fill[parent[node] + 1]++] = node;
+        }
+
+        int[] depth = new int[n];
+        int[] size = new int[n];
+        int[] enter = new int[n];
+        int[] order = new int[n];
+        int visited = 0;
+        int[] stack = new int[n];
+        int[] next = Arrays.copyOf(childStart, n + 1);
+        int top = 0;
+        // 최상위 노드부터 반복 DFS
+        for (int c = childStart[0]; c < childStart[1]; c++) {
+            int root = children[c];
+            depth[root] = 0;
+            enter[root] = visited;
+            order[visited++] = root;
+            stack[top++] = root;
+            while (top > 0) {
+                int node = stack[top - 1];
+                if (next[node + 1] < childStart[node + 2]) {
+                    int child = children[next[node + 1]++];
+                    depth[child] = depth[node] + 1;
+                    enter[child] = visited;
+                    order[visited++] = child;
+                    stack[top++] = child;
+                } else {
+                    size[node] = visited - enter[node];
+                    top--;
+                }
+            }
+        }
+        if (visited < n) {
+            for (int node = 0; node < n; node++) {
+                if (size[node] == 0) {
+                    throw new IllegalArgumentException("카테고리 순환 참조가 있습니다: " + ids[node]);
+                }
+            }
+        }
+        return new CategoryTree(1, ids, Collections.unmodifiableMap(indexOf), parent, depth, size, enter, order);
+    }
+
+    private static int indexOfParent(Map<CategoryId, Integer> indexOf, Category category) {
+        Integer index = indexOf.get(category.getParentId());
+        checkArgument(index != null, "상위 카테고리가 없습니다: %s -> %s", category.getId(), category.getParentId());
+        return index;
+    }
+
+    /**
+     * 카테고리 추가 또는 상위 카테고리 변경을 반영한 새 버전
+     * <p>
+     * 상위 카테고리가 그대로이면 같은 스냅샷을 돌려줍니다.
+     *
+     * @param category 추가하거나 변경된 카테고리
+     * @return 변경을 반영한 트리
+     * @throws IllegalArgumentException 상위 카테고리가 트리에 없거나, 자신의 하위 카테고리 아래로 옮기는 경우
+     */
+    public CategoryTree with(Category category) {
+        checkNotNull(category, "카테고리는 null일 수 없습니다");
+        int newParent = category.getParentId() == null ? NONE : indexOfParent(indexOf, category);
+        Integer existing = indexOf.get(category.getId());
+        if (existing == null) {
+            return append(category.getId(), newParent);
+        }
+        int node = existing;
+        if (parent[node] == newParent) {
+            return this;
+        }
+        checkArgument(newParent == NONE || !contains(node, newParent),
+                "카테고리 순환 참조가 생깁니다: %s -> %s", category.getId(), category.getParentId());
+        return move(node, newParent);
+    }
+
+    /**
+     * 카테고리를 제거한 새 버전
+     *
+     * @param id 제거할 카테고리 ID
+     * @return 변경을 반영한 트리 (없는 ID이면 같은 스냅샷)
+     * @throws IllegalStateException 하위 카테고리가 있는 경우
+     */
+    public CategoryTree without(CategoryId id) {
+        checkNotNull(id, "카테고리 ID는 null일 수 없습니다");
+        Integer existing = indexOf.get(id);
+        if (existing == null) {
+            return this;
+        }
+        int node = existing;
+        checkState(size[node] == 1, "하위 카테고리가 있는 카테고리는 제거할 수 없습니다: %s", id);
+        return removeLeaf(node);
+    }
+
+    /**
+     * 순환 참조 없이 상위 카테고리를 바꿀 수 있는지 확인
+     *
+     * @param id       카테고리 ID
+     * @param parentId 새 상위 카테고리 ID (null이면 최상위)
+     * @return 바꿀 수 있으면 true
+     */
+    public boolean canMoveUnder(CategoryId id, CategoryId parentId) {
+        checkNotNull(id, "카테고리 ID는 null일 수 없습니다");
+        return parentId == null || !isDescendantOrSelf(parentId, id);
+    }
+
+    /**
+     * 스냅샷 버전. 변경할 때마다 1씩 증가합니다.
+     */
+    public long version() {
+        return version;
+    }
+
+    /**
+     * 카테고리 수
+     */
+    public int size() {
+        return ids.length;
+    }
+
+    /**
+     * 카테고리 포함 여부
+     */
+    public boolean contains(CategoryId id) {
+        return indexOf.containsKey(id);
+    }
+
+    /**
+     * 상위 카테고리
+     *
+     * @param id 카테고리 ID
+     * @return 상위 카테고리 ID (최상위이면 empty)
+     */
+    public Optional<CategoryId> parentOf(CategoryId id) {
+        int p = parent[nodeOf(id)];
+        return p == NONE ? Optional.empty() : Optional.of(ids[p]);
+    }
+
+    /**
+     * 깊이 (최상위는 0)
+     */
+    public int depthOf(CategoryId id) {
+        return depth[nodeOf(id)];
+    }
+
+    /**
+     * 최상위 카테고리부터 상위 카테고리까지의 경로
+     *
+     * @param id 카테고리 ID
+     * @return 조상 목록 (최상위 먼저, 자신 제외)
+     */
+    public List<CategoryId> ancestors(CategoryId id) {
+        int node = nodeOf(id);
+        CategoryId[] path = new CategoryId[depth[node]];
+        for (int p = parent[node], i = path.length - 1; p != NONE; p = parent[p], i--) {
+            path[i] = ids[p];
+        }
+        return List.of(path);
+    }
+
+    /**
+     * 모든 하위 카테고리
+     *
+     * @param id 카테고리 ID
+     * @return 하위 카테고리 목록 (전위 순회 순서, 자신 제외)
+     */
+    public List<CategoryId> descendants(CategoryId id) {
+        int node = nodeOf(id);
+        List<CategoryId> result = new ArrayList<>(size[node] - 1);
+        for (int pos = enter[node] + 1, end = enter[node] + size[node]; pos < end; pos++) {
+            result.add(ids[order[pos]]);
+        }
+        return result;
+    }
+
+    /**
+     * 최상위 카테고리 목록
+     *
+     * @return 최상위 카테고리 (추가된 순서)
+     */
+    public List<CategoryId> roots() {
+        return siblings(0, order.length);
+    }
+
+    /**
+     * 바로 아래 하위 카테고리 목록
+     *
+     * @param id 카테고리 ID
+     * @return 하위 카테고리 (추가된 순서)
+     */
+    public List<CategoryId> children(CategoryId id) {
+        int node = nodeOf(id);
+        return siblings(enter[node] + 1, enter[node] + size[node]);
+    }
+
+    /**
+     * 구간 안에서 서브트리 단위로 건너뛰며 같은 깊이의 카테고리 수집
+     */
+    private List<CategoryId> siblings(int from, int to) {
+        List<CategoryId> result = new ArrayList<>();
+        for (int pos = from; pos < to; pos += size[order[pos]]) {
+            result.add(ids[order[pos]]);
+        }
+        return result;
+    }
+
+    /**
+     * 하위 카테고리 여부
+     *
+     * @param id         확인할 카테고리 ID
+     * @param ancestorId 상위 카테고리 ID
+     * @return {@code id}가 {@code ancestorId}의 (자신이 아닌) 하위 카테고리이면 true. 트리에 없는 ID이면 false
+     */
+    public boolean isDescendant(CategoryId id, CategoryId ancestorId) {
+        return !id.equals(ancestorId) && isDescendantOrSelf(id, ancestorId);
+    }
+
+    private boolean isDescendantOrSelf(CategoryId id, CategoryId ancestorId) {
+        Integer node = indexOf.get(id);
+        Integer ancestor = indexOf.get(ancestorId);
+        return node != null && ancestor != null && contains(ancestor, node);
+    }
+
+    /**
+     * 서브트리 크기 (자신 포함)
+     */
+    public int subtreeSize(CategoryId id) {
+        return size[nodeOf(id)];
+    }
+
+    /**
+     * 전위 순회 위치. 서브트리는 {@code [position, position + subtreeSize)} 구간입니다.
+     */
+    public int position(CategoryId id) {
+        return enter[nodeOf(id)];
+    }
+
+    /**
+     * 전위 순회 위치의 카테고리
+     */
+    public CategoryId categoryAt(int position) {
+        return ids[order[position]];
+    }
+
+    private int nodeOf(CategoryId id) {
+        checkNotNull(id, "카테고리 ID는 null일 수 없습니다");
+        Integer node = indexOf.get(id);
+        if (node == null) {
+            throw new CategoryNotFoundException(id);
+        }
+        return node;
+    }
+
+    private boolean contains(int ancestor, int node) {
+        return enter[ancestor] <= enter[node] && enter[node] < enter[ancestor] + size[ancestor];
+    }
+
+    private CategoryTree append(CategoryId id, int parentNode) {
+        int n = ids.length;
+        int pos = parentNode == NONE ? n : enter[parentNode] + size[parentNode];
+
+        CategoryId[] newIds = Arrays.copyOf(ids, n + 1);
+        newIds[n] = id;
+        Map<CategoryId, Integer> newIndexOf = new HashMap<>(indexOf);
+        newIndexOf.put(id, n);
+        int[] newParent = Arrays.copyOf(parent, n + 1);
+        newParent[n] = parentNode;
+        int[] newDepth = Arrays.copyOf(depth, n + 1);
+        newDepth[n] = parentNode == NONE ? 0 : depth[parentNode] + 1;
+        int[] newSize = Arrays.copyOf(size, n + 1);
+        newSize[n] = 1;
+        for (int p = parentNode; p != NONE; p = parent[p]) {
+            newSize[p]++;
+        }
+
+        int[] newOrder = new int[n + 1];
+        System.arraycopy(order, 0, newOrder, 0, pos);
+        newOrder[pos] = n;
+        System.arraycopy(order, pos, newOrder, pos + 1, n - pos);
+        int[] newEnter = Arrays.copyOf(enter, n + 1);
+        renumber(newOrder, newEnter, pos, n + 1);
+        return new CategoryTree(version + 1, newIds, Collections.unmodifiableMap(newIndexOf),
+                newParent, newDepth, newSize, newEnter, newOrder);
+    }
+
+    private CategoryTree move(int node, int newParentNode) {
+        int n = ids.length;
+        int from = enter[node];
+        int length = size[node];
+
+        // 구간을 빼낸 배열 기준의 삽입 위치
+        int end = newParentNode == NONE ? n : enter[newParentNode] + size[newParentNode];
+        int to = end > from ? end - length : end;
+
+        int[] newOrder = new int[n];
+        int[] rest = new int[n - length];
+        System.arraycopy(order, 0, rest, 0, from);
+        System.arraycopy(order, from + length, rest, from, n - from - length);
+        System.arraycopy(rest, 0, newOrder, 0, to);
+        System.arraycopy(order, from, newOrder, to, length);
+        System.arraycopy(rest, to, newOrder, to + length, n - length - to);
+
+        int[] newEnter = enter.clone();
+        renumber(newOrder, newEnter, Math.min(from, to), Math.max(from, to) + length);
+
+        int[] newSize = size.clone();
+        for (int p = parent[node]; p != NONE; p = parent[p]) {
+            newSize[p] -= length;
+        }
+        for (int p = newParentNode; p != NONE; p = parent[p]) {
+            newSize[p] += length;
+        }
+        int[] newParent = parent.clone();
+        newParent[node] = newParentNode;
+        int[] newDepth = depth.clone();
+        int shift = (newParentNode == NONE ? 0 : depth[newParentNode] + 1) - depth[node];
+        for (int pos = to; pos < to + length; pos++) {
+            newDepth[newOrder[pos]] += shift;
+        }
+        return new CategoryTree(version + 1, ids, indexOf, newParent, newDepth, newSize, newEnter, newOrder);
+    }
+
+    private CategoryTree removeLeaf(int node) {
+        int n = ids.length;
+        int pos = enter[node];
+        int last = n - 1;
+
+        int[] newOrder = new int[last];
+        System.arraycopy(order, 0, newOrder, 0, pos);
+        System.arraycopy(order, pos + 1, newOrder, pos, last - pos);
+        int[] newEnter = Arrays.copyOf(enter, n);
+        renumber(newOrder, newEnter, pos, last);
+        int[] newSize = size.clone();
+        for (int p = parent[node]; p != NONE; p = parent[p]) {
+            newSize[p]--;
+        }
+        int[] newParent = parent.clone();
+        int[] newDepth = depth.clone();
+        CategoryId[] newIds = ids.clone();
+        Map<CategoryId, Integer> newIndexOf = new HashMap<>(indexOf);
+        newIndexOf.remove(ids[node]);
+
+        // 마지막 노드 번호를 빈 번호로 옮겨 배열을 촘촘하게 유지
+        if (node != last) {
+            newIds[node] = ids[last];
+            newIndexOf.put(ids[last], node);
+            newParent[node] = parent[last];
+            newDepth[node] = depth[last];
+            newSize[node] = newSize[last];
+            newEnter[node] = newEnter[last];
+            newOrder[newEnter[last]] = node;
+            for (int p = newEnter[node] + 1; p < newEnter[node] + newSize[node]; p++) {
+                if (newParent[newOrder[p]] == last) {
+                    newParent[newOrder[p]] = node;
+                }
+            }
+        }
+        return new CategoryTree(version + 1, Arrays.copyOf(newIds, last), Collections.unmodifiableMap(newIndexOf),
+                Arrays.copyOf(newParent, last), Arrays.copyOf(newDepth, last), Arrays.copyOf(newSize, last),
+                Arrays.copyOf(newEnter, last), newOrder);
+    }
+
+    private static void renumber(int[] order, int[] enter, int from, int to) {
+        for (int pos = from; pos < to; pos++) {
+            enter[order[pos]] = pos;
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package dev.wony.backendlab.patterns.ddd.product.domain.category;
+
+import dev.wony.backendlab.patterns.ddd.product.domain.entity.Category;
+import dev.wony.backendlab.patterns.ddd.product.domain.entity.Product;
+import dev.wony.backendlab.patterns.ddd.product.domain.event.DomainEvent;
+import dev.wony.backendlab.patterns.ddd.product.domain.event.DomainEventSubscriber;
+import dev.wony.backendlab.patterns.ddd.product.domain.event.ProductCategoryChangedEvent;
+import dev.wony.backendlab.patterns.ddd.product.domain.event.ProductCreatedEvent;
+import dev.wony.backendlab.patterns.ddd.product.domain.repository.CategoryRepository;
+import dev.wony.backendlab.patterns.ddd.product.domain.repository.ProductRepository;
+import dev.wony.backendlab.patterns.ddd.product.domain.vo.CategoryId;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.StampedLock;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * 카테고리 트리 인덱스.
+ * <p>
+ * 현재 {@link CategoryTree} 스냅샷과 카테고리별 상품 수를 함께 관리합니다.
+ * <ul>
+ *     <li>트리 질의는 {@link #tree()}로 얻은 불변 스냅샷에서 잠금 없이 처리합니다.</li>
+ *     <li>카테고리 변경({@link #apply}, {@link #remove})은 새 스냅샷으로 교체합니다. 순환 참조가 생기는 변경은 거부하고 기존 스냅샷을 유지합니다.</li>
+ *     <li>상품 수는 전위 순회 위치 기준의 Fenwick 트리에 두어 서브트리 상품 수를 O(log n)으로 구하고 갱신합니다.
+ *     조회는 {@link StampedLock} 낙관적 읽기로 처리하고, 갱신과 겹친 경우에만 읽기 잠금으로 다시 읽습니다.</li>
+ *     <li>{@link ProductCreatedEvent}, {@link ProductCategoryChangedEvent}를 구독하여 상품 수를 갱신합니다.
+ *     상품 삭제는 이벤트가 없으므로 {@link #adjustProductCount}로 반영합니다.</li>
+ * </ul>
+ * 트리에 아직 없는 카테고리의 상품 수도 보관하며, 해당 카테고리가 추가되면 서브트리 상품 수에 포함됩니다.
+ */
+public class CategoryTreeIndex implements DomainEventSubscriber<DomainEvent> {
+
+    private final StampedLock lock = new StampedLock();
+    private final Map<CategoryId, Long> directCounts;
+    private volatile State state;
+
+    public CategoryTreeIndex(CategoryTree tree, Map<CategoryId, Long> productCounts) {
+        checkNotNull(tree, "카테고리 트리는 null일 수 없습니다");
+        checkNotNull(productCounts, "상품 수는 null일 수 없습니다");
+        this.directCounts = new HashMap<>(productCounts);
+        this.state = new State(tree, fenwickOf(tree, directCounts));
+    }
+
+    /**
+     * 저장소의 전체 카테고리와 상품으로 인덱스 생성
+     *
+     * @param categoryRepository 카테고리 저장소
+     * @param productRepository  상품 저장소
+     * @return 카테고리 트리 인덱스
+     */
+    public static CategoryTreeIndex load(CategoryRepository categoryRepository, ProductRepository productRepository) {
+        checkNotNull(categoryRepository, "카테고리 저장소는 null일 수 없습니다");
+        checkNotNull(productRepository, "상품 저장소는 null일 수 없습니다");
+        Map<CategoryId, Long> counts = new HashMap<>();
+        for (Product product : productRepository.findAll()) {
+            counts.merge(product.getCategoryId(), 1L, Long::sum);
+        }
+        return new CategoryTreeIndex(CategoryTree.of(categoryRepository.findAll()), counts);
+    }
+
+    /**
+     * 현재 트리 스냅샷
+     */
+    public CategoryTree tree() {
+        return state.tree();
+    }
+
+    /**
+     * 카테고리 추가 또는 상위 카테고리 변경 반영
+     *
+     * @param category 추가하거나 변경된 카테고리
+     * @return 변경을 반영한 트리
+     * @throws IllegalArgumentException 상위 카테고리가 트리에 없거나 순환 참조가 생기는 경우
+     */
+    public CategoryTree apply(Category category) {
+        checkNotNull(category, "카테고리는 null일 수 없습니다");
+        long stamp = lock.writeLock();
+        try {
+            return replace(state.tree().with(category));
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * 카테고리 제거 반영
+     *
+     * @param id 제거된 카테고리 ID
+     * @return 변경을 반영한 트리
+     * @throws IllegalStateException 하위 카테고리가 있는 경우
+     */
+    public CategoryTree remove(CategoryId id) {
+        checkNotNull(id, "카테고리 ID는 null일 수 없습니다");
+        long stamp = lock.writeLock();
+        try {
+            return replace(state.tree().without(id));
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * 카테고리의 상품 수 변경 (상품 삭제 등)
+     *
+     * @param categoryId 카테고리 ID
+     * @param delta      변경량
+     */
+    public void adjustProductCount(CategoryId categoryId, long delta) {
+        checkNotNull(categoryId, "카테고리 ID는 null일 수 없습니다");
+        long stamp = lock.writeLock();
+        try {
+            add(categoryId, delta);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * 상품 생성/카테고리 변경 이벤트로 상품 수 갱신
+     *
+     * @param events 이벤트 묶음
+     */
+    @Override
+    public void onEvents(List<DomainEvent> events) {
+        long stamp = lock.writeLock();
+        try {
+            for (DomainEvent event : events) {
+                if (event instanceof ProductCreatedEvent created) {
+                    add(created.getCategoryId(), 1);
+                } else if (event instanceof ProductCategoryChangedEvent changed) {
+                    add(changed.getPreviousCategoryId(), -1);
+                    add(changed.getCurrentCategoryId(), 1);
+                }
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * 하위 카테고리를 포함한 상품 수
+     *
+     * @param categoryId 카테고리 ID
+     * @return 서브트리의 상품 수
+     * @throws CategoryRepository.CategoryNotFoundException 트리에 없는 카테고리인 경우
+     */
+    public long productCount(CategoryId categoryId) {
+        checkNotNull(categoryId, "카테고리 ID는 null일 수 없습니다");
+        long stamp = lock.tryOptimisticRead();
+        long count = state.subtreeCount(categoryId);
+        if (lock.validate(stamp)) {
+            return count;
+        }
+        stamp = lock.readLock();
+        try {
+            return state.subtreeCount(categoryId);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * 카테고리에 직접 속한 상품 수 (하위 카테고리 제외)
+     *
+     * @param categoryId 카테고리 ID
+     * @return 상품 수
+     */
+    public long directProductCount(CategoryId categoryId) {
+        checkNotNull(categoryId, "카테고리 ID는 null일 수 없습니다");
+        long stamp = lock.readLock();
+        try {
+            return directCounts.getOrDefault(categoryId, 0L);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private CategoryTree replace(CategoryTree next) {
+        if (next != state.tree()) {
+            state = new State(next, fenwickOf(next, directCounts));
+        }
+        return next;
+    }
+
+    private void add(CategoryId categoryId, long delta) {
+        if (delta == 0) {
+            return;
+        }
+        directCounts.merge(categoryId, delta, Long::sum);
+        CategoryTree tree = state.tree();
+        if (!tree.contains(categoryId)) {
+            return;
+        }
+        long[] fenwick = state.fenwick();
+        for (int i = tree.position(categoryId) + 1; i < fenwick.length; i += i & -i) {
+            fenwick[i] += delta;
+        }
+    }
+
+    /**
+     * 전위 순회 위치별 상품 수로 Fenwick 트리 생성 (O(n), 1부터 시작)
+     */
+    private static long[] fenwickOf(CategoryTree tree, Map<CategoryId, Long> counts) {
+        long[] fenwick = new long[tree.size() + 1];
+        for (int pos = 0; pos < tree.size(); pos++) {
+            fenwick[pos + 1] += counts.getOrDefault(tree.categoryAt(pos), 0L);
+            int parent = (pos + 1) + ((pos + 1) & -(pos + 1));
+            if (parent < fenwick.length) {
+                fenwick[parent] += fenwick[pos + 1];
+            }
+        }
+        return fenwick;
+    }
+
+    /**
+     * 트리 스냅샷과 그 위치 기준의 Fenwick 트리. Fenwick 배열은 쓰기 잠금 안에서만 변경합니다.
+     */
+    private record State(CategoryTree tree, long[] fenwick) {
+
+        long subtreeCount(CategoryId categoryId) {
+            int from = tree.position(categoryId);
+            return prefix(from + tree.subtreeSize(categoryId)) - prefix(from);
+        }
+
+        private long prefix(int length) {
+            long sum = 0;
+            for (int i = length; i > 0; i -= i & -i) {
+                sum += fenwick[i];
+            }
+            return sum;
+        }
+    }
+}
@@ -9,6 +9,7 @@ import org.apache.commons.lang3.StringUtils;
 import java.time.LocalDateTime;
 
 import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
 
 /**
  * 카테고리 Entity.
@@ -32,14 +33,19 @@ public class Category {
 
     private Category(CategoryId id, String name, String description,
                      CategoryId parentId, int displayOrder) {
+        this(id, name, description, parentId, displayOrder, true, LocalDateTime.now(), null);
+    }
+
+    private Category(CategoryId id, String name, String description, CategoryId parentId,
+                     int displayOrder, boolean active, LocalDateTime createdAt, LocalDateTime updatedAt) {
         this.id = id;
         this.name = name;
         this.description = description;
         this.parentId = parentId;
         this.displayOrder = displayOrder;
-        this.active = true;
-        this.createdAt = LocalDateTime.now();
-        this.updatedAt = this.createdAt;
+        this.active = active;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt != null ? updatedAt : createdAt;
     }
 
     /**
@@ -75,6 +81,17 @@ public class Category {
         return create(name, description, null, displayOrder);
     }
 
+    /**
+     * 기존 카테고리 복원 (Repository에서 사용)
+     */
+    public static Category reconstitute(CategoryId id, String name, String description, CategoryId parentId,
+                                         int displayOrder, boolean active,
+                                         LocalDateTime createdAt, LocalDateTime updatedAt) {
+        checkNotNull(id, "카테고리 ID는 필수입니다");
+        checkNotNull(createdAt, "생성 시각은 필수입니다");
+        return new Category(id, name, description, parentId, displayOrder, active, createdAt, updatedAt);
+    }
+
     private static void validateName(String name) {
         checkArgument(StringUtils.isNotBlank(name), "카테고리명은 필수입니다");
         checkArgument(name.trim().length() <= 50, "카테고리명은 50자를 초과할 수 없습니다");
@@ -1,10 +1,7 @@
 package dev.wony.backendlab.patterns.ddd.product.domain.entity;
 
 import com.google.common.collect.ImmutableList;
-import dev.wony.backendlab.patterns.ddd.product.domain.event.DomainEvent;
-import dev.wony.backendlab.patterns.ddd.product.domain.event.ProductCreatedEvent;
-import dev.wony.backendlab.patterns.ddd.product.domain.event.ProductPriceChangedEvent;
-import dev.wony.backendlab.patterns.ddd.product.domain.event.ProductStockChangedEvent;
+import dev.wony.backendlab.patterns.ddd.product.domain.event.*;
 import dev.wony.backendlab.patterns.ddd.product.domain.vo.*;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -14,6 +11,7 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.base.Preconditions.checkState;
 
@@ -38,20 +36,30 @@ public class Product {
     private final LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
+    // 저장소에 마지막으로 저장된 버전 (0이면 미저장). 이벤트 소싱은 이벤트 스트림 버전, JDBC 는 행 버전
+    private long version;
+
     // 도메인 이벤트 수집
     private final List<DomainEvent> domainEvents = new ArrayList<>();
 
     private Product(ProductId id, ProductName name, String description,
                     Money price, Quantity stockQuantity, CategoryId categoryId) {
+        this(id, name, description, price, stockQuantity, categoryId,
+                ProductStatus.PENDING, LocalDateTime.now(), null);
+    }
+
+    private Product(ProductId id, ProductName name, String description,
+                    Money price, Quantity stockQuantity, CategoryId categoryId,
+                    ProductStatus status, LocalDateTime createdAt, LocalDateTime updatedAt) {
         this.id = id;
         this.name = name;
         this.description = description;
         this.price = price;
         this.stockQuantity = stockQuantity;
         this.categoryId = categoryId;
-        this.status = ProductStatus.PENDING;
-        this.createdAt = LocalDateTime.now();
-        this.updatedAt = this.createdAt;
+        this.status = status;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt != null ? updatedAt : createdAt;
     }
 
     /**
@@ -84,8 +92,10 @@ public class Product {
         product.registerEvent(new ProductCreatedEvent(
                 product.id,
                 product.name,
+                product.description,
                 product.price,
-                product.stockQuantity
+                product.stockQuantity,
+                product.categoryId
         ));
 
         return product;
@@ -93,16 +103,103 @@ public class Product {
 
     /**
      * 기존 상품 복원 (Repository에서 사용)
+     * <p>
+     * 저장된 상태를 그대로 복원하므로 도메인 이벤트를 발행하지 않고, 생성/수정 시각도 저장된 값을 유지합니다.
      */
     public static Product reconstitute(ProductId id, ProductName name, String description,
                                         Money price, Quantity stockQuantity, CategoryId categoryId,
                                         ProductStatus status, LocalDateTime createdAt, LocalDateTime updatedAt) {
-        Product product = new Product(id, name, description, price, stockQuantity, categoryId);
-        product.status = status;
-        // createdAt, updatedAt은 private final이므로 별도 처리 필요 시 Builder 패턴 고려
+        checkNotNull(id, "상품 ID는 필수입니다");
+        checkNotNull(status, "상품 상태는 필수입니다");
+        checkNotNull(createdAt, "생성 시각은 필수입니다");
+        return new Product(id, name, description, price, stockQuantity, categoryId, status, createdAt, updatedAt);
+    }
+
+    /**
+     * 이벤트 재생으로 상품 복원 (이벤트 소싱 저장소에서 사용)
+     * <p>
+     * 스냅샷이 없으면 첫 이벤트는 {@link ProductCreatedEvent}여야 합니다.
+     * 재생한 이벤트 수만큼 버전이 올라가고, 수정 시각은 마지막 이벤트의 발생 시각이 됩니다.
+     *
+     * @param snapshot 시작 스냅샷 (없으면 null)
+     * @param events   스냅샷 이후의 이벤트 (버전 순)
+     * @return 복원된 Product
+     */
+    public static Product replay(ProductSnapshot snapshot, List<? extends DomainEvent> events) {
+        checkNotNull(events, "이벤트 목록은 null일 수 없습니다");
+        Product product;
+        int from;
+        if (snapshot != null) {
+            product = new Product(snapshot.id(), snapshot.name(), snapshot.description(), snapshot.price(),
+                    snapshot.stockQuantity(), snapshot.categoryId(), snapshot.status(),
+                    snapshot.createdAt(), snapshot.updatedAt());
+            product.version = snapshot.version();
+            from = 0;
+        } else {
+            checkArgument(!events.isEmpty() && events.get(0) instanceof ProductCreatedEvent,
+                    "이벤트 스트림은 상품 생성 이벤트로 시작해야 합니다");
+            ProductCreatedEvent created = (ProductCreatedEvent) events.get(0);
+            product = new Product(created.getProductId(), created.getProductName(), created.getDescription(),
+                    created.getPrice(), created.getInitialStock(), created.getCategoryId(), ProductStatus.PENDING,
+                    created.getOccurredAt(), created.getOccurredAt());
+            product.version = 1;
+            from = 1;
+        }
+        for (int i = from; i < events.size(); i++) {
+            product.apply(events.get(i));
+        }
         return product;
     }
 
+    /**
+     * 저장된 이벤트 하나를 상태에 반영합니다. 검증과 이벤트 발행 없이 결과만 적용합니다.
+     */
+    private void apply(DomainEvent event) {
+        if (event instanceof ProductStockChangedEvent changed) {
+            this.stockQuantity = changed.getCurrentQuantity();
+            if (changed.isStockDecreased() && changed.isOutOfStock()) {
+                this.status = ProductStatus.OUT_OF_STOCK;
+            } else if (this.status == ProductStatus.OUT_OF_STOCK && this.stockQuantity.isPositive()) {
+                this.status = ProductStatus.ON_SALE;
+            }
+        } else if (event instanceof ProductPriceChangedEvent changed) {
+            this.price = changed.getNewPrice();
+        } else if (event instanceof ProductStatusChangedEvent changed) {
+            this.status = changed.getCurrentStatus();
+        } else if (event instanceof ProductInfoUpdatedEvent updated) {
+            this.name = updated.getProductName();
+            this.description = updated.getDescription();
+        } else if (event instanceof ProductCategoryChangedEvent changed) {
+            this.categoryId = changed.getCurrentCategoryId();
+        } else {
+            throw new IllegalArgumentException("재생할 수 없는 이벤트입니다: " + event.getEventType());
+        }
+        this.updatedAt = event.getOccurredAt();
+        this.version++;
+    }
+
+    /**
+     * 현재 상태의 스냅샷 생성
+     *
+     * @return 상품 스냅샷
+     * @throws IllegalStateException 저장되지 않은 이벤트가 남아있는 경우
+     */
+    public ProductSnapshot toSnapshot() {
+        checkState(domainEvents.isEmpty(), "저장되지 않은 이벤트가 있어 스냅샷을 만들 수 없습니다");
+        return new ProductSnapshot(id, version, name, description, price, stockQuantity, categoryId,
+                status, createdAt, updatedAt);
+    }
+
+    /**
+     * 저장 완료 표시 (이벤트 소싱/JDBC 저장소에서 사용)
+     *
+     * @param version 저장 후 이벤트 스트림 버전 또는 행 버전
+     */
+    public void markCommitted(long version) {
+        checkArgument(version >= this.version, "버전은 줄어들 수 없습니다. 현재: %s, 요청: %s", this.version, version);
+        this.version = version;
+    }
+
     /**
      * 상품 판매 시작
      *
@@ -114,6 +211,8 @@ public class Product {
         checkState(!this.stockQuantity.isZero(), "재고가 없어 판매를 시작할 수 없습니다");
         this.status = ProductStatus.ON_SALE;
         this.updatedAt = LocalDateTime.now();
+
+        registerEvent(new ProductStatusChangedEvent(this.id, ProductStatus.PENDING, ProductStatus.ON_SALE));
     }
 
     /**
@@ -123,8 +222,11 @@ public class Product {
         if (this.status == ProductStatus.DISCONTINUED) {
             return; // 이미 중지 상태면 무시
         }
+        ProductStatus previousStatus = this.status;
         this.status = ProductStatus.DISCONTINUED;
         this.updatedAt = LocalDateTime.now();
+
+        registerEvent(new ProductStatusChangedEvent(this.id, previousStatus, ProductStatus.DISCONTINUED));
     }
 
     /**
@@ -201,17 +303,29 @@ public class Product {
         this.name = name;
         this.description = description;
         this.updatedAt = LocalDateTime.now();
+
+        registerEvent(new ProductInfoUpdatedEvent(this.id, name, description));
     }
 
     /**
      * 카테고리 변경
+     * <p>
+     * 같은 카테고리면 수정 시각도 바꾸지 않고 이벤트도 남기지 않습니다.
      *
      * @param categoryId 새 카테고리 ID
      */
     public void changeCategory(CategoryId categoryId) {
         checkNotNull(categoryId, "카테고리는 null일 수 없습니다");
+
+        if (this.categoryId.equals(categoryId)) {
+            return; // 같은 카테고리면 변경하지 않음
+        }
+
+        CategoryId previousCategoryId = this.categoryId;
         this.categoryId = categoryId;
         this.updatedAt = LocalDateTime.now();
+
+        registerEvent(new ProductCategoryChangedEvent(this.id, previousCategoryId, categoryId));
     }
 
     /**
@@ -0,0 +1,36 @@
+package dev.wony.backendlab.patterns.ddd.product.domain.entity;
+
+import dev.wony.backendlab.patterns.ddd.product.domain.vo.*;
+
+import java.time.LocalDateTime;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * 상품 스냅샷.
+ * <p>
+ * 이벤트 스트림의 특정 버전까지 재생한 상품 상태입니다.
+ * 이벤트 소싱 저장소는 스냅샷 이후의 이벤트만 재생하여 상품을 복원합니다.
+ *
+ * @param id            상품 ID
+ * @param version       스냅샷에 반영된 마지막 이벤트 버전
+ * @param name          상품명
+ * @param description   설명
+ * @param price         가격
+ * @param stockQuantity 재고 수량
+ * @param categoryId    카테고리 ID
+ * @param status        상품 상태
+ * @param createdAt     생성 시각
+ * @param updatedAt     수정 시각
+ */
+public record ProductSnapshot(ProductId id, long version, ProductName name, String description,
+                              Money price, Quantity stockQuantity, CategoryId categoryId,
+                              ProductStatus status, LocalDateTime createdAt, LocalDateTime updatedAt) {
+
+    public ProductSnapshot {
+        checkNotNull(id, "상품 ID는 필수입니다");
+        checkArgument(version > 0, "스냅샷 버전은 양수여야 합니다: %s", version);
+        checkNotNull(status, "상품 상태는 필수입니다");
+    }
+}
@@ -19,7 +19,17 @@ public abstract class AbstractDomainEvent implements DomainEvent {
     private final LocalDateTime occurredAt;
 
     protected AbstractDomainEvent() {
-        this.eventId = UUID.randomUUID().toString();
-        this.occurredAt = LocalDateTime.now();
+        this(UUID.randomUUID().toString(), LocalDateTime.now());
+    }
+
+    /**
+     * 저장된 이벤트 복원용 생성자
+     *
+     * @param eventId    이벤트 ID
+     * @param occurredAt 발생 시각
+     */
+    protected AbstractDomainEvent(String eventId, LocalDateTime occurredAt) {
+        this.eventId = eventId;
+        this.occurredAt = occurredAt;
     }
 }
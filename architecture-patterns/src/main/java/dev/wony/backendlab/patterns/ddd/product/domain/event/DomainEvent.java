@@ -18,6 +18,15 @@ public interface DomainEvent {
      */
     String getEventId();
 
+    /**
+     * 이벤트가 발생한 Aggregate 식별자
+     * <p>
+     * 이벤트 버스는 같은 Aggregate 의 이벤트를 발행 순서대로 전달하는 기준으로 사용합니다.
+     *
+     * @return Aggregate ID
+     */
+    String getAggregateId();
+
     /**
      * 이벤트 발생 시각
      *
@@ -0,0 +1,28 @@
+package dev.wony.backendlab.patterns.ddd.product.domain.event;
+
+import java.util.List;
+
+/**
+ * 도메인 이벤트 발행 포트.
+ * <p>
+ * Aggregate 가 수집한 이벤트({@code Product#pullDomainEvents()})를 저장 이후 이 포트로 넘깁니다.
+ * 구현은 인프라 계층에서 합니다.
+ */
+public interface DomainEventPublisher {
+
+    /**
+     * 이벤트 발행
+     *
+     * @param event 발행할 이벤트
+     */
+    default void publish(DomainEvent event) {
+        publishAll(List.of(event));
+    }
+
+    /**
+     * 여러 이벤트를 순서대로 발행
+     *
+     * @param events 발행할 이벤트 목록
+     */
+    void publishAll(List<? extends DomainEvent> events);
+}
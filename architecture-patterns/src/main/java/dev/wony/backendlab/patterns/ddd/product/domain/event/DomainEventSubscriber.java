@@ -0,0 +1,21 @@
+package dev.wony.backendlab.patterns.ddd.product.domain.event;
+
+import java.util.List;
+
+/**
+ * 도메인 이벤트 구독자.
+ * <p>
+ * 이벤트는 묶음으로 전달되며, 같은 Aggregate 의 이벤트는 묶음 안팎에서 발행 순서를 유지합니다.
+ *
+ * @param <E> 구독할 이벤트 타입
+ */
+@FunctionalInterface
+public interface DomainEventSubscriber<E extends DomainEvent> {
+
+    /**
+     * 이벤트 묶음 처리
+     *
+     * @param events 구독 타입에 해당하는 이벤트 목록 (비어있지 않음)
+     */
+    void onEvents(List<E> events);
+}
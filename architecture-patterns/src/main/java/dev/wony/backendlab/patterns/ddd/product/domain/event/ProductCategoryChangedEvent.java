@@ -0,0 +1,46 @@
+package dev.wony.backendlab.patterns.ddd.product.domain.event;
+
+import dev.wony.backendlab.patterns.ddd.product.domain.vo.CategoryId;
+import dev.wony.backendlab.patterns.ddd.product.domain.vo.ProductId;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * 상품 카테고리 변경 이벤트.
+ * <p>
+ * 상품이 다른 카테고리로 옮겨졌을 때 발행됩니다.
+ */
+@Getter
+@ToString(callSuper = true)
+public final class ProductCategoryChangedEvent extends AbstractDomainEvent {
+
+    private final ProductId productId;
+    private final CategoryId previousCategoryId;
+    private final CategoryId currentCategoryId;
+
+    public ProductCategoryChangedEvent(ProductId productId, CategoryId previousCategoryId,
+                                        CategoryId currentCategoryId) {
+        super();
+        this.productId = productId;
+        this.previousCategoryId = previousCategoryId;
+        this.currentCategoryId = currentCategoryId;
+    }
+
+    /**
+     * 저장된 이벤트 복원용 생성자
+     */
+    public ProductCategoryChangedEvent(String eventId, LocalDateTime occurredAt, ProductId productId,
+                                        CategoryId previousCategoryId, CategoryId currentCategoryId) {
+        super(eventId, occurredAt);
+        this.productId = productId;
+        this.previousCategoryId = previousCategoryId;
+        this.currentCategoryId = currentCategoryId;
+    }
+
+    @Override
+    public String getAggregateId() {
+        return productId.getValue();
+    }
+}
@@ -1,5 +1,6 @@
 package dev.wony.backendlab.patterns.ddd.product.domain.event;
 
+import dev.wony.backendlab.patterns.ddd.product.domain.vo.CategoryId;
 import dev.wony.backendlab.patterns.ddd.product.domain.vo.Money;
 import dev.wony.backendlab.patterns.ddd.product.domain.vo.ProductId;
 import dev.wony.backendlab.patterns.ddd.product.domain.vo.ProductName;
@@ -7,6 +8,8 @@ import dev.wony.backendlab.patterns.ddd.product.domain.vo.Quantity;
 import lombok.Getter;
 import lombok.ToString;
 
+import java.time.LocalDateTime;
+
 /**
  * 상품 생성 이벤트.
  * <p>
@@ -18,15 +21,39 @@ public final class ProductCreatedEvent extends AbstractDomainEvent {
 
     private final ProductId productId;
     private final ProductName productName;
+    private final String description;
     private final Money price;
     private final Quantity initialStock;
+    private final CategoryId categoryId;
 
-    public ProductCreatedEvent(ProductId productId, ProductName productName,
-                                Money price, Quantity initialStock) {
+    public ProductCreatedEvent(ProductId productId, ProductName productName, String description,
+                                Money price, Quantity initialStock, CategoryId categoryId) {
         super();
         this.productId = productId;
         this.productName = productName;
+        this.description = description;
         this.price = price;
         this.initialStock = initialStock;
+        this.categoryId = categoryId;
+    }
+
+    /**
+     * 저장된 이벤트 복원용 생성자
+     */
+    public ProductCreatedEvent(String eventId, LocalDateTime occurredAt,
+                                ProductId productId, ProductName productName, String description,
+                                Money price, Quantity initialStock, CategoryId categoryId) {
+        super(eventId, occurredAt);
+        this.productId = productId;
+        this.productName = productName;
+        this.description = description;
+        this.price = price;
+        this.initialStock = initialStock;
+        this.categoryId = categoryId;
+    }
+
+    @Override
+    public String getAggregateId() {
+        return productId.getValue();
     }
 }
@@ -0,0 +1,45 @@
+package dev.wony.backendlab.patterns.ddd.product.domain.event;
+
+import dev.wony.backendlab.patterns.ddd.product.domain.vo.ProductId;
+import dev.wony.backendlab.patterns.ddd.product.domain.vo.ProductName;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * 상품 정보 수정 이벤트.
+ * <p>
+ * 상품명이나 설명이 수정되었을 때 발행됩니다.
+ */
+@Getter
+@ToString(callSuper = true)
+public final class ProductInfoUpdatedEvent extends AbstractDomainEvent {
+
+    private final ProductId productId;
+    private final ProductName productName;
+    private final String description;
+
+    public ProductInfoUpdatedEvent(ProductId productId, ProductName productName, String description) {
+        super();
+        this.productId = productId;
+        this.productName = productName;
+        this.description = description;
+    }
+
+    /**
+     * 저장된 이벤트 복원용 생성자
+     */
+    public ProductInfoUpdatedEvent(String eventId, LocalDateTime occurredAt, ProductId productId,
+                                    ProductName productName, String description) {
+        super(eventId, occurredAt);
+        this.productId = productId;
+        this.productName = productName;
+        this.description = description;
+    }
+
+    @Override
+    public String getAggregateId() {
+        return productId.getValue();
+    }
+}
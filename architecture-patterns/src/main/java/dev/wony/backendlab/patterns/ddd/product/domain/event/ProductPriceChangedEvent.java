@@ -5,6 +5,8 @@ import dev.wony.backendlab.patterns.ddd.product.domain.vo.ProductId;
 import lombok.Getter;
 import lombok.ToString;
 
+import java.time.LocalDateTime;
+
 /**
  * 상품 가격 변경 이벤트.
  * <p>
@@ -25,6 +27,22 @@ public final class ProductPriceChangedEvent extends AbstractDomainEvent {
         this.newPrice = newPrice;
     }
 
+    /**
+     * 저장된 이벤트 복원용 생성자
+     */
+    public ProductPriceChangedEvent(String eventId, LocalDateTime occurredAt,
+                                     ProductId productId, Money oldPrice, Money newPrice) {
+        super(eventId, occurredAt);
+        this.productId = productId;
+        this.oldPrice = oldPrice;
+        this.newPrice = newPrice;
+    }
+
+    @Override
+    public String getAggregateId() {
+        return productId.getValue();
+    }
+
     /**
      * 가격 인상 여부
      *
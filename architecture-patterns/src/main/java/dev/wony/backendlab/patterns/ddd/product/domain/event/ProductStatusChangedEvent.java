@@ -0,0 +1,46 @@
+package dev.wony.backendlab.patterns.ddd.product.domain.event;
+
+import dev.wony.backendlab.patterns.ddd.product.domain.entity.ProductStatus;
+import dev.wony.backendlab.patterns.ddd.product.domain.vo.ProductId;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * 상품 상태 변경 이벤트.
+ * <p>
+ * 판매 시작, 판매 중지처럼 명시적으로 상태를 바꿨을 때 발행됩니다.
+ * 재고 변경에 따른 품절/판매 재개는 {@link ProductStockChangedEvent}로 표현합니다.
+ */
+@Getter
+@ToString(callSuper = true)
+public final class ProductStatusChangedEvent extends AbstractDomainEvent {
+
+    private final ProductId productId;
+    private final ProductStatus previousStatus;
+    private final ProductStatus currentStatus;
+
+    public ProductStatusChangedEvent(ProductId productId, ProductStatus previousStatus, ProductStatus currentStatus) {
+        super();
+        this.productId = productId;
+        this.previousStatus = previousStatus;
+        this.currentStatus = currentStatus;
+    }
+
+    /**
+     * 저장된 이벤트 복원용 생성자
+     */
+    public ProductStatusChangedEvent(String eventId, LocalDateTime occurredAt, ProductId productId,
+                                      ProductStatus previousStatus, ProductStatus currentStatus) {
+        super(eventId, occurredAt);
+        this.productId = productId;
+        this.previousStatus = previousStatus;
+        this.currentStatus = currentStatus;
+    }
+
+    @Override
+    public String getAggregateId() {
+        return productId.getValue();
+    }
+}
@@ -5,6 +5,8 @@ import dev.wony.backendlab.patterns.ddd.product.domain.vo.Quantity;
 import lombok.Getter;
 import lombok.ToString;
 
+import java.time.LocalDateTime;
+
 /**
  * 상품 재고 변경 이벤트.
  * <p>
@@ -26,6 +28,22 @@ public final class ProductStockChangedEvent extends AbstractDomainEvent {
         this.currentQuantity = currentQuantity;
     }
 
+    /**
+     * 저장된 이벤트 복원용 생성자
+     */
+    public ProductStockChangedEvent(String eventId, LocalDateTime occurredAt, ProductId productId,
+                                     Quantity previousQuantity, Quantity currentQuantity) {
+        super(eventId, occurredAt);
+        this.productId = productId;
+        this.previousQuantity = previousQuantity;
+        this.currentQuantity = currentQuantity;
+    }
+
+    @Override
+    public String getAggregateId() {
+        return productId.getValue();
+    }
+
     /**
      * 재고 증가 여부
      *
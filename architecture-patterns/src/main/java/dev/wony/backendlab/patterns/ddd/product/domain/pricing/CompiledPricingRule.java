@@ -0,0 +1,602 @@
+package dev.wony.backendlab.patterns.ddd.product.domain.pricing;
+
+import dev.wony.backendlab.patterns.ddd.product.domain.entity.Product;
+import dev.wony.backendlab.patterns.ddd.product.domain.service.PriceAdjustment;
+import dev.wony.backendlab.patterns.ddd.product.domain.service.PricingPolicy;
+import dev.wony.backendlab.patterns.ddd.product.domain.vo.CategoryId;
+import dev.wony.backendlab.patterns.ddd.product.domain.vo.Money;
+import dev.wony.backendlab.patterns.ddd.product.domain.vo.Quantity;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * 평평한 명령 배열로 컴파일된 가격 규칙.
+ * <p>
+ * {@link PricingRule} 트리를 {@code int[]} 명령열과 {@code long[]} 상수 풀로 바꿉니다.
+ * 평가 시에는 규칙 객체를 따라가지 않고 명령열을 앞에서부터 한 번 실행하므로, 가상 호출과 중간 {@link Money} 생성이 없습니다.
+ * <ul>
+ *     <li>단가 × 수량은 처음에 한 번만 계산합니다.</li>
+ *     <li>카테고리와 기간 조건은 컴파일 시점에 풀어 둡니다. 기간 경계로 나눈 구간과 규칙에 등장하는 카테고리의 조합마다
+ *     조건을 제거한 명령열을 만들고, 평가 시에는 시각(이진 탐색)과 카테고리로 명령열 하나를 고릅니다.
+ *     조합이 {@value #MAX_PROGRAMS}개를 넘으면 기간 조건은 명령으로 남겨 평가 시에 판단합니다.</li>
+ *     <li>수량 조건이 맞지 않으면 해당 블록 끝으로 건너뜁니다.</li>
+ *     <li>연속된 정액 할인은 하나로 합치고, 정액 할인의 할인 상한은 더 작은 금액의 정액 할인으로 바꿉니다.
+ *     최저가 선택 후보 중 정률 할인은 가장 큰 할인율 하나로, 정액 할인은 가장 큰 금액 하나로 합칩니다.</li>
+ *     <li>할인율 0%, 할인 금액 0원, 비어 있는 조합과 조건은 명령을 만들지 않습니다.</li>
+ *     <li>최저가 선택과 할인 상한은 중첩 깊이별 슬롯에 기준 금액을 보관합니다. 슬롯 배열은 스레드마다 하나를 재사용합니다.</li>
+ *     <li>{@link PricingRule#step}으로 넣은 {@link PriceAdjustment}는 {@link PriceAdjustment#applyAsLong}을 호출하는 명령이 됩니다.</li>
+ *     <li>{@code long} 범위를 넘는 계산은 {@link PricingRule#price}(트리 평가)로 다시 계산하므로 결과는 항상 같습니다.</li>
+ * </ul>
+ * 카테고리와 시각을 정한 명령열은 {@link #adjustment}로 {@link PriceAdjustment}가 되어
+ * {@link dev.wony.backendlab.patterns.ddd.product.domain.service.BatchPricingEngine}의 한 단계로도 사용합니다.
+ * <p>
+ * 불변 객체이며 여러 스레드에서 함께 사용할 수 있습니다.
+ */
+public final class CompiledPricingRule implements PricingPolicy {
+
+    static final int MAX_PROGRAMS = 4096;
+
+    private static final int PERCENT = 0;
+    private static final int AMOUNT = 1;
+    private static final int TIER = 2;
+    private static final int SAVE = 3;
+    private static final int CAP = 4;
+    private static final int BEST_OPEN = 5;
+    private static final int BEST_NEXT = 6;
+    private static final int BEST_CLOSE = 7;
+    private static final int IF_TIME = 8;
+    private static final int IF_QUANTITY = 9;
+    private static final int STEP = 10;
+
+    private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+
+    private final PricingRule rule;
+    private final Clock clock;
+
+    /**
+     * 기간 경계 (오름차순). 비어 있으면 구간은 하나이고 기간 조건은 명령으로 남습니다.
+     */
+    private final long[] boundaries;
+
+    /**
+     * 카테고리별 구간별 명령열. 카테고리 조건에 해당하지 않는 카테고리는 {@link #defaultPrograms}를 사용합니다.
+     */
+    private final Map<CategoryId, int[][]> programs;
+    private final int[][] defaultPrograms;
+
+    private final long[] constants;
+    private final int[][] tierMinQuantities;
+    private final int[][] tierRemainPercents;
+    private final PriceAdjustment[] steps;
+    private final int slotCount;
+
+    private CompiledPricingRule(PricingRule rule, Clock clock, long[] boundaries, Map<CategoryId, int[][]> programs,
+                                int[][] defaultPrograms, Compiler compiler) {
+        this.rule = rule;
+        this.clock = clock;
+        this.boundaries = boundaries;
+        this.programs = programs;
+        this.defaultPrograms = defaultPrograms;
+        this.constants = compiler.constants.stream().mapToLong(Long::longValue).toArray();
+        this.tierMinQuantities = compiler.tierMinQuantities.toArray(int[][]::new);
+        this.tierRemainPercents = compiler.tierRemainPercents.toArray(int[][]::new);
+        this.steps = compiler.steps.toArray(PriceAdjustment[]::new);
+        this.slotCount = compiler.maxSlots;
+    }
+
+    /**
+     * 규칙 컴파일
+     *
+     * @param rule  가격 규칙
+     * @param clock 기간 조건 판단용 시계
+     * @return 컴파일된 규칙
+     */
+    public static CompiledPricingRule compile(PricingRule rule, Clock clock) {
+        checkNotNull(rule, "가격 규칙은 null일 수 없습니다");
+        checkNotNull(clock, "Clock은 null일 수 없습니다");
+        Set<CategoryId> categories = new HashSet<>();
+        TreeSet<Long> windowBoundaries = new TreeSet<>();
+        collect(rule, categories, windowBoundaries);
+
+        boolean resolveTime = (long) (windowBoundaries.size() + 1) * (categories.size() + 1) <= MAX_PROGRAMS;
+        long[] boundaries = resolveTime
+                ? windowBoundaries.stream().mapToLong(Long::longValue).toArray()
+                : new long[0];
+
+        Compiler compiler = new Compiler(resolveTime);
+        int[][] defaultPrograms = compiler.compileSegments(rule, null, boundaries);
+        Map<CategoryId, int[][]> programs = new HashMap<>();
+        for (CategoryId category : categories) {
+            int[][] segments = compiler.compileSegments(rule, category, boundaries);
+            if (!Arrays.deepEquals(segments, defaultPrograms)) {
+                programs.put(category, segments);
+            }
+        }
+        return new CompiledPricingRule(rule, clock, boundaries, programs, defaultPrograms, compiler);
+    }
+
+    /**
+     * 현재 시각 기준 최종 가격 계산
+     *
+     * @param product  상품
+     * @param quantity 수량
+     * @return 계산된 가격
+     */
+    @Override
+    public Money calculatePrice(Product product, Quantity quantity) {
+        checkNotNull(product, "상품은 null일 수 없습니다");
+        checkNotNull(quantity, "수량은 null일 수 없습니다");
+        return price(product.getPrice(), new PricingContext(product.getCategoryId(), quantity.getValue(), clock.millis()));
+    }
+
+    /**
+     * 최종 항목 금액 계산
+     *
+     * @param unitPrice 단가
+     * @param context   주문 항목 정보
+     * @return 최종 항목 금액
+     */
+    public Money price(Money unitPrice, PricingContext context) {
+        checkNotNull(unitPrice, "단가는 null일 수 없습니다");
+        checkNotNull(context, "가격 평가 정보는 null일 수 없습니다");
+        if (unitPrice.fitsInLong()) {
+            try {
+                return Money.of(priceAsLong(unitPrice.longValue(), context.quantity(), context.categoryId(),
+                        context.epochMilli()));
+            } catch (ArithmeticException overflow) {
+                // 트리 평가로 계산
+            }
+        }
+        return rule.price(unitPrice, context);
+    }
+
+    /**
+     * 최종 항목 금액 계산 (long 경로)
+     *
+     * @param unitPrice  단가
+     * @param quantity   수량
+     * @param categoryId 상품 카테고리
+     * @param epochMilli 평가 시각
+     * @return 최종 항목 금액
+     * @throws ArithmeticException 계산 중 long 범위를 넘는 경우
+     */
+    public long priceAsLong(long unitPrice, int quantity, CategoryId categoryId, long epochMilli) {
+        return run(programOf(categoryId, epochMilli), Math.multiplyExact(unitPrice, quantity), quantity, epochMilli);
+    }
+
+    /**
+     * 카테고리와 평가 시각을 고정한 가격 조정 단계
+     * <p>
+     * 항목 금액(단가 × 수량)을 받아 이 규칙을 적용합니다. 같은 시각에 같은 카테고리 상품을 배열 단위로 계산할 때
+     * {@link dev.wony.backendlab.patterns.ddd.product.domain.service.BatchPricingEngine}에 넘깁니다.
+     *
+     * @param categoryId 상품 카테고리
+     * @param epochMilli 평가 시각
+     * @return 가격 조정
+     */
+    public PriceAdjustment adjustment(CategoryId categoryId, long epochMilli) {
+        checkNotNull(categoryId, "카테고리 ID는 null일 수 없습니다");
+        int[] code = programOf(categoryId, epochMilli);
+        return new PriceAdjustment() {
+            @Override
+            public Money apply(Money lineTotal, int quantity) {
+                checkNotNull(lineTotal, "항목 금액은 null일 수 없습니다");
+                if (lineTotal.fitsInLong()) {
+                    try {
+                        return Money.of(run(code, lineTotal.longValue(), quantity, epochMilli));
+                    } catch (ArithmeticException overflow) {
+                        // 트리 평가로 계산
+                    }
+                }
+                return rule.apply(lineTotal, new PricingContext(categoryId, quantity, epochMilli));
+            }
+
+            @Override
+            public long applyAsLong(long lineTotal, int quantity) {
+                return run(code, lineTotal, quantity, epochMilli);
+            }
+        };
+    }
+
+    /**
+     * 명령열 실행. 슬롯이 필요하면 스레드별 슬롯 배열을 빌려 쓰고,
+     * {@link #STEP}으로 다른 컴파일된 규칙을 실행하는 중이라 이미 빌려 준 상태면 새로 만듭니다.
+     */
+    private long run(int[] code, long lineTotal, int quantity, long epochMilli) {
+        if (slotCount == 0) {
+            return execute(code, lineTotal, quantity, epochMilli, null);
+        }
+        Scratch scratch = SCRATCH.get();
+        if (scratch.inUse) {
+            return execute(code, lineTotal, quantity, epochMilli, new long[slotCount]);
+        }
+        scratch.inUse = true;
+        try {
+            return execute(code, lineTotal, quantity, epochMilli, scratch.slots(slotCount));
+        } finally {
+            scratch.inUse = false;
+        }
+    }
+
+    private long execute(int[] code, long lineTotal, int quantity, long epochMilli, long[] slots) {
+        long x = lineTotal;
+        int pc = 0;
+        while (pc < code.length) {
+            switch (code[pc]) {
+                case PERCENT -> {
+                    x = discount(x, code[pc + 1]);
+                    pc += 2;
+                }
+                case AMOUNT -> {
+                    long amount = constants[code[pc + 1]];
+                    x = x <= amount ? 0 : x - amount;
+                    pc += 2;
+                }
+                case TIER -> {
+                    int[] minQuantities = tierMinQuantities[code[pc + 1]];
+                    for (int i = minQuantities.length - 1; i >= 0; i--) {
+                        if (quantity >= minQuantities[i]) {
+                            x = discount(x, tierRemainPercents[code[pc + 1]][i]);
+                            break;
+                        }
+                    }
+                    pc += 2;
+                }
+                case SAVE -> {
+                    slots[code[pc + 1]] = x;
+                    pc += 2;
+                }
+                case CAP -> {
+                    x = Math.max(x, slots[code[pc + 1]] - constants[code[pc + 2]]);
+                    pc += 3;
+                }
+                case BEST_OPEN -> {
+                    slots[code[pc + 1]] = x;
+                    slots[code[pc + 1] + 1] = Long.MAX_VALUE;
+                    pc += 2;
+                }
+                case BEST_NEXT -> {
+                    int slot = code[pc + 1];
+                    slots[slot + 1] = Math.min(slots[slot + 1], x);
+                    x = slots[slot];
+                    pc += 2;
+                }
+                case BEST_CLOSE -> {
+                    x = Math.min(slots[code[pc + 1] + 1], x);
+                    pc += 2;
+                }
+                case IF_TIME -> {
+                    int from = code[pc + 1];
+                    boolean active = constants[from] <= epochMilli && epochMilli < constants[from + 1];
+                    pc = active ? pc + 3 : code[pc + 2];
+                }
+                case IF_QUANTITY -> pc = quantity >= code[pc + 1] ? pc + 3 : code[pc + 2];
+                case STEP -> {
+                    x = steps[code[pc + 1]].applyAsLong(x, quantity);
+                    pc += 2;
+                }
+                default -> throw new IllegalStateException("알 수 없는 명령입니다: " + code[pc]);
+            }
+        }
+        return x;
+    }
+
+    /**
+     * 컴파일된 명령열 길이 (연산자와 피연산자 포함)
+     *
+     * @param categoryId 상품 카테고리
+     * @param epochMilli 평가 시각
+     */
+    int programSize(CategoryId categoryId, long epochMilli) {
+        return programOf(categoryId, epochMilli).length;
+    }
+
+    private int[] programOf(CategoryId categoryId, long epochMilli) {
+        int[][] segments = programs.isEmpty() ? defaultPrograms : programs.getOrDefault(categoryId, defaultPrograms);
+        if (boundaries.length == 0) {
+            return segments[0];
+        }
+        int found = Arrays.binarySearch(boundaries, epochMilli);
+        return segments[found >= 0 ? found + 1 : -found - 1];
+    }
+
+    /**
+     * 스레드별 슬롯 배열 (평가 중에는 다른 평가에 빌려주지 않음)
+     */
+    private static final class Scratch {
+
+        private long[] slots = new long[0];
+        private boolean inUse;
+
+        long[] slots(int size) {
+            if (slots.length < size) {
+                slots = new long[size];
+            }
+            return slots;
+        }
+    }
+
+    private static long discount(long amount, int remainPercent) {
+        return Math.addExact(Math.multiplyExact(amount, remainPercent), 50) / 100;
+    }
+
+    private static void collect(PricingRule rule, Set<CategoryId> categories, Set<Long> boundaries) {
+        if (rule instanceof PricingRule.ForCategories forCategories) {
+            categories.addAll(forCategories.categories());
+            collect(forCategories.rule(), categories, boundaries);
+        } else if (rule instanceof PricingRule.During during) {
+            boundaries.add(during.from().toEpochMilli());
+            boundaries.add(during.until().toEpochMilli());
+            collect(during.rule(), categories, boundaries);
+        } else if (rule instanceof PricingRule.Stack stack) {
+            stack.rules().forEach(child -> collect(child, categories, boundaries));
+        } else if (rule instanceof PricingRule.BestOf bestOf) {
+            bestOf.rules().forEach(child -> collect(child, categories, boundaries));
+        } else if (rule instanceof PricingRule.Capped capped) {
+            collect(capped.rule(), categories, boundaries);
+        } else if (rule instanceof PricingRule.MinQuantity minQuantity) {
+            collect(minQuantity.rule(), categories, boundaries);
+        }
+    }
+
+    /**
+     * 규칙 트리를 (카테고리, 기간 구간)별 명령열로 변환합니다. 상수 풀과 구간 표는 모든 명령열이 함께 사용합니다.
+     * <p>
+     * 블록을 만든 뒤 안쪽에서 아무 명령도 나오지 않으면 블록 머리까지 되돌립니다.
+     * 블록 경계({@link #barrier}) 앞의 명령은 뒤 명령과 합치지 않습니다.
+     */
+    private static final class Compiler {
+
+        private final boolean resolveTime;
+        private int[] code = new int[32];
+        private int size;
+        private int lastOp = -1;
+        private int barrier;
+        private int maxSlots;
+
+        private CategoryId category;
+        private long time;
+
+        private final List<Long> constants = new ArrayList<>();
+        private final List<int[]> tierMinQuantities = new ArrayList<>();
+        private final List<int[]> tierRemainPercents = new ArrayList<>();
+        private final List<PriceAdjustment> steps = new ArrayList<>();
+
+        Compiler(boolean resolveTime) {
+            this.resolveTime = resolveTime;
+        }
+
+        /**
+         * @param category   명령열을 만들 카테고리 (null 이면 어떤 카테고리 조건도 만족하지 않는 상품용)
+         * @param boundaries 기간 경계
+         * @return 구간별 명령열 ({@code boundaries.length + 1}개)
+         */
+        int[][] compileSegments(PricingRule rule, CategoryId category, long[] boundaries) {
+            int[][] segments = new int[boundaries.length + 1][];
+            for (int segment = 0; segment < segments.length; segment++) {
+                // 구간 [boundaries[s-1], boundaries[s]) 안의 모든 시각은 기간 조건 판단 결과가 같으므로 시작 시각으로 대표합니다.
+                long representative = segment == 0 ? Long.MIN_VALUE : boundaries[segment - 1];
+                segments[segment] = compile(rule, category, representative);
+            }
+            return segments;
+        }
+
+        private int[] compile(PricingRule rule, CategoryId category, long time) {
+            this.category = category;
+            this.time = time;
+            this.size = 0;
+            this.lastOp = -1;
+            this.barrier = 0;
+            emit(rule, 0);
+            return Arrays.copyOf(code, size);
+        }
+
+        private void emit(PricingRule rule, int depth) {
+            if (rule instanceof PricingRule.PercentOff percentOff) {
+                if (percentOff.percent() > 0) {
+                    write(PERCENT, 100 - percentOff.percent());
+                }
+            } else if (rule instanceof PricingRule.AmountOff amountOff) {
+                emitAmount(saturated(amountOff.amount()));
+            } else if (rule instanceof PricingRule.Tiered tiered) {
+                emitTiered(tiered);
+            } else if (rule instanceof PricingRule.Step step) {
+                steps.add(step.adjustment());
+                write(STEP, steps.size() - 1);
+            } else if (rule instanceof PricingRule.Stack stack) {
+                for (PricingRule child : stack.rules()) {
+                    emit(child, depth);
+                }
+            } else if (rule instanceof PricingRule.BestOf bestOf) {
+                emitBestOf(bestOf, depth);
+            } else if (rule instanceof PricingRule.Capped capped) {
+                emitCapped(capped, depth);
+            } else if (rule instanceof PricingRule.ForCategories forCategories) {
+                if (category != null && forCategories.categories().contains(category)) {
+                    emit(forCategories.rule(), depth);
+                }
+            } else if (rule instanceof PricingRule.During during) {
+                if (!resolveTime) {
+                    int from = constant(during.from().toEpochMilli());
+                    constant(during.until().toEpochMilli());
+                    emitGuarded(IF_TIME, from, during.rule(), depth);
+                } else if (during.from().toEpochMilli() <= time && time < during.until().toEpochMilli()) {
+                    emit(during.rule(), depth);
+                }
+            } else if (rule instanceof PricingRule.MinQuantity minQuantity) {
+                if (minQuantity.minQuantity() == 0) {
+                    emit(minQuantity.rule(), depth);
+                } else {
+                    emitGuarded(IF_QUANTITY, minQuantity.minQuantity(), minQuantity.rule(), depth);
+                }
+            } else {
+                throw new IllegalArgumentException("지원하지 않는 가격 규칙입니다: " + rule);
+            }
+        }
+
+        /**
+         * 정액 할인 a 다음의 정액 할인 b 는 {@code max(0, max(0, x - a) - b) = max(0, x - (a + b))} 이므로 하나로 합칩니다.
+         */
+        private void emitAmount(long amount) {
+            if (amount == 0) {
+                return;
+            }
+            if (lastOp >= barrier && code[lastOp] == AMOUNT) {
+                long merged = constants.get(code[lastOp + 1]) + amount;
+                code[lastOp + 1] = constant(merged < 0 ? Long.MAX_VALUE : merged);
+                return;
+            }
+            write(AMOUNT, constant(amount));
+        }
+
+        private void emitTiered(PricingRule.Tiered tiered) {
+            List<PricingRule.Tier> tiers = tiered.tiers();
+            if (tiers.stream().allMatch(tier -> tier.percent() == 0)) {
+                return;
+            }
+            tierMinQuantities.add(tiers.stream().mapToInt(PricingRule.Tier::minQuantity).toArray());
+            tierRemainPercents.add(tiers.stream().mapToInt(tier -> 100 - tier.percent()).toArray());
+            write(TIER, tierMinQuantities.size() - 1);
+        }
+
+        private void emitBestOf(PricingRule.BestOf bestOf, int depth) {
+            List<PricingRule> rules = mergeSimpleCandidates(bestOf.rules());
+            if (rules.isEmpty()) {
+                return;
+            }
+            if (rules.size() == 1) {
+                emit(rules.get(0), depth);
+                return;
+            }
+            write(BEST_OPEN, depth);
+            useSlots(depth + 2);
+            for (int i = 0; i < rules.size(); i++) {
+                if (i > 0) {
+                    write(BEST_NEXT, depth);
+                }
+                barrier = size;
+                emit(rules.get(i), depth + 2);
+            }
+            write(BEST_CLOSE, depth);
+            barrier = size;
+        }
+
+        /**
+         * 할인 상한 c 는 정액 할인 a 에 대해 정액 할인 {@code min(a, c)}와 같고,
+         * 중첩된 상한은 {@code max(max(r, x - c1), x - c2) = max(r, x - min(c1, c2))} 이므로 하나로 합칩니다.
+         */
+        private void emitCapped(PricingRule.Capped capped, int depth) {
+            Money cap = capped.maxDiscount();
+            PricingRule inner = capped.rule();
+            while (inner instanceof PricingRule.Capped nested) {
+                cap = min(cap, nested.maxDiscount());
+                inner = nested.rule();
+            }
+            if (inner instanceof PricingRule.AmountOff amountOff) {
+                emitAmount(saturated(min(cap, amountOff.amount())));
+                return;
+            }
+
+            int start = size;
+            int startLastOp = lastOp;
+            int startBarrier = barrier;
+            write(SAVE, depth);
+            barrier = size;
+            emit(inner, depth + 1);
+            if (lastOp == start) {
+                size = start;
+                lastOp = startLastOp;
+                barrier = startBarrier;
+                return;
+            }
+            useSlots(depth + 1);
+            write(CAP, depth, constant(saturated(cap)));
+            barrier = size;
+        }
+
+        /**
+         * 정률/정액 할인은 할인율/금액이 클수록 결과가 작으므로 종류별로 가장 큰 후보 하나만 남깁니다.
+         */
+        private static List<PricingRule> mergeSimpleCandidates(List<PricingRule> rules) {
+            PricingRule.PercentOff bestPercent = null;
+            PricingRule.AmountOff bestAmount = null;
+            List<PricingRule> merged = new ArrayList<>();
+            for (PricingRule rule : rules) {
+                if (rule instanceof PricingRule.PercentOff percentOff) {
+                    if (bestPercent == null || percentOff.percent() > bestPercent.percent()) {
+                        bestPercent = percentOff;
+                    }
+                } else if (rule instanceof PricingRule.AmountOff amountOff) {
+                    if (bestAmount == null || amountOff.amount().isGreaterThan(bestAmount.amount())) {
+                        bestAmount = amountOff;
+                    }
+                } else {
+                    merged.add(rule);
+                }
+            }
+            if (bestPercent != null) {
+                merged.add(bestPercent);
+            }
+            if (bestAmount != null) {
+                merged.add(bestAmount);
+            }
+            return merged;
+        }
+
+        private void emitGuarded(int op, int operand, PricingRule body, int depth) {
+            int start = size;
+            int startLastOp = lastOp;
+            int startBarrier = barrier;
+            write(op, operand, -1);
+            barrier = size;
+            emit(body, depth);
+            if (lastOp == start) {
+                size = start;
+                lastOp = startLastOp;
+                barrier = startBarrier;
+                return;
+            }
+            code[start + 2] = size;
+            barrier = size;
+        }
+
+        private int constant(long value) {
+            constants.add(value);
+            return constants.size() - 1;
+        }
+
+        private static Money min(Money a, Money b) {
+            return a.isGreaterThan(b) ? b : a;
+        }
+
+        /**
+         * long 범위를 넘는 할인 금액은 어떤 항목 금액보다도 크므로 {@link Long#MAX_VALUE}로 대신해도 결과가 같습니다.
+         */
+        private static long saturated(Money amount) {
+            return amount.fitsInLong() ? amount.longValue() : Long.MAX_VALUE;
+        }
+
+        private void useSlots(int slots) {
+            maxSlots = Math.max(maxSlots, slots);
+        }
+
+        private void write(int... words) {
+            if (size + words.length > code.length) {
+                code = Arrays.copyOf(code, Math.max(code.length * 2, size + words.length));
+            }
+            lastOp = size;
+            System.arraycopy(words, 0, code, size, words.length);
+            size += words.length;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package dev.wony.backendlab.patterns.ddd.product.domain.pricing;
+
+import dev.wony.backendlab.patterns.ddd.product.domain.vo.CategoryId;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * 가격 규칙 평가 시점의 주문 항목 정보.
+ *
+ * @param categoryId 상품 카테고리
+ * @param quantity   주문 수량
+ * @param epochMilli 평가 시각 (기간 프로모션 판단용)
+ */
+public record PricingContext(CategoryId categoryId, int quantity, long epochMilli) {
+
+    public PricingContext {
+        checkNotNull(categoryId, "카테고리 ID는 null일 수 없습니다");
+        checkArgument(quantity >= 0, "수량은 음수일 수 없습니다: %s", quantity);
+    }
+}
@@ -0,0 +1,389 @@
+package dev.wony.backendlab.patterns.ddd.product.domain.pricing;
+
+import dev.wony.backendlab.patterns.ddd.product.domain.service.PriceAdjustment;
+import dev.wony.backendlab.patterns.ddd.product.domain.vo.CategoryId;
+import dev.wony.backendlab.patterns.ddd.product.domain.vo.Money;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * 선언형 가격 규칙.
+ * <p>
+ * 할인 단계(정률/정액/수량 구간)를 조합 규칙(순차 적용, 최저가 선택, 할인 상한)과 조건(카테고리, 기간, 최소 수량)으로
+ * 묶어 프로모션 전체를 하나의 트리로 표현합니다. 모든 규칙은 앞 단계까지 적용된 항목 금액(단가 × 수량)을 받아 새 금액을 돌려줍니다.
+ * 기존 {@link PriceAdjustment} 단계는 {@link #step}으로 트리에 넣고, 컴파일된 규칙은
+ * {@link CompiledPricingRule#adjustment}로 다시 {@link PriceAdjustment}가 되므로 배열 단위 계산에도 그대로 사용합니다.
+ * <p>
+ * {@link #apply}는 트리를 그대로 따라가는 기준 구현입니다.
+ * 주문마다 평가할 때는 {@link CompiledPricingRule#compile(PricingRule, Clock)}로 한 번 컴파일하여 사용합니다.
+ *
+ * <pre>{@code
+ * PricingRule promotion = PricingRule.stack(
+ *         PricingRule.forCategories(Set.of(electronics), PricingRule.percentOff(10)),
+ *         PricingRule.bestOf(
+ *                 PricingRule.tiered(List.of(new Tier(10, 5), new Tier(50, 15))),
+ *                 PricingRule.during(blackFridayStart, blackFridayEnd, PricingRule.percentOff(20))),
+ *         PricingRule.capped(Money.of(50_000), PricingRule.amountOff(Money.of(3_000))));
+ * }</pre>
+ */
+public sealed interface PricingRule {
+
+    /**
+     * 규칙 적용
+     *
+     * @param lineTotal 앞 단계까지 적용된 항목 금액
+     * @param context   주문 항목 정보
+     * @return 규칙을 적용한 항목 금액
+     */
+    Money apply(Money lineTotal, PricingContext context);
+
+    /**
+     * 단가와 수량으로 최종 항목 금액 계산
+     *
+     * @param unitPrice 단가
+     * @param context   주문 항목 정보
+     * @return 최종 항목 금액
+     */
+    default Money price(Money unitPrice, PricingContext context) {
+        checkNotNull(unitPrice, "단가는 null일 수 없습니다");
+        checkNotNull(context, "가격 평가 정보는 null일 수 없습니다");
+        return apply(unitPrice.multiply(context.quantity()), context);
+    }
+
+    /**
+     * 정률 할인
+     *
+     * @param percent 할인율 (0-100)
+     * @return 가격 규칙
+     */
+    static PricingRule percentOff(int percent) {
+        return new PercentOff(percent);
+    }
+
+    /**
+     * 정액 할인 (항목 금액보다 크면 0원)
+     *
+     * @param amount 할인 금액
+     * @return 가격 규칙
+     */
+    static PricingRule amountOff(Money amount) {
+        return new AmountOff(amount);
+    }
+
+    /**
+     * 가격 조정 단계를 규칙으로 사용
+     *
+     * @param adjustment 가격 조정
+     * @return 가격 규칙
+     */
+    static PricingRule step(PriceAdjustment adjustment) {
+        return new Step(adjustment);
+    }
+
+    /**
+     * 수량 구간별 정률 할인. 수량이 도달한 가장 높은 구간의 할인율을 적용합니다.
+     *
+     * @param tiers 구간 목록
+     * @return 가격 규칙
+     */
+    static PricingRule tiered(List<Tier> tiers) {
+        return new Tiered(tiers);
+    }
+
+    /**
+     * 규칙을 순서대로 누적 적용
+     *
+     * @param rules 규칙 (적용 순)
+     * @return 가격 규칙
+     */
+    static PricingRule stack(PricingRule... rules) {
+        return new Stack(List.of(rules));
+    }
+
+    /**
+     * 같은 금액에 각 규칙을 적용하여 가장 낮은 금액 선택
+     *
+     * @param rules 후보 규칙
+     * @return 가격 규칙
+     */
+    static PricingRule bestOf(PricingRule... rules) {
+        return new BestOf(List.of(rules));
+    }
+
+    /**
+     * 규칙의 할인액 상한
+     *
+     * @param maxDiscount 최대 할인 금액
+     * @param rule        대상 규칙
+     * @return 가격 규칙
+     */
+    static PricingRule capped(Money maxDiscount, PricingRule rule) {
+        return new Capped(maxDiscount, rule);
+    }
+
+    /**
+     * 특정 카테고리 상품에만 적용
+     *
+     * @param categories 대상 카테고리
+     * @param rule       대상 규칙
+     * @return 가격 규칙
+     */
+    static PricingRule forCategories(Set<CategoryId> categories, PricingRule rule) {
+        return new ForCategories(categories, rule);
+    }
+
+    /**
+     * 기간 {@code [from, until)} 동안에만 적용
+     *
+     * @param from  시작 시각 (포함)
+     * @param until 종료 시각 (미포함)
+     * @param rule  대상 규칙
+     * @return 가격 규칙
+     */
+    static PricingRule during(Instant from, Instant until, PricingRule rule) {
+        return new During(from, until, rule);
+    }
+
+    /**
+     * 수량이 기준 이상일 때만 적용
+     *
+     * @param minQuantity 최소 수량
+     * @param rule        대상 규칙
+     * @return 가격 규칙
+     */
+    static PricingRule minQuantity(int minQuantity, PricingRule rule) {
+        return new MinQuantity(minQuantity, rule);
+    }
+
+    /**
+     * 정률 할인
+     *
+     * @param percent 할인율 (0-100)
+     */
+    record PercentOff(int percent) implements PricingRule {
+
+        public PercentOff {
+            checkArgument(percent >= 0 && percent <= 100, "할인율은 0-100 사이여야 합니다: %s", percent);
+        }
+
+        @Override
+        public Money apply(Money lineTotal, PricingContext context) {
+            return lineTotal.discount(percent);
+        }
+    }
+
+    /**
+     * 정액 할인
+     *
+     * @param amount 할인 금액
+     */
+    record AmountOff(Money amount) implements PricingRule {
+
+        public AmountOff {
+            checkNotNull(amount, "할인 금액은 null일 수 없습니다");
+        }
+
+        @Override
+        public Money apply(Money lineTotal, PricingContext context) {
+            return lineTotal.isLessThanOrEqual(amount) ? Money.ZERO : lineTotal.subtract(amount);
+        }
+    }
+
+    /**
+     * 가격 조정 단계
+     *
+     * @param adjustment 가격 조정
+     */
+    record Step(PriceAdjustment adjustment) implements PricingRule {
+
+        public Step {
+            checkNotNull(adjustment, "가격 조정은 null일 수 없습니다");
+        }
+
+        @Override
+        public Money apply(Money lineTotal, PricingContext context) {
+            return adjustment.apply(lineTotal, context.quantity());
+        }
+    }
+
+    /**
+     * 수량 구간
+     *
+     * @param minQuantity 구간 시작 수량
+     * @param percent     할인율 (0-100)
+     */
+    record Tier(int minQuantity, int percent) {
+
+        public Tier {
+            checkArgument(minQuantity >= 0, "구간 수량은 음수일 수 없습니다: %s", minQuantity);
+            checkArgument(percent >= 0 && percent <= 100, "할인율은 0-100 사이여야 합니다: %s", percent);
+        }
+    }
+
+    /**
+     * 수량 구간별 정률 할인
+     *
+     * @param tiers 구간 목록 (시작 수량 오름차순으로 정렬됨)
+     */
+    record Tiered(List<Tier> tiers) implements PricingRule {
+
+        public Tiered {
+            checkNotNull(tiers, "구간 목록은 null일 수 없습니다");
+            tiers = tiers.stream().sorted(Comparator.comparingInt(Tier::minQuantity)).toList();
+            for (int i = 1; i < tiers.size(); i++) {
+                checkArgument(tiers.get(i - 1).minQuantity() != tiers.get(i).minQuantity(),
+                        "구간 시작 수량이 중복됩니다: %s", tiers.get(i).minQuantity());
+            }
+        }
+
+        @Override
+        public Money apply(Money lineTotal, PricingContext context) {
+            Tier reached = null;
+            for (Tier tier : tiers) {
+                if (context.quantity() < tier.minQuantity()) {
+                    break;
+                }
+                reached = tier;
+            }
+            return reached != null ? lineTotal.discount(reached.percent()) : lineTotal;
+        }
+    }
+
+    /**
+     * 순차 누적 적용
+     *
+     * @param rules 규칙 (적용 순)
+     */
+    record Stack(List<PricingRule> rules) implements PricingRule {
+
+        public Stack {
+            rules = List.copyOf(rules);
+        }
+
+        @Override
+        public Money apply(Money lineTotal, PricingContext context) {
+            Money result = lineTotal;
+            for (PricingRule rule : rules) {
+                result = rule.apply(result, context);
+            }
+            return result;
+        }
+    }
+
+    /**
+     * 최저가 선택 (후보가 없으면 그대로)
+     *
+     * @param rules 후보 규칙
+     */
+    record BestOf(List<PricingRule> rules) implements PricingRule {
+
+        public BestOf {
+            rules = List.copyOf(rules);
+        }
+
+        @Override
+        public Money apply(Money lineTotal, PricingContext context) {
+            Money best = null;
+            for (PricingRule rule : rules) {
+                Money candidate = rule.apply(lineTotal, context);
+                if (best == null || best.isGreaterThan(candidate)) {
+                    best = candidate;
+                }
+            }
+            return best != null ? best : lineTotal;
+        }
+    }
+
+    /**
+     * 할인액 상한
+     *
+     * @param maxDiscount 최대 할인 금액
+     * @param rule        대상 규칙
+     */
+    record Capped(Money maxDiscount, PricingRule rule) implements PricingRule {
+
+        public Capped {
+            checkNotNull(maxDiscount, "최대 할인 금액은 null일 수 없습니다");
+            checkNotNull(rule, "규칙은 null일 수 없습니다");
+        }
+
+        @Override
+        public Money apply(Money lineTotal, PricingContext context) {
+            Money discounted = rule.apply(lineTotal, context);
+            if (lineTotal.isLessThanOrEqual(maxDiscount)) {
+                return discounted;
+            }
+            Money floor = lineTotal.subtract(maxDiscount);
+            return floor.isGreaterThan(discounted) ? floor : discounted;
+        }
+    }
+
+    /**
+     * 카테고리 조건
+     *
+     * @param categories 대상 카테고리
+     * @param rule       대상 규칙
+     */
+    record ForCategories(Set<CategoryId> categories, PricingRule rule) implements PricingRule {
+
+        public ForCategories {
+            categories = Set.copyOf(categories);
+            checkNotNull(rule, "규칙은 null일 수 없습니다");
+        }
+
+        @Override
+        public Money apply(Money lineTotal, PricingContext context) {
+            return categories.contains(context.categoryId()) ? rule.apply(lineTotal, context) : lineTotal;
+        }
+    }
+
+    /**
+     * 기간 조건. 밀리초 단위로 비교합니다.
+     *
+     * @param from  시작 시각 (포함)
+     * @param until 종료 시각 (미포함)
+     * @param rule  대상 규칙
+     */
+    record During(Instant from, Instant until, PricingRule rule) implements PricingRule {
+
+        public During {
+            checkNotNull(from, "시작 시각은 null일 수 없습니다");
+            checkNotNull(until, "종료 시각은 null일 수 없습니다");
+            checkArgument(from.isBefore(until), "시작 시각은 종료 시각보다 앞서야 합니다: %s ~ %s", from, until);
+            checkNotNull(rule, "규칙은 null일 수 없습니다");
+        }
+
+        @Override
+        public Money apply(Money lineTotal, PricingContext context) {
+            long now = context.epochMilli();
+            boolean active = from.toEpochMilli() <= now && now < until.toEpochMilli();
+            return active ? rule.apply(lineTotal, context) : lineTotal;
+        }
+    }
+
+    /**
+     * 최소 수량 조건
+     *
+     * @param minQuantity 최소 수량
+     * @param rule        대상 규칙
+     */
+    record MinQuantity(int minQuantity, PricingRule rule) implements PricingRule {
+
+        public MinQuantity {
+            checkArgument(minQuantity >= 0, "최소 수량은 음수일 수 없습니다: %s", minQuantity);
+            checkNotNull(rule, "규칙은 null일 수 없습니다");
+        }
+
+        @Override
+        public Money apply(Money lineTotal, PricingContext context) {
+            return context.quantity() >= minQuantity ? rule.apply(lineTotal, context) : lineTotal;
+        }
+    }
+}
@@ -5,6 +5,8 @@ import dev.wony.backendlab.patterns.ddd.product.domain.entity.ProductStatus;
 import dev.wony.backendlab.patterns.ddd.product.domain.vo.CategoryId;
 import dev.wony.backendlab.patterns.ddd.product.domain.vo.ProductId;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -24,6 +26,22 @@ public interface ProductRepository {
      */
     Product save(Product product);
 
+    /**
+     * 여러 상품 일괄 저장
+     * <p>
+     * 기본 구현은 {@link #save}를 반복 호출합니다. 영속 저장소 구현체는 한 번의 배치로 처리하도록 재정의합니다.
+     *
+     * @param products 저장할 상품 목록
+     * @return 저장된 상품 목록
+     */
+    default List<Product> saveAll(Collection<Product> products) {
+        List<Product> saved = new ArrayList<>(products.size());
+        for (Product product : products) {
+            saved.add(save(product));
+        }
+        return saved;
+    }
+
     /**
      * ID로 상품 조회
      *
@@ -0,0 +1,158 @@
+package dev.wony.backendlab.patterns.ddd.product.domain.service;
+
+import dev.wony.backendlab.patterns.ddd.product.domain.vo.Money;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * 배열 단위 가격 계산기.
+ * <p>
+ * 단가({@code long[]})와 수량({@code int[]})을 열(column) 단위로 받아 {@link PriceAdjustment} 단계를
+ * 한 번의 순회로 적용합니다. 항목마다 {@link Money}를 만들지 않으므로 대형 장바구니나 전체 카탈로그 재가격 계산에 사용합니다.
+ * <ul>
+ *     <li>결과는 같은 단계로 만든 {@link PricingPolicy#chain}과 항상 같습니다.</li>
+ *     <li>{@code parallel} 메서드는 {@value #CHUNK_SIZE}개 단위로 나누어 공용 ForkJoinPool 에서 계산합니다.
+ *     {@value #PARALLEL_THRESHOLD}개 미만이면 나누는 비용이 더 크므로 순차로 계산합니다.</li>
+ *     <li>항목 금액이 {@code long} 범위를 넘으면 {@link ArithmeticException}을 던집니다.
+ *     그런 항목은 {@link PricingPolicy#chain}으로 계산합니다.</li>
+ * </ul>
+ * 불변 객체이며 여러 스레드에서 함께 사용할 수 있습니다.
+ */
+public final class BatchPricingEngine {
+
+    static final int CHUNK_SIZE = 1 << 14;
+    static final int PARALLEL_THRESHOLD = 1 << 16;
+
+    private final PriceAdjustment[] steps;
+
+    public BatchPricingEngine(List<PriceAdjustment> adjustments) {
+        checkNotNull(adjustments, "가격 조정 목록은 null일 수 없습니다");
+        this.steps = adjustments.toArray(PriceAdjustment[]::new);
+        for (PriceAdjustment step : steps) {
+            checkNotNull(step, "가격 조정은 null일 수 없습니다");
+        }
+    }
+
+    /**
+     * 항목별 금액 계산
+     *
+     * @param unitPrices 단가
+     * @param quantities 수량 (단가와 같은 길이)
+     * @return 항목별 금액
+     * @throws IllegalArgumentException 길이가 다르거나 음수 값이 있는 경우
+     * @throws ArithmeticException      항목 금액이 long 범위를 넘는 경우
+     */
+    public long[] price(long[] unitPrices, int[] quantities) {
+        long[] out = new long[checkColumns(unitPrices, quantities)];
+        priceRange(unitPrices, quantities, out, 0, out.length);
+        return out;
+    }
+
+    /**
+     * 항목별 금액 병렬 계산
+     *
+     * @param unitPrices 단가
+     * @param quantities 수량 (단가와 같은 길이)
+     * @return 항목별 금액
+     * @throws IllegalArgumentException 길이가 다르거나 음수 값이 있는 경우
+     * @throws ArithmeticException      항목 금액이 long 범위를 넘는 경우
+     */
+    public long[] priceParallel(long[] unitPrices, int[] quantities) {
+        int length = checkColumns(unitPrices, quantities);
+        long[] out = new long[length];
+        if (length < PARALLEL_THRESHOLD) {
+            priceRange(unitPrices, quantities, out, 0, length);
+            return out;
+        }
+        IntStream.range(0, chunkCount(length)).parallel().forEach(chunk -> {
+            int from = chunk * CHUNK_SIZE;
+            priceRange(unitPrices, quantities, out, from, Math.min(from + CHUNK_SIZE, length));
+        });
+        return out;
+    }
+
+    /**
+     * 총액 계산
+     *
+     * @param unitPrices 단가
+     * @param quantities 수량 (단가와 같은 길이)
+     * @return 항목별 금액의 합
+     * @throws IllegalArgumentException 길이가 다르거나 음수 값이 있는 경우
+     * @throws ArithmeticException      항목 금액이 long 범위를 넘는 경우
+     */
+    public Money total(long[] unitPrices, int[] quantities) {
+        int length = checkColumns(unitPrices, quantities);
+        return totalRange(unitPrices, quantities, 0, length).total();
+    }
+
+    /**
+     * 총액 병렬 계산
+     *
+     * @param unitPrices 단가
+     * @param quantities 수량 (단가와 같은 길이)
+     * @return 항목별 금액의 합
+     * @throws IllegalArgumentException 길이가 다르거나 음수 값이 있는 경우
+     * @throws ArithmeticException      항목 금액이 long 범위를 넘는 경우
+     */
+    public Money totalParallel(long[] unitPrices, int[] quantities) {
+        int length = checkColumns(unitPrices, quantities);
+        if (length < PARALLEL_THRESHOLD) {
+            return totalRange(unitPrices, quantities, 0, length).total();
+        }
+        Money[] partials = IntStream.range(0, chunkCount(length)).parallel()
+                .mapToObj(chunk -> {
+                    int from = chunk * CHUNK_SIZE;
+                    return totalRange(unitPrices, quantities, from, Math.min(from + CHUNK_SIZE, length)).total();
+                })
+                .toArray(Money[]::new);
+        Money.Accumulator total = new Money.Accumulator();
+        for (Money partial : partials) {
+            total.add(partial);
+        }
+        return total.total();
+    }
+
+    private void priceRange(long[] unitPrices, int[] quantities, long[] out, int from, int to) {
+        for (int i = from; i < to; i++) {
+            out[i] = priceAt(unitPrices, quantities, i);
+        }
+    }
+
+    private Money.Accumulator totalRange(long[] unitPrices, int[] quantities, int from, int to) {
+        Money.Accumulator total = new Money.Accumulator();
+        for (int i = from; i < to; i++) {
+            total.add(priceAt(unitPrices, quantities, i));
+        }
+        return total;
+    }
+
+    private long priceAt(long[] unitPrices, int[] quantities, int i) {
+        long unitPrice = unitPrices[i];
+        int quantity = quantities[i];
+        if (unitPrice < 0 || quantity < 0) {
+            throw new IllegalArgumentException(String.format(
+                    "단가와 수량은 음수일 수 없습니다. 위치: %s, 단가: %s, 수량: %s", i, unitPrice, quantity));
+        }
+        long lineTotal = Math.multiplyExact(unitPrice, quantity);
+        for (PriceAdjustment step : steps) {
+            lineTotal = step.applyAsLong(lineTotal, quantity);
+        }
+        return lineTotal;
+    }
+
+    private static int checkColumns(long[] unitPrices, int[] quantities) {
+        checkNotNull(unitPrices, "단가 배열은 null일 수 없습니다");
+        checkNotNull(quantities, "수량 배열은 null일 수 없습니다");
+        checkArgument(unitPrices.length == quantities.length,
+                "단가와 수량 배열의 길이가 다릅니다: %s, %s", unitPrices.length, quantities.length);
+        return unitPrices.length;
+    }
+
+    private static int chunkCount(int length) {
+        return (length + CHUNK_SIZE - 1) / CHUNK_SIZE;
+    }
+}
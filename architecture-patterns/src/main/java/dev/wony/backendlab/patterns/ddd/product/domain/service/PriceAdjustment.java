@@ -0,0 +1,111 @@
+package dev.wony.backendlab.patterns.ddd.product.domain.service;
+
+import dev.wony.backendlab.patterns.ddd.product.domain.vo.Money;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * 주문 항목 금액(단가 × 수량)에 순서대로 적용하는 가격 조정 단계.
+ * <p>
+ * {@link PricingPolicy}는 {@code (Product, Quantity)}를 받으므로 한 번에 한 항목만 계산할 수 있습니다.
+ * 가격 조정은 앞 단계의 항목 금액과 수량만 사용하므로, 같은 계산을 {@link Money} 경로({@link #apply})와
+ * {@code long} 경로({@link #applyAsLong})로 모두 제공하여 {@link BatchPricingEngine}이 배열 단위로 처리할 수 있게 합니다.
+ * 두 경로의 결과는 항상 같아야 합니다.
+ * <p>
+ * 프로모션 규칙 트리({@link dev.wony.backendlab.patterns.ddd.product.domain.pricing.PricingRule#step})의 단계로도 쓰이며,
+ * 컴파일된 규칙도 {@link dev.wony.backendlab.patterns.ddd.product.domain.pricing.CompiledPricingRule#adjustment}로 가격 조정이 됩니다.
+ */
+public interface PriceAdjustment {
+
+    /**
+     * 가격 조정 (Money 경로)
+     *
+     * @param lineTotal 앞 단계까지 적용된 항목 금액
+     * @param quantity  수량
+     * @return 조정된 항목 금액
+     */
+    Money apply(Money lineTotal, int quantity);
+
+    /**
+     * 가격 조정 (long 경로)
+     *
+     * @param lineTotal 앞 단계까지 적용된 항목 금액
+     * @param quantity  수량
+     * @return 조정된 항목 금액
+     * @throws ArithmeticException 계산 중 long 범위를 넘는 경우
+     */
+    long applyAsLong(long lineTotal, int quantity);
+
+    /**
+     * 정률 할인
+     *
+     * @param discountPercent 할인율 (0-100)
+     * @return 가격 조정
+     */
+    static PriceAdjustment percentDiscount(int discountPercent) {
+        checkPercent(discountPercent);
+        int remainPercent = 100 - discountPercent;
+        return new PriceAdjustment() {
+            @Override
+            public Money apply(Money lineTotal, int quantity) {
+                return lineTotal.discount(discountPercent);
+            }
+
+            @Override
+            public long applyAsLong(long lineTotal, int quantity) {
+                return Math.addExact(Math.multiplyExact(lineTotal, remainPercent), 50) / 100;
+            }
+        };
+    }
+
+    /**
+     * 정액 할인 (항목 금액보다 크면 0원)
+     *
+     * @param discountAmount 할인 금액
+     * @return 가격 조정
+     * @throws ArithmeticException 할인 금액이 long 범위를 넘는 경우
+     */
+    static PriceAdjustment fixedDiscount(Money discountAmount) {
+        checkNotNull(discountAmount, "할인 금액은 null일 수 없습니다");
+        long amount = discountAmount.longValue();
+        return new PriceAdjustment() {
+            @Override
+            public Money apply(Money lineTotal, int quantity) {
+                return lineTotal.isLessThanOrEqual(discountAmount) ? Money.ZERO : lineTotal.subtract(discountAmount);
+            }
+
+            @Override
+            public long applyAsLong(long lineTotal, int quantity) {
+                return lineTotal <= amount ? 0 : lineTotal - amount;
+            }
+        };
+    }
+
+    /**
+     * 대량 구매 할인 (수량이 기준 이상일 때만 정률 할인)
+     *
+     * @param thresholdQuantity 할인 적용 기준 수량
+     * @param discountPercent   할인율 (0-100)
+     * @return 가격 조정
+     */
+    static PriceAdjustment bulkDiscount(int thresholdQuantity, int discountPercent) {
+        PriceAdjustment discount = percentDiscount(discountPercent);
+        return new PriceAdjustment() {
+            @Override
+            public Money apply(Money lineTotal, int quantity) {
+                return quantity >= thresholdQuantity ? discount.apply(lineTotal, quantity) : lineTotal;
+            }
+
+            @Override
+            public long applyAsLong(long lineTotal, int quantity) {
+                return quantity >= thresholdQuantity ? discount.applyAsLong(lineTotal, quantity) : lineTotal;
+            }
+        };
+    }
+
+    private static void checkPercent(int discountPercent) {
+        checkArgument(discountPercent >= 0 && discountPercent <= 100,
+                "할인율은 0-100 사이여야 합니다: %s", discountPercent);
+    }
+}
@@ -4,6 +4,8 @@ import dev.wony.backendlab.patterns.ddd.product.domain.entity.Product;
 import dev.wony.backendlab.patterns.ddd.product.domain.vo.Money;
 import dev.wony.backendlab.patterns.ddd.product.domain.vo.Quantity;
 
+import java.util.List;
+
 /**
  * 가격 정책 인터페이스.
  * <p>
@@ -28,6 +30,27 @@ public interface PricingPolicy {
         return (product, quantity) -> product.getPrice().multiply(quantity.getValue());
     }
 
+    /**
+     * 가격 조정 단계를 순서대로 적용하는 정책
+     * <p>
+     * 단가 × 수량에서 시작하여 각 단계의 결과를 다음 단계에 넘깁니다.
+     * 같은 단계 목록을 {@link BatchPricingEngine}에 넘기면 배열 단위로 같은 결과를 계산합니다.
+     *
+     * @param adjustments 가격 조정 단계 (적용 순)
+     * @return 가격 정책
+     */
+    static PricingPolicy chain(List<PriceAdjustment> adjustments) {
+        List<PriceAdjustment> steps = List.copyOf(adjustments);
+        return (product, quantity) -> {
+            int count = quantity.getValue();
+            Money lineTotal = product.getPrice().multiply(count);
+            for (PriceAdjustment step : steps) {
+                lineTotal = step.apply(lineTotal, count);
+            }
+            return lineTotal;
+        };
+    }
+
     /**
      * 정률 할인 정책
      *
@@ -39,12 +62,7 @@ public interface PricingPolicy {
             throw new IllegalArgumentException("할인율은 0-100 사이여야 합니다");
         }
         return (product, quantity) -> {
-            Money basePrice = product.getPrice().multiply(quantity.getValue());
-            long discounted = basePrice.getAmount()
-                    .multiply(java.math.BigDecimal.valueOf(100 - discountPercent))
-                    .divide(java.math.BigDecimal.valueOf(100), java.math.RoundingMode.HALF_UP)
-                    .longValue();
-            return Money.of(discounted);
+            return product.getPrice().multiply(quantity.getValue()).discount(discountPercent);
         };
     }
 
@@ -78,11 +96,7 @@ public interface PricingPolicy {
         return (product, quantity) -> {
             Money basePrice = product.getPrice().multiply(quantity.getValue());
             if (quantity.getValue() >= thresholdQuantity) {
-                long discounted = basePrice.getAmount()
-                        .multiply(java.math.BigDecimal.valueOf(100 - discountPercent))
-                        .divide(java.math.BigDecimal.valueOf(100), java.math.RoundingMode.HALF_UP)
-                        .longValue();
-                return Money.of(discounted);
+                return basePrice.discount(discountPercent);
             }
             return basePrice;
         };
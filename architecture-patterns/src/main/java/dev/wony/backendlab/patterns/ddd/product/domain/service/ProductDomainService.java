@@ -41,14 +41,18 @@ public class ProductDomainService {
     /**
      * 여러 상품의 총 금액 계산
      *
+     * 항목마다 {@link Money}를 만들지 않도록 {@link Money.Accumulator}로 누적합니다.
+     *
      * @param items 상품-수량 쌍 목록
      * @return 총 금액
      */
     public Money calculateTotalPrice(List<OrderItem> items) {
         checkNotNull(items, "주문 항목은 null일 수 없습니다");
-        return items.stream()
-                .map(item -> calculateTotalPrice(item.product(), item.quantity()))
-                .reduce(Money.ZERO, Money::add);
+        Money.Accumulator total = new Money.Accumulator();
+        for (OrderItem item : items) {
+            total.add(item.product().getPrice(), item.quantity().getValue());
+        }
+        return total.total();
     }
 
     /**
@@ -70,12 +74,7 @@ public class ProductDomainService {
             return Money.ZERO;
         }
 
-        long discountedAmount = originalPrice.getAmount()
-                .multiply(java.math.BigDecimal.valueOf(100 - discountPercent))
-                .divide(java.math.BigDecimal.valueOf(100), java.math.RoundingMode.HALF_UP)
-                .longValue();
-
-        return Money.of(discountedAmount);
+        return originalPrice.discount(discountPercent);
     }
 
     /**
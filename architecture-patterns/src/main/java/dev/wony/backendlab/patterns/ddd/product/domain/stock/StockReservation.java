@@ -0,0 +1,30 @@
+package dev.wony.backendlab.patterns.ddd.product.domain.stock;
+
+import dev.wony.backendlab.patterns.ddd.product.domain.vo.ProductId;
+import dev.wony.backendlab.patterns.ddd.product.domain.vo.Quantity;
+import dev.wony.backendlab.patterns.ddd.product.domain.vo.ReservationId;
+
+import java.time.Instant;
+
+/**
+ * 재고 예약.
+ * <p>
+ * 불변 객체이며, 확정/취소/만료는 {@link StockReservationEngine}이 예약을 보관소에서 제거하는 것으로 표현합니다.
+ *
+ * @param id        예약 ID
+ * @param productId 상품 ID
+ * @param quantity  예약 수량
+ * @param expiresAt 만료 시각 (이 시각 이후에는 확정할 수 없음)
+ */
+public record StockReservation(ReservationId id, ProductId productId, Quantity quantity, Instant expiresAt) {
+
+    /**
+     * 만료 여부 확인
+     *
+     * @param now 기준 시각
+     * @return 만료되었으면 true
+     */
+    public boolean isExpired(Instant now) {
+        return !now.isBefore(expiresAt);
+    }
+}
@@ -0,0 +1,346 @@
+package dev.wony.backendlab.patterns.ddd.product.domain.stock;
+
+import dev.wony.backendlab.patterns.ddd.product.domain.event.DomainEvent;
+import dev.wony.backendlab.patterns.ddd.product.domain.event.DomainEventSubscriber;
+import dev.wony.backendlab.patterns.ddd.product.domain.event.ProductStatusChangedEvent;
+import dev.wony.backendlab.patterns.ddd.product.domain.event.ProductStockChangedEvent;
+import dev.wony.backendlab.patterns.ddd.product.domain.vo.ProductId;
+import dev.wony.backendlab.patterns.ddd.product.domain.vo.Quantity;
+import dev.wony.backendlab.patterns.ddd.product.domain.vo.ReservationId;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * 재고 예약 엔진.
+ * <p>
+ * {@link dev.wony.backendlab.patterns.ddd.product.domain.entity.Product#decreaseStock}는 Aggregate 하나 안에서의 규칙이라
+ * 같은 상품을 여러 주문이 동시에 차감하면 읽기-수정-쓰기 경합으로 초과 판매가 생길 수 있습니다.
+ * 이 엔진은 주문 흐름을 예약(reserve) → 확정(confirm) / 취소(release) 로 나누고 다음과 같이 동시성을 처리합니다.
+ * <ul>
+ *     <li>상품별로 저장소에서 읽은 재고와 진행 중인 예약 수량을 불변 {@link Counter} 하나로 두고 CAS 로 교체합니다.
+ *     잠금이 없어 단일 인기 상품에도 초당 수만 건의 예약을 처리합니다.</li>
+ *     <li>예약 수량은 예약/반환/확정 때만 정확히 증감하고 저장소에서 다시 계산하지 않습니다.
+ *     저장소 재고를 다시 읽어도 진행 중인 예약이 두 번 빠지거나 두 번 반환되지 않습니다.</li>
+ *     <li>예약의 상태 전이(확정/취소/만료)는 {@link ConcurrentHashMap#remove}에 성공한 한 스레드만 수행하므로 중복 반환이 없습니다.</li>
+ *     <li>확정 시에만 {@link StockStore#decrease}(조건부 UPDATE)로 저장소 재고를 줄입니다.
+ *     메모리 카운터는 빠른 거절용이고, 초과 판매를 막는 최종 보장은 저장소의 조건부 갱신입니다.</li>
+ *     <li>{@link ProductStockChangedEvent}, {@link ProductStatusChangedEvent}를 구독하여 입고나 판매 시작처럼 다른 경로로 바뀐 재고를
+ *     다음 예약 때 저장소에서 다시 읽습니다. (엔진을 이벤트 버스에 구독시켜야 합니다)
+ *     확정과 겹쳐 읽어 정확한지 알 수 없는 재고로 거절하게 되면 한 번 다시 읽고 판단합니다.</li>
+ *     <li>만료 시각이 지난 예약은 확정할 수 없으며, {@link #expireOverdue()}를 주기적으로 호출해 수량을 되돌립니다.</li>
+ * </ul>
+ */
+public class StockReservationEngine implements DomainEventSubscriber<DomainEvent> {
+
+    private final StockStore stockStore;
+    private final Clock clock;
+    private final Duration defaultTtl;
+
+    private final AtomicLong sequence = new AtomicLong();
+    private final ConcurrentHashMap<ProductId, AtomicReference<Counter>> counters = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<ReservationId, StockReservation> reservations = new ConcurrentHashMap<>();
+
+    public StockReservationEngine(StockStore stockStore, Clock clock, Duration defaultTtl) {
+        checkNotNull(stockStore, "재고 저장소는 null일 수 없습니다");
+        checkNotNull(clock, "Clock은 null일 수 없습니다");
+        checkTtl(defaultTtl);
+        this.stockStore = stockStore;
+        this.clock = clock;
+        this.defaultTtl = defaultTtl;
+    }
+
+    /**
+     * 기본 만료 시간으로 재고 예약
+     *
+     * @param productId 상품 ID
+     * @param quantity  예약 수량
+     * @return 재고 예약
+     * @throws InsufficientStockException 예약 가능한 재고가 부족한 경우
+     */
+    public StockReservation reserve(ProductId productId, Quantity quantity) {
+        return reserve(productId, quantity, defaultTtl);
+    }
+
+    /**
+     * 재고 예약
+     *
+     * @param productId 상품 ID
+     * @param quantity  예약 수량
+     * @param ttl       예약 유지 시간
+     * @return 재고 예약
+     * @throws InsufficientStockException 예약 가능한 재고가 부족한 경우
+     */
+    public StockReservation reserve(ProductId productId, Quantity quantity, Duration ttl) {
+        checkNotNull(productId, "상품 ID는 null일 수 없습니다");
+        checkNotNull(quantity, "수량은 null일 수 없습니다");
+        checkArgument(quantity.isPositive(), "예약 수량은 0보다 커야 합니다");
+        checkTtl(ttl);
+
+        AtomicReference<Counter> ref = counterOf(productId);
+        int requested = quantity.getValue();
+        boolean reloaded = false;
+        Counter current;
+        while (true) {
+            current = ref.get();
+            if (current.stale()) {
+                reloaded = reload(productId, ref);
+                continue;
+            }
+            if (current.available() >= requested) {
+                if (ref.compareAndSet(current, current.reserve(requested))) {
+                    break;
+                }
+                continue;
+            }
+            if (reloaded || current.verified()) {
+                throw new InsufficientStockException(productId, current.available(), requested);
+            }
+            // 확정과 겹쳐 읽은 재고로는 거절하지 않고, 한 번 다시 읽어 판단합니다.
+            reloaded = reload(productId, ref);
+        }
+
+        StockReservation reservation = new StockReservation(
+                ReservationId.of(sequence.incrementAndGet()), productId, quantity, clock.instant().plus(ttl));
+        reservations.put(reservation.id(), reservation);
+        return reservation;
+    }
+
+    /**
+     * 예약 확정 (저장소 재고 차감)
+     *
+     * @param id 예약 ID
+     * @throws ReservationNotFoundException 이미 확정/취소/만료 처리된 예약인 경우
+     * @throws ReservationExpiredException  만료 시각이 지난 경우 (예약 수량은 반환됨)
+     * @throws InsufficientStockException   다른 경로로 저장소 재고가 줄어 차감할 수 없는 경우
+     */
+    public void confirm(ReservationId id) {
+        StockReservation reservation = claim(id);
+        if (reservation.isExpired(clock.instant())) {
+            restore(reservation);
+            throw new ReservationExpiredException(id);
+        }
+
+        AtomicReference<Counter> ref = counterOf(reservation.productId());
+        int quantity = reservation.quantity().getValue();
+        ref.updateAndGet(Counter::beginConfirm);
+        boolean decreased;
+        try {
+            decreased = stockStore.decrease(reservation.productId(), reservation.quantity());
+        } catch (RuntimeException e) {
+            ref.updateAndGet(counter -> counter.endConfirm(quantity, 0));
+            throw e;
+        }
+        if (!decreased) {
+            // 메모리 재고가 저장소와 어긋났으므로 버리고, 다음 예약 때 저장소 기준으로 다시 읽습니다.
+            ref.updateAndGet(counter -> counter.endConfirm(quantity, 0).invalidate());
+            throw new InsufficientStockException(reservation.productId(), 0, quantity);
+        }
+        ref.updateAndGet(counter -> counter.endConfirm(quantity, quantity));
+    }
+
+    /**
+     * 예약 취소 (예약 수량 반환)
+     *
+     * @param id 예약 ID
+     * @throws ReservationNotFoundException 이미 확정/취소/만료 처리된 예약인 경우
+     */
+    public void release(ReservationId id) {
+        restore(claim(id));
+    }
+
+    /**
+     * 만료된 예약을 정리하고 수량을 반환합니다.
+     *
+     * @return 정리한 예약 수
+     */
+    public int expireOverdue() {
+        Instant now = clock.instant();
+        int expired = 0;
+        for (StockReservation reservation : reservations.values()) {
+            if (reservation.isExpired(now) && reservations.remove(reservation.id(), reservation)) {
+                restore(reservation);
+                expired++;
+            }
+        }
+        return expired;
+    }
+
+    /**
+     * 현재 예약 가능한 수량 조회
+     *
+     * @param productId 상품 ID
+     * @return 저장소 재고에서 진행 중인 예약 수량을 뺀 값
+     */
+    public long availableQuantity(ProductId productId) {
+        checkNotNull(productId, "상품 ID는 null일 수 없습니다");
+        AtomicReference<Counter> ref = counterOf(productId);
+        boolean reloaded = false;
+        while (true) {
+            Counter current = ref.get();
+            if (current.stale() || !(current.verified() || reloaded)) {
+                reloaded = reload(productId, ref);
+                continue;
+            }
+            return current.available();
+        }
+    }
+
+    /**
+     * 진행 중인 예약 수 조회
+     *
+     * @return 확정/취소/만료되지 않은 예약 수
+     */
+    public int pendingReservations() {
+        return reservations.size();
+    }
+
+    /**
+     * 재고나 판매 상태가 바뀐 상품의 메모리 재고를 무효화합니다. (다음 예약 때 저장소에서 다시 읽음)
+     *
+     * @param events 도메인 이벤트 묶음
+     */
+    @Override
+    public void onEvents(List<DomainEvent> events) {
+        for (DomainEvent event : events) {
+            if (event instanceof ProductStockChangedEvent changed) {
+                invalidate(changed.getProductId());
+            } else if (event instanceof ProductStatusChangedEvent changed) {
+                invalidate(changed.getProductId());
+            }
+        }
+    }
+
+    private void invalidate(ProductId productId) {
+        AtomicReference<Counter> ref = counters.get(productId);
+        if (ref != null) {
+            ref.updateAndGet(Counter::invalidate);
+        }
+    }
+
+    private StockReservation claim(ReservationId id) {
+        checkNotNull(id, "예약 ID는 null일 수 없습니다");
+        StockReservation reservation = reservations.remove(id);
+        if (reservation == null) {
+            throw new ReservationNotFoundException(id);
+        }
+        return reservation;
+    }
+
+    private void restore(StockReservation reservation) {
+        int quantity = reservation.quantity().getValue();
+        counterOf(reservation.productId()).updateAndGet(counter -> counter.release(quantity));
+    }
+
+    private AtomicReference<Counter> counterOf(ProductId productId) {
+        AtomicReference<Counter> ref = counters.get(productId);
+        if (ref != null) {
+            return ref;
+        }
+        return counters.computeIfAbsent(productId, key -> new AtomicReference<>(Counter.INITIAL));
+    }
+
+    /**
+     * 저장소 재고를 다시 읽어 반영합니다.
+     * <p>
+     * 읽는 동안 확정 시작이나 무효화로 세대가 바뀌었으면 읽은 값이 이미 낡았을 수 있으므로 버립니다.
+     * 확정이 진행 중일 때 읽은 값은 차감 전후 어느 쪽인지 알 수 없어 확인되지 않은 재고로 둡니다.
+     *
+     * @return 읽은 값을 카운터에 반영했으면 true, 버렸으면 false
+     */
+    private boolean reload(ProductId productId, AtomicReference<Counter> ref) {
+        Counter before = ref.get();
+        long stock = stockStore.loadSellableStock(productId);
+        Counter current;
+        do {
+            current = ref.get();
+            if (current.generation() != before.generation()) {
+                return false;
+            }
+        } while (!ref.compareAndSet(current, current.reload(stock, before.confirming() == 0)));
+        return true;
+    }
+
+    private static void checkTtl(Duration ttl) {
+        checkNotNull(ttl, "예약 유지 시간은 null일 수 없습니다");
+        checkArgument(!ttl.isNegative() && !ttl.isZero(), "예약 유지 시간은 0보다 커야 합니다: %s", ttl);
+    }
+
+    /**
+     * 상품별 예약 카운터 (불변)
+     *
+     * @param stock      저장소에서 읽은 판매 가능 재고 (확정분 차감 반영)
+     * @param reserved   진행 중인 예약 수량
+     * @param confirming 저장소 차감이 진행 중인 확정 수
+     * @param generation 재고 값이 바뀔 수 있는 사건(확정 시작/종료, 무효화)마다 증가하는 세대
+     * @param stale      저장소에서 다시 읽어야 하는지
+     * @param verified   읽을 때 진행 중인 확정이 없어 저장소 재고와 일치하는지
+     */
+    private record Counter(long stock, long reserved, int confirming, long generation, boolean stale, boolean verified) {
+
+        static final Counter INITIAL = new Counter(0, 0, 0, 0, true, false);
+
+        long available() {
+            return stock - reserved;
+        }
+
+        Counter reserve(int quantity) {
+            return new Counter(stock, reserved + quantity, confirming, generation, stale, verified);
+        }
+
+        Counter release(int quantity) {
+            return new Counter(stock, reserved - quantity, confirming, generation, stale, verified);
+        }
+
+        Counter beginConfirm() {
+            return new Counter(stock, reserved, confirming + 1, generation + 1, stale, verified);
+        }
+
+        Counter endConfirm(int quantity, int decreased) {
+            return new Counter(stock - decreased, reserved - quantity, confirming - 1, generation + 1, stale, verified);
+        }
+
+        Counter invalidate() {
+            return new Counter(stock, reserved, confirming, generation + 1, true, false);
+        }
+
+        Counter reload(long loaded, boolean exact) {
+            return new Counter(loaded, reserved, confirming, generation, false, exact);
+        }
+    }
+
+    /**
+     * 재고 부족 예외
+     */
+    public static class InsufficientStockException extends RuntimeException {
+        public InsufficientStockException(ProductId productId, long available, int requested) {
+            super(String.format("재고가 부족합니다. 상품: %s, 예약 가능: %s, 요청: %s", productId, available, requested));
+        }
+    }
+
+    /**
+     * 예약 미존재 예외
+     */
+    public static class ReservationNotFoundException extends RuntimeException {
+        public ReservationNotFoundException(ReservationId id) {
+            super(String.format("재고 예약을 찾을 수 없습니다: %s", id));
+        }
+    }
+
+    /**
+     * 예약 만료 예외
+     */
+    public static class ReservationExpiredException extends RuntimeException {
+        public ReservationExpiredException(ReservationId id) {
+            super(String.format("만료된 재고 예약입니다: %s", id));
+        }
+    }
+}
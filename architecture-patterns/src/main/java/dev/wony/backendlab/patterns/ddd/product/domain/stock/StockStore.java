@@ -0,0 +1,31 @@
+package dev.wony.backendlab.patterns.ddd.product.domain.stock;
+
+import dev.wony.backendlab.patterns.ddd.product.domain.vo.ProductId;
+import dev.wony.backendlab.patterns.ddd.product.domain.vo.Quantity;
+
+/**
+ * 재고 영속 저장소 (예약 엔진의 출력 포트).
+ * <p>
+ * 구현체는 재고 차감을 조건부 갱신 한 번으로 처리하여, 여러 인스턴스가 같은 상품을 동시에 차감해도 음수 재고가 되지 않도록 보장해야 합니다.
+ */
+public interface StockStore {
+
+    /**
+     * 판매 가능한 재고 수량 조회
+     *
+     * @param productId 상품 ID
+     * @return 판매중이면 재고 수량, 아니면 0
+     * @throws dev.wony.backendlab.patterns.ddd.product.domain.repository.ProductRepository.ProductNotFoundException
+     *         상품이 존재하지 않는 경우
+     */
+    int loadSellableStock(ProductId productId);
+
+    /**
+     * 판매중이고 재고가 충분할 때만 재고 차감
+     *
+     * @param productId 상품 ID
+     * @param quantity  차감할 수량
+     * @return 차감했으면 true, 재고 부족이나 판매 불가 상태면 false
+     */
+    boolean decrease(ProductId productId, Quantity quantity);
+}
@@ -1,8 +1,5 @@
 package dev.wony.backendlab.patterns.ddd.product.domain.vo;
 
-import lombok.EqualsAndHashCode;
-import lombok.Getter;
-
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 
@@ -14,30 +11,59 @@ import static com.google.common.base.Preconditions.checkNotNull;
  * <p>
  * 불변 객체로 설계되어 있으며, 금액 관련 연산을 제공합니다.
  * DDD에서 Value Object는 식별자가 없고 속성 값으로만 동등성을 판단합니다.
+ * <p>
+ * 금액은 원 단위 정수이므로 {@code long}으로 보관하고 {@link Math#addExact}/{@link Math#multiplyExact}로 연산합니다.
+ * {@code long} 범위를 넘는 경우에만 {@link BigDecimal}로 전환하며, 결과가 다시 {@code long} 범위에 들어오면
+ * {@code long} 표현으로 되돌리므로 같은 금액은 항상 같은 표현을 가집니다.
+ * 자주 쓰이는 작은 금액(0~1,000원, 100,000원 이하의 100원 단위)은 미리 만들어 둔 인스턴스를 재사용합니다.
  */
-@Getter
-@EqualsAndHashCode
 public final class Money {
 
-    public static final Money ZERO = new Money(BigDecimal.ZERO);
+    private static final int SMALL_MAX = 1_000;
+    private static final int HUNDREDS_MAX = 100_000;
 
-    private final BigDecimal amount;
+    private static final Money[] SMALL = new Money[SMALL_MAX + 1];
+    private static final Money[] HUNDREDS = new Money[HUNDREDS_MAX / 100 + 1];
 
-    private Money(BigDecimal amount) {
-        this.amount = amount.setScale(0, RoundingMode.HALF_UP);
+    static {
+        for (int i = 0; i <= SMALL_MAX; i++) {
+            SMALL[i] = new Money(i, null);
+        }
+        for (int i = 0; i < HUNDREDS.length; i++) {
+            HUNDREDS[i] = i * 100 <= SMALL_MAX ? SMALL[i * 100] : new Money(i * 100L, null);
+        }
+    }
+
+    private static final BigDecimal LONG_MAX = BigDecimal.valueOf(Long.MAX_VALUE);
+
+    public static final Money ZERO = SMALL[0];
+
+    /**
+     * {@link #big}이 null 일 때의 금액
+     */
+    private final long value;
+
+    /**
+     * {@code long} 범위를 넘는 금액 (범위 안이면 null)
+     */
+    private final BigDecimal big;
+
+    private Money(long value, BigDecimal big) {
+        this.value = value;
+        this.big = big;
     }
 
     /**
      * 금액 생성
      *
-     * @param amount 금액
+     * @param amount 금액 (소수점 이하는 반올림)
      * @return Money 인스턴스
      * @throws IllegalArgumentException 금액이 null이거나 음수인 경우
      */
     public static Money of(BigDecimal amount) {
         checkNotNull(amount, "금액은 null일 수 없습니다");
-        checkArgument(amount.compareTo(BigDecimal.ZERO) >= 0, "금액은 음수일 수 없습니다: %s", amount);
-        return new Money(amount);
+        checkArgument(amount.signum() >= 0, "금액은 음수일 수 없습니다: %s", amount);
+        return ofExact(amount.setScale(0, RoundingMode.HALF_UP));
     }
 
     /**
@@ -47,7 +73,54 @@ public final class Money {
      * @return Money 인스턴스
      */
     public static Money of(long amount) {
-        return of(BigDecimal.valueOf(amount));
+        checkArgument(amount >= 0, "금액은 음수일 수 없습니다: %s", amount);
+        if (amount <= SMALL_MAX) {
+            return SMALL[(int) amount];
+        }
+        if (amount <= HUNDREDS_MAX && amount % 100 == 0) {
+            return HUNDREDS[(int) (amount / 100)];
+        }
+        return new Money(amount, null);
+    }
+
+    private static Money ofExact(BigDecimal integral) {
+        if (integral.compareTo(LONG_MAX) <= 0) {
+            return of(integral.longValueExact());
+        }
+        return new Money(0, integral);
+    }
+
+    /**
+     * 금액 조회
+     * <p>
+     * {@code long} 범위의 금액은 호출할 때마다 {@link BigDecimal}을 만들므로, 연산 경로에서는 {@link #longValue()}를 사용합니다.
+     *
+     * @return 소수점 없는 금액
+     */
+    public BigDecimal getAmount() {
+        return big != null ? big : BigDecimal.valueOf(value);
+    }
+
+    /**
+     * 금액이 {@code long} 범위인지 확인
+     *
+     * @return {@code long} 범위면 true
+     */
+    public boolean fitsInLong() {
+        return big == null;
+    }
+
+    /**
+     * long 타입으로 금액 조회
+     *
+     * @return 금액
+     * @throws ArithmeticException 금액이 {@code long} 범위를 넘는 경우
+     */
+    public long longValue() {
+        if (big != null) {
+            throw new ArithmeticException("금액이 long 범위를 넘습니다: " + big);
+        }
+        return value;
     }
 
     /**
@@ -58,7 +131,14 @@ public final class Money {
      */
     public Money add(Money other) {
         checkNotNull(other, "더할 금액은 null일 수 없습니다");
-        return new Money(this.amount.add(other.amount));
+        if (this.big == null && other.big == null) {
+            try {
+                return of(Math.addExact(this.value, other.value));
+            } catch (ArithmeticException overflow) {
+                // BigDecimal 로 계산
+            }
+        }
+        return ofExact(this.getAmount().add(other.getAmount()));
     }
 
     /**
@@ -70,9 +150,12 @@ public final class Money {
      */
     public Money subtract(Money other) {
         checkNotNull(other, "뺄 금액은 null일 수 없습니다");
-        BigDecimal result = this.amount.subtract(other.amount);
-        checkArgument(result.compareTo(BigDecimal.ZERO) >= 0, "결과 금액이 음수가 됩니다");
-        return new Money(result);
+        checkArgument(other.isLessThanOrEqual(this), "결과 금액이 음수가 됩니다");
+        if (this.big == null) {
+            // other <= this 이므로 other 도 long 범위이고 결과는 넘치지 않습니다.
+            return of(this.value - other.value);
+        }
+        return ofExact(this.big.subtract(other.getAmount()));
     }
 
     /**
@@ -83,7 +166,37 @@ public final class Money {
      */
     public Money multiply(int multiplier) {
         checkArgument(multiplier >= 0, "곱하는 수는 음수일 수 없습니다");
-        return new Money(this.amount.multiply(BigDecimal.valueOf(multiplier)));
+        if (big == null) {
+            try {
+                return of(Math.multiplyExact(value, multiplier));
+            } catch (ArithmeticException overflow) {
+                // BigDecimal 로 계산
+            }
+        }
+        return ofExact(getAmount().multiply(BigDecimal.valueOf(multiplier)));
+    }
+
+    /**
+     * 정률 할인 적용
+     * <p>
+     * {@code 금액 × (100 - 할인율) / 100}을 원 단위로 반올림(HALF_UP)합니다.
+     *
+     * @param discountPercent 할인율 (0-100)
+     * @return 할인된 금액
+     */
+    public Money discount(int discountPercent) {
+        checkArgument(discountPercent >= 0 && discountPercent <= 100,
+                "할인율은 0-100 사이여야 합니다: %s", discountPercent);
+        int remainPercent = 100 - discountPercent;
+        if (big == null) {
+            try {
+                return of(Math.addExact(Math.multiplyExact(value, remainPercent), 50) / 100);
+            } catch (ArithmeticException overflow) {
+                // BigDecimal 로 계산
+            }
+        }
+        return ofExact(getAmount().multiply(BigDecimal.valueOf(remainPercent))
+                .divide(BigDecimal.valueOf(100), RoundingMode.HALF_UP));
     }
 
     /**
@@ -93,7 +206,7 @@ public final class Money {
      * @return 크면 true
      */
     public boolean isGreaterThan(Money other) {
-        return this.amount.compareTo(other.amount) > 0;
+        return compareTo(other) > 0;
     }
 
     /**
@@ -103,7 +216,7 @@ public final class Money {
      * @return 작거나 같으면 true
      */
     public boolean isLessThanOrEqual(Money other) {
-        return this.amount.compareTo(other.amount) <= 0;
+        return compareTo(other) <= 0;
     }
 
     /**
@@ -112,11 +225,117 @@ public final class Money {
      * @return 0이면 true
      */
     public boolean isZero() {
-        return this.amount.compareTo(BigDecimal.ZERO) == 0;
+        return big == null && value == 0;
+    }
+
+    private int compareTo(Money other) {
+        if (this.big == null && other.big == null) {
+            return Long.compare(this.value, other.value);
+        }
+        // long 범위를 넘는 쪽이 항상 큽니다.
+        if (this.big == null) {
+            return -1;
+        }
+        if (other.big == null) {
+            return 1;
+        }
+        return this.big.compareTo(other.big);
+    }
+
+    /**
+     * 총액 누적기.
+     * <p>
+     * 주문 항목처럼 많은 금액을 더할 때 중간 결과마다 {@link Money}를 만들지 않도록 {@code long}으로 누적합니다.
+     * 넘치는 경우에만 {@link BigDecimal}로 전환합니다. 스레드 안전하지 않습니다.
+     */
+    public static final class Accumulator {
+
+        private long sum;
+        private BigDecimal overflow;
+
+        /**
+         * 금액 누적
+         *
+         * @param money 더할 금액
+         * @return this
+         */
+        public Accumulator add(Money money) {
+            return add(money, 1);
+        }
+
+        /**
+         * long 금액 누적
+         *
+         * @param amount 더할 금액
+         * @return this
+         */
+        public Accumulator add(long amount) {
+            checkArgument(amount >= 0, "금액은 음수일 수 없습니다: %s", amount);
+            if (overflow == null) {
+                try {
+                    sum = Math.addExact(sum, amount);
+                    return this;
+                } catch (ArithmeticException e) {
+                    overflow = BigDecimal.valueOf(sum);
+                }
+            }
+            overflow = overflow.add(BigDecimal.valueOf(amount));
+            return this;
+        }
+
+        /**
+         * 단가 × 수량 누적
+         *
+         * @param unitPrice 단가
+         * @param quantity  수량
+         * @return this
+         */
+        public Accumulator add(Money unitPrice, int quantity) {
+            checkNotNull(unitPrice, "금액은 null일 수 없습니다");
+            checkArgument(quantity >= 0, "수량은 음수일 수 없습니다: %s", quantity);
+            if (overflow == null && unitPrice.big == null) {
+                try {
+                    sum = Math.addExact(sum, Math.multiplyExact(unitPrice.value, quantity));
+                    return this;
+                } catch (ArithmeticException e) {
+                    overflow = BigDecimal.valueOf(sum);
+                }
+            }
+            if (overflow == null) {
+                overflow = BigDecimal.valueOf(sum);
+            }
+            overflow = overflow.add(unitPrice.getAmount().multiply(BigDecimal.valueOf(quantity)));
+            return this;
+        }
+
+        /**
+         * 누적 결과
+         *
+         * @return 총액
+         */
+        public Money total() {
+            return overflow == null ? of(sum) : ofExact(overflow);
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Money other)) {
+            return false;
+        }
+        return value == other.value && (big == null ? other.big == null : big.equals(other.big));
+    }
+
+    @Override
+    public int hashCode() {
+        return big == null ? Long.hashCode(value) : big.hashCode();
     }
 
     @Override
     public String toString() {
-        return amount + "원";
+        return (big == null ? Long.toString(value) : big.toPlainString()) + "원";
     }
 }
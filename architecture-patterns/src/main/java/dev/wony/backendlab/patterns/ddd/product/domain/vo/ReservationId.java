@@ -0,0 +1,39 @@
+package dev.wony.backendlab.patterns.ddd.product.domain.vo;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * 재고 예약 식별자를 나타내는 Value Object.
+ * <p>
+ * 예약은 초당 수만 건이 발급될 수 있으므로 UUID 대신 예약 엔진이 증가시키는 long 값을 사용합니다.
+ */
+@Getter
+@EqualsAndHashCode
+public final class ReservationId {
+
+    private final long value;
+
+    private ReservationId(long value) {
+        this.value = value;
+    }
+
+    /**
+     * 예약 ID 생성
+     *
+     * @param value ID 값
+     * @return ReservationId 인스턴스
+     * @throws IllegalArgumentException ID가 양수가 아닌 경우
+     */
+    public static ReservationId of(long value) {
+        checkArgument(value > 0, "예약 ID는 양수여야 합니다: %s", value);
+        return new ReservationId(value);
+    }
+
+    @Override
+    public String toString() {
+        return String.valueOf(value);
+    }
+}
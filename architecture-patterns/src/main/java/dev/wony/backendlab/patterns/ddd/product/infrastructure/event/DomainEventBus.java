@@ -0,0 +1,365 @@
+package dev.wony.backendlab.patterns.ddd.product.infrastructure.event;
+
+import dev.wony.backendlab.patterns.ddd.product.domain.event.DomainEvent;
+import dev.wony.backendlab.patterns.ddd.product.domain.event.DomainEventPublisher;
+import dev.wony.backendlab.patterns.ddd.product.domain.event.DomainEventSubscriber;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+/**
+ * 도메인 이벤트 버스.
+ * <p>
+ * 두 가지 모드를 제공합니다.
+ * <ul>
+ *     <li>{@link Mode#SYNC}: 발행한 스레드에서 바로 구독자에게 전달합니다. {@code publishAll}로 넘긴 목록이 하나의 묶음이 됩니다.</li>
+ *     <li>{@link Mode#ASYNC}: Aggregate ID 해시로 고른 stripe 의 bounded 큐에 넣고, stripe 마다 하나인 워커 스레드가 큐에 쌓인 이벤트를
+ *     최대 {@link Options#maxBatchSize()}개씩 묶어 전달합니다. 같은 Aggregate 의 이벤트는 항상 같은 stripe 로 가므로 발행 순서가 유지됩니다.
+ *     큐가 가득 차면 발행 스레드는 {@link Options#offerTimeout()}만큼 기다리고(backpressure), 그래도 자리가 없으면
+ *     {@link EventBusOverflowException}을 던집니다.</li>
+ * </ul>
+ * 구독자 예외는 ({@link VirtualMachineError}를 제외하고) 기록만 하고 다른 구독자와 다음 묶음 전달은 계속합니다.
+ * {@link #close()} 이후의 발행은 거부하며, 발행 중인 스레드와 종료는 같은 잠금으로 직렬화되어 종료 직전에 넣은 이벤트도 모두 전달됩니다.
+ * <p>
+ * 지표:
+ * <ul>
+ *     <li>{@code domain.events.published}, {@code domain.events.rejected}, {@code domain.events.subscriber.failures}</li>
+ *     <li>{@code domain.events.queue.depth}: 전달 대기 중인 이벤트 수 (ASYNC)</li>
+ *     <li>{@code domain.events.dispatch.latency}: 발행부터 모든 구독자 전달 완료까지의 시간</li>
+ *     <li>{@code domain.events.batch.size}: 한 번에 전달한 묶음 크기</li>
+ * </ul>
+ */
+@Slf4j
+public class DomainEventBus implements DomainEventPublisher, AutoCloseable {
+
+    private static final long POLL_INTERVAL_MILLIS = 100;
+
+    public enum Mode {
+        SYNC, ASYNC
+    }
+
+    /**
+     * ASYNC 모드 설정
+     *
+     * @param stripes       워커(순서 보장 단위) 수
+     * @param queueCapacity stripe 별 큐 크기
+     * @param maxBatchSize  한 번에 전달할 최대 이벤트 수
+     * @param offerTimeout  큐가 가득 찼을 때 발행 스레드가 기다리는 최대 시간
+     */
+    public record Options(int stripes, int queueCapacity, int maxBatchSize, Duration offerTimeout) {
+
+        public Options {
+            checkArgument(stripes > 0, "stripe 수는 1 이상이어야 합니다: %s", stripes);
+            checkArgument(queueCapacity > 0, "큐 크기는 1 이상이어야 합니다: %s", queueCapacity);
+            checkArgument(maxBatchSize > 0, "묶음 크기는 1 이상이어야 합니다: %s", maxBatchSize);
+            checkNotNull(offerTimeout, "대기 시간은 null일 수 없습니다");
+            checkArgument(!offerTimeout.isNegative(), "대기 시간은 음수일 수 없습니다: %s", offerTimeout);
+        }
+
+        public static Options defaults() {
+            return new Options(Runtime.getRuntime().availableProcessors(), 10_000, 256, Duration.ofSeconds(1));
+        }
+    }
+
+    private final Mode mode;
+    private final List<Subscription<?>> subscriptions = new CopyOnWriteArrayList<>();
+    private final Stripe[] stripes;
+    private final Duration offerTimeout;
+    // ASYNC 발행(읽기)과 종료(쓰기)를 직렬화합니다. 종료 표시 후에는 큐에 새 이벤트가 들어오지 않습니다.
+    private final ReadWriteLock lifecycle = new ReentrantReadWriteLock();
+    private volatile boolean closed;
+
+    private final Counter published;
+    private final Counter rejected;
+    private final Counter failures;
+    private final Timer dispatchLatency;
+    private final DistributionSummary batchSize;
+
+    private DomainEventBus(Mode mode, Options options, MeterRegistry registry) {
+        checkNotNull(registry, "MeterRegistry는 null일 수 없습니다");
+        this.mode = mode;
+        this.offerTimeout = options.offerTimeout();
+        this.published = Counter.builder("domain.events.published").tag("mode", mode.name()).register(registry);
+        this.rejected = Counter.builder("domain.events.rejected").tag("mode", mode.name()).register(registry);
+        this.failures = Counter.builder("domain.events.subscriber.failures").tag("mode", mode.name()).register(registry);
+        this.dispatchLatency = Timer.builder("domain.events.dispatch.latency").tag("mode", mode.name())
+                .publishPercentiles(0.5, 0.99)
+                .register(registry);
+        this.batchSize = DistributionSummary.builder("domain.events.batch.size").tag("mode", mode.name())
+                .register(registry);
+
+        if (mode == Mode.SYNC) {
+            this.stripes = new Stripe[0];
+            return;
+        }
+        this.stripes = new Stripe[options.stripes()];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new Stripe(i, options.queueCapacity(), options.maxBatchSize());
+        }
+    }
+
+    /**
+     * 발행 스레드에서 바로 전달하는 이벤트 버스 생성
+     */
+    public static DomainEventBus sync(MeterRegistry registry) {
+        return new DomainEventBus(Mode.SYNC, Options.defaults(), registry);
+    }
+
+    /**
+     * stripe 워커 스레드가 묶어서 전달하는 이벤트 버스 생성
+     */
+    public static DomainEventBus async(MeterRegistry registry, Options options) {
+        checkNotNull(options, "설정은 null일 수 없습니다");
+        DomainEventBus bus = new DomainEventBus(Mode.ASYNC, options, registry);
+        bus.start(registry);
+        return bus;
+    }
+
+    /**
+     * 생성이 끝난 뒤에 큐 깊이 지표를 등록하고 워커를 시작합니다. (생성 중인 {@code this}가 다른 스레드에 노출되지 않도록)
+     */
+    private void start(MeterRegistry registry) {
+        Gauge.builder("domain.events.queue.depth", this, DomainEventBus::queueDepth)
+                .tag("mode", mode.name())
+                .register(registry);
+        for (Stripe stripe : stripes) {
+            stripe.thread.start();
+        }
+    }
+
+    /**
+     * 구독 등록
+     *
+     * @param type       구독할 이벤트 타입 (하위 타입 포함)
+     * @param subscriber 구독자
+     * @param <E>        이벤트 타입
+     */
+    @SuppressWarnings("unchecked")
+    public <E extends DomainEvent> void subscribe(Class<E> type, DomainEventSubscriber<? super E> subscriber) {
+        checkNotNull(type, "이벤트 타입은 null일 수 없습니다");
+        checkNotNull(subscriber, "구독자는 null일 수 없습니다");
+        // 구독자마다 새로 만든 목록을 넘기므로, 상위 타입 구독자에게 List<E>를 넘겨도 안전합니다.
+        subscriptions.add(new Subscription<>(type, (DomainEventSubscriber<E>) subscriber));
+    }
+
+    /**
+     * 이벤트 발행
+     * <p>
+     * ASYNC 모드에서 큐가 가득 찬 채로 대기 시간이 지나면, 그때까지 넣은 앞쪽 이벤트는 전달되고 나머지는 거부됩니다.
+     *
+     * @param events 발행할 이벤트 목록
+     * @throws EventBusOverflowException 큐에 자리가 나지 않은 경우
+     * @throws IllegalStateException     종료된 이벤트 버스인 경우
+     */
+    @Override
+    public void publishAll(List<? extends DomainEvent> events) {
+        checkNotNull(events, "이벤트 목록은 null일 수 없습니다");
+        if (mode == Mode.SYNC) {
+            checkState(!closed, "종료된 이벤트 버스입니다");
+            if (events.isEmpty()) {
+                return;
+            }
+            long now = System.nanoTime();
+            List<Envelope> batch = new ArrayList<>(events.size());
+            for (DomainEvent event : events) {
+                batch.add(new Envelope(checkNotNull(event, "이벤트는 null일 수 없습니다"), now));
+            }
+            published.increment(batch.size());
+            dispatch(batch);
+            return;
+        }
+
+        Lock lock = lifecycle.readLock();
+        lock.lock();
+        try {
+            checkState(!closed, "종료된 이벤트 버스입니다");
+            long now = System.nanoTime();
+            for (DomainEvent event : events) {
+                checkNotNull(event, "이벤트는 null일 수 없습니다");
+                stripeOf(event).offer(new Envelope(event, now));
+                published.increment();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 전달 대기 중인 이벤트 수
+     *
+     * @return 모든 stripe 큐에 쌓인 이벤트 수
+     */
+    public int queueDepth() {
+        int depth = 0;
+        for (Stripe stripe : stripes) {
+            depth += stripe.queue.size();
+        }
+        return depth;
+    }
+
+    /**
+     * 새 발행을 막고, 이미 큐에 들어간 이벤트를 모두 전달한 뒤 워커를 종료합니다.
+     * <p>
+     * 진행 중인 발행이 끝날 때까지 기다린 뒤 종료를 표시하므로, 워커가 빈 큐와 종료 표시를 함께 보면 더 들어올 이벤트가 없습니다.
+     */
+    @Override
+    public void close() {
+        Lock lock = lifecycle.writeLock();
+        lock.lock();
+        try {
+            closed = true;
+        } finally {
+            lock.unlock();
+        }
+        for (Stripe stripe : stripes) {
+            try {
+                stripe.thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private Stripe stripeOf(DomainEvent event) {
+        String aggregateId = event.getAggregateId();
+        int hash = aggregateId != null ? aggregateId.hashCode() : 0;
+        return stripes[Math.floorMod(hash ^ (hash >>> 16), stripes.length)];
+    }
+
+    private void dispatch(List<Envelope> batch) {
+        for (Subscription<?> subscription : subscriptions) {
+            subscription.deliver(batch);
+        }
+        long now = System.nanoTime();
+        for (Envelope envelope : batch) {
+            dispatchLatency.record(now - envelope.publishedNanos(), TimeUnit.NANOSECONDS);
+        }
+        batchSize.record(batch.size());
+    }
+
+    private record Envelope(DomainEvent event, long publishedNanos) {
+    }
+
+    private final class Subscription<E extends DomainEvent> {
+
+        private final Class<E> type;
+        private final DomainEventSubscriber<E> subscriber;
+
+        private Subscription(Class<E> type, DomainEventSubscriber<E> subscriber) {
+            this.type = type;
+            this.subscriber = subscriber;
+        }
+
+        void deliver(List<Envelope> batch) {
+            List<E> matched = null;
+            for (Envelope envelope : batch) {
+                if (type.isInstance(envelope.event())) {
+                    if (matched == null) {
+                        matched = new ArrayList<>(batch.size());
+                    }
+                    matched.add(type.cast(envelope.event()));
+                }
+            }
+            if (matched == null) {
+                return;
+            }
+            try {
+                subscriber.onEvents(matched);
+            } catch (VirtualMachineError e) {
+                throw e;
+            } catch (Throwable e) {
+                failures.increment();
+                log.error("도메인 이벤트 구독자 처리 실패. type={}, events={}", type.getSimpleName(), matched.size(), e);
+            }
+        }
+    }
+
+    private final class Stripe implements Runnable {
+
+        private final BlockingQueue<Envelope> queue;
+        private final int maxBatchSize;
+        private final Thread thread;
+
+        private Stripe(int index, int capacity, int maxBatchSize) {
+            this.queue = new ArrayBlockingQueue<>(capacity);
+            this.maxBatchSize = maxBatchSize;
+            this.thread = new Thread(this, "domain-event-" + index);
+            this.thread.setDaemon(true);
+        }
+
+        void offer(Envelope envelope) {
+            boolean accepted;
+            try {
+                accepted = queue.offer(envelope, offerTimeout.toNanos(), TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                accepted = false;
+            }
+            if (!accepted) {
+                rejected.increment();
+                throw new EventBusOverflowException(envelope.event(), queue.size());
+            }
+        }
+
+        @Override
+        public void run() {
+            List<Envelope> batch = new ArrayList<>(maxBatchSize);
+            while (true) {
+                Envelope first;
+                try {
+                    first = queue.poll(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    return;
+                }
+                if (first == null) {
+                    if (closed) {
+                        return;
+                    }
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, maxBatchSize - 1);
+                try {
+                    dispatch(batch);
+                } catch (VirtualMachineError e) {
+                    throw e;
+                } catch (Throwable e) {
+                    // 워커가 죽으면 이 stripe 의 이벤트가 영영 전달되지 않으므로, 기록하고 다음 묶음으로 넘어갑니다.
+                    failures.increment();
+                    log.error("도메인 이벤트 전달 실패. thread={}, events={}", thread.getName(), batch.size(), e);
+                } finally {
+                    batch.clear();
+                }
+            }
+        }
+    }
+
+    /**
+     * 이벤트 큐 포화 예외
+     */
+    public static class EventBusOverflowException extends RuntimeException {
+        public EventBusOverflowException(DomainEvent event, int queueDepth) {
+            super(String.format("이벤트 큐가 가득 찼습니다. event=%s, aggregateId=%s, queueDepth=%s",
+                    event.getEventType(), event.getAggregateId(), queueDepth));
+        }
+    }
+}
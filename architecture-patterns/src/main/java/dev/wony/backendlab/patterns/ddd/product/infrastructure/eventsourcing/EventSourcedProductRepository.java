@@ -0,0 +1,111 @@
+package dev.wony.backendlab.patterns.ddd.product.infrastructure.eventsourcing;
+
+import dev.wony.backendlab.patterns.ddd.product.domain.entity.Product;
+import dev.wony.backendlab.patterns.ddd.product.domain.entity.ProductSnapshot;
+import dev.wony.backendlab.patterns.ddd.product.domain.event.DomainEvent;
+import dev.wony.backendlab.patterns.ddd.product.domain.event.DomainEventPublisher;
+import dev.wony.backendlab.patterns.ddd.product.domain.repository.ProductRepository;
+import dev.wony.backendlab.patterns.ddd.product.domain.vo.ProductId;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.Optional;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * 이벤트 소싱 상품 저장소.
+ * <p>
+ * 상품을 현재 상태 행이 아니라 도메인 이벤트 스트림으로 저장하고, 조회 시 이벤트를 재생하여 복원합니다.
+ * <ul>
+ *     <li>저장: Aggregate 에 쌓인 이벤트를 {@link Product#getVersion()}을 기대 버전으로 추가합니다.
+ *     충돌하면 Aggregate 는 그대로 두고 {@link JdbcProductEventStore.ConcurrencyConflictException}을 던지므로, 다시 조회해서 재시도합니다.</li>
+ *     <li>발행: 이벤트는 추가가 커밋된 뒤에 발행합니다. 이미 저장된 변경이므로 발행이 실패해도 저장은 성공으로 돌려주고 실패는 기록만 합니다.</li>
+ *     <li>스냅샷: 스트림 버전이 {@code snapshotInterval}의 배수를 넘을 때마다 현재 상태를 스냅샷으로 남깁니다.</li>
+ *     <li>조회: 최신 스냅샷 + 그 이후 이벤트(최대 {@code snapshotInterval - 1}개)만 재생하므로, 이력 길이와 관계없이 복원 비용이 일정합니다.</li>
+ * </ul>
+ * 카테고리/상태별 목록 조회는 이벤트 스트림으로 처리하지 않습니다.
+ * 저장 후 발행되는 이벤트를 구독하여 {@link ProductRepository} 구현체(조회 모델)를 갱신하는 방식으로 분리합니다.
+ */
+@Slf4j
+public class EventSourcedProductRepository {
+
+    public static final int DEFAULT_SNAPSHOT_INTERVAL = 100;
+
+    private final JdbcProductEventStore eventStore;
+    private final DomainEventPublisher eventPublisher;
+    private final int snapshotInterval;
+
+    public EventSourcedProductRepository(JdbcProductEventStore eventStore, DomainEventPublisher eventPublisher) {
+        this(eventStore, eventPublisher, DEFAULT_SNAPSHOT_INTERVAL);
+    }
+
+    public EventSourcedProductRepository(JdbcProductEventStore eventStore, DomainEventPublisher eventPublisher,
+                                         int snapshotInterval) {
+        checkNotNull(eventStore, "이벤트 저장소는 null일 수 없습니다");
+        checkNotNull(eventPublisher, "이벤트 발행자는 null일 수 없습니다");
+        checkArgument(snapshotInterval > 0, "스냅샷 주기는 1 이상이어야 합니다: %s", snapshotInterval);
+        this.eventStore = eventStore;
+        this.eventPublisher = eventPublisher;
+        this.snapshotInterval = snapshotInterval;
+    }
+
+    /**
+     * 상품의 새 이벤트 저장
+     *
+     * @param product 저장할 상품
+     * @return 저장된 상품
+     * @throws JdbcProductEventStore.ConcurrencyConflictException 그 사이 다른 저장이 먼저 반영된 경우
+     */
+    public Product save(Product product) {
+        checkNotNull(product, "상품은 null일 수 없습니다");
+        List<DomainEvent> events = List.copyOf(product.getDomainEvents());
+        if (events.isEmpty()) {
+            return product;
+        }
+
+        long expectedVersion = product.getVersion();
+        long version = eventStore.append(product.getId(), expectedVersion, events);
+        product.pullDomainEvents();
+        product.markCommitted(version);
+
+        if (version / snapshotInterval > expectedVersion / snapshotInterval) {
+            eventStore.saveSnapshot(product.toSnapshot());
+        }
+        try {
+            eventPublisher.publishAll(events);
+        } catch (RuntimeException e) {
+            log.error("커밋된 상품 이벤트 발행 실패. productId={}, version={}, events={}",
+                    product.getId(), version, events.size(), e);
+        }
+        return product;
+    }
+
+    /**
+     * 스냅샷과 이후 이벤트를 재생하여 상품 복원
+     *
+     * @param id 상품 ID
+     * @return 상품 Optional
+     */
+    public Optional<Product> findById(ProductId id) {
+        checkNotNull(id, "상품 ID는 null일 수 없습니다");
+        ProductSnapshot snapshot = eventStore.findSnapshot(id).orElse(null);
+        List<DomainEvent> tail = eventStore.readStream(id, snapshot != null ? snapshot.version() : 0);
+        if (snapshot == null && tail.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(Product.replay(snapshot, tail));
+    }
+
+    /**
+     * 상품 복원 (없으면 예외)
+     *
+     * @param id 상품 ID
+     * @return 상품
+     * @throws ProductRepository.ProductNotFoundException 상품이 존재하지 않는 경우
+     */
+    public Product getById(ProductId id) {
+        return findById(id).orElseThrow(() -> new ProductRepository.ProductNotFoundException(id));
+    }
+}
@@ -0,0 +1,159 @@
+package dev.wony.backendlab.patterns.ddd.product.infrastructure.eventsourcing;
+
+import dev.wony.backendlab.patterns.ddd.product.domain.entity.ProductSnapshot;
+import dev.wony.backendlab.patterns.ddd.product.domain.event.DomainEvent;
+import dev.wony.backendlab.patterns.ddd.product.domain.vo.ProductId;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * JDBC 기반 상품 이벤트 저장소.
+ * <p>
+ * 이벤트는 {@code (product_id, version)}을 기본 키로 추가만 합니다. ({@code db/product/event-store.sql} 참고)
+ * {@link #append}는 기대 버전 다음 번호부터 한 트랜잭션으로 INSERT 하므로, 같은 버전을 읽은 두 저장 중 나중 것은
+ * 기본 키 충돌로 통째로 롤백되고 {@link ConcurrencyConflictException}이 발생합니다. (낙관적 동시성)
+ * <p>
+ * 스냅샷은 상품당 최신 하나만 보관합니다.
+ */
+public class JdbcProductEventStore {
+
+    private static final String INSERT_EVENT = "INSERT INTO product_event "
+            + "(product_id, version, event_type, event_id, occurred_at, payload) VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String SELECT_EVENTS = "SELECT event_type, event_id, occurred_at, payload "
+            + "FROM product_event WHERE product_id = ? AND version > ? ORDER BY version";
+
+    private static final String SELECT_SNAPSHOT =
+            "SELECT version, payload FROM product_snapshot WHERE product_id = ?";
+    private static final String UPDATE_SNAPSHOT = "UPDATE product_snapshot SET version = ?, payload = ?, created_at = ? "
+            + "WHERE product_id = ? AND version < ?";
+    private static final String INSERT_SNAPSHOT =
+            "INSERT INTO product_snapshot (product_id, version, payload, created_at) VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+
+    public JdbcProductEventStore(DataSource dataSource, Clock clock) {
+        checkNotNull(dataSource, "DataSource는 null일 수 없습니다");
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        this.clock = checkNotNull(clock, "Clock은 null일 수 없습니다");
+    }
+
+    /**
+     * 이벤트 추가
+     *
+     * @param productId       상품 ID
+     * @param expectedVersion 저장하기 전 스트림 버전 (새 상품이면 0)
+     * @param events          추가할 이벤트 (발생 순)
+     * @return 추가 후 스트림 버전
+     * @throws ConcurrencyConflictException 그 사이 다른 저장이 같은 버전을 먼저 사용한 경우
+     */
+    public long append(ProductId productId, long expectedVersion, List<? extends DomainEvent> events) {
+        checkNotNull(productId, "상품 ID는 null일 수 없습니다");
+        checkArgument(expectedVersion >= 0, "기대 버전은 음수일 수 없습니다: %s", expectedVersion);
+        checkNotNull(events, "이벤트 목록은 null일 수 없습니다");
+        if (events.isEmpty()) {
+            return expectedVersion;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    jdbcTemplate.batchUpdate(INSERT_EVENT, new BatchPreparedStatementSetter() {
+                        @Override
+                        public void setValues(PreparedStatement ps, int i) throws SQLException {
+                            DomainEvent event = events.get(i);
+                            ps.setString(1, productId.getValue());
+                            ps.setLong(2, expectedVersion + i + 1);
+                            ps.setString(3, ProductEventCodec.typeOf(event));
+                            ps.setString(4, event.getEventId());
+                            ps.setObject(5, event.getOccurredAt());
+                            ps.setBytes(6, ProductEventCodec.encode(event));
+                        }
+
+                        @Override
+                        public int getBatchSize() {
+                            return events.size();
+                        }
+                    }));
+        } catch (DuplicateKeyException e) {
+            throw new ConcurrencyConflictException(productId, expectedVersion);
+        }
+        return expectedVersion + events.size();
+    }
+
+    /**
+     * 특정 버전 이후의 이벤트 조회
+     *
+     * @param productId    상품 ID
+     * @param afterVersion 이 버전 다음부터 조회 (처음부터면 0)
+     * @return 버전 순 이벤트 목록
+     */
+    public List<DomainEvent> readStream(ProductId productId, long afterVersion) {
+        checkNotNull(productId, "상품 ID는 null일 수 없습니다");
+        return jdbcTemplate.query(SELECT_EVENTS, (rs, rowNum) -> ProductEventCodec.decode(
+                rs.getString(1),
+                productId,
+                rs.getString(2),
+                rs.getObject(3, LocalDateTime.class),
+                rs.getBytes(4)
+        ), productId.getValue(), afterVersion);
+    }
+
+    /**
+     * 최신 스냅샷 조회
+     *
+     * @param productId 상품 ID
+     * @return 스냅샷 Optional
+     */
+    public Optional<ProductSnapshot> findSnapshot(ProductId productId) {
+        checkNotNull(productId, "상품 ID는 null일 수 없습니다");
+        List<ProductSnapshot> found = jdbcTemplate.query(SELECT_SNAPSHOT, (rs, rowNum) ->
+                ProductEventCodec.decodeSnapshot(productId, rs.getLong(1), rs.getBytes(2)), productId.getValue());
+        return found.isEmpty() ? Optional.empty() : Optional.of(found.get(0));
+    }
+
+    /**
+     * 스냅샷 저장. 이미 더 최신 스냅샷이 있으면 무시합니다.
+     *
+     * @param snapshot 저장할 스냅샷
+     */
+    public void saveSnapshot(ProductSnapshot snapshot) {
+        checkNotNull(snapshot, "스냅샷은 null일 수 없습니다");
+        byte[] payload = ProductEventCodec.encodeSnapshot(snapshot);
+        LocalDateTime now = LocalDateTime.now(clock);
+        int updated = jdbcTemplate.update(UPDATE_SNAPSHOT,
+                snapshot.version(), payload, now, snapshot.id().getValue(), snapshot.version());
+        if (updated > 0) {
+            return;
+        }
+        try {
+            jdbcTemplate.update(INSERT_SNAPSHOT, snapshot.id().getValue(), snapshot.version(), payload, now);
+        } catch (DuplicateKeyException e) {
+            // 같은 버전 이상의 스냅샷이 이미 있음
+        }
+    }
+
+    /**
+     * 스트림 버전 충돌 예외
+     */
+    public static class ConcurrencyConflictException extends RuntimeException {
+        public ConcurrencyConflictException(ProductId productId, long expectedVersion) {
+            super(String.format("다른 저장이 먼저 반영되었습니다. 상품: %s, 기대 버전: %s", productId, expectedVersion));
+        }
+    }
+}
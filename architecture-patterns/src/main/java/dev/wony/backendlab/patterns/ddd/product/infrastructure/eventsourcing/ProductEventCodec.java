@@ -0,0 +1,174 @@
+package dev.wony.backendlab.patterns.ddd.product.infrastructure.eventsourcing;
+
+import dev.wony.backendlab.patterns.ddd.product.domain.entity.ProductSnapshot;
+import dev.wony.backendlab.patterns.ddd.product.domain.entity.ProductStatus;
+import dev.wony.backendlab.patterns.ddd.product.domain.event.*;
+import dev.wony.backendlab.patterns.ddd.product.domain.vo.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * 상품 이벤트/스냅샷 직렬화.
+ * <p>
+ * 상품 ID, 이벤트 ID, 발생 시각은 이벤트 저장소의 컬럼에 있으므로 payload 에는 이벤트 고유 값만 담습니다.
+ * 리플렉션 기반 직렬화 대신 타입별로 필드를 직접 읽고 써서, 재생 경로에서 불필요한 객체 생성을 줄입니다.
+ * <p>
+ * 필드 순서를 바꾸면 기존에 저장된 이벤트를 읽을 수 없으므로, 새 필드는 항상 끝에 추가합니다.
+ */
+final class ProductEventCodec {
+
+    static final String CREATED = "ProductCreated";
+    static final String PRICE_CHANGED = "ProductPriceChanged";
+    static final String STOCK_CHANGED = "ProductStockChanged";
+    static final String STATUS_CHANGED = "ProductStatusChanged";
+    static final String INFO_UPDATED = "ProductInfoUpdated";
+    static final String CATEGORY_CHANGED = "ProductCategoryChanged";
+
+    private ProductEventCodec() {
+    }
+
+    static String typeOf(DomainEvent event) {
+        if (event instanceof ProductStockChangedEvent) {
+            return STOCK_CHANGED;
+        } else if (event instanceof ProductPriceChangedEvent) {
+            return PRICE_CHANGED;
+        } else if (event instanceof ProductStatusChangedEvent) {
+            return STATUS_CHANGED;
+        } else if (event instanceof ProductInfoUpdatedEvent) {
+            return INFO_UPDATED;
+        } else if (event instanceof ProductCategoryChangedEvent) {
+            return CATEGORY_CHANGED;
+        } else if (event instanceof ProductCreatedEvent) {
+            return CREATED;
+        }
+        throw new IllegalArgumentException("저장할 수 없는 이벤트입니다: " + event.getEventType());
+    }
+
+    static byte[] encode(DomainEvent event) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            if (event instanceof ProductStockChangedEvent e) {
+                out.writeInt(e.getPreviousQuantity().getValue());
+                out.writeInt(e.getCurrentQuantity().getValue());
+            } else if (event instanceof ProductPriceChangedEvent e) {
+                writeMoney(out, e.getOldPrice());
+                writeMoney(out, e.getNewPrice());
+            } else if (event instanceof ProductStatusChangedEvent e) {
+                out.writeUTF(e.getPreviousStatus().name());
+                out.writeUTF(e.getCurrentStatus().name());
+            } else if (event instanceof ProductInfoUpdatedEvent e) {
+                out.writeUTF(e.getProductName().getValue());
+                writeNullable(out, e.getDescription());
+            } else if (event instanceof ProductCategoryChangedEvent e) {
+                out.writeUTF(e.getPreviousCategoryId().getValue());
+                out.writeUTF(e.getCurrentCategoryId().getValue());
+            } else if (event instanceof ProductCreatedEvent e) {
+                out.writeUTF(e.getProductName().getValue());
+                writeNullable(out, e.getDescription());
+                writeMoney(out, e.getPrice());
+                out.writeInt(e.getInitialStock().getValue());
+                out.writeUTF(e.getCategoryId().getValue());
+            } else {
+                throw new IllegalArgumentException("저장할 수 없는 이벤트입니다: " + event.getEventType());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    static DomainEvent decode(String type, ProductId productId, String eventId, LocalDateTime occurredAt,
+                              byte[] payload) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+            return switch (type) {
+                case STOCK_CHANGED -> new ProductStockChangedEvent(eventId, occurredAt, productId,
+                        Quantity.of(in.readInt()), Quantity.of(in.readInt()));
+                case PRICE_CHANGED -> new ProductPriceChangedEvent(eventId, occurredAt, productId,
+                        readMoney(in), readMoney(in));
+                case STATUS_CHANGED -> new ProductStatusChangedEvent(eventId, occurredAt, productId,
+                        ProductStatus.valueOf(in.readUTF()), ProductStatus.valueOf(in.readUTF()));
+                case INFO_UPDATED -> new ProductInfoUpdatedEvent(eventId, occurredAt, productId,
+                        ProductName.of(in.readUTF()), readNullable(in));
+                case CATEGORY_CHANGED -> new ProductCategoryChangedEvent(eventId, occurredAt, productId,
+                        CategoryId.of(in.readUTF()), CategoryId.of(in.readUTF()));
+                case CREATED -> new ProductCreatedEvent(eventId, occurredAt, productId,
+                        ProductName.of(in.readUTF()), readNullable(in), readMoney(in),
+                        Quantity.of(in.readInt()), CategoryId.of(in.readUTF()));
+                default -> throw new IllegalArgumentException("알 수 없는 이벤트 타입입니다: " + type);
+            };
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static byte[] encodeSnapshot(ProductSnapshot snapshot) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeUTF(snapshot.name().getValue());
+            writeNullable(out, snapshot.description());
+            writeMoney(out, snapshot.price());
+            out.writeInt(snapshot.stockQuantity().getValue());
+            out.writeUTF(snapshot.categoryId().getValue());
+            out.writeUTF(snapshot.status().name());
+            writeDateTime(out, snapshot.createdAt());
+            writeDateTime(out, snapshot.updatedAt());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    static ProductSnapshot decodeSnapshot(ProductId productId, long version, byte[] payload) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+            return new ProductSnapshot(productId, version,
+                    ProductName.of(in.readUTF()),
+                    readNullable(in),
+                    readMoney(in),
+                    Quantity.of(in.readInt()),
+                    CategoryId.of(in.readUTF()),
+                    ProductStatus.valueOf(in.readUTF()),
+                    readDateTime(in),
+                    readDateTime(in));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeMoney(DataOutputStream out, Money money) throws IOException {
+        out.writeUTF(money.getAmount().toPlainString());
+    }
+
+    private static Money readMoney(DataInputStream in) throws IOException {
+        return Money.of(new BigDecimal(in.readUTF()));
+    }
+
+    private static void writeNullable(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readNullable(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    private static void writeDateTime(DataOutputStream out, LocalDateTime value) throws IOException {
+        out.writeLong(value.toLocalDate().toEpochDay());
+        out.writeLong(value.toLocalTime().toNanoOfDay());
+    }
+
+    private static LocalDateTime readDateTime(DataInputStream in) throws IOException {
+        return LocalDateTime.of(LocalDate.ofEpochDay(in.readLong()),
+                LocalTime.ofNanoOfDay(in.readLong()));
+    }
+}
@@ -0,0 +1,181 @@
+package dev.wony.backendlab.patterns.ddd.product.infrastructure.persistence;
+
+import dev.wony.backendlab.patterns.ddd.product.domain.entity.Product;
+import dev.wony.backendlab.patterns.ddd.product.domain.entity.ProductStatus;
+import dev.wony.backendlab.patterns.ddd.product.domain.repository.ProductRepository;
+import dev.wony.backendlab.patterns.ddd.product.domain.vo.CategoryId;
+import dev.wony.backendlab.patterns.ddd.product.domain.vo.ProductId;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * 메모리 기반 상품 Repository 구현체.
+ * <p>
+ * 상품은 {@link ConcurrentHashMap}에 보관하고, {@code CategoryId}/{@code ProductStatus} 별 보조 인덱스(상품 ID 집합)를 함께 유지하여
+ * {@link #findByCategoryId}, {@link #findByStatus}를 전체 스캔 없이 O(결과 수)로 조회합니다.
+ * <p>
+ * 인덱스 규칙:
+ * <ul>
+ *     <li>Aggregate 변경({@code changeCategory}, {@code startSelling}, 재고 변경 등)은 {@link #save} 시점에 인덱스에 반영됩니다.</li>
+ *     <li>같은 상품에 대한 쓰기와 삭제는 {@link ConcurrentHashMap#compute}의 키 단위 잠금으로 직렬화되며, 다른 상품 쓰기와는 경합하지 않습니다.
+ *     인덱스 추가와 이전 키 제거도 같은 잠금 안에서 끝나므로, 삭제와 겹쳐도 삭제된 상품의 인덱스 항목이 남지 않습니다.</li>
+ *     <li>새 인덱스에 먼저 추가하고 기존 인덱스에서는 나중에 제거하므로, 이동 중인 상품이 조회에서 빠지지 않습니다.
+ *     조회 시에는 인덱스의 ID를 저장된 상품의 현재 키와 대조하여 이동 중인 항목을 걸러냅니다.</li>
+ *     <li>보관하는 상품은 호출자와 같은 인스턴스이므로, 저장하지 않은 변경이 있을 수 있습니다.
+ *     조회 결과는 반환하는 인스턴스의 현재 값으로 한 번 더 대조하여 조건과 다른 상품을 돌려주지 않습니다.
+ *     (저장 전의 새 값으로는 조회되지 않습니다)</li>
+ * </ul>
+ */
+public class InMemoryProductRepository implements ProductRepository {
+
+    private final ConcurrentHashMap<ProductId, Entry> products = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<CategoryId, Set<ProductId>> categoryIndex = new ConcurrentHashMap<>();
+    private final Map<ProductStatus, Set<ProductId>> statusIndex = new EnumMap<>(ProductStatus.class);
+
+    public InMemoryProductRepository() {
+        for (ProductStatus status : ProductStatus.values()) {
+            statusIndex.put(status, ConcurrentHashMap.newKeySet());
+        }
+    }
+
+    @Override
+    public Product save(Product product) {
+        checkNotNull(product, "상품은 null일 수 없습니다");
+        ProductId id = product.getId();
+        Entry next = new Entry(product, product.getCategoryId(), product.getStatus());
+
+        products.compute(id, (key, previous) -> {
+            addToCategory(next.categoryId(), id);
+            statusIndex.get(next.status()).add(id);
+            if (previous != null) {
+                removeStaleIndexes(id, previous, next);
+            }
+            return next;
+        });
+        return product;
+    }
+
+    /**
+     * 이전 키의 인덱스에서 상품을 제거합니다. (같은 상품의 {@code compute} 안에서만 호출)
+     */
+    private void removeStaleIndexes(ProductId id, Entry previous, Entry current) {
+        if (!current.categoryId().equals(previous.categoryId())) {
+            removeFromCategory(previous.categoryId(), id);
+        }
+        if (current.status() != previous.status()) {
+            statusIndex.get(previous.status()).remove(id);
+        }
+    }
+
+    @Override
+    public Optional<Product> findById(ProductId id) {
+        checkNotNull(id, "상품 ID는 null일 수 없습니다");
+        return Optional.ofNullable(products.get(id)).map(Entry::product);
+    }
+
+    @Override
+    public List<Product> findByCategoryId(CategoryId categoryId) {
+        checkNotNull(categoryId, "카테고리 ID는 null일 수 없습니다");
+        Set<ProductId> ids = categoryIndex.getOrDefault(categoryId, Collections.emptySet());
+        List<Product> result = new ArrayList<>(ids.size());
+        for (ProductId id : ids) {
+            Entry entry = products.get(id);
+            if (entry != null && entry.categoryId().equals(categoryId)
+                    && entry.product().getCategoryId().equals(categoryId)) {
+                result.add(entry.product());
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public List<Product> findByStatus(ProductStatus status) {
+        checkNotNull(status, "상품 상태는 null일 수 없습니다");
+        Set<ProductId> ids = statusIndex.get(status);
+        List<Product> result = new ArrayList<>(ids.size());
+        for (ProductId id : ids) {
+            Entry entry = products.get(id);
+            if (entry != null && entry.status() == status && entry.product().getStatus() == status) {
+                result.add(entry.product());
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public List<Product> findAll() {
+        List<Product> result = new ArrayList<>(products.size());
+        for (Entry entry : products.values()) {
+            result.add(entry.product());
+        }
+        return result;
+    }
+
+    @Override
+    public void deleteById(ProductId id) {
+        checkNotNull(id, "상품 ID는 null일 수 없습니다");
+        products.computeIfPresent(id, (key, current) -> {
+            removeFromCategory(current.categoryId(), id);
+            statusIndex.get(current.status()).remove(id);
+            return null;
+        });
+    }
+
+    @Override
+    public boolean existsById(ProductId id) {
+        checkNotNull(id, "상품 ID는 null일 수 없습니다");
+        return products.containsKey(id);
+    }
+
+    @Override
+    public long count() {
+        return products.size();
+    }
+
+    /**
+     * 카테고리/상태 인덱스에 들어있는 항목 수 (테스트용)
+     */
+    long indexEntries() {
+        long entries = 0;
+        for (Set<ProductId> ids : categoryIndex.values()) {
+            entries += ids.size();
+        }
+        for (Set<ProductId> ids : statusIndex.values()) {
+            entries += ids.size();
+        }
+        return entries;
+    }
+
+    private void addToCategory(CategoryId categoryId, ProductId id) {
+        categoryIndex.compute(categoryId, (key, ids) -> {
+            Set<ProductId> target = ids != null ? ids : ConcurrentHashMap.newKeySet();
+            target.add(id);
+            return target;
+        });
+    }
+
+    /**
+     * 비어있는 카테고리 인덱스는 제거하여 카테고리가 많이 바뀌어도 인덱스가 계속 커지지 않도록 합니다.
+     */
+    private void removeFromCategory(CategoryId categoryId, ProductId id) {
+        categoryIndex.computeIfPresent(categoryId, (key, ids) -> {
+            ids.remove(id);
+            return ids.isEmpty() ? null : ids;
+        });
+    }
+
+    /**
+     * 저장 시점의 인덱스 키
+     */
+    private record Entry(Product product, CategoryId categoryId, ProductStatus status) {
+    }
+}
@@ -0,0 +1,121 @@
+package dev.wony.backendlab.patterns.ddd.product.infrastructure.persistence;
+
+import dev.wony.backendlab.patterns.ddd.product.domain.entity.Category;
+import dev.wony.backendlab.patterns.ddd.product.domain.repository.CategoryRepository;
+import dev.wony.backendlab.patterns.ddd.product.domain.vo.CategoryId;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * JDBC 기반 카테고리 Repository 구현체.
+ * <p>
+ * {@link JdbcProductRepository}와 같은 방식으로 고정 컬럼 순서의 SELECT 와 인덱스 기반 {@link RowMapper}를 사용합니다.
+ * 목록 조회는 표시 순서({@code display_order})로 정렬합니다.
+ */
+public class JdbcCategoryRepository implements CategoryRepository {
+
+    private static final String COLUMNS =
+            "id, name, description, parent_id, display_order, active, created_at, updated_at";
+    private static final String SELECT = "SELECT " + COLUMNS + " FROM product_category";
+
+    private static final String INSERT = "INSERT INTO product_category (" + COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String UPDATE = "UPDATE product_category SET name = ?, description = ?, parent_id = ?, "
+            + "display_order = ?, active = ?, created_at = ?, updated_at = ? WHERE id = ?";
+
+    private static final RowMapper<Category> ROW_MAPPER = (rs, rowNum) -> {
+        String parentId = rs.getString(4);
+        return Category.reconstitute(
+                CategoryId.of(rs.getString(1)),
+                rs.getString(2),
+                rs.getString(3),
+                parentId != null ? CategoryId.of(parentId) : null,
+                rs.getInt(5),
+                rs.getBoolean(6),
+                rs.getObject(7, LocalDateTime.class),
+                rs.getObject(8, LocalDateTime.class)
+        );
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcCategoryRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = checkNotNull(jdbcTemplate, "JdbcTemplate은 null일 수 없습니다");
+    }
+
+    @Override
+    public Category save(Category category) {
+        checkNotNull(category, "카테고리는 null일 수 없습니다");
+        int updated = jdbcTemplate.update(UPDATE, ps -> {
+            bindState(ps, 1, category);
+            ps.setString(8, category.getId().getValue());
+        });
+        if (updated == 0) {
+            jdbcTemplate.update(INSERT, ps -> {
+                ps.setString(1, category.getId().getValue());
+                bindState(ps, 2, category);
+            });
+        }
+        return category;
+    }
+
+    @Override
+    public Optional<Category> findById(CategoryId id) {
+        checkNotNull(id, "카테고리 ID는 null일 수 없습니다");
+        List<Category> found = jdbcTemplate.query(SELECT + " WHERE id = ?", ROW_MAPPER, id.getValue());
+        return found.isEmpty() ? Optional.empty() : Optional.of(found.get(0));
+    }
+
+    @Override
+    public List<Category> findRootCategories() {
+        return jdbcTemplate.query(SELECT + " WHERE parent_id IS NULL ORDER BY display_order", ROW_MAPPER);
+    }
+
+    @Override
+    public List<Category> findByParentId(CategoryId parentId) {
+        checkNotNull(parentId, "상위 카테고리 ID는 null일 수 없습니다");
+        return jdbcTemplate.query(SELECT + " WHERE parent_id = ? ORDER BY display_order", ROW_MAPPER,
+                parentId.getValue());
+    }
+
+    @Override
+    public List<Category> findActiveCategories() {
+        return jdbcTemplate.query(SELECT + " WHERE active = TRUE ORDER BY display_order", ROW_MAPPER);
+    }
+
+    @Override
+    public List<Category> findAll() {
+        return jdbcTemplate.query(SELECT + " ORDER BY display_order", ROW_MAPPER);
+    }
+
+    @Override
+    public void deleteById(CategoryId id) {
+        checkNotNull(id, "카테고리 ID는 null일 수 없습니다");
+        jdbcTemplate.update("DELETE FROM product_category WHERE id = ?", id.getValue());
+    }
+
+    @Override
+    public boolean existsById(CategoryId id) {
+        checkNotNull(id, "카테고리 ID는 null일 수 없습니다");
+        Boolean exists = jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM product_category WHERE id = ?)", Boolean.class, id.getValue());
+        return Boolean.TRUE.equals(exists);
+    }
+
+    private static void bindState(PreparedStatement ps, int from, Category category) throws SQLException {
+        ps.setString(from, category.getName());
+        ps.setString(from + 1, category.getDescription());
+        ps.setString(from + 2, category.getParentId() != null ? category.getParentId().getValue() : null);
+        ps.setInt(from + 3, category.getDisplayOrder());
+        ps.setBoolean(from + 4, category.isActive());
+        ps.setObject(from + 5, category.getCreatedAt());
+        ps.setObject(from + 6, category.getUpdatedAt());
+    }
+}
@@ -0,0 +1,272 @@
+package dev.wony.backendlab.patterns.ddd.product.infrastructure.persistence;
+
+import dev.wony.backendlab.patterns.ddd.product.domain.entity.Product;
+import dev.wony.backendlab.patterns.ddd.product.domain.entity.ProductStatus;
+import dev.wony.backendlab.patterns.ddd.product.domain.repository.ProductRepository;
+import dev.wony.backendlab.patterns.ddd.product.domain.vo.*;
+import com.google.common.collect.Lists;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * JDBC 기반 상품 Repository 구현체.
+ * <p>
+ * Value Object는 컬럼에 직접 매핑합니다. ({@code db/product/schema.sql} 참고)
+ * <ul>
+ *     <li>{@link ProductId}, {@link CategoryId} → VARCHAR(36)</li>
+ *     <li>{@link ProductName} → VARCHAR(100)</li>
+ *     <li>{@link Money} → DECIMAL(19, 0) (원 단위 정수)</li>
+ *     <li>{@link Quantity} → INT</li>
+ *     <li>{@link ProductStatus} → 열거형 이름 VARCHAR(20)</li>
+ * </ul>
+ * 조회는 컬럼 순서가 고정된 SELECT 와 인덱스 기반 {@link RowMapper}로 리플렉션 없이 Aggregate를 복원하고,
+ * {@link #saveAll}은 저장된 적 없는 상품(버전 0)은 INSERT 배치로, 나머지는 UPDATE 배치로 저장합니다.
+ * <p>
+ * {@code version} 컬럼으로 낙관적 잠금을 겁니다. UPDATE 는 읽은 버전과 같은 행만 갱신하고 버전을 올리며,
+ * {@link JdbcStockStore}의 재고 차감도 버전을 올리므로 차감 전에 읽은 Aggregate를 저장하면 팔린 재고를 되살리지 않고
+ * {@link OptimisticLockingFailureException}이 발생합니다. 다시 조회해서 재시도합니다.
+ * 드라이버가 갱신 건수 대신 {@link Statement#SUCCESS_NO_INFO}를 돌려준 행은 버전을 다시 조회해 판단합니다.
+ * 트랜잭션 경계는 호출자가 관리합니다.
+ */
+public class JdbcProductRepository implements ProductRepository {
+
+    private static final int DEFAULT_BATCH_SIZE = 500;
+
+    /**
+     * 수치 범위 초과 SQLSTATE
+     */
+    private static final String NUMERIC_OUT_OF_RANGE = "22003";
+
+    private static final String COLUMNS =
+            "id, name, description, price, stock_quantity, category_id, status, created_at, updated_at, version";
+    private static final String SELECT = "SELECT " + COLUMNS + " FROM product";
+
+    private static final String INSERT =
+            "INSERT INTO product (" + COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, 1)";
+    private static final String UPDATE = "UPDATE product SET name = ?, description = ?, price = ?, stock_quantity = ?, "
+            + "category_id = ?, status = ?, created_at = ?, updated_at = ?, version = version + 1 "
+            + "WHERE id = ? AND version = ?";
+
+    /**
+     * SELECT 컬럼 순서(1 ~ 10)에 맞춘 매퍼
+     */
+    private static final RowMapper<Product> ROW_MAPPER = (rs, rowNum) -> {
+        Product product = Product.reconstitute(
+                ProductId.of(rs.getString(1)),
+                ProductName.of(rs.getString(2)),
+                rs.getString(3),
+                readPrice(rs, 4),
+                Quantity.of(rs.getInt(5)),
+                CategoryId.of(rs.getString(6)),
+                ProductStatus.valueOf(rs.getString(7)),
+                rs.getObject(8, LocalDateTime.class),
+                rs.getObject(9, LocalDateTime.class)
+        );
+        product.markCommitted(rs.getLong(10));
+        return product;
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+
+    public JdbcProductRepository(JdbcTemplate jdbcTemplate) {
+        this(jdbcTemplate, DEFAULT_BATCH_SIZE);
+    }
+
+    public JdbcProductRepository(JdbcTemplate jdbcTemplate, int batchSize) {
+        checkNotNull(jdbcTemplate, "JdbcTemplate은 null일 수 없습니다");
+        checkArgument(batchSize > 0, "배치 크기는 1 이상이어야 합니다: %s", batchSize);
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * @throws OptimisticLockingFailureException 읽은 뒤 다른 저장이나 재고 차감이 먼저 반영되었거나 삭제된 경우
+     */
+    @Override
+    public Product save(Product product) {
+        checkNotNull(product, "상품은 null일 수 없습니다");
+        if (product.getVersion() == 0) {
+            jdbcTemplate.update(INSERT, ps -> bindInsert(ps, product));
+        } else if (jdbcTemplate.update(UPDATE, ps -> bindUpdate(ps, product)) == 0) {
+            throw conflict(product);
+        }
+        product.markCommitted(product.getVersion() + 1);
+        return product;
+    }
+
+    @Override
+    public List<Product> saveAll(Collection<Product> products) {
+        checkNotNull(products, "상품 목록은 null일 수 없습니다");
+        List<Product> saved = List.copyOf(products);
+        if (saved.isEmpty()) {
+            return saved;
+        }
+
+        List<Product> inserts = new ArrayList<>();
+        List<Product> updates = new ArrayList<>();
+        for (Product product : saved) {
+            (product.getVersion() == 0 ? inserts : updates).add(product);
+        }
+
+        if (!updates.isEmpty()) {
+            int[][] updated = jdbcTemplate.batchUpdate(UPDATE, updates, batchSize, this::bindUpdate);
+            List<Product> unknown = new ArrayList<>();
+            for (int batch = 0; batch < updated.length; batch++) {
+                int[] counts = updated[batch];
+                for (int i = 0; i < counts.length; i++) {
+                    Product product = updates.get(batch * batchSize + i);
+                    if (counts[i] == 0) {
+                        throw conflict(product);
+                    } else if (counts[i] == Statement.SUCCESS_NO_INFO) {
+                        unknown.add(product);
+                    } else if (counts[i] < 0) {
+                        throw new IllegalStateException("상품 갱신 배치가 실패했습니다: " + product.getId());
+                    }
+                }
+            }
+            if (!unknown.isEmpty()) {
+                verifyUpdated(unknown);
+            }
+        }
+        if (!inserts.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT, inserts, batchSize, this::bindInsert);
+        }
+        for (Product product : saved) {
+            product.markCommitted(product.getVersion() + 1);
+        }
+        return saved;
+    }
+
+    @Override
+    public Optional<Product> findById(ProductId id) {
+        checkNotNull(id, "상품 ID는 null일 수 없습니다");
+        List<Product> found = jdbcTemplate.query(SELECT + " WHERE id = ?", ROW_MAPPER, id.getValue());
+        return found.isEmpty() ? Optional.empty() : Optional.of(found.get(0));
+    }
+
+    @Override
+    public List<Product> findByCategoryId(CategoryId categoryId) {
+        checkNotNull(categoryId, "카테고리 ID는 null일 수 없습니다");
+        return jdbcTemplate.query(SELECT + " WHERE category_id = ?", ROW_MAPPER, categoryId.getValue());
+    }
+
+    @Override
+    public List<Product> findByStatus(ProductStatus status) {
+        checkNotNull(status, "상품 상태는 null일 수 없습니다");
+        return jdbcTemplate.query(SELECT + " WHERE status = ?", ROW_MAPPER, status.name());
+    }
+
+    @Override
+    public List<Product> findAll() {
+        return jdbcTemplate.query(SELECT, ROW_MAPPER);
+    }
+
+    @Override
+    public void deleteById(ProductId id) {
+        checkNotNull(id, "상품 ID는 null일 수 없습니다");
+        jdbcTemplate.update("DELETE FROM product WHERE id = ?", id.getValue());
+    }
+
+    @Override
+    public boolean existsById(ProductId id) {
+        checkNotNull(id, "상품 ID는 null일 수 없습니다");
+        Boolean exists = jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM product WHERE id = ?)", Boolean.class, id.getValue());
+        return Boolean.TRUE.equals(exists);
+    }
+
+    @Override
+    public long count() {
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM product", Long.class);
+        return count != null ? count : 0L;
+    }
+
+    /**
+     * 갱신 건수를 알 수 없는 상품이 이번 UPDATE 로 한 버전 올라갔는지 확인
+     */
+    private void verifyUpdated(List<Product> products) {
+        Map<String, Long> versions = new HashMap<>();
+        for (List<Product> chunk : Lists.partition(products, batchSize)) {
+            String placeholders = String.join(", ", Collections.nCopies(chunk.size(), "?"));
+            Object[] ids = chunk.stream().map(product -> product.getId().getValue()).toArray();
+            jdbcTemplate.query("SELECT id, version FROM product WHERE id IN (" + placeholders + ")",
+                    rs -> {
+                        versions.put(rs.getString(1), rs.getLong(2));
+                    }, ids);
+        }
+        for (Product product : products) {
+            Long version = versions.get(product.getId().getValue());
+            if (version == null || version != product.getVersion() + 1) {
+                throw conflict(product);
+            }
+        }
+    }
+
+    private static OptimisticLockingFailureException conflict(Product product) {
+        return new OptimisticLockingFailureException(String.format(
+                "다른 저장이 먼저 반영되었거나 삭제된 상품입니다. 상품: %s, 읽은 버전: %s",
+                product.getId(), product.getVersion()));
+    }
+
+    /**
+     * 가격은 {@code long}으로 읽고, DECIMAL(19, 0) 중 {@code long} 범위를 넘는 값만 {@link java.math.BigDecimal}로 읽음
+     */
+    private static Money readPrice(ResultSet rs, int column) throws SQLException {
+        try {
+            return Money.of(rs.getLong(column));
+        } catch (SQLException e) {
+            if (!NUMERIC_OUT_OF_RANGE.equals(e.getSQLState())) {
+                throw e;
+            }
+            return Money.of(rs.getBigDecimal(column));
+        }
+    }
+
+    private void bindInsert(PreparedStatement ps, Product product) throws SQLException {
+        ps.setString(1, product.getId().getValue());
+        bindState(ps, 2, product);
+    }
+
+    private void bindUpdate(PreparedStatement ps, Product product) throws SQLException {
+        bindState(ps, 1, product);
+        ps.setString(9, product.getId().getValue());
+        ps.setLong(10, product.getVersion());
+    }
+
+    /**
+     * id 를 제외한 8개 컬럼을 {@code from} 위치부터 바인딩
+     */
+    private static void bindState(PreparedStatement ps, int from, Product product) throws SQLException {
+        ps.setString(from, product.getName().getValue());
+        ps.setString(from + 1, product.getDescription());
+        Money price = product.getPrice();
+        if (price.fitsInLong()) {
+            ps.setLong(from + 2, price.longValue());
+        } else {
+            ps.setBigDecimal(from + 2, price.getAmount());
+        }
+        ps.setInt(from + 3, product.getStockQuantity().getValue());
+        ps.setString(from + 4, product.getCategoryId().getValue());
+        ps.setString(from + 5, product.getStatus().name());
+        ps.setObject(from + 6, product.getCreatedAt());
+        ps.setObject(from + 7, product.getUpdatedAt());
+    }
+}
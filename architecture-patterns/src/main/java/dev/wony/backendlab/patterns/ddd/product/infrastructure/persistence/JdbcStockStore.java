@@ -0,0 +1,60 @@
+package dev.wony.backendlab.patterns.ddd.product.infrastructure.persistence;
+
+import dev.wony.backendlab.patterns.ddd.product.domain.entity.ProductStatus;
+import dev.wony.backendlab.patterns.ddd.product.domain.repository.ProductRepository;
+import dev.wony.backendlab.patterns.ddd.product.domain.stock.StockStore;
+import dev.wony.backendlab.patterns.ddd.product.domain.vo.ProductId;
+import dev.wony.backendlab.patterns.ddd.product.domain.vo.Quantity;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * JDBC 기반 재고 저장소.
+ * <p>
+ * 차감은 {@code WHERE stock_quantity >= ?} 조건부 UPDATE 한 번으로 처리하므로, 읽고 나서 쓰는 사이에 다른 트랜잭션이 끼어들 수 없습니다.
+ * 재고가 0이 되면 같은 문장에서 상태를 품절로 바꿔 {@code Product.decreaseStock}과 같은 규칙을 유지합니다.
+ * 차감할 때 행 버전도 올리므로, 차감 전에 읽은 Aggregate는 {@link JdbcProductRepository}에 저장할 때 충돌합니다.
+ */
+public class JdbcStockStore implements StockStore {
+
+    private static final String SELECT_SELLABLE_STOCK =
+            "SELECT CASE WHEN status = '" + ProductStatus.ON_SALE.name() + "' THEN stock_quantity ELSE 0 END "
+                    + "FROM product WHERE id = ?";
+
+    private static final String DECREASE = "UPDATE product SET stock_quantity = stock_quantity - ?, "
+            + "status = CASE WHEN stock_quantity = ? THEN '" + ProductStatus.OUT_OF_STOCK.name() + "' ELSE status END, "
+            + "updated_at = ?, version = version + 1 "
+            + "WHERE id = ? AND status = '" + ProductStatus.ON_SALE.name() + "' AND stock_quantity >= ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Clock clock;
+
+    public JdbcStockStore(JdbcTemplate jdbcTemplate, Clock clock) {
+        this.jdbcTemplate = checkNotNull(jdbcTemplate, "JdbcTemplate은 null일 수 없습니다");
+        this.clock = checkNotNull(clock, "Clock은 null일 수 없습니다");
+    }
+
+    @Override
+    public int loadSellableStock(ProductId productId) {
+        checkNotNull(productId, "상품 ID는 null일 수 없습니다");
+        List<Integer> stock = jdbcTemplate.queryForList(SELECT_SELLABLE_STOCK, Integer.class, productId.getValue());
+        if (stock.isEmpty()) {
+            throw new ProductRepository.ProductNotFoundException(productId);
+        }
+        return stock.get(0);
+    }
+
+    @Override
+    public boolean decrease(ProductId productId, Quantity quantity) {
+        checkNotNull(productId, "상품 ID는 null일 수 없습니다");
+        checkNotNull(quantity, "수량은 null일 수 없습니다");
+        int amount = quantity.getValue();
+        return jdbcTemplate.update(DECREASE, amount, amount, LocalDateTime.now(clock),
+                productId.getValue(), amount) == 1;
+    }
+}
@@ -0,0 +1,294 @@
+package dev.wony.backendlab.patterns.ddd.product.infrastructure.pricing;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import dev.wony.backendlab.patterns.ddd.product.domain.entity.Product;
+import dev.wony.backendlab.patterns.ddd.product.domain.event.DomainEventSubscriber;
+import dev.wony.backendlab.patterns.ddd.product.domain.event.ProductPriceChangedEvent;
+import dev.wony.backendlab.patterns.ddd.product.domain.service.PricingPolicy;
+import dev.wony.backendlab.patterns.ddd.product.domain.vo.CategoryId;
+import dev.wony.backendlab.patterns.ddd.product.domain.vo.Money;
+import dev.wony.backendlab.patterns.ddd.product.domain.vo.ProductId;
+import dev.wony.backendlab.patterns.ddd.product.domain.vo.Quantity;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * 가격 견적 캐시.
+ * <p>
+ * (상품, 수량, 정책 버전)별로 {@link PricingPolicy#calculatePrice} 결과를 보관하는 {@link PricingPolicy} 데코레이터입니다.
+ * <ul>
+ *     <li>Caffeine 항목은 상품 하나이고, 항목 안에 수량별 견적을 최대 {@link Options#maxQuotesPerProduct()}개까지
+ *     최근 것 우선으로 보관합니다. 수량이 {@link Options#maxCachedQuantity()}를 넘으면 캐시하지 않습니다.</li>
+ *     <li>메모리는 견적 수 기준으로 추정한 무게({@link Options#maximumWeightBytes()})로 제한합니다.</li>
+ *     <li>{@link ProductPriceChangedEvent}를 받으면 해당 상품 항목을 지우고, {@link #deploy}로 정책을 바꾸면
+ *     정책 버전을 올리고 전체를 비웁니다.</li>
+ *     <li>항목에는 계산에 사용한 정책 버전, 단가, 카테고리를 함께 저장하고 조회 시 현재 값과 비교합니다.
+ *     이벤트 처리 직전에 시작한 계산이 무효화 뒤에 저장되더라도, 바뀐 가격의 상품으로 조회하면 사용되지 않습니다.</li>
+ * </ul>
+ * 기간 조건이 있는 정책은 결과가 시각에 따라 달라지므로 기간 경계마다 {@link #deploy}로 버전을 올려야 합니다.
+ * <p>
+ * 지표 ({@code cache} 태그):
+ * <ul>
+ *     <li>{@code product.price.quotes}: 조회 결과별 횟수 ({@code result}: hit, miss, bypass)</li>
+ *     <li>{@code product.price.quotes.evicted}: 메모리 제한으로 밀려난 견적 수</li>
+ *     <li>{@code product.price.quotes.invalidated}: 무효화 횟수 ({@code cause}: price_changed, policy_deployed)</li>
+ *     <li>{@code product.price.quotes.weight}: 추정 사용 메모리 (bytes)</li>
+ * </ul>
+ */
+public class PriceQuoteCache implements PricingPolicy, DomainEventSubscriber<ProductPriceChangedEvent> {
+
+    private static final String METRIC_NAME = "product.price.quotes";
+
+    /**
+     * 항목 추정 크기: 상품 ID 키, 항목 객체와 배열 헤더
+     */
+    static final int ENTRY_BYTES = 128;
+
+    /**
+     * 견적 하나의 추정 크기: 수량(int), {@link Money} 참조와 객체
+     */
+    static final int QUOTE_BYTES = 32;
+
+    /**
+     * 캐시 설정
+     *
+     * @param maximumWeightBytes  추정 메모리 상한
+     * @param maxCachedQuantity   캐시할 최대 수량 (이보다 크면 매번 계산)
+     * @param maxQuotesPerProduct 상품별로 보관할 최대 수량 종류
+     */
+    public record Options(long maximumWeightBytes, int maxCachedQuantity, int maxQuotesPerProduct) {
+
+        public Options {
+            checkArgument(maximumWeightBytes > 0, "메모리 상한은 1 이상이어야 합니다: %s", maximumWeightBytes);
+            checkArgument(maxCachedQuantity > 0, "최대 수량은 1 이상이어야 합니다: %s", maxCachedQuantity);
+            checkArgument(maxQuotesPerProduct > 0, "상품별 견적 수는 1 이상이어야 합니다: %s", maxQuotesPerProduct);
+        }
+
+        public static Options defaults() {
+            return new Options(64L * 1024 * 1024, 100, 8);
+        }
+    }
+
+    private final Cache<ProductId, Quotes> cache;
+    private final Options options;
+    private volatile Deployment deployment;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter bypasses;
+    private final Counter evicted;
+    private final Counter priceChanged;
+    private final Counter policyDeployed;
+
+    public PriceQuoteCache(String name, PricingPolicy policy, Options options, MeterRegistry registry) {
+        checkNotNull(name, "캐시 이름은 null일 수 없습니다");
+        checkNotNull(policy, "가격 정책은 null일 수 없습니다");
+        checkNotNull(options, "설정은 null일 수 없습니다");
+        checkNotNull(registry, "MeterRegistry는 null일 수 없습니다");
+        this.options = options;
+        this.deployment = new Deployment(1, policy);
+        this.hits = counter(registry, name, METRIC_NAME, "result", "hit");
+        this.misses = counter(registry, name, METRIC_NAME, "result", "miss");
+        this.bypasses = counter(registry, name, METRIC_NAME, "result", "bypass");
+        this.evicted = Counter.builder(METRIC_NAME + ".evicted").tag("cache", name).register(registry);
+        this.priceChanged = counter(registry, name, METRIC_NAME + ".invalidated", "cause", "price_changed");
+        this.policyDeployed = counter(registry, name, METRIC_NAME + ".invalidated", "cause", "policy_deployed");
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(options.maximumWeightBytes())
+                .weigher((ProductId id, Quotes quotes) -> quotes.weight())
+                .removalListener((ProductId id, Quotes quotes, RemovalCause cause) -> {
+                    if (cause.wasEvicted() && quotes != null) {
+                        evicted.increment(quotes.quantities.length);
+                    }
+                })
+                .executor(Runnable::run)
+                .build();
+        Gauge.builder(METRIC_NAME + ".weight", this, PriceQuoteCache::weight)
+                .tag("cache", name)
+                .baseUnit("bytes")
+                .register(registry);
+    }
+
+    private static Counter counter(MeterRegistry registry, String name, String metric, String key, String value) {
+        return Counter.builder(metric)
+                .tag("cache", name)
+                .tag(key, value)
+                .register(registry);
+    }
+
+    /**
+     * 캐시된 견적 또는 현재 정책으로 계산한 가격
+     *
+     * @param product  상품
+     * @param quantity 수량
+     * @return 계산된 가격
+     */
+    @Override
+    public Money calculatePrice(Product product, Quantity quantity) {
+        checkNotNull(product, "상품은 null일 수 없습니다");
+        checkNotNull(quantity, "수량은 null일 수 없습니다");
+        Deployment current = deployment;
+        int count = quantity.getValue();
+        if (count > options.maxCachedQuantity()) {
+            bypasses.increment();
+            return current.policy().calculatePrice(product, quantity);
+        }
+
+        Quotes quotes = cache.getIfPresent(product.getId());
+        if (quotes != null && quotes.matches(current.version(), product)) {
+            Money cached = quotes.find(count);
+            if (cached != null) {
+                hits.increment();
+                return cached;
+            }
+        }
+
+        misses.increment();
+        Money price = current.policy().calculatePrice(product, quantity);
+        cache.asMap().compute(product.getId(), (id, existing) -> {
+            if (existing == null) {
+                return Quotes.of(current.version(), product, count, price);
+            }
+            if (existing.policyVersion > current.version()) {
+                // 계산 중에 새 정책이 배포된 경우
+                return existing;
+            }
+            return existing.matches(current.version(), product)
+                    ? existing.with(count, price, options.maxQuotesPerProduct())
+                    : Quotes.of(current.version(), product, count, price);
+        });
+        return price;
+    }
+
+    /**
+     * 가격이 바뀐 상품의 견적 무효화
+     *
+     * @param events 가격 변경 이벤트 목록
+     */
+    @Override
+    public void onEvents(List<ProductPriceChangedEvent> events) {
+        for (ProductPriceChangedEvent event : events) {
+            cache.invalidate(event.getProductId());
+            priceChanged.increment();
+        }
+    }
+
+    /**
+     * 새 정책 배포. 정책 버전을 올리고 이전 버전의 견적을 모두 비웁니다.
+     *
+     * @param policy 새 가격 정책
+     * @return 새 정책 버전
+     */
+    public synchronized long deploy(PricingPolicy policy) {
+        checkNotNull(policy, "가격 정책은 null일 수 없습니다");
+        Deployment next = new Deployment(deployment.version() + 1, policy);
+        deployment = next;
+        cache.invalidateAll();
+        policyDeployed.increment();
+        return next.version();
+    }
+
+    /**
+     * 현재 정책 버전
+     */
+    public long policyVersion() {
+        return deployment.version();
+    }
+
+    /**
+     * 보관 중인 견적 수
+     */
+    public long size() {
+        cache.cleanUp();
+        return cache.asMap().values().stream().mapToLong(quotes -> quotes.quantities.length).sum();
+    }
+
+    /**
+     * 추정 사용 메모리 (bytes)
+     */
+    public long weight() {
+        return cache.policy().eviction()
+                .map(eviction -> eviction.weightedSize().orElse(0))
+                .orElse(0L);
+    }
+
+    private record Deployment(long version, PricingPolicy policy) {
+    }
+
+    /**
+     * 상품 하나의 수량별 견적 (불변, 최근 저장한 것이 뒤쪽)
+     */
+    private static final class Quotes {
+
+        private final long policyVersion;
+        private final Money unitPrice;
+        private final CategoryId categoryId;
+        private final int[] quantities;
+        private final Money[] prices;
+
+        private Quotes(long policyVersion, Money unitPrice, CategoryId categoryId, int[] quantities, Money[] prices) {
+            this.policyVersion = policyVersion;
+            this.unitPrice = unitPrice;
+            this.categoryId = categoryId;
+            this.quantities = quantities;
+            this.prices = prices;
+        }
+
+        static Quotes of(long policyVersion, Product product, int quantity, Money price) {
+            return new Quotes(policyVersion, product.getPrice(), product.getCategoryId(),
+                    new int[]{quantity}, new Money[]{price});
+        }
+
+        boolean matches(long version, Product product) {
+            return policyVersion == version
+                    && unitPrice.equals(product.getPrice())
+                    && categoryId.equals(product.getCategoryId());
+        }
+
+        Money find(int quantity) {
+            for (int i = quantities.length - 1; i >= 0; i--) {
+                if (quantities[i] == quantity) {
+                    return prices[i];
+                }
+            }
+            return null;
+        }
+
+        /**
+         * 견적 추가. 같은 수량이 있으면 교체하고, 가득 차면 가장 오래된 견적을 버립니다.
+         */
+        Quotes with(int quantity, Money price, int maxQuotes) {
+            int[] nextQuantities = new int[Math.min(quantities.length + 1, maxQuotes)];
+            Money[] nextPrices = new Money[nextQuantities.length];
+            int n = nextQuantities.length - 1;
+            for (int i = quantities.length - 1; i >= 0 && n > 0; i--) {
+                if (quantities[i] != quantity) {
+                    n--;
+                    nextQuantities[n] = quantities[i];
+                    nextPrices[n] = prices[i];
+                }
+            }
+            if (n > 0) {
+                // 같은 수량을 교체하여 한 칸이 남은 경우
+                nextQuantities = Arrays.copyOfRange(nextQuantities, n, nextQuantities.length);
+                nextPrices = Arrays.copyOfRange(nextPrices, n, nextPrices.length);
+            }
+            nextQuantities[nextQuantities.length - 1] = quantity;
+            nextPrices[nextPrices.length - 1] = price;
+            return new Quotes(policyVersion, unitPrice, categoryId, nextQuantities, nextPrices);
+        }
+
+        int weight() {
+            return ENTRY_BYTES + QUOTE_BYTES * quantities.length;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+-- DDD 상품 이벤트 소싱 저장소 스키마 (JdbcProductEventStore)
+
+CREATE TABLE IF NOT EXISTS product_event
+(
+    product_id  VARCHAR(36)     NOT NULL,
+    version     BIGINT          NOT NULL,
+    event_type  VARCHAR(50)     NOT NULL,
+    event_id    VARCHAR(36)     NOT NULL,
+    occurred_at TIMESTAMP(6)    NOT NULL,
+    payload     VARBINARY(4096) NOT NULL,
+    -- (상품, 버전) 유일성으로 같은 버전에 두 번 쓰는 동시 저장을 막는다 (낙관적 동시성)
+    PRIMARY KEY (product_id, version)
+);
+
+CREATE TABLE IF NOT EXISTS product_snapshot
+(
+    product_id VARCHAR(36)     NOT NULL PRIMARY KEY,
+    version    BIGINT          NOT NULL,
+    payload    VARBINARY(4096) NOT NULL,
+    created_at TIMESTAMP(6)    NOT NULL
+);
@@ -0,0 +1,33 @@
+-- DDD 상품/카테고리 Aggregate 저장 스키마 (JdbcProductRepository, JdbcCategoryRepository)
+
+CREATE TABLE IF NOT EXISTS product_category
+(
+    id            VARCHAR(36)  NOT NULL PRIMARY KEY,
+    name          VARCHAR(50)  NOT NULL,
+    description   VARCHAR(1000),
+    parent_id     VARCHAR(36),
+    display_order INT          NOT NULL,
+    active        BOOLEAN      NOT NULL,
+    created_at    TIMESTAMP(6) NOT NULL,
+    updated_at    TIMESTAMP(6) NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_product_category_parent_id ON product_category (parent_id, display_order);
+CREATE INDEX IF NOT EXISTS idx_product_category_active ON product_category (active, display_order);
+
+CREATE TABLE IF NOT EXISTS product
+(
+    id             VARCHAR(36)    NOT NULL PRIMARY KEY,
+    name           VARCHAR(100)   NOT NULL,
+    description    VARCHAR(1000),
+    price          DECIMAL(19, 0) NOT NULL,
+    stock_quantity INT            NOT NULL,
+    category_id    VARCHAR(36)    NOT NULL,
+    status         VARCHAR(20)    NOT NULL,
+    created_at     TIMESTAMP(6)   NOT NULL,
+    updated_at     TIMESTAMP(6)   NOT NULL,
+    version        BIGINT         NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_product_category_id ON product (category_id);
+CREATE INDEX IF NOT EXISTS idx_product_status ON product (status);
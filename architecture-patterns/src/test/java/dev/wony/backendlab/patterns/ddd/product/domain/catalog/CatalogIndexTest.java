@@ -0,0 +1,276 @@
+package dev.wony.backendlab.patterns.ddd.product.domain.catalog;
+
+import dev.wony.backendlab.patterns.ddd.product.domain.category.CategoryTree;
+import dev.wony.backendlab.patterns.ddd.product.domain.entity.Category;
+import dev.wony.backendlab.patterns.ddd.product.domain.entity.Product;
+import dev.wony.backendlab.patterns.ddd.product.domain.entity.ProductStatus;
+import dev.wony.backendlab.patterns.ddd.product.domain.repository.CategoryRepository.CategoryNotFoundException;
+import dev.wony.backendlab.patterns.ddd.product.domain.vo.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CatalogIndex 테스트")
+class CatalogIndexTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+    private static final CategoryId ELECTRONICS = CategoryId.of("electronics");
+    private static final CategoryId COMPUTERS = CategoryId.of("computers");
+    private static final CategoryId PHONES = CategoryId.of("phones");
+    private static final CategoryId BOOKS = CategoryId.of("books");
+
+    private static Category category(CategoryId id, CategoryId parentId) {
+        return Category.reconstitute(id, id.getValue(), null, parentId, 0, true, CREATED_AT, null);
+    }
+
+    private static Product product(String id, CategoryId categoryId, long price, int stock, ProductStatus status,
+                                   int minutes) {
+        return Product.reconstitute(ProductId.of(id), ProductName.of("상품 " + id), null, Money.of(price),
+                Quantity.of(stock), categoryId, status, CREATED_AT.plusMinutes(minutes), null);
+    }
+
+    private static CategoryTree sampleTree() {
+        return CategoryTree.of(List.of(
+                category(ELECTRONICS, null),
+                category(COMPUTERS, ELECTRONICS),
+                category(PHONES, ELECTRONICS),
+                category(BOOKS, null)));
+    }
+
+    private static CatalogIndex sampleIndex() {
+        return CatalogIndex.build(List.of(
+                product("p1", COMPUTERS, 1_200_000, 5, ProductStatus.ON_SALE, 1),
+                product("p2", COMPUTERS, 800_000, 0, ProductStatus.OUT_OF_STOCK, 2),
+                product("p3", PHONES, 900_000, 3, ProductStatus.ON_SALE, 3),
+                product("p4", PHONES, 40_000, 10, ProductStatus.PENDING, 4),
+                product("p5", ELECTRONICS, 25_000, 1, ProductStatus.ON_SALE, 5),
+                product("p6", BOOKS, 15_000, 7, ProductStatus.ON_SALE, 6),
+                product("p7", BOOKS, 9_000, 0, ProductStatus.DISCONTINUED, 7)), sampleTree());
+    }
+
+    private static List<String> ids(CatalogResult result) {
+        return result.productIds().stream().map(ProductId::getValue).toList();
+    }
+
+    @Nested
+    @DisplayName("검색 테스트")
+    class SearchTest {
+
+        @Test
+        @DisplayName("카테고리 조건은 하위 카테고리 상품을 포함")
+        void category_includesDescendants() {
+            CatalogResult result = sampleIndex().search(CatalogQuery.builder()
+                    .categoryId(ELECTRONICS)
+                    .sort(CatalogSort.PRICE_ASC)
+                    .build());
+
+            assertEquals(5, result.total());
+            assertEquals(List.of("p5", "p4", "p2", "p3", "p1"), ids(result));
+        }
+
+        @Test
+        @DisplayName("상태, 가격, 재고 조건을 함께 적용")
+        void combinedFilters() {
+            CatalogResult result = sampleIndex().search(CatalogQuery.builder()
+                    .statuses(Set.of(ProductStatus.ON_SALE))
+                    .minPrice(Money.of(15_000))
+                    .maxPrice(Money.of(900_000))
+                    .inStockOnly(true)
+                    .sort(CatalogSort.PRICE_DESC)
+                    .build());
+
+            assertEquals(List.of("p3", "p5", "p6"), ids(result));
+        }
+
+        @Test
+        @DisplayName("기본 정렬은 최근 등록순, offset/limit 으로 페이지 선택")
+        void newest_paged() {
+            CatalogResult result = sampleIndex().search(CatalogQuery.builder().offset(2).limit(3).build());
+
+            assertEquals(7, result.total());
+            assertEquals(List.of("p5", "p4", "p3"), ids(result));
+        }
+
+        @Test
+        @DisplayName("조건별 상품 수는 해당 조건만 빼고 계산")
+        void facets_excludeOwnFilter() {
+            CatalogResult result = sampleIndex().search(CatalogQuery.builder()
+                    .categoryId(ELECTRONICS)
+                    .statuses(Set.of(ProductStatus.ON_SALE))
+                    .inStockOnly(true)
+                    .build());
+            CatalogResult.Facets facets = result.facets();
+
+            assertEquals(3, result.total());
+            assertEquals(3, facets.statuses().get(ProductStatus.ON_SALE));
+            assertEquals(1, facets.statuses().get(ProductStatus.PENDING));
+            assertEquals(0, facets.statuses().get(ProductStatus.OUT_OF_STOCK));
+            assertEquals(3, facets.inStock());
+            assertEquals(Map.of(COMPUTERS, 1L, PHONES, 1L), facets.categories());
+            assertEquals(List.of(COMPUTERS, PHONES), List.copyOf(facets.categories().keySet()));
+
+            List<CatalogResult.PriceBand> bands = facets.priceBands();
+            assertEquals(CatalogIndex.DEFAULT_PRICE_BANDS.size() + 1, bands.size());
+            assertNull(bands.get(0).from());
+            assertEquals(1, bands.get(1).count());  // 10,000 ~ 30,000
+            assertEquals(1, bands.get(5).count());  // 300,000 ~ 1,000,000
+            assertEquals(1, bands.get(6).count());  // 1,000,000 ~
+            assertNull(bands.get(6).to());
+        }
+
+        @Test
+        @DisplayName("없는 카테고리로 검색하면 예외")
+        void unknownCategory_throws() {
+            CatalogQuery query = CatalogQuery.builder().categoryId(CategoryId.of("unknown")).build();
+
+            assertThrows(CategoryNotFoundException.class, () -> sampleIndex().search(query));
+        }
+
+        @Test
+        @DisplayName("잘못된 조건이면 예외")
+        void invalidQuery_throws() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> CatalogQuery.builder().minPrice(Money.of(2)).maxPrice(Money.of(1)).build());
+            assertThrows(IllegalArgumentException.class, () -> CatalogQuery.builder().offset(-1).build());
+            assertThrows(IllegalArgumentException.class,
+                    () -> CatalogQuery.builder().limit(CatalogQuery.MAX_LIMIT + 1).build());
+            assertEquals(CatalogQuery.DEFAULT_LIMIT, CatalogQuery.all().limit());
+        }
+    }
+
+    @Nested
+    @DisplayName("무작위 비교 테스트")
+    class RandomTest {
+
+        @Test
+        @DisplayName("무작위 상품과 조건에서 전체 순회 결과와 같음")
+        void randomQueries_matchBruteForce() {
+            Random random = new Random(50);
+            List<Category> categories = new ArrayList<>();
+            for (int i = 0; i < 30; i++) {
+                CategoryId parent = i < 3 || random.nextInt(4) == 0
+                        ? null : categories.get(random.nextInt(categories.size())).getId();
+                categories.add(category(CategoryId.of("c" + i), parent));
+            }
+            CategoryTree tree = CategoryTree.of(categories);
+            ProductStatus[] statuses = ProductStatus.values();
+            List<Product> products = new ArrayList<>();
+            for (int i = 0; i < 6000; i++) {
+                CategoryId categoryId = random.nextInt(50) == 0
+                        ? CategoryId.of("outside") : categories.get(random.nextInt(categories.size())).getId();
+                products.add(product("p" + i, categoryId, 1000L * random.nextInt(1500), random.nextInt(3),
+                        statuses[random.nextInt(statuses.length)], random.nextInt(5000)));
+            }
+            CatalogIndex index = CatalogIndex.build(products, tree);
+
+            for (int q = 0; q < 300; q++) {
+                CatalogQuery.CatalogQueryBuilder builder = CatalogQuery.builder()
+                        .sort(CatalogSort.values()[random.nextInt(3)])
+                        .offset(random.nextInt(4) == 0 ? random.nextInt(300) : 0)
+                        .limit(1 + random.nextInt(50))
+                        .inStockOnly(random.nextBoolean());
+                if (random.nextBoolean()) {
+                    builder.categoryId(categories.get(random.nextInt(categories.size())).getId());
+                }
+                if (random.nextBoolean()) {
+                    Set<ProductStatus> selected = new HashSet<>();
+                    selected.add(statuses[random.nextInt(statuses.length)]);
+                    selected.add(statuses[random.nextInt(statuses.length)]);
+                    builder.statuses(selected);
+                }
+                long min = random.nextInt(3) == 0 ? -1 : 1000L * random.nextInt(1000);
+                long max = random.nextInt(3) == 0 ? -1 : Math.max(min, 0) + 1000L * random.nextInt(800);
+                if (min >= 0) {
+                    builder.minPrice(Money.of(min));
+                }
+                if (max >= 0) {
+                    builder.maxPrice(Money.of(max));
+                }
+                CatalogQuery query = builder.build();
+
+                assertMatchesBruteForce(tree, products, query, index.search(query));
+            }
+        }
+
+        private void assertMatchesBruteForce(CategoryTree tree, List<Product> products, CatalogQuery query,
+                                             CatalogResult result) {
+            Predicate<Product> category = p -> query.categoryId() == null
+                    || p.getCategoryId().equals(query.categoryId())
+                    || tree.isDescendant(p.getCategoryId(), query.categoryId());
+            Predicate<Product> status = p -> query.statuses().isEmpty() || query.statuses().contains(p.getStatus());
+            Predicate<Product> stock = p -> !query.inStockOnly() || p.getStockQuantity().isPositive();
+            Predicate<Product> price = p -> (query.minPrice() == null || p.getPrice().longValue() >= query.minPrice().longValue())
+                    && (query.maxPrice() == null || p.getPrice().longValue() <= query.maxPrice().longValue());
+
+            List<Product> matches = products.stream()
+                    .filter(category.and(status).and(stock).and(price))
+                    .toList();
+            assertEquals(matches.size(), result.total(), query.toString());
+
+            // 페이지: 같은 값의 순서는 인덱스가 정하므로 정렬 키와 결과 포함 여부로 비교
+            Comparator<Product> order = switch (query.sort()) {
+                case NEWEST -> Comparator.comparing(Product::getCreatedAt).reversed();
+                case PRICE_ASC -> Comparator.comparingLong(p -> p.getPrice().longValue());
+                case PRICE_DESC -> Comparator.<Product>comparingLong(p -> p.getPrice().longValue()).reversed();
+            };
+            List<Product> sorted = matches.stream().sorted(order).toList();
+            Map<ProductId, Product> byId = new HashMap<>();
+            matches.forEach(p -> byId.put(p.getId(), p));
+            int expectedSize = Math.max(0, Math.min(query.limit(), sorted.size() - query.offset()));
+            assertEquals(expectedSize, result.productIds().size(), query.toString());
+            assertEquals(expectedSize, new HashSet<>(result.productIds()).size());
+            for (int i = 0; i < expectedSize; i++) {
+                Product actual = byId.get(result.productIds().get(i));
+                assertNotNull(actual, query.toString());
+                assertEquals(0, order.compare(sorted.get(query.offset() + i), actual), query.toString());
+            }
+
+            Map<ProductStatus, Long> statusCounts = new EnumMap<>(ProductStatus.class);
+            for (ProductStatus s : ProductStatus.values()) {
+                statusCounts.put(s, products.stream()
+                        .filter(category.and(stock).and(price))
+                        .filter(p -> p.getStatus() == s)
+                        .count());
+            }
+            assertEquals(statusCounts, result.facets().statuses(), query.toString());
+            assertEquals(products.stream().filter(category.and(status).and(price))
+                            .filter(p -> p.getStockQuantity().isPositive()).count(),
+                    result.facets().inStock(), query.toString());
+
+            List<CatalogResult.PriceBand> bands = result.facets().priceBands();
+            for (CatalogResult.PriceBand band : bands) {
+                long expected = products.stream()
+                        .filter(category.and(status).and(stock))
+                        .filter(p -> band.from() == null || p.getPrice().longValue() >= band.from().longValue())
+                        .filter(p -> band.to() == null || p.getPrice().longValue() < band.to().longValue())
+                        .count();
+                assertEquals(expected, band.count(), query.toString());
+            }
+
+            List<CategoryId> facetCategories = query.categoryId() != null
+                    ? tree.children(query.categoryId()) : tree.roots();
+            assertEquals(facetCategories, List.copyOf(result.facets().categories().keySet()));
+            for (CategoryId child : facetCategories) {
+                long expected = matches.stream()
+                        .filter(p -> p.getCategoryId().equals(child) || tree.isDescendant(p.getCategoryId(), child))
+                        .count();
+                assertEquals(expected, result.facets().categories().get(child), query.toString());
+            }
+        }
+    }
+}
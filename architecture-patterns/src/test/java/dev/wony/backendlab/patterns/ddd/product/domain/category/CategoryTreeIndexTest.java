@@ -0,0 +1,166 @@
+package dev.wony.backendlab.patterns.ddd.product.domain.category;
+
+import dev.wony.backendlab.patterns.ddd.product.domain.entity.Category;
+import dev.wony.backendlab.patterns.ddd.product.domain.entity.Product;
+import dev.wony.backendlab.patterns.ddd.product.domain.event.DomainEvent;
+import dev.wony.backendlab.patterns.ddd.product.domain.vo.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CategoryTreeIndex 테스트")
+class CategoryTreeIndexTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+    private static final CategoryId ELECTRONICS = CategoryId.of("electronics");
+    private static final CategoryId COMPUTERS = CategoryId.of("computers");
+    private static final CategoryId LAPTOPS = CategoryId.of("laptops");
+    private static final CategoryId PHONES = CategoryId.of("phones");
+    private static final CategoryId BOOKS = CategoryId.of("books");
+
+    private CategoryTreeIndex index;
+
+    private static Category category(CategoryId id, CategoryId parentId) {
+        return Category.reconstitute(id, id.getValue(), null, parentId, 0, true, CREATED_AT, null);
+    }
+
+    private static Product product(CategoryId categoryId) {
+        return Product.create(ProductName.of("테스트 상품"), "설명", Money.of(1000), Quantity.of(1), categoryId);
+    }
+
+    @BeforeEach
+    void setUp() {
+        CategoryTree tree = CategoryTree.of(List.of(
+                category(ELECTRONICS, null),
+                category(COMPUTERS, ELECTRONICS),
+                category(LAPTOPS, COMPUTERS),
+                category(PHONES, ELECTRONICS),
+                category(BOOKS, null)));
+        index = new CategoryTreeIndex(tree, Map.of(LAPTOPS, 3L, COMPUTERS, 1L, PHONES, 2L, BOOKS, 5L));
+    }
+
+    @Nested
+    @DisplayName("상품 수 테스트")
+    class ProductCountTest {
+
+        @Test
+        @DisplayName("서브트리 상품 수는 하위 카테고리를 포함")
+        void productCount_includesDescendants() {
+            assertEquals(6, index.productCount(ELECTRONICS));
+            assertEquals(4, index.productCount(COMPUTERS));
+            assertEquals(3, index.productCount(LAPTOPS));
+            assertEquals(5, index.productCount(BOOKS));
+            assertEquals(1, index.directProductCount(COMPUTERS));
+        }
+
+        @Test
+        @DisplayName("상품 생성/카테고리 변경 이벤트로 갱신")
+        void onEvents_updatesCounts() {
+            Product product = product(LAPTOPS);
+            product.changeCategory(BOOKS);
+            Product other = product(PHONES);
+            List<DomainEvent> events = new ArrayList<>(product.pullDomainEvents());
+            events.addAll(other.pullDomainEvents());
+
+            index.onEvents(events);
+
+            assertEquals(7, index.productCount(ELECTRONICS));
+            assertEquals(3, index.productCount(LAPTOPS));
+            assertEquals(6, index.productCount(BOOKS));
+        }
+
+        @Test
+        @DisplayName("카테고리를 옮기면 상품 수도 함께 이동")
+        void apply_movesCounts() {
+            index.apply(category(COMPUTERS, BOOKS));
+
+            assertEquals(2, index.productCount(ELECTRONICS));
+            assertEquals(9, index.productCount(BOOKS));
+
+            index.adjustProductCount(LAPTOPS, -1);
+            assertEquals(8, index.productCount(BOOKS));
+        }
+
+        @Test
+        @DisplayName("트리에 없는 카테고리의 상품 수는 카테고리가 추가되면 반영")
+        void unknownCategory_countedAfterAdded() {
+            CategoryId tablets = CategoryId.of("tablets");
+            index.adjustProductCount(tablets, 4);
+            assertEquals(6, index.productCount(ELECTRONICS));
+
+            index.apply(category(tablets, ELECTRONICS));
+
+            assertEquals(10, index.productCount(ELECTRONICS));
+        }
+    }
+
+    @Nested
+    @DisplayName("변경 테스트")
+    class ChangeTest {
+
+        @Test
+        @DisplayName("순환 참조가 생기는 변경은 거부하고 기존 트리를 유지")
+        void apply_cycle_keepsTree() {
+            CategoryTree before = index.tree();
+
+            assertThrows(IllegalArgumentException.class, () -> index.apply(category(ELECTRONICS, LAPTOPS)));
+
+            assertSame(before, index.tree());
+            assertEquals(6, index.productCount(ELECTRONICS));
+        }
+
+        @Test
+        @DisplayName("변경할 때마다 버전 증가")
+        void apply_increasesVersion() {
+            long version = index.tree().version();
+
+            index.apply(category(CategoryId.of("tablets"), COMPUTERS));
+            index.remove(CategoryId.of("tablets"));
+
+            assertEquals(version + 2, index.tree().version());
+        }
+
+        @Test
+        @DisplayName("동시에 상품 수를 갱신해도 합계가 맞음")
+        void concurrentUpdates_consistent() throws Exception {
+            ExecutorService executor = Executors.newFixedThreadPool(4);
+            try {
+                List<Future<?>> futures = new ArrayList<>();
+                for (int t = 0; t < 4; t++) {
+                    futures.add(executor.submit(() -> {
+                        for (int i = 0; i < 1000; i++) {
+                            index.adjustProductCount(LAPTOPS, 1);
+                            assertTrue(index.productCount(LAPTOPS) > 3);
+                        }
+                    }));
+                }
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 100; i++) {
+                        index.apply(category(COMPUTERS, i % 2 == 0 ? BOOKS : ELECTRONICS));
+                    }
+                }));
+                for (Future<?> future : futures) {
+                    future.get(10, TimeUnit.SECONDS);
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+
+            assertEquals(4006, index.productCount(ELECTRONICS));
+            assertEquals(5, index.productCount(BOOKS));
+        }
+    }
+}
@@ -0,0 +1,271 @@
+package dev.wony.backendlab.patterns.ddd.product.domain.category;
+
+import dev.wony.backendlab.patterns.ddd.product.domain.entity.Category;
+import dev.wony.backendlab.patterns.ddd.product.domain.repository.CategoryRepository.CategoryNotFoundException;
+import dev.wony.backendlab.patterns.ddd.product.domain.vo.CategoryId;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CategoryTree 테스트")
+class CategoryTreeTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+    private static Category category(String id, String parentId) {
+        return Category.reconstitute(CategoryId.of(id), id, null, parentId == null ? null : CategoryId.of(parentId),
+                0, true, CREATED_AT, null);
+    }
+
+    private static List<CategoryId> ids(String... values) {
+        return Arrays.stream(values).map(CategoryId::of).toList();
+    }
+
+    /**
+     * electronics ─┬─ computers ─┬─ laptops
+     *              │             └─ desktops
+     *              └─ phones
+     * books
+     */
+    private static CategoryTree sampleTree() {
+        return CategoryTree.of(List.of(
+                category("electronics", null),
+                category("computers", "electronics"),
+                category("laptops", "computers"),
+                category("desktops", "computers"),
+                category("phones", "electronics"),
+                category("books", null)));
+    }
+
+    @Nested
+    @DisplayName("질의 테스트")
+    class QueryTest {
+
+        @Test
+        @DisplayName("하위 카테고리는 전위 순회 순서")
+        void descendants_preOrder() {
+            CategoryTree tree = sampleTree();
+
+            assertEquals(ids("computers", "laptops", "desktops", "phones"), tree.descendants(CategoryId.of("electronics")));
+            assertEquals(List.of(), tree.descendants(CategoryId.of("books")));
+            assertEquals(5, tree.subtreeSize(CategoryId.of("electronics")));
+        }
+
+        @Test
+        @DisplayName("조상 경로는 최상위부터")
+        void ancestors_fromRoot() {
+            CategoryTree tree = sampleTree();
+
+            assertEquals(ids("electronics", "computers"), tree.ancestors(CategoryId.of("laptops")));
+            assertEquals(List.of(), tree.ancestors(CategoryId.of("books")));
+            assertEquals(2, tree.depthOf(CategoryId.of("desktops")));
+            assertEquals(CategoryId.of("computers"), tree.parentOf(CategoryId.of("laptops")).orElseThrow());
+            assertTrue(tree.parentOf(CategoryId.of("electronics")).isEmpty());
+        }
+
+        @Test
+        @DisplayName("바로 아래 하위 카테고리와 최상위 카테고리")
+        void childrenAndRoots() {
+            CategoryTree tree = sampleTree();
+
+            assertEquals(ids("computers", "phones"), tree.children(CategoryId.of("electronics")));
+            assertEquals(List.of(), tree.children(CategoryId.of("laptops")));
+            assertEquals(ids("electronics", "books"), tree.roots());
+        }
+
+        @Test
+        @DisplayName("하위 카테고리 여부")
+        void isDescendant() {
+            CategoryTree tree = sampleTree();
+
+            assertTrue(tree.isDescendant(CategoryId.of("laptops"), CategoryId.of("electronics")));
+            assertFalse(tree.isDescendant(CategoryId.of("electronics"), CategoryId.of("laptops")));
+            assertFalse(tree.isDescendant(CategoryId.of("phones"), CategoryId.of("computers")));
+            assertFalse(tree.isDescendant(CategoryId.of("books"), CategoryId.of("books")));
+            assertFalse(tree.isDescendant(CategoryId.of("unknown"), CategoryId.of("books")));
+        }
+
+        @Test
+        @DisplayName("없는 카테고리를 조회하면 예외")
+        void unknown_throws() {
+            assertThrows(CategoryNotFoundException.class, () -> sampleTree().descendants(CategoryId.of("unknown")));
+        }
+    }
+
+    @Nested
+    @DisplayName("생성 테스트")
+    class BuildTest {
+
+        @Test
+        @DisplayName("순환 참조가 있으면 예외")
+        void cycle_rejected() {
+            assertThrows(IllegalArgumentException.class, () -> CategoryTree.of(List.of(
+                    category("root", null),
+                    category("a", "b"),
+                    category("b", "a"))));
+        }
+
+        @Test
+        @DisplayName("상위 카테고리가 없으면 예외")
+        void missingParent_rejected() {
+            assertThrows(IllegalArgumentException.class, () -> CategoryTree.of(List.of(category("a", "missing"))));
+        }
+
+        @Test
+        @DisplayName("빈 트리는 버전 0, 생성한 트리는 버전 1")
+        void versions() {
+            assertEquals(0, CategoryTree.empty().version());
+            assertEquals(0, CategoryTree.empty().size());
+            assertEquals(1, sampleTree().version());
+        }
+    }
+
+    @Nested
+    @DisplayName("변경 테스트")
+    class ChangeTest {
+
+        @Test
+        @DisplayName("추가하면 새 버전이 만들어지고 기존 스냅샷은 그대로")
+        void with_append() {
+            CategoryTree tree = sampleTree();
+
+            CategoryTree next = tree.with(category("tablets", "computers"));
+
+            assertEquals(2, next.version());
+            assertEquals(ids("computers", "laptops", "desktops", "tablets", "phones"),
+                    next.descendants(CategoryId.of("electronics")));
+            assertFalse(tree.contains(CategoryId.of("tablets")));
+            assertEquals(4, tree.descendants(CategoryId.of("electronics")).size());
+        }
+
+        @Test
+        @DisplayName("상위 카테고리를 옮기면 서브트리가 함께 이동")
+        void with_moveSubtree() {
+            CategoryTree tree = sampleTree().with(category("computers", "books"));
+
+            assertEquals(ids("phones"), tree.descendants(CategoryId.of("electronics")));
+            assertEquals(ids("computers", "laptops", "desktops"), tree.descendants(CategoryId.of("books")));
+            assertEquals(ids("books", "computers"), tree.ancestors(CategoryId.of("laptops")));
+            assertEquals(2, tree.depthOf(CategoryId.of("laptops")));
+        }
+
+        @Test
+        @DisplayName("자신의 하위 카테고리 아래로 옮기면 예외")
+        void with_cycle_rejected() {
+            CategoryTree tree = sampleTree();
+
+            assertFalse(tree.canMoveUnder(CategoryId.of("electronics"), CategoryId.of("laptops")));
+            assertTrue(tree.canMoveUnder(CategoryId.of("laptops"), CategoryId.of("books")));
+            assertThrows(IllegalArgumentException.class, () -> tree.with(category("electronics", "laptops")));
+        }
+
+        @Test
+        @DisplayName("상위 카테고리가 같으면 같은 스냅샷")
+        void with_sameParent_unchanged() {
+            CategoryTree tree = sampleTree();
+
+            assertSame(tree, tree.with(category("laptops", "computers")));
+        }
+
+        @Test
+        @DisplayName("하위 카테고리가 있으면 제거할 수 없음")
+        void without_rejectsInnerNode() {
+            CategoryTree tree = sampleTree();
+
+            assertThrows(IllegalStateException.class, () -> tree.without(CategoryId.of("computers")));
+
+            CategoryTree next = tree.without(CategoryId.of("laptops"));
+            assertEquals(ids("computers", "desktops", "phones"), next.descendants(CategoryId.of("electronics")));
+            assertSame(next, next.without(CategoryId.of("laptops")));
+        }
+
+        @Test
+        @DisplayName("무작위 추가/이동/제거 후에도 상위 관계로 계산한 결과와 같음")
+        void randomChanges_matchParentModel() {
+            Random random = new Random(49);
+            Map<String, String> parents = new HashMap<>();
+            List<String> names = new ArrayList<>();
+            CategoryTree tree = CategoryTree.empty();
+
+            for (int step = 0; step < 2000; step++) {
+                int action = random.nextInt(10);
+                if (names.isEmpty() || action < 5) {
+                    String name = "c" + step;
+                    String parent = names.isEmpty() || random.nextInt(5) == 0
+                            ? null : names.get(random.nextInt(names.size()));
+                    tree = tree.with(category(name, parent));
+                    parents.put(name, parent);
+                    names.add(name);
+                } else if (action < 8) {
+                    String name = names.get(random.nextInt(names.size()));
+                    String parent = random.nextInt(5) == 0 ? null : names.get(random.nextInt(names.size()));
+                    if (parent != null && (parent.equals(name) || isAncestor(parents, name, parent))) {
+                        CategoryTree current = tree;
+                        if (!parent.equals(name)) {
+                            assertThrows(IllegalArgumentException.class,
+                                    () -> current.with(category(name, parent)));
+                        }
+                        continue;
+                    }
+                    tree = tree.with(category(name, parent));
+                    parents.put(name, parent);
+                } else {
+                    String name = names.get(random.nextInt(names.size()));
+                    if (parents.containsValue(name)) {
+                        continue;
+                    }
+                    tree = tree.without(CategoryId.of(name));
+                    parents.remove(name);
+                    names.remove(name);
+                }
+            }
+
+            assertEquals(names.size(), tree.size());
+            for (String name : names) {
+                CategoryId id = CategoryId.of(name);
+                Set<String> expected = new HashSet<>();
+                for (String other : names) {
+                    if (isAncestor(parents, name, other)) {
+                        expected.add(other);
+                    }
+                }
+                Set<String> actual = new HashSet<>();
+                tree.descendants(id).forEach(descendant -> actual.add(descendant.getValue()));
+                assertEquals(expected, actual, name);
+                assertEquals(expected.size() + 1, tree.subtreeSize(id));
+
+                List<CategoryId> path = new ArrayList<>();
+                for (String p = parents.get(name); p != null; p = parents.get(p)) {
+                    path.add(0, CategoryId.of(p));
+                }
+                assertEquals(path, tree.ancestors(id));
+                assertEquals(path.size(), tree.depthOf(id));
+                assertEquals(id, tree.categoryAt(tree.position(id)));
+            }
+        }
+
+        /**
+         * {@code ancestor}가 {@code node}의 (자신이 아닌) 조상인지
+         */
+        private static boolean isAncestor(Map<String, String> parents, String ancestor, String node) {
+            for (String p = parents.get(node); p != null; p = parents.get(p)) {
+                if (p.equals(ancestor)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package dev.wony.backendlab.patterns.ddd.product.domain.entity;
 
 import dev.wony.backendlab.patterns.ddd.product.domain.event.DomainEvent;
+import dev.wony.backendlab.patterns.ddd.product.domain.event.ProductCategoryChangedEvent;
 import dev.wony.backendlab.patterns.ddd.product.domain.event.ProductCreatedEvent;
 import dev.wony.backendlab.patterns.ddd.product.domain.event.ProductPriceChangedEvent;
 import dev.wony.backendlab.patterns.ddd.product.domain.event.ProductStockChangedEvent;
@@ -10,6 +11,8 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -67,6 +70,104 @@ class ProductTest {
         }
     }
 
+    @Nested
+    @DisplayName("상품 복원 테스트")
+    class ReconstituteTest {
+
+        @Test
+        @DisplayName("저장된 상태와 생성/수정 시각을 그대로 복원")
+        void reconstitute_keepsStoredState() {
+            ProductId id = ProductId.generate();
+            LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 9, 0);
+            LocalDateTime updatedAt = LocalDateTime.of(2024, 6, 1, 18, 30);
+
+            Product product = Product.reconstitute(id, name, "설명", price, stockQuantity, categoryId,
+                    ProductStatus.ON_SALE, createdAt, updatedAt);
+
+            assertEquals(id, product.getId());
+            assertEquals(ProductStatus.ON_SALE, product.getStatus());
+            assertEquals(createdAt, product.getCreatedAt());
+            assertEquals(updatedAt, product.getUpdatedAt());
+            assertTrue(product.pullDomainEvents().isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("이벤트 재생 테스트")
+    class ReplayTest {
+
+        @Test
+        @DisplayName("발행한 이벤트를 재생하면 같은 상태로 복원")
+        void replay_allEvents_restoresSameState() {
+            Product product = Product.create(name, "설명", price, Quantity.of(2), categoryId);
+            product.startSelling();
+            product.changePrice(Money.of(9000));
+            product.decreaseStock(Quantity.of(2));
+            product.addStock(Quantity.of(5));
+            product.updateInfo(ProductName.of("새 상품명"), "새 설명");
+            product.changeCategory(CategoryId.generate());
+            product.discontinue();
+            List<DomainEvent> events = product.pullDomainEvents();
+
+            Product replayed = Product.replay(null, events);
+
+            assertEquals(product.getId(), replayed.getId());
+            assertEquals(product.getName(), replayed.getName());
+            assertEquals(product.getDescription(), replayed.getDescription());
+            assertEquals(product.getPrice(), replayed.getPrice());
+            assertEquals(product.getStockQuantity(), replayed.getStockQuantity());
+            assertEquals(product.getCategoryId(), replayed.getCategoryId());
+            assertEquals(ProductStatus.DISCONTINUED, replayed.getStatus());
+            assertEquals(events.size(), replayed.getVersion());
+            assertEquals(events.get(events.size() - 1).getOccurredAt(), replayed.getUpdatedAt());
+        }
+
+        @Test
+        @DisplayName("재고 이벤트 재생 시 품절과 판매 재개도 복원")
+        void replay_stockEvents_restoresDerivedStatus() {
+            Product product = Product.create(name, "설명", price, Quantity.of(1), categoryId);
+            product.startSelling();
+            product.decreaseStock(Quantity.of(1));
+            List<DomainEvent> soldOut = product.pullDomainEvents();
+
+            assertEquals(ProductStatus.OUT_OF_STOCK, Product.replay(null, soldOut).getStatus());
+
+            product.addStock(Quantity.of(3));
+            Product restocked = Product.replay(null, concat(soldOut, product.pullDomainEvents()));
+            assertEquals(ProductStatus.ON_SALE, restocked.getStatus());
+        }
+
+        @Test
+        @DisplayName("스냅샷 이후 이벤트만 재생")
+        void replay_fromSnapshot_appliesTail() {
+            Product product = Product.create(name, "설명", price, stockQuantity, categoryId);
+            product.markCommitted(product.pullDomainEvents().size());
+            ProductSnapshot snapshot = product.toSnapshot();
+            product.addStock(Quantity.of(10));
+
+            Product replayed = Product.replay(snapshot, product.pullDomainEvents());
+
+            assertEquals(Quantity.of(110), replayed.getStockQuantity());
+            assertEquals(2, replayed.getVersion());
+        }
+
+        @Test
+        @DisplayName("생성 이벤트 없이 시작하는 스트림은 예외")
+        void replay_withoutCreatedEvent_throwsException() {
+            Product product = Product.create(name, "설명", price, stockQuantity, categoryId);
+            product.pullDomainEvents();
+            product.addStock(Quantity.of(1));
+
+            assertThrows(IllegalArgumentException.class, () -> Product.replay(null, product.pullDomainEvents()));
+        }
+
+        private List<DomainEvent> concat(List<DomainEvent> first, List<DomainEvent> second) {
+            List<DomainEvent> all = new ArrayList<>(first);
+            all.addAll(second);
+            return all;
+        }
+    }
+
     @Nested
     @DisplayName("상태 변경 테스트")
     class StatusChangeTest {
@@ -156,6 +257,41 @@ class ProductTest {
         }
     }
 
+    @Nested
+    @DisplayName("카테고리 변경 테스트")
+    class CategoryChangeTest {
+
+        @Test
+        @DisplayName("카테고리 변경시 이벤트 발행")
+        void changeCategory_emitsCategoryChangedEvent() {
+            Product product = Product.create(name, "설명", price, stockQuantity, categoryId);
+            product.pullDomainEvents();
+            CategoryId newCategoryId = CategoryId.generate();
+
+            product.changeCategory(newCategoryId);
+
+            assertEquals(newCategoryId, product.getCategoryId());
+            List<DomainEvent> events = product.pullDomainEvents();
+            assertEquals(1, events.size());
+            ProductCategoryChangedEvent event = assertInstanceOf(ProductCategoryChangedEvent.class, events.get(0));
+            assertEquals(categoryId, event.getPreviousCategoryId());
+            assertEquals(newCategoryId, event.getCurrentCategoryId());
+        }
+
+        @Test
+        @DisplayName("같은 카테고리로 변경시 수정 시각 유지, 이벤트 미발행")
+        void changeCategory_sameCategory_noChange() {
+            Product product = Product.create(name, "설명", price, stockQuantity, categoryId);
+            product.pullDomainEvents();
+            LocalDateTime updatedAt = product.getUpdatedAt();
+
+            product.changeCategory(CategoryId.of(categoryId.getValue()));
+
+            assertEquals(updatedAt, product.getUpdatedAt());
+            assertTrue(product.pullDomainEvents().isEmpty());
+        }
+    }
+
     @Nested
     @DisplayName("재고 관리 테스트")
     class StockManagementTest {
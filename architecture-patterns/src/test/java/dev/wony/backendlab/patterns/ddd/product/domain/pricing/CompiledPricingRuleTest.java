@@ -0,0 +1,333 @@
+package dev.wony.backendlab.patterns.ddd.product.domain.pricing;
+
+import dev.wony.backendlab.patterns.ddd.product.domain.entity.Product;
+import dev.wony.backendlab.patterns.ddd.product.domain.pricing.PricingRule.Tier;
+import dev.wony.backendlab.patterns.ddd.product.domain.service.BatchPricingEngine;
+import dev.wony.backendlab.patterns.ddd.product.domain.service.PriceAdjustment;
+import dev.wony.backendlab.patterns.ddd.product.domain.vo.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CompiledPricingRule 테스트")
+class CompiledPricingRuleTest {
+
+    private static final Instant NOW = Instant.parse("2026-11-27T10:00:00Z");
+    private static final Clock CLOCK = Clock.fixed(NOW, ZoneOffset.UTC);
+
+    private static final CategoryId ELECTRONICS = CategoryId.of("electronics");
+    private static final CategoryId BOOKS = CategoryId.of("books");
+
+    private static PricingContext context(CategoryId categoryId, int quantity) {
+        return new PricingContext(categoryId, quantity, NOW.toEpochMilli());
+    }
+
+    private static Money priceOf(PricingRule rule, long unitPrice, PricingContext context) {
+        return CompiledPricingRule.compile(rule, CLOCK).price(Money.of(unitPrice), context);
+    }
+
+    @Nested
+    @DisplayName("규칙별 테스트")
+    class RuleTest {
+
+        @Test
+        @DisplayName("순차 적용 - 정률 후 정액")
+        void stack_appliesInOrder() {
+            PricingRule rule = PricingRule.stack(PricingRule.percentOff(10), PricingRule.amountOff(Money.of(1000)));
+
+            assertEquals(Money.of(17_000), priceOf(rule, 10_000, context(BOOKS, 2)));
+        }
+
+        @Test
+        @DisplayName("최저가 선택 - 더 큰 할인 적용")
+        void bestOf_picksLowestPrice() {
+            PricingRule rule = PricingRule.bestOf(PricingRule.percentOff(10), PricingRule.amountOff(Money.of(5000)));
+
+            assertEquals(Money.of(15_000), priceOf(rule, 10_000, context(BOOKS, 2)));
+            assertEquals(Money.of(90_000), priceOf(rule, 10_000, context(BOOKS, 10)));
+        }
+
+        @Test
+        @DisplayName("할인 상한 - 상한을 넘는 할인은 잘림")
+        void capped_limitsDiscount() {
+            PricingRule rule = PricingRule.capped(Money.of(3000), PricingRule.percentOff(50));
+
+            assertEquals(Money.of(17_000), priceOf(rule, 10_000, context(BOOKS, 2)));
+            assertEquals(Money.of(2_000), priceOf(rule, 2_000, context(BOOKS, 2)));
+        }
+
+        @Test
+        @DisplayName("수량 구간 - 도달한 가장 높은 구간 적용")
+        void tiered_appliesHighestReachedTier() {
+            PricingRule rule = PricingRule.tiered(List.of(new Tier(50, 15), new Tier(10, 5)));
+
+            assertEquals(Money.of(9_000), priceOf(rule, 1000, context(BOOKS, 9)));
+            assertEquals(Money.of(9_500), priceOf(rule, 1000, context(BOOKS, 10)));
+            assertEquals(Money.of(85_000), priceOf(rule, 1000, context(BOOKS, 100)));
+        }
+
+        @Test
+        @DisplayName("카테고리 조건 - 대상 카테고리에만 적용")
+        void forCategories_appliesOnlyToTargets() {
+            PricingRule rule = PricingRule.forCategories(Set.of(ELECTRONICS), PricingRule.percentOff(20));
+
+            assertEquals(Money.of(8_000), priceOf(rule, 10_000, context(ELECTRONICS, 1)));
+            assertEquals(Money.of(10_000), priceOf(rule, 10_000, context(BOOKS, 1)));
+        }
+
+        @Test
+        @DisplayName("기간 조건 - 시작 포함, 종료 미포함")
+        void during_appliesWithinWindow() {
+            PricingRule rule = PricingRule.during(NOW, NOW.plus(Duration.ofHours(1)), PricingRule.percentOff(20));
+            CompiledPricingRule compiled = CompiledPricingRule.compile(rule, CLOCK);
+
+            long end = NOW.plus(Duration.ofHours(1)).toEpochMilli();
+            assertEquals(Money.of(8_000), compiled.price(Money.of(10_000), context(BOOKS, 1)));
+            assertEquals(Money.of(10_000), compiled.price(Money.of(10_000), new PricingContext(BOOKS, 1, end)));
+        }
+
+        @Test
+        @DisplayName("PricingPolicy 로 사용 - Clock 기준 시각과 상품 카테고리 사용")
+        void calculatePrice_usesClockAndProductCategory() {
+            PricingRule rule = PricingRule.stack(
+                    PricingRule.forCategories(Set.of(ELECTRONICS), PricingRule.percentOff(10)),
+                    PricingRule.during(NOW.minusSeconds(60), NOW.plusSeconds(60), PricingRule.amountOff(Money.of(500))));
+            Product product = Product.create(ProductName.of("노트북"), "설명", Money.of(10_000), Quantity.of(10),
+                    ELECTRONICS);
+
+            Money price = CompiledPricingRule.compile(rule, CLOCK).calculatePrice(product, Quantity.of(3));
+
+            assertEquals(Money.of(26_500), price);
+        }
+
+        @Test
+        @DisplayName("가격 조정 단계 - 트리 안에서 다른 규칙과 함께 적용")
+        void step_appliesPriceAdjustment() {
+            PricingRule rule = PricingRule.stack(
+                    PricingRule.step(PriceAdjustment.bulkDiscount(10, 20)),
+                    PricingRule.amountOff(Money.of(1000)));
+
+            assertEquals(Money.of(79_000), priceOf(rule, 10_000, context(BOOKS, 10)));
+            assertEquals(Money.of(29_000), priceOf(rule, 10_000, context(BOOKS, 3)));
+        }
+
+        @Test
+        @DisplayName("가격 조정으로 사용 - 배열 단위 계산도 같은 결과")
+        void adjustment_usedByBatchPricingEngine() {
+            PricingRule rule = PricingRule.bestOf(
+                    PricingRule.forCategories(Set.of(ELECTRONICS), PricingRule.percentOff(15)),
+                    PricingRule.minQuantity(5, PricingRule.amountOff(Money.of(3000))));
+            CompiledPricingRule compiled = CompiledPricingRule.compile(rule, CLOCK);
+            long[] unitPrices = {10_000, 2_000, 50_000};
+            int[] quantities = {1, 5, 10};
+
+            long[] prices = new BatchPricingEngine(List.of(compiled.adjustment(ELECTRONICS, NOW.toEpochMilli())))
+                    .price(unitPrices, quantities);
+
+            for (int i = 0; i < prices.length; i++) {
+                assertEquals(compiled.price(Money.of(unitPrices[i]), context(ELECTRONICS, quantities[i])),
+                        Money.of(prices[i]));
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("컴파일 테스트")
+    class CompilationTest {
+
+        @Test
+        @DisplayName("효과 없는 규칙은 명령을 만들지 않음")
+        void compile_noOpRules_emptyProgram() {
+            PricingRule rule = PricingRule.stack(
+                    PricingRule.percentOff(0),
+                    PricingRule.amountOff(Money.ZERO),
+                    PricingRule.bestOf(),
+                    PricingRule.forCategories(Set.of(BOOKS), PricingRule.stack()),
+                    PricingRule.capped(Money.of(100), PricingRule.percentOff(0)),
+                    PricingRule.tiered(List.of(new Tier(10, 0))));
+
+            CompiledPricingRule compiled = CompiledPricingRule.compile(rule, CLOCK);
+
+            assertEquals(0, compiled.programSize(BOOKS, NOW.toEpochMilli()));
+            assertEquals(Money.of(30_000), compiled.price(Money.of(10_000), context(BOOKS, 3)));
+        }
+
+        @Test
+        @DisplayName("연속된 정액 할인과 정액 할인의 상한은 명령 하나로 합침")
+        void compile_amountChain_mergedIntoSingleInstruction() {
+            PricingRule rule = PricingRule.stack(
+                    PricingRule.amountOff(Money.of(1000)),
+                    PricingRule.amountOff(Money.of(2000)),
+                    PricingRule.capped(Money.of(5000), PricingRule.amountOff(Money.of(7000))));
+
+            CompiledPricingRule compiled = CompiledPricingRule.compile(rule, CLOCK);
+
+            assertEquals(2, compiled.programSize(BOOKS, NOW.toEpochMilli()));
+            assertEquals(Money.of(22_000), compiled.price(Money.of(10_000), context(BOOKS, 3)));
+            assertEquals(Money.ZERO, compiled.price(Money.of(1_000), context(BOOKS, 3)));
+        }
+
+        @Test
+        @DisplayName("기간 조건은 구간별 명령열로 풀어 둠")
+        void compile_timeWindows_resolvedPerSegment() {
+            PricingRule rule = PricingRule.during(NOW, NOW.plusSeconds(60), PricingRule.percentOff(10));
+
+            CompiledPricingRule compiled = CompiledPricingRule.compile(rule, CLOCK);
+
+            assertEquals(2, compiled.programSize(BOOKS, NOW.toEpochMilli()));
+            assertEquals(0, compiled.programSize(BOOKS, NOW.toEpochMilli() - 1));
+            assertEquals(0, compiled.programSize(BOOKS, NOW.plusSeconds(60).toEpochMilli()));
+        }
+
+        @Test
+        @DisplayName("구간 조합이 너무 많으면 기간 조건을 평가 시에 판단")
+        void compile_tooManySegments_keepsTimeGuards() {
+            Random random = new Random(4747);
+            PricingRule[] windows = new PricingRule[CompiledPricingRule.MAX_PROGRAMS / 2 + 1];
+            for (int i = 0; i < windows.length; i++) {
+                Instant from = NOW.plusSeconds(i * 10L);
+                windows[i] = PricingRule.during(from, from.plusSeconds(15), PricingRule.amountOff(Money.of(1 + i % 7)));
+            }
+            PricingRule rule = PricingRule.stack(windows);
+            CompiledPricingRule compiled = CompiledPricingRule.compile(rule, CLOCK);
+
+            for (int i = 0; i < 1_000; i++) {
+                PricingContext context = new PricingContext(BOOKS, 1 + random.nextInt(5),
+                        NOW.toEpochMilli() + random.nextInt(windows.length * 10_000 + 10_000) - 5_000);
+                Money unitPrice = Money.of(random.nextInt(100_000));
+
+                assertEquals(rule.price(unitPrice, context), compiled.price(unitPrice, context));
+            }
+        }
+
+        @Test
+        @DisplayName("다른 컴파일된 규칙을 단계로 넣어도 슬롯을 함께 쓰지 않음")
+        void compile_nestedCompiledStep_usesOwnSlots() {
+            PricingRule inner = PricingRule.bestOf(PricingRule.percentOff(10),
+                    PricingRule.capped(Money.of(500), PricingRule.percentOff(50)));
+            PriceAdjustment innerStep = CompiledPricingRule.compile(inner, CLOCK).adjustment(BOOKS, NOW.toEpochMilli());
+            PricingRule rule = PricingRule.bestOf(
+                    PricingRule.capped(Money.of(2000), PricingRule.stack(PricingRule.step(innerStep),
+                            PricingRule.percentOff(30))),
+                    PricingRule.amountOff(Money.of(100)));
+
+            CompiledPricingRule compiled = CompiledPricingRule.compile(rule, CLOCK);
+
+            for (int unitPrice : new int[]{1_000, 10_000, 100_000}) {
+                assertEquals(rule.price(Money.of(unitPrice), context(BOOKS, 2)),
+                        compiled.price(Money.of(unitPrice), context(BOOKS, 2)));
+            }
+        }
+
+        @Test
+        @DisplayName("long 범위를 넘으면 트리 평가 결과로 계산")
+        void price_overflow_fallsBackToTree() {
+            PricingRule rule = PricingRule.stack(PricingRule.percentOff(10), PricingRule.amountOff(Money.of(1)));
+            Money unitPrice = Money.of(Long.MAX_VALUE / 2);
+
+            Money price = CompiledPricingRule.compile(rule, CLOCK).price(unitPrice, context(BOOKS, 3));
+
+            assertEquals(rule.price(unitPrice, context(BOOKS, 3)), price);
+            assertFalse(price.fitsInLong());
+        }
+
+        @Test
+        @DisplayName("무작위 규칙 트리 - 트리 평가와 같은 결과")
+        void price_randomRuleTrees_matchesTreeEvaluation() {
+            Random random = new Random(47);
+            List<CategoryId> categories = List.of(ELECTRONICS, BOOKS, CategoryId.of("food"));
+            for (int round = 0; round < 500; round++) {
+                PricingRule rule = randomRule(random, 3, categories);
+                CompiledPricingRule compiled = CompiledPricingRule.compile(rule, CLOCK);
+
+                for (int i = 0; i < 20; i++) {
+                    Money unitPrice = Money.of(random.nextInt(2_000_000));
+                    PricingContext context = new PricingContext(categories.get(random.nextInt(categories.size())),
+                            random.nextInt(120), NOW.toEpochMilli() + random.nextInt(7_200_000) - 3_600_000);
+
+                    assertEquals(rule.price(unitPrice, context), compiled.price(unitPrice, context),
+                            "round " + round + ": " + rule);
+                    Money lineTotal = unitPrice.multiply(context.quantity());
+                    assertEquals(rule.apply(lineTotal, context),
+                            compiled.adjustment(context.categoryId(), context.epochMilli())
+                                    .apply(lineTotal, context.quantity()),
+                            "round " + round + ": " + rule);
+                }
+            }
+        }
+
+        private PricingRule randomRule(Random random, int depth, List<CategoryId> categories) {
+            int kind = depth == 0 ? random.nextInt(4) : random.nextInt(10);
+            return switch (kind) {
+                case 0 -> PricingRule.percentOff(random.nextInt(101));
+                case 1 -> PricingRule.amountOff(Money.of(random.nextInt(20_000)));
+                case 2 -> PricingRule.tiered(List.of(new Tier(random.nextInt(10), random.nextInt(30)),
+                        new Tier(10 + random.nextInt(100), random.nextInt(60))));
+                case 3 -> PricingRule.step(PriceAdjustment.bulkDiscount(random.nextInt(50), random.nextInt(101)));
+                case 4 -> PricingRule.stack(children(random, depth, categories));
+                case 5 -> PricingRule.bestOf(children(random, depth, categories));
+                case 6 -> PricingRule.capped(Money.of(random.nextInt(50_000)), randomRule(random, depth - 1, categories));
+                case 7 -> PricingRule.forCategories(Set.of(categories.get(random.nextInt(categories.size()))),
+                        randomRule(random, depth - 1, categories));
+                case 8 -> {
+                    Instant from = NOW.minusSeconds(random.nextInt(3600));
+                    yield PricingRule.during(from, from.plusSeconds(1 + random.nextInt(3600)),
+                            randomRule(random, depth - 1, categories));
+                }
+                default -> PricingRule.minQuantity(random.nextInt(50), randomRule(random, depth - 1, categories));
+            };
+        }
+
+        private PricingRule[] children(Random random, int depth, List<CategoryId> categories) {
+            PricingRule[] children = new PricingRule[random.nextInt(4)];
+            for (int i = 0; i < children.length; i++) {
+                children[i] = randomRule(random, depth - 1, categories);
+            }
+            return children;
+        }
+    }
+
+    @Nested
+    @DisplayName("검증 테스트")
+    class ValidationTest {
+
+        @Test
+        @DisplayName("할인율 범위를 벗어나면 예외")
+        void percentOff_invalid_throwsException() {
+            assertThrows(IllegalArgumentException.class, () -> PricingRule.percentOff(101));
+        }
+
+        @Test
+        @DisplayName("기간 시작이 종료보다 늦으면 예외")
+        void during_invertedWindow_throwsException() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> PricingRule.during(NOW, NOW, PricingRule.percentOff(10)));
+        }
+
+        @Test
+        @DisplayName("구간 시작 수량이 중복되면 예외")
+        void tiered_duplicateTier_throwsException() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> PricingRule.tiered(List.of(new Tier(10, 5), new Tier(10, 10))));
+        }
+
+        @Test
+        @DisplayName("long 범위를 넘는 정액 할인은 0원으로 계산")
+        void amountOff_hugeAmount_zero() {
+            PricingRule rule = PricingRule.amountOff(Money.of(BigDecimal.valueOf(Long.MAX_VALUE).add(BigDecimal.TEN)));
+
+            assertEquals(Money.ZERO, priceOf(rule, 10_000, context(BOOKS, 3)));
+        }
+    }
+}
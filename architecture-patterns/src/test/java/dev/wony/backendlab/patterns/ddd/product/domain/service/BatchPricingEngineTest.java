@@ -0,0 +1,168 @@
+package dev.wony.backendlab.patterns.ddd.product.domain.service;
+
+import dev.wony.backendlab.patterns.ddd.product.domain.entity.Product;
+import dev.wony.backendlab.patterns.ddd.product.domain.vo.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("BatchPricingEngine 테스트")
+class BatchPricingEngineTest {
+
+    private static final CategoryId CATEGORY = CategoryId.generate();
+
+    @Nested
+    @DisplayName("단건 경로와의 일치 테스트")
+    class ScalarParityTest {
+
+        @Test
+        @DisplayName("무작위 단계 조합 - PricingPolicy.chain 과 같은 결과")
+        void price_randomChains_matchesScalarChain() {
+            Random random = new Random(46);
+            for (int round = 0; round < 200; round++) {
+                List<PriceAdjustment> steps = randomSteps(random);
+                PricingPolicy scalar = PricingPolicy.chain(steps);
+                BatchPricingEngine engine = new BatchPricingEngine(steps);
+
+                int size = 1 + random.nextInt(50);
+                long[] prices = new long[size];
+                int[] quantities = new int[size];
+                for (int i = 0; i < size; i++) {
+                    prices[i] = random.nextInt(5_000_000);
+                    quantities[i] = random.nextInt(200);
+                }
+
+                long[] batch = engine.price(prices, quantities);
+                Money.Accumulator expectedTotal = new Money.Accumulator();
+                for (int i = 0; i < size; i++) {
+                    Money expected = scalar.calculatePrice(product(prices[i]), Quantity.of(quantities[i]));
+                    assertEquals(expected, Money.of(batch[i]), "round " + round + ", index " + i);
+                    expectedTotal.add(expected);
+                }
+                assertEquals(expectedTotal.total(), engine.total(prices, quantities));
+            }
+        }
+
+        @Test
+        @DisplayName("단일 단계 - 기존 PricingPolicy 팩토리와 같은 결과")
+        void price_singleStep_matchesExistingPolicies() {
+            Random random = new Random(4646);
+            for (int round = 0; round < 1_000; round++) {
+                int percent = random.nextInt(101);
+                int threshold = random.nextInt(20);
+                long fixed = random.nextInt(100_000);
+                long price = random.nextInt(1_000_000);
+                int quantity = random.nextInt(50);
+                Product product = product(price);
+
+                assertSamePrice(PricingPolicy.standard(), List.of(), product, quantity);
+                assertSamePrice(PricingPolicy.percentDiscount(percent),
+                        List.of(PriceAdjustment.percentDiscount(percent)), product, quantity);
+                assertSamePrice(PricingPolicy.fixedDiscount(Money.of(fixed)),
+                        List.of(PriceAdjustment.fixedDiscount(Money.of(fixed))), product, quantity);
+                assertSamePrice(PricingPolicy.bulkDiscount(threshold, percent),
+                        List.of(PriceAdjustment.bulkDiscount(threshold, percent)), product, quantity);
+            }
+        }
+
+        private void assertSamePrice(PricingPolicy policy, List<PriceAdjustment> steps, Product product, int quantity) {
+            long[] batch = new BatchPricingEngine(steps)
+                    .price(new long[]{product.getPrice().longValue()}, new int[]{quantity});
+            assertEquals(policy.calculatePrice(product, Quantity.of(quantity)), Money.of(batch[0]));
+        }
+    }
+
+    @Nested
+    @DisplayName("병렬 계산 테스트")
+    class ParallelTest {
+
+        @Test
+        @DisplayName("병렬 계산은 순차 계산과 같은 결과")
+        void priceParallel_largeCatalog_matchesSequential() {
+            Random random = new Random(46);
+            int size = BatchPricingEngine.PARALLEL_THRESHOLD * 4 + 123;
+            long[] prices = new long[size];
+            int[] quantities = new int[size];
+            for (int i = 0; i < size; i++) {
+                prices[i] = random.nextInt(10_000_000);
+                quantities[i] = 1 + random.nextInt(10);
+            }
+            BatchPricingEngine engine = new BatchPricingEngine(List.of(
+                    PriceAdjustment.bulkDiscount(5, 10),
+                    PriceAdjustment.fixedDiscount(Money.of(1000))
+            ));
+
+            assertArrayEquals(engine.price(prices, quantities), engine.priceParallel(prices, quantities));
+            assertEquals(engine.total(prices, quantities), engine.totalParallel(prices, quantities));
+        }
+
+        @Test
+        @DisplayName("총액이 long 범위를 넘으면 BigDecimal 로 합산")
+        void totalParallel_overflowingSum_exactTotal() {
+            int size = BatchPricingEngine.PARALLEL_THRESHOLD;
+            long[] prices = new long[size];
+            int[] quantities = new int[size];
+            Arrays.fill(prices, Long.MAX_VALUE / 2);
+            Arrays.fill(quantities, 1);
+            BatchPricingEngine engine = new BatchPricingEngine(List.of());
+
+            Money expected = Money.of(BigDecimal.valueOf(Long.MAX_VALUE / 2)
+                    .multiply(BigDecimal.valueOf(size)));
+            assertEquals(expected, engine.totalParallel(prices, quantities));
+            assertEquals(expected, engine.total(prices, quantities));
+        }
+    }
+
+    @Nested
+    @DisplayName("입력 검증 테스트")
+    class ValidationTest {
+
+        private final BatchPricingEngine engine = new BatchPricingEngine(List.of());
+
+        @Test
+        @DisplayName("배열 길이가 다르면 예외")
+        void price_lengthMismatch_throwsException() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> engine.price(new long[2], new int[3]));
+        }
+
+        @Test
+        @DisplayName("음수 단가면 예외")
+        void price_negativePrice_throwsException() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> engine.price(new long[]{1000, -1}, new int[]{1, 1}));
+        }
+
+        @Test
+        @DisplayName("항목 금액이 long 범위를 넘으면 예외")
+        void price_lineOverflow_throwsException() {
+            assertThrows(ArithmeticException.class,
+                    () -> engine.price(new long[]{Long.MAX_VALUE}, new int[]{2}));
+        }
+    }
+
+    private static List<PriceAdjustment> randomSteps(Random random) {
+        List<PriceAdjustment> steps = new ArrayList<>();
+        int count = random.nextInt(4);
+        for (int i = 0; i < count; i++) {
+            switch (random.nextInt(3)) {
+                case 0 -> steps.add(PriceAdjustment.percentDiscount(random.nextInt(101)));
+                case 1 -> steps.add(PriceAdjustment.fixedDiscount(Money.of(random.nextInt(50_000))));
+                default -> steps.add(PriceAdjustment.bulkDiscount(random.nextInt(100), random.nextInt(101)));
+            }
+        }
+        return steps;
+    }
+
+    private static Product product(long price) {
+        return Product.create(ProductName.of("상품"), "설명", Money.of(price), Quantity.of(100), CATEGORY);
+    }
+}
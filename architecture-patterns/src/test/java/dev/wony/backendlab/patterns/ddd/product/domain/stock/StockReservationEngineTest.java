@@ -0,0 +1,368 @@
+package dev.wony.backendlab.patterns.ddd.product.domain.stock;
+
+import dev.wony.backendlab.patterns.ddd.product.domain.entity.ProductStatus;
+import dev.wony.backendlab.patterns.ddd.product.domain.event.ProductStatusChangedEvent;
+import dev.wony.backendlab.patterns.ddd.product.domain.event.ProductStockChangedEvent;
+import dev.wony.backendlab.patterns.ddd.product.domain.stock.StockReservationEngine.InsufficientStockException;
+import dev.wony.backendlab.patterns.ddd.product.domain.stock.StockReservationEngine.ReservationExpiredException;
+import dev.wony.backendlab.patterns.ddd.product.domain.stock.StockReservationEngine.ReservationNotFoundException;
+import dev.wony.backendlab.patterns.ddd.product.domain.vo.ProductId;
+import dev.wony.backendlab.patterns.ddd.product.domain.vo.Quantity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("StockReservationEngine 테스트")
+class StockReservationEngineTest {
+
+    private ProductId productId;
+    private InMemoryStockStore stockStore;
+    private MutableClock clock;
+    private StockReservationEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        productId = ProductId.generate();
+        stockStore = new InMemoryStockStore(10);
+        clock = new MutableClock(Instant.parse("2024-01-01T00:00:00Z"));
+        engine = new StockReservationEngine(stockStore, clock, Duration.ofMinutes(10));
+    }
+
+    @Nested
+    @DisplayName("예약/확정/취소 테스트")
+    class LifecycleTest {
+
+        @Test
+        @DisplayName("예약하면 예약 가능 수량만 줄고 저장소 재고는 그대로")
+        void reserve_decreasesAvailableOnly() {
+            engine.reserve(productId, Quantity.of(3));
+
+            assertEquals(7, engine.availableQuantity(productId));
+            assertEquals(10, stockStore.stock.get());
+        }
+
+        @Test
+        @DisplayName("확정하면 저장소 재고 차감")
+        void confirm_decreasesStore() {
+            StockReservation reservation = engine.reserve(productId, Quantity.of(3));
+
+            engine.confirm(reservation.id());
+
+            assertEquals(7, engine.availableQuantity(productId));
+            assertEquals(7, stockStore.stock.get());
+            assertEquals(0, engine.pendingReservations());
+        }
+
+        @Test
+        @DisplayName("취소하면 예약 수량 반환")
+        void release_restoresAvailable() {
+            StockReservation reservation = engine.reserve(productId, Quantity.of(3));
+
+            engine.release(reservation.id());
+
+            assertEquals(10, engine.availableQuantity(productId));
+        }
+
+        @Test
+        @DisplayName("예약 가능 수량을 넘으면 예외")
+        void reserve_insufficient_throwsException() {
+            engine.reserve(productId, Quantity.of(8));
+
+            assertThrows(InsufficientStockException.class, () -> engine.reserve(productId, Quantity.of(3)));
+            assertEquals(2, engine.availableQuantity(productId));
+        }
+
+        @Test
+        @DisplayName("이미 처리된 예약을 다시 확정/취소하면 예외")
+        void confirmTwice_throwsException() {
+            StockReservation reservation = engine.reserve(productId, Quantity.of(1));
+            engine.confirm(reservation.id());
+
+            assertThrows(ReservationNotFoundException.class, () -> engine.confirm(reservation.id()));
+            assertThrows(ReservationNotFoundException.class, () -> engine.release(reservation.id()));
+            assertEquals(9, stockStore.stock.get());
+        }
+
+        @Test
+        @DisplayName("저장소 재고가 다른 경로로 줄었으면 확정 실패 후 저장소 기준으로 다시 계산")
+        void confirm_storeChanged_resyncsCounter() {
+            StockReservation reservation = engine.reserve(productId, Quantity.of(5));
+            stockStore.stock.set(2);
+
+            assertThrows(InsufficientStockException.class, () -> engine.confirm(reservation.id()));
+            assertEquals(2, engine.availableQuantity(productId));
+        }
+    }
+
+    @Nested
+    @DisplayName("저장소 재고 재조회 테스트")
+    class ReloadTest {
+
+        @Test
+        @DisplayName("판매 전에 조회한 상품도 판매 시작 이벤트 후에는 예약 가능")
+        void statusChangedEvent_reloadsStock() {
+            stockStore.stock.set(0);
+            assertThrows(InsufficientStockException.class, () -> engine.reserve(productId, Quantity.of(1)));
+
+            stockStore.stock.set(10);
+            engine.onEvents(List.of(new ProductStatusChangedEvent(productId, ProductStatus.PENDING, ProductStatus.ON_SALE)));
+
+            engine.reserve(productId, Quantity.of(4));
+            assertEquals(6, engine.availableQuantity(productId));
+        }
+
+        @Test
+        @DisplayName("입고 이벤트 후에는 늘어난 재고로 예약하고 진행 중인 예약은 유지")
+        void stockChangedEvent_reloadsStockKeepingReservations() {
+            engine.reserve(productId, Quantity.of(8));
+            assertThrows(InsufficientStockException.class, () -> engine.reserve(productId, Quantity.of(5)));
+
+            stockStore.stock.set(20);
+            engine.onEvents(List.of(new ProductStockChangedEvent(productId, Quantity.of(10), Quantity.of(20))));
+
+            engine.reserve(productId, Quantity.of(5));
+            assertEquals(7, engine.availableQuantity(productId));
+        }
+
+        @Test
+        @DisplayName("다시 읽는 중에 예약을 반환해도 수량이 두 번 반환되지 않음")
+        void releaseDuringReload_notCountedTwice() {
+            StockReservation reservation = engine.reserve(productId, Quantity.of(3));
+            engine.onEvents(List.of(new ProductStockChangedEvent(productId, Quantity.of(10), Quantity.of(10))));
+            stockStore.onLoad = () -> engine.release(reservation.id());
+
+            assertEquals(10, engine.availableQuantity(productId));
+            stockStore.onLoad = null;
+            assertEquals(10, engine.availableQuantity(productId));
+        }
+
+        @Test
+        @DisplayName("다시 읽는 중에 확정되면 읽은 값을 버리고 다시 읽음")
+        void confirmDuringReload_discardsLoadedStock() {
+            StockReservation reservation = engine.reserve(productId, Quantity.of(3));
+            engine.onEvents(List.of(new ProductStockChangedEvent(productId, Quantity.of(10), Quantity.of(10))));
+            stockStore.onLoad = () -> {
+                stockStore.onLoad = null;
+                engine.confirm(reservation.id());
+            };
+
+            assertEquals(7, engine.availableQuantity(productId));
+            assertEquals(7, stockStore.stock.get());
+        }
+
+        @Test
+        @DisplayName("다시 읽은 값을 버렸으면 확인되지 않은 재고로 거절하지 않고 다시 읽음")
+        void discardedReload_doesNotRejectWithUnverifiedStock() {
+            // given: 확정 중에 다시 읽어 확인되지 않은 재고(저장소 7, 예약 2)를 가진 카운터
+            StockReservation first = engine.reserve(productId, Quantity.of(3));
+            StockReservation second = engine.reserve(productId, Quantity.of(2));
+            engine.onEvents(List.of(new ProductStockChangedEvent(productId, Quantity.of(10), Quantity.of(10))));
+            stockStore.onDecrease = () -> {
+                stockStore.onDecrease = null;
+                engine.availableQuantity(productId);
+            };
+            engine.confirm(first.id());
+            stockStore.stock.set(20);
+            stockStore.onLoad = () -> {
+                stockStore.onLoad = null;
+                engine.confirm(second.id());
+            };
+
+            // when: 다시 읽는 중에 다른 확정이 끼어들어 읽은 값이 버려짐
+            engine.reserve(productId, Quantity.of(6));
+
+            // then
+            assertEquals(12, engine.availableQuantity(productId));
+            assertEquals(18, stockStore.stock.get());
+        }
+    }
+
+    @Nested
+    @DisplayName("만료 테스트")
+    class ExpiryTest {
+
+        @Test
+        @DisplayName("만료 시각이 지난 예약은 확정할 수 없고 수량 반환")
+        void confirm_expired_throwsExceptionAndRestores() {
+            StockReservation reservation = engine.reserve(productId, Quantity.of(4), Duration.ofSeconds(30));
+            clock.advance(Duration.ofSeconds(30));
+
+            assertThrows(ReservationExpiredException.class, () -> engine.confirm(reservation.id()));
+            assertEquals(10, engine.availableQuantity(productId));
+            assertEquals(10, stockStore.stock.get());
+        }
+
+        @Test
+        @DisplayName("만료 정리는 지난 예약만 반환")
+        void expireOverdue_releasesOnlyExpired() {
+            engine.reserve(productId, Quantity.of(2), Duration.ofSeconds(10));
+            engine.reserve(productId, Quantity.of(3), Duration.ofMinutes(5));
+            clock.advance(Duration.ofMinutes(1));
+
+            assertEquals(1, engine.expireOverdue());
+            assertEquals(7, engine.availableQuantity(productId));
+            assertEquals(1, engine.pendingReservations());
+        }
+    }
+
+    @Nested
+    @DisplayName("동시성 테스트")
+    class ConcurrencyTest {
+
+        @Test
+        @DisplayName("단일 상품에 동시 예약/확정/취소/만료가 몰려도 초과 판매나 수량 유실이 없음")
+        void hotSku_noOversellNoLostUpdate() throws Exception {
+            int initialStock = 50_000;
+            int threads = 16;
+            int attemptsPerThread = 20_000;
+            stockStore.stock.set(initialStock);
+            AtomicInteger reserved = new AtomicInteger();
+            AtomicInteger rejected = new AtomicInteger();
+            AtomicInteger confirmed = new AtomicInteger();
+
+            ExecutorService executor = Executors.newFixedThreadPool(threads + 1);
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    for (int i = 0; i < attemptsPerThread; i++) {
+                        int quantity = 1 + random.nextInt(3);
+                        StockReservation reservation;
+                        try {
+                            reservation = engine.reserve(productId, Quantity.of(quantity));
+                        } catch (InsufficientStockException e) {
+                            rejected.incrementAndGet();
+                            continue;
+                        }
+                        reserved.incrementAndGet();
+                        int action = random.nextInt(10);
+                        try {
+                            if (action < 6) {
+                                engine.confirm(reservation.id());
+                                confirmed.addAndGet(quantity);
+                            } else if (action < 9) {
+                                engine.release(reservation.id());
+                            }
+                            // 나머지는 만료 정리에 맡긴다
+                        } catch (ReservationExpiredException | ReservationNotFoundException e) {
+                            // 만료 정리 스레드가 먼저 수량을 반환함
+                        }
+                    }
+                    return null;
+                }));
+            }
+            Future<?> expirer = executor.submit(() -> {
+                start.await();
+                while (!Thread.currentThread().isInterrupted()) {
+                    clock.advance(Duration.ofMinutes(1));
+                    engine.expireOverdue();
+                    Thread.sleep(1);
+                }
+                return null;
+            });
+
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+            expirer.cancel(true);
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+            clock.advance(Duration.ofHours(1));
+            engine.expireOverdue();
+
+            assertEquals(0, engine.pendingReservations());
+            assertEquals(initialStock - confirmed.get(), stockStore.stock.get());
+            assertEquals(stockStore.stock.get(), engine.availableQuantity(productId));
+            assertTrue(stockStore.stock.get() >= 0);
+            assertEquals(threads * attemptsPerThread, reserved.get() + rejected.get());
+        }
+    }
+
+    /**
+     * 조건부 차감을 CAS 로 흉내낸 저장소 ({@code onLoad}로 재고 조회 도중에 끼어드는 작업을 흉내낸다)
+     */
+    private static class InMemoryStockStore implements StockStore {
+
+        private final AtomicInteger stock;
+        private volatile Runnable onLoad;
+        private volatile Runnable onDecrease;
+
+        InMemoryStockStore(int stock) {
+            this.stock = new AtomicInteger(stock);
+        }
+
+        @Override
+        public int loadSellableStock(ProductId productId) {
+            Runnable hook = onLoad;
+            if (hook != null) {
+                hook.run();
+            }
+            return stock.get();
+        }
+
+        @Override
+        public boolean decrease(ProductId productId, Quantity quantity) {
+            Runnable hook = onDecrease;
+            if (hook != null) {
+                hook.run();
+            }
+            int current;
+            do {
+                current = stock.get();
+                if (current < quantity.getValue()) {
+                    return false;
+                }
+            } while (!stock.compareAndSet(current, current - quantity.getValue()));
+            return true;
+        }
+    }
+
+    private static class MutableClock extends Clock {
+
+        private volatile Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        synchronized void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -5,6 +5,8 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -163,4 +165,90 @@ class MoneyTest {
             assertNotEquals(money1, money2);
         }
     }
+
+    @Nested
+    @DisplayName("long 표현 테스트")
+    class LongBackedTest {
+
+        private final Money max = Money.of(Long.MAX_VALUE);
+
+        @Test
+        @DisplayName("작은 금액은 같은 인스턴스를 재사용")
+        void of_smallAmount_returnsCachedInstance() {
+            assertSame(Money.of(999), Money.of(999));
+            assertSame(Money.of(15_000), Money.of(15_000));
+            assertSame(Money.ZERO, Money.of(BigDecimal.ZERO));
+        }
+
+        @Test
+        @DisplayName("소수점 이하는 반올림")
+        void of_fraction_roundsHalfUp() {
+            assertEquals(Money.of(1001), Money.of(new BigDecimal("1000.5")));
+            assertEquals(Money.of(1000), Money.of(new BigDecimal("1000.49")));
+        }
+
+        @Test
+        @DisplayName("더하기가 long 범위를 넘으면 BigDecimal로 계산")
+        void add_overflow_fallsBackToBigDecimal() {
+            Money result = max.add(Money.of(1));
+
+            assertFalse(result.fitsInLong());
+            assertEquals(BigDecimal.valueOf(Long.MAX_VALUE).add(BigDecimal.ONE), result.getAmount());
+            assertThrows(ArithmeticException.class, result::longValue);
+        }
+
+        @Test
+        @DisplayName("곱하기가 long 범위를 넘으면 BigDecimal로 계산")
+        void multiply_overflow_fallsBackToBigDecimal() {
+            Money result = max.multiply(3);
+
+            assertEquals(BigDecimal.valueOf(Long.MAX_VALUE).multiply(BigDecimal.valueOf(3)), result.getAmount());
+            assertTrue(result.isGreaterThan(max));
+        }
+
+        @Test
+        @DisplayName("범위를 넘은 금액도 다시 범위 안으로 들어오면 long 표현으로 동등 비교")
+        void subtract_backIntoRange_equalsLongForm() {
+            Money result = max.add(Money.of(10)).subtract(Money.of(10));
+
+            assertTrue(result.fitsInLong());
+            assertEquals(max, result);
+            assertEquals(max.hashCode(), result.hashCode());
+        }
+
+        @Test
+        @DisplayName("정률 할인은 BigDecimal HALF_UP 계산과 같은 결과")
+        void discount_matchesBigDecimalFormula() {
+            Random random = new Random(45);
+            for (int i = 0; i < 10_000; i++) {
+                long amount = i % 10 == 0 ? Long.MAX_VALUE - random.nextInt(1000) : random.nextInt(10_000_000);
+                int percent = random.nextInt(101);
+                BigDecimal expected = BigDecimal.valueOf(amount)
+                        .multiply(BigDecimal.valueOf(100 - percent))
+                        .divide(BigDecimal.valueOf(100), RoundingMode.HALF_UP);
+
+                assertEquals(expected, Money.of(amount).discount(percent).getAmount(), amount + "원 " + percent + "%");
+            }
+        }
+
+        @Test
+        @DisplayName("할인율이 범위를 벗어나면 예외")
+        void discount_invalidPercent_throwsException() {
+            assertThrows(IllegalArgumentException.class, () -> Money.of(1000).discount(101));
+        }
+
+        @Test
+        @DisplayName("누적기는 넘치는 경우에도 정확한 총액을 계산")
+        void accumulator_overflow_exactTotal() {
+            Money.Accumulator accumulator = new Money.Accumulator()
+                    .add(Money.of(1000), 3)
+                    .add(max, 2)
+                    .add(Money.of(500));
+
+            BigDecimal expected = BigDecimal.valueOf(Long.MAX_VALUE).multiply(BigDecimal.valueOf(2))
+                    .add(BigDecimal.valueOf(3500));
+            assertEquals(expected, accumulator.total().getAmount());
+            assertEquals(Money.of(3500), new Money.Accumulator().add(Money.of(1000), 3).add(Money.of(500)).total());
+        }
+    }
 }
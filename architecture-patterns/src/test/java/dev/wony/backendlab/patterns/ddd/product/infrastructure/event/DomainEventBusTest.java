@@ -0,0 +1,284 @@
+package dev.wony.backendlab.patterns.ddd.product.infrastructure.event;
+
+import dev.wony.backendlab.patterns.ddd.product.domain.entity.Product;
+import dev.wony.backendlab.patterns.ddd.product.domain.event.AbstractDomainEvent;
+import dev.wony.backendlab.patterns.ddd.product.domain.event.DomainEvent;
+import dev.wony.backendlab.patterns.ddd.product.domain.event.ProductCreatedEvent;
+import dev.wony.backendlab.patterns.ddd.product.domain.event.ProductPriceChangedEvent;
+import dev.wony.backendlab.patterns.ddd.product.domain.vo.*;
+import dev.wony.backendlab.patterns.ddd.product.infrastructure.event.DomainEventBus.EventBusOverflowException;
+import dev.wony.backendlab.patterns.ddd.product.infrastructure.event.DomainEventBus.Options;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("DomainEventBus 테스트")
+class DomainEventBusTest {
+
+    private SimpleMeterRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+    }
+
+    private static Product createProduct() {
+        return Product.create(ProductName.of("테스트 상품"), "설명", Money.of(10000), Quantity.of(10),
+                CategoryId.generate());
+    }
+
+    @Nested
+    @DisplayName("동기 모드 테스트")
+    class SyncTest {
+
+        @Test
+        @DisplayName("발행 스레드에서 타입별 구독자에게 한 묶음으로 전달")
+        void publishAll_deliversMatchingTypesAsOneBatch() {
+            DomainEventBus bus = DomainEventBus.sync(registry);
+            List<List<ProductPriceChangedEvent>> priceBatches = new ArrayList<>();
+            List<DomainEvent> all = new ArrayList<>();
+            bus.subscribe(ProductPriceChangedEvent.class, priceBatches::add);
+            bus.subscribe(DomainEvent.class, all::addAll);
+
+            Product product = createProduct();
+            product.changePrice(Money.of(9000));
+            product.changePrice(Money.of(8000));
+            bus.publishAll(product.pullDomainEvents());
+
+            assertEquals(1, priceBatches.size());
+            assertEquals(2, priceBatches.get(0).size());
+            assertEquals(3, all.size());
+            assertInstanceOf(ProductCreatedEvent.class, all.get(0));
+            assertEquals(3, registry.get("domain.events.dispatch.latency").timer().count());
+        }
+
+        @Test
+        @DisplayName("구독자 하나가 실패해도 다른 구독자는 전달받음")
+        void subscriberFailure_isolated() {
+            DomainEventBus bus = DomainEventBus.sync(registry);
+            List<DomainEvent> received = new ArrayList<>();
+            bus.subscribe(DomainEvent.class, events -> {
+                throw new IllegalStateException("실패");
+            });
+            bus.subscribe(DomainEvent.class, received::addAll);
+
+            bus.publishAll(createProduct().pullDomainEvents());
+
+            assertEquals(1, received.size());
+            assertEquals(1.0, registry.get("domain.events.subscriber.failures").counter().count());
+        }
+    }
+
+    @Nested
+    @DisplayName("비동기 모드 테스트")
+    class AsyncTest {
+
+        @Test
+        @DisplayName("여러 스레드가 발행해도 Aggregate 별 발행 순서대로 전달")
+        void concurrentPublishers_keepPerAggregateOrder() throws Exception {
+            DomainEventBus bus = DomainEventBus.async(registry, new Options(4, 1_000, 64, Duration.ofSeconds(5)));
+            Map<String, List<Integer>> received = new ConcurrentHashMap<>();
+            bus.subscribe(SequencedEvent.class, events -> {
+                for (SequencedEvent event : events) {
+                    received.computeIfAbsent(event.getAggregateId(), key -> Collections.synchronizedList(new ArrayList<>()))
+                            .add(event.sequence);
+                }
+            });
+
+            int aggregates = 32;
+            int eventsPerAggregate = 1_000;
+            ExecutorService executor = Executors.newFixedThreadPool(8);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int a = 0; a < aggregates; a++) {
+                String aggregateId = "aggregate-" + a;
+                futures.add(executor.submit(() -> {
+                    for (int seq = 0; seq < eventsPerAggregate; seq++) {
+                        bus.publish(new SequencedEvent(aggregateId, seq));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+            executor.shutdown();
+            bus.close();
+
+            assertEquals(aggregates, received.size());
+            for (List<Integer> sequences : received.values()) {
+                assertEquals(eventsPerAggregate, sequences.size());
+                for (int i = 0; i < sequences.size(); i++) {
+                    assertEquals(i, sequences.get(i));
+                }
+            }
+            assertEquals(aggregates * eventsPerAggregate,
+                    registry.get("domain.events.dispatch.latency").timer().count());
+            assertEquals(0.0, registry.get("domain.events.queue.depth").gauge().value());
+        }
+
+        @Test
+        @DisplayName("구독자가 밀리면 쌓인 이벤트를 묶어서 전달")
+        void slowSubscriber_receivesBatches() throws Exception {
+            DomainEventBus bus = DomainEventBus.async(registry, new Options(1, 1_000, 50, Duration.ofSeconds(5)));
+            CountDownLatch firstBatch = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+            bus.subscribe(SequencedEvent.class, events -> {
+                batchSizes.add(events.size());
+                firstBatch.countDown();
+                await(release);
+            });
+
+            bus.publish(new SequencedEvent("a", 0));
+            assertTrue(firstBatch.await(5, TimeUnit.SECONDS));
+            for (int seq = 1; seq <= 100; seq++) {
+                bus.publish(new SequencedEvent("a", seq));
+            }
+            assertEquals(100, bus.queueDepth());
+            release.countDown();
+            bus.close();
+
+            assertEquals(List.of(1, 50, 50), batchSizes);
+        }
+
+        @Test
+        @DisplayName("큐가 가득 차면 대기 후 발행을 거부")
+        void fullQueue_rejectsAfterTimeout() throws Exception {
+            DomainEventBus bus = DomainEventBus.async(registry, new Options(1, 2, 1, Duration.ofMillis(50)));
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            AtomicInteger delivered = new AtomicInteger();
+            bus.subscribe(SequencedEvent.class, events -> {
+                started.countDown();
+                await(release);
+                delivered.addAndGet(events.size());
+            });
+
+            bus.publish(new SequencedEvent("a", 0));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            bus.publish(new SequencedEvent("a", 1));
+            bus.publish(new SequencedEvent("a", 2));
+
+            assertThrows(EventBusOverflowException.class, () -> bus.publish(new SequencedEvent("a", 3)));
+            assertEquals(1.0, registry.get("domain.events.rejected").counter().count());
+
+            release.countDown();
+            bus.close();
+            assertEquals(3, delivered.get());
+        }
+
+        @Test
+        @DisplayName("종료 후에는 발행할 수 없음")
+        void publishAfterClose_throwsException() {
+            DomainEventBus bus = DomainEventBus.async(registry, Options.defaults());
+            bus.close();
+
+            assertThrows(IllegalStateException.class, () -> bus.publish(new SequencedEvent("a", 0)));
+        }
+
+        @Test
+        @DisplayName("구독자가 Error 를 던져도 워커는 살아서 다음 묶음을 전달")
+        void subscriberError_keepsWorkerAlive() throws Exception {
+            DomainEventBus bus = DomainEventBus.async(registry, new Options(1, 100, 1, Duration.ofSeconds(5)));
+            List<Integer> received = Collections.synchronizedList(new ArrayList<>());
+            CountDownLatch delivered = new CountDownLatch(2);
+            bus.subscribe(SequencedEvent.class, events -> {
+                if (events.get(0).sequence == 0) {
+                    throw new AssertionError("실패");
+                }
+            });
+            bus.subscribe(SequencedEvent.class, events -> {
+                events.forEach(event -> received.add(event.sequence));
+                delivered.countDown();
+            });
+
+            bus.publish(new SequencedEvent("a", 0));
+            bus.publish(new SequencedEvent("a", 1));
+
+            assertTrue(delivered.await(5, TimeUnit.SECONDS));
+            bus.close();
+            assertEquals(List.of(0, 1), received);
+            assertEquals(1.0, registry.get("domain.events.subscriber.failures").counter().count());
+        }
+
+        @Test
+        @DisplayName("발행과 종료가 겹쳐도 발행에 성공한 이벤트는 모두 전달")
+        void closeDuringPublish_deliversAcceptedEvents() throws Exception {
+            DomainEventBus bus = DomainEventBus.async(registry, new Options(4, 1_000, 64, Duration.ofSeconds(5)));
+            AtomicInteger delivered = new AtomicInteger();
+            bus.subscribe(SequencedEvent.class, events -> delivered.addAndGet(events.size()));
+            int publishers = 4;
+            ExecutorService executor = Executors.newFixedThreadPool(publishers);
+            CountDownLatch started = new CountDownLatch(publishers);
+            List<Future<Integer>> accepted = new ArrayList<>();
+            for (int p = 0; p < publishers; p++) {
+                String aggregateId = "aggregate-" + p;
+                accepted.add(executor.submit(() -> {
+                    started.countDown();
+                    int count = 0;
+                    while (true) {
+                        try {
+                            bus.publish(new SequencedEvent(aggregateId, count));
+                        } catch (IllegalStateException closed) {
+                            return count;
+                        }
+                        count++;
+                    }
+                }));
+            }
+
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            Thread.sleep(20);
+            bus.close();
+            int total = 0;
+            for (Future<Integer> future : accepted) {
+                total += future.get(10, TimeUnit.SECONDS);
+            }
+            executor.shutdown();
+
+            assertTrue(total > 0);
+            assertEquals(total, delivered.get());
+            assertEquals(0, bus.queueDepth());
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class SequencedEvent extends AbstractDomainEvent {
+
+        private final String aggregateId;
+        private final int sequence;
+
+        SequencedEvent(String aggregateId, int sequence) {
+            this.aggregateId = aggregateId;
+            this.sequence = sequence;
+        }
+
+        @Override
+        public String getAggregateId() {
+            return aggregateId;
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package dev.wony.backendlab.patterns.ddd.product.infrastructure.eventsourcing;
+
+import dev.wony.backendlab.patterns.ddd.product.domain.entity.Product;
+import dev.wony.backendlab.patterns.ddd.product.domain.entity.ProductSnapshot;
+import dev.wony.backendlab.patterns.ddd.product.domain.entity.ProductStatus;
+import dev.wony.backendlab.patterns.ddd.product.domain.event.DomainEvent;
+import dev.wony.backendlab.patterns.ddd.product.domain.vo.*;
+import dev.wony.backendlab.patterns.ddd.product.infrastructure.eventsourcing.JdbcProductEventStore.ConcurrencyConflictException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("EventSourcedProductRepository 테스트")
+class EventSourcedProductRepositoryTest {
+
+    private static final int SNAPSHOT_INTERVAL = 100;
+
+    private EmbeddedDatabase database;
+    private JdbcProductEventStore eventStore;
+    private EventSourcedProductRepository repository;
+    private List<DomainEvent> published;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .addScript("db/product/event-store.sql")
+                .build();
+        eventStore = new JdbcProductEventStore(database, Clock.systemDefaultZone());
+        published = new ArrayList<>();
+        repository = new EventSourcedProductRepository(eventStore, published::addAll, SNAPSHOT_INTERVAL);
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    private Product createProduct() {
+        return Product.create(ProductName.of("키보드"), "기계식", Money.of(59000), Quantity.of(10),
+                CategoryId.generate());
+    }
+
+    @Nested
+    @DisplayName("저장/복원 테스트")
+    class RoundTripTest {
+
+        @Test
+        @DisplayName("저장한 이벤트를 재생하여 같은 상태로 복원하고 발행")
+        void save_thenFindById_restoresState() {
+            Product product = createProduct();
+            product.startSelling();
+            product.changePrice(Money.of(49000));
+            product.updateInfo(ProductName.of("무선 키보드"), null);
+            product.changeCategory(CategoryId.generate());
+            product.decreaseStock(Quantity.of(10));
+            repository.save(product);
+
+            Product found = repository.getById(product.getId());
+
+            assertEquals(ProductName.of("무선 키보드"), found.getName());
+            assertNull(found.getDescription());
+            assertEquals(Money.of(49000), found.getPrice());
+            assertEquals(Quantity.ZERO, found.getStockQuantity());
+            assertEquals(product.getCategoryId(), found.getCategoryId());
+            assertEquals(ProductStatus.OUT_OF_STOCK, found.getStatus());
+            assertEquals(6, found.getVersion());
+            assertEquals(6, published.size());
+        }
+
+        @Test
+        @DisplayName("커밋 후 발행이 실패해도 저장은 성공")
+        void save_publishFails_stillCommitted() {
+            EventSourcedProductRepository failingPublisher = new EventSourcedProductRepository(eventStore,
+                    events -> {
+                        throw new IllegalStateException("발행 실패");
+                    }, SNAPSHOT_INTERVAL);
+            Product product = createProduct();
+
+            Product saved = failingPublisher.save(product);
+
+            assertEquals(1, saved.getVersion());
+            assertTrue(saved.getDomainEvents().isEmpty());
+            assertEquals(product.getName(), repository.getById(product.getId()).getName());
+        }
+
+        @Test
+        @DisplayName("없는 상품은 빈 결과")
+        void findById_notFound_empty() {
+            assertTrue(repository.findById(ProductId.generate()).isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("낙관적 동시성 테스트")
+    class ConcurrencyTest {
+
+        @Test
+        @DisplayName("같은 버전을 읽은 두 저장 중 나중 것은 충돌하고 Aggregate 이벤트는 유지")
+        void staleSave_conflicts() {
+            Product product = repository.save(createProduct());
+            Product first = repository.getById(product.getId());
+            Product second = repository.getById(product.getId());
+
+            first.addStock(Quantity.of(1));
+            repository.save(first);
+            second.addStock(Quantity.of(2));
+            second.addStock(Quantity.of(3));
+
+            assertThrows(ConcurrencyConflictException.class, () -> repository.save(second));
+            assertEquals(2, second.getDomainEvents().size());
+            assertEquals(Quantity.of(11), repository.getById(product.getId()).getStockQuantity());
+        }
+    }
+
+    @Nested
+    @DisplayName("스냅샷 테스트")
+    class SnapshotTest {
+
+        @Test
+        @DisplayName("스냅샷 주기를 넘을 때마다 스냅샷을 남기고 이후 이벤트만 재생")
+        void snapshot_takenAtInterval() {
+            Product product = createProduct();
+            for (int i = 0; i < 250; i++) {
+                product.addStock(Quantity.of(1));
+                repository.save(product);
+            }
+
+            ProductSnapshot snapshot = eventStore.findSnapshot(product.getId()).orElseThrow();
+            assertEquals(200, snapshot.version());
+            assertEquals(51, eventStore.readStream(product.getId(), snapshot.version()).size());
+            assertEquals(Quantity.of(260), repository.getById(product.getId()).getStockQuantity());
+        }
+
+        @Test
+        @DisplayName("재고 변경 이력 10만 건도 스냅샷 + 꼬리 재생으로 복원")
+        void longHistory_loadsFromSnapshot() {
+            Product product = createProduct();
+            int changes = 100_000;
+            for (int i = 0; i < changes; i++) {
+                product.addStock(Quantity.of(1));
+                if ((i + 1) % 10_000 == 0) {
+                    repository.save(product);
+                }
+            }
+            product.addStock(Quantity.of(1));
+            repository.save(product);
+
+            ProductSnapshot snapshot = eventStore.findSnapshot(product.getId()).orElseThrow();
+            assertEquals(changes + 2, product.getVersion());
+            assertTrue(product.getVersion() - snapshot.version() < SNAPSHOT_INTERVAL);
+
+            Product found = repository.getById(product.getId());
+
+            assertEquals(Quantity.of(10 + changes + 1), found.getStockQuantity());
+            assertEquals(product.getVersion(), found.getVersion());
+            assertEquals(product.getVersion() - snapshot.version(),
+                    eventStore.readStream(product.getId(), snapshot.version()).size());
+        }
+    }
+}
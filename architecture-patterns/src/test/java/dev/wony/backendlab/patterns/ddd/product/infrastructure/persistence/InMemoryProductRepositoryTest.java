@@ -0,0 +1,214 @@
+package dev.wony.backendlab.patterns.ddd.product.infrastructure.persistence;
+
+import dev.wony.backendlab.patterns.ddd.product.domain.entity.Product;
+import dev.wony.backendlab.patterns.ddd.product.domain.entity.ProductStatus;
+import dev.wony.backendlab.patterns.ddd.product.domain.repository.ProductRepository;
+import dev.wony.backendlab.patterns.ddd.product.domain.vo.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("InMemoryProductRepository 테스트")
+class InMemoryProductRepositoryTest {
+
+    private InMemoryProductRepository repository;
+    private CategoryId electronics;
+    private CategoryId books;
+
+    @BeforeEach
+    void setUp() {
+        repository = new InMemoryProductRepository();
+        electronics = CategoryId.generate();
+        books = CategoryId.generate();
+    }
+
+    private Product createProduct(CategoryId categoryId, int stock) {
+        return Product.create(ProductName.of("테스트 상품"), "설명", Money.of(10000), Quantity.of(stock), categoryId);
+    }
+
+    @Nested
+    @DisplayName("기본 조회 테스트")
+    class BasicTest {
+
+        @Test
+        @DisplayName("저장한 상품을 ID로 조회")
+        void save_thenFindById() {
+            Product product = repository.save(createProduct(electronics, 10));
+
+            assertEquals(product, repository.getById(product.getId()));
+            assertTrue(repository.existsById(product.getId()));
+            assertEquals(1, repository.count());
+        }
+
+        @Test
+        @DisplayName("없는 상품을 getById로 조회하면 예외")
+        void getById_notFound_throwsException() {
+            assertThrows(ProductRepository.ProductNotFoundException.class,
+                    () -> repository.getById(ProductId.generate()));
+        }
+
+        @Test
+        @DisplayName("삭제하면 모든 인덱스에서 제거")
+        void deleteById_removesFromIndexes() {
+            Product product = repository.save(createProduct(electronics, 10));
+
+            repository.deleteById(product.getId());
+
+            assertFalse(repository.existsById(product.getId()));
+            assertTrue(repository.findByCategoryId(electronics).isEmpty());
+            assertTrue(repository.findByStatus(ProductStatus.PENDING).isEmpty());
+            assertEquals(0, repository.count());
+        }
+    }
+
+    @Nested
+    @DisplayName("보조 인덱스 테스트")
+    class IndexTest {
+
+        @Test
+        @DisplayName("카테고리 변경 후 저장하면 새 카테고리로 조회")
+        void changeCategory_movesCategoryIndex() {
+            Product product = repository.save(createProduct(electronics, 10));
+
+            product.changeCategory(books);
+            repository.save(product);
+
+            assertTrue(repository.findByCategoryId(electronics).isEmpty());
+            assertEquals(List.of(product), repository.findByCategoryId(books));
+        }
+
+        @Test
+        @DisplayName("저장하지 않은 변경이 있는 상품은 이전 키로 조회되지 않음")
+        void unsavedChange_notReturnedForPreviousKeys() {
+            Product product = repository.save(createProduct(electronics, 10));
+
+            product.changeCategory(books);
+            product.startSelling();
+
+            assertTrue(repository.findByCategoryId(electronics).isEmpty());
+            assertTrue(repository.findByStatus(ProductStatus.PENDING).isEmpty());
+
+            repository.save(product);
+            assertEquals(List.of(product), repository.findByCategoryId(books));
+            assertEquals(List.of(product), repository.findOnSaleProducts());
+        }
+
+        @Test
+        @DisplayName("판매 시작, 품절, 판매 중지에 따라 상태 인덱스 이동")
+        void statusTransitions_moveStatusIndex() {
+            Product product = repository.save(createProduct(electronics, 1));
+
+            product.startSelling();
+            repository.save(product);
+            assertEquals(List.of(product), repository.findOnSaleProducts());
+
+            product.decreaseStock(Quantity.of(1));
+            repository.save(product);
+            assertTrue(repository.findOnSaleProducts().isEmpty());
+            assertEquals(List.of(product), repository.findByStatus(ProductStatus.OUT_OF_STOCK));
+
+            product.discontinue();
+            repository.save(product);
+            assertTrue(repository.findByStatus(ProductStatus.OUT_OF_STOCK).isEmpty());
+            assertEquals(List.of(product), repository.findByStatus(ProductStatus.DISCONTINUED));
+        }
+    }
+
+    @Nested
+    @DisplayName("동시성 테스트")
+    class ConcurrencyTest {
+
+        @Test
+        @DisplayName("여러 스레드가 카테고리와 상태를 바꿔 저장해도 인덱스가 최종 상태와 일치")
+        void concurrentWriters_keepIndexesConsistent() throws Exception {
+            int threads = 8;
+            List<Product> products = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                products.add(repository.save(createProduct(electronics, 100)));
+            }
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    for (int i = 0; i < 2_000; i++) {
+                        Product product = products.get(random.nextInt(products.size()));
+                        synchronized (product) {
+                            product.changeCategory(random.nextBoolean() ? electronics : books);
+                            if (product.getStatus() == ProductStatus.PENDING) {
+                                product.startSelling();
+                            } else if (random.nextInt(10) == 0) {
+                                product.discontinue();
+                            }
+                            repository.save(product);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+            executor.shutdown();
+
+            for (Product product : products) {
+                assertTrue(repository.findByCategoryId(product.getCategoryId()).contains(product));
+                assertTrue(repository.findByStatus(product.getStatus()).contains(product));
+            }
+            assertEquals(products.size(),
+                    repository.findByCategoryId(electronics).size() + repository.findByCategoryId(books).size());
+            int byStatus = 0;
+            for (ProductStatus status : ProductStatus.values()) {
+                byStatus += repository.findByStatus(status).size();
+            }
+            assertEquals(products.size(), byStatus);
+        }
+
+        @Test
+        @DisplayName("카테고리를 옮기는 저장과 삭제가 겹쳐도 삭제된 상품의 인덱스 항목이 남지 않음")
+        void concurrentMoveAndDelete_leavesNoStaleIndexEntries() throws Exception {
+            int rounds = 20_000;
+            ExecutorService executor = Executors.newFixedThreadPool(2);
+            for (int round = 0; round < rounds; round++) {
+                Product product = repository.save(createProduct(electronics, 10));
+                product.changeCategory(books);
+                product.startSelling();
+                CountDownLatch start = new CountDownLatch(1);
+                Future<?> mover = executor.submit(() -> {
+                    start.await();
+                    repository.save(product);
+                    return null;
+                });
+                Future<?> deleter = executor.submit(() -> {
+                    start.await();
+                    repository.deleteById(product.getId());
+                    return null;
+                });
+                start.countDown();
+                mover.get(10, TimeUnit.SECONDS);
+                deleter.get(10, TimeUnit.SECONDS);
+                repository.deleteById(product.getId());
+            }
+            executor.shutdown();
+
+            assertEquals(0, repository.count());
+            assertEquals(0, repository.indexEntries());
+        }
+    }
+}
@@ -0,0 +1,359 @@
+package dev.wony.backendlab.patterns.ddd.product.infrastructure.persistence;
+
+import dev.wony.backendlab.patterns.ddd.product.domain.entity.Category;
+import dev.wony.backendlab.patterns.ddd.product.domain.entity.Product;
+import dev.wony.backendlab.patterns.ddd.product.domain.entity.ProductStatus;
+import dev.wony.backendlab.patterns.ddd.product.domain.stock.StockReservationEngine;
+import dev.wony.backendlab.patterns.ddd.product.domain.vo.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Statement;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("JDBC Repository 테스트")
+class JdbcProductRepositoryTest {
+
+    private EmbeddedDatabase database;
+    private JdbcProductRepository productRepository;
+    private JdbcCategoryRepository categoryRepository;
+    private JdbcStockStore stockStore;
+    private CategoryId categoryId;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .addScript("db/product/schema.sql")
+                .build();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(database);
+        productRepository = new JdbcProductRepository(jdbcTemplate, 3);
+        categoryRepository = new JdbcCategoryRepository(jdbcTemplate);
+        stockStore = new JdbcStockStore(jdbcTemplate, Clock.systemDefaultZone());
+        categoryId = CategoryId.generate();
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    private Product createProduct(String name, long price) {
+        return Product.create(ProductName.of(name), "설명", Money.of(price), Quantity.of(10), categoryId);
+    }
+
+    /**
+     * 배치 갱신 건수를 {@link Statement#SUCCESS_NO_INFO}로만 돌려주는 드라이버를 흉내낸다
+     */
+    private static class NoInfoJdbcTemplate extends JdbcTemplate {
+
+        NoInfoJdbcTemplate(DataSource dataSource) {
+            super(dataSource);
+        }
+
+        @Override
+        public <T> int[][] batchUpdate(String sql, Collection<T> batchArgs, int batchSize,
+                                       ParameterizedPreparedStatementSetter<T> pss) {
+            int[][] counts = super.batchUpdate(sql, batchArgs, batchSize, pss);
+            for (int[] batch : counts) {
+                Arrays.fill(batch, Statement.SUCCESS_NO_INFO);
+            }
+            return counts;
+        }
+    }
+
+    /**
+     * TIMESTAMP(6) 컬럼은 나노초를 마이크로초로 반올림해 저장한다
+     */
+    private static void assertSameMicros(LocalDateTime expected, LocalDateTime actual) {
+        assertEquals(0, ChronoUnit.MICROS.between(expected, actual), () -> expected + " != " + actual);
+    }
+
+    @Nested
+    @DisplayName("상품 저장/조회 테스트")
+    class ProductTest {
+
+        @Test
+        @DisplayName("저장한 상품의 값과 생성/수정 시각을 그대로 복원")
+        void save_thenFindById_restoresAllColumns() {
+            Product product = createProduct("키보드", 59000);
+            product.startSelling();
+            productRepository.save(product);
+
+            Product found = productRepository.getById(product.getId());
+
+            assertEquals(product.getName(), found.getName());
+            assertEquals(product.getDescription(), found.getDescription());
+            assertEquals(product.getPrice(), found.getPrice());
+            assertEquals(product.getStockQuantity(), found.getStockQuantity());
+            assertEquals(product.getCategoryId(), found.getCategoryId());
+            assertEquals(ProductStatus.ON_SALE, found.getStatus());
+            assertSameMicros(product.getCreatedAt(), found.getCreatedAt());
+            assertSameMicros(product.getUpdatedAt(), found.getUpdatedAt());
+        }
+
+        @Test
+        @DisplayName("이미 있는 상품을 저장하면 갱신")
+        void save_existing_updates() {
+            Product product = productRepository.save(createProduct("키보드", 59000));
+
+            product.changePrice(Money.of(49000));
+            productRepository.save(product);
+
+            assertEquals(Money.of(49000), productRepository.getById(product.getId()).getPrice());
+            assertEquals(1, productRepository.count());
+        }
+
+        @Test
+        @DisplayName("일괄 저장은 신규는 추가하고 기존은 갱신 (배치 크기 경계 포함)")
+        void saveAll_mixedInsertAndUpdate() {
+            List<Product> existing = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                existing.add(createProduct("기존 상품" + i, 1000 + i));
+            }
+            productRepository.saveAll(existing);
+
+            List<Product> batch = new ArrayList<>();
+            for (Product product : existing) {
+                product.addStock(Quantity.of(5));
+                batch.add(product);
+            }
+            for (int i = 0; i < 3; i++) {
+                batch.add(createProduct("신규 상품" + i, 2000 + i));
+            }
+            productRepository.saveAll(batch);
+
+            assertEquals(7, productRepository.count());
+            for (Product product : existing) {
+                assertEquals(Quantity.of(15), productRepository.getById(product.getId()).getStockQuantity());
+            }
+        }
+
+        @Test
+        @DisplayName("드라이버가 갱신 건수를 알려주지 않아도 신규는 추가하고 기존은 갱신")
+        void saveAll_successNoInfo_mixedInsertAndUpdate() {
+            // given
+            JdbcProductRepository noInfoRepository = new JdbcProductRepository(new NoInfoJdbcTemplate(database), 3);
+            List<Product> existing = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                existing.add(createProduct("기존 상품" + i, 1000 + i));
+            }
+            productRepository.saveAll(existing);
+
+            List<Product> batch = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                batch.add(createProduct("신규 상품" + i, 2000 + i));
+            }
+            for (Product product : existing) {
+                product.addStock(Quantity.of(5));
+                batch.add(product);
+            }
+
+            // when
+            noInfoRepository.saveAll(batch);
+
+            // then
+            assertEquals(7, productRepository.count());
+            for (Product product : batch) {
+                Product found = productRepository.getById(product.getId());
+                assertEquals(product.getStockQuantity(), found.getStockQuantity());
+                assertEquals(product.getPrice(), found.getPrice());
+            }
+        }
+
+        @Test
+        @DisplayName("long 범위를 넘는 가격도 그대로 복원")
+        void save_priceBeyondLong_restores() {
+            Money huge = Money.of(new BigDecimal(Long.MAX_VALUE).add(BigDecimal.TEN));
+            Product product = Product.create(ProductName.of("한정판"), null, huge, Quantity.of(1), categoryId);
+            productRepository.save(product);
+
+            assertEquals(huge, productRepository.getById(product.getId()).getPrice());
+            assertEquals(Money.of(59000), productRepository.save(createProduct("키보드", 59000)).getPrice());
+        }
+
+        @Test
+        @DisplayName("카테고리와 상태로 조회")
+        void findByCategoryIdAndStatus() {
+            Product onSale = createProduct("판매 상품", 1000);
+            onSale.startSelling();
+            Product pending = createProduct("대기 상품", 1000);
+            Product otherCategory = Product.create(ProductName.of("다른 상품"), null, Money.of(1000),
+                    Quantity.of(1), CategoryId.generate());
+            productRepository.saveAll(List.of(onSale, pending, otherCategory));
+
+            assertEquals(2, productRepository.findByCategoryId(categoryId).size());
+            assertEquals(List.of(onSale), productRepository.findOnSaleProducts());
+            assertEquals(2, productRepository.findByStatus(ProductStatus.PENDING).size());
+        }
+
+        @Test
+        @DisplayName("삭제 후에는 존재하지 않음")
+        void deleteById_removesRow() {
+            Product product = productRepository.save(createProduct("키보드", 59000));
+
+            productRepository.deleteById(product.getId());
+
+            assertFalse(productRepository.existsById(product.getId()));
+            assertTrue(productRepository.findById(product.getId()).isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("카테고리 저장/조회 테스트")
+    class CategoryTest {
+
+        @Test
+        @DisplayName("상위/하위 카테고리를 표시 순서대로 조회")
+        void findRootAndChildren_orderedByDisplayOrder() {
+            Category root = categoryRepository.save(Category.createRoot("전자제품", null, 0));
+            Category second = categoryRepository.save(Category.create("노트북", null, root.getId(), 2));
+            Category first = categoryRepository.save(Category.create("키보드", null, root.getId(), 1));
+
+            assertEquals(List.of(root), categoryRepository.findRootCategories());
+            assertEquals(List.of(first, second), categoryRepository.findByParentId(root.getId()));
+        }
+
+        @Test
+        @DisplayName("비활성화한 카테고리는 활성 목록에서 제외하고 수정 시각을 유지")
+        void deactivate_excludedFromActive() {
+            Category category = categoryRepository.save(Category.createRoot("도서", "책", 0));
+            category.deactivate();
+            categoryRepository.save(category);
+
+            Category found = categoryRepository.getById(category.getId());
+
+            assertFalse(found.isActive());
+            assertNull(found.getParentId());
+            assertSameMicros(category.getUpdatedAt(), found.getUpdatedAt());
+            assertTrue(categoryRepository.findActiveCategories().isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("재고 조건부 차감 테스트")
+    class StockStoreTest {
+
+        @Test
+        @DisplayName("재고가 충분할 때만 차감하고, 0이 되면 품절 처리")
+        void decrease_conditional() {
+            Product product = Product.create(ProductName.of("키보드"), null, Money.of(1000), Quantity.of(3), categoryId);
+            product.startSelling();
+            productRepository.save(product);
+
+            assertTrue(stockStore.decrease(product.getId(), Quantity.of(2)));
+            assertFalse(stockStore.decrease(product.getId(), Quantity.of(2)));
+            assertTrue(stockStore.decrease(product.getId(), Quantity.of(1)));
+
+            Product found = productRepository.getById(product.getId());
+            assertEquals(Quantity.ZERO, found.getStockQuantity());
+            assertEquals(ProductStatus.OUT_OF_STOCK, found.getStatus());
+            assertEquals(0, stockStore.loadSellableStock(product.getId()));
+        }
+
+        @Test
+        @DisplayName("판매중이 아니면 차감하지 않음")
+        void decrease_notOnSale_returnsFalse() {
+            Product product = productRepository.save(createProduct("키보드", 1000));
+
+            assertFalse(stockStore.decrease(product.getId(), Quantity.of(1)));
+            assertEquals(0, stockStore.loadSellableStock(product.getId()));
+        }
+
+        @Test
+        @DisplayName("동시에 차감해도 재고 이상으로 차감되지 않음")
+        void decrease_concurrent_noOversell() throws Exception {
+            Product product = Product.create(ProductName.of("키보드"), null, Money.of(1000), Quantity.of(100), categoryId);
+            product.startSelling();
+            productRepository.save(product);
+            ExecutorService executor = Executors.newFixedThreadPool(8);
+            AtomicInteger succeeded = new AtomicInteger();
+            List<Future<?>> futures = new ArrayList<>();
+
+            for (int i = 0; i < 300; i++) {
+                futures.add(executor.submit(() -> {
+                    if (stockStore.decrease(product.getId(), Quantity.of(1))) {
+                        succeeded.incrementAndGet();
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+            executor.shutdown();
+
+            assertEquals(100, succeeded.get());
+            assertEquals(Quantity.ZERO, productRepository.getById(product.getId()).getStockQuantity());
+        }
+
+        @Test
+        @DisplayName("예약 확정 전에 읽은 상품을 저장하면 충돌하고 팔린 재고를 되살리지 않음")
+        void saveStaleProduct_afterConfirm_conflicts() {
+            // given
+            Product product = Product.create(ProductName.of("키보드"), null, Money.of(1000), Quantity.of(10), categoryId);
+            product.startSelling();
+            productRepository.save(product);
+            StockReservationEngine engine = new StockReservationEngine(stockStore, Clock.systemDefaultZone(),
+                    Duration.ofMinutes(10));
+            Product stale = productRepository.getById(product.getId());
+
+            engine.confirm(engine.reserve(product.getId(), Quantity.of(4)).id());
+
+            // when
+            stale.changePrice(Money.of(900));
+
+            // then
+            assertThrows(OptimisticLockingFailureException.class, () -> productRepository.save(stale));
+            assertThrows(OptimisticLockingFailureException.class, () -> productRepository.saveAll(List.of(stale)));
+            Product found = productRepository.getById(product.getId());
+            assertEquals(Quantity.of(6), found.getStockQuantity());
+            assertEquals(Money.of(1000), found.getPrice());
+
+            found.changePrice(Money.of(900));
+            productRepository.save(found);
+            assertEquals(Money.of(900), productRepository.getById(product.getId()).getPrice());
+            assertEquals(Quantity.of(6), productRepository.getById(product.getId()).getStockQuantity());
+        }
+
+        @Test
+        @DisplayName("같은 버전을 읽은 두 상품 중 나중에 저장한 쪽이 충돌")
+        void saveConcurrentlyLoaded_secondConflicts() {
+            Product product = productRepository.save(createProduct("키보드", 59000));
+            Product first = productRepository.getById(product.getId());
+            Product second = productRepository.getById(product.getId());
+
+            first.addStock(Quantity.of(5));
+            productRepository.save(first);
+            second.changePrice(Money.of(49000));
+
+            assertThrows(OptimisticLockingFailureException.class, () -> productRepository.save(second));
+            assertEquals(Quantity.of(15), productRepository.getById(product.getId()).getStockQuantity());
+        }
+    }
+}
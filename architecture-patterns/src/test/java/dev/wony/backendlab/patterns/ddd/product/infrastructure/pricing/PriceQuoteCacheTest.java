@@ -0,0 +1,227 @@
+package dev.wony.backendlab.patterns.ddd.product.infrastructure.pricing;
+
+import dev.wony.backendlab.patterns.ddd.product.domain.entity.Product;
+import dev.wony.backendlab.patterns.ddd.product.domain.event.ProductPriceChangedEvent;
+import dev.wony.backendlab.patterns.ddd.product.domain.service.PricingPolicy;
+import dev.wony.backendlab.patterns.ddd.product.domain.vo.*;
+import dev.wony.backendlab.patterns.ddd.product.infrastructure.event.DomainEventBus;
+import dev.wony.backendlab.patterns.ddd.product.infrastructure.pricing.PriceQuoteCache.Options;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PriceQuoteCache 테스트")
+class PriceQuoteCacheTest {
+
+    private SimpleMeterRegistry registry;
+    private AtomicInteger calls;
+    private PricingPolicy countingPolicy;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        calls = new AtomicInteger();
+        countingPolicy = counting(PricingPolicy.percentDiscount(10));
+    }
+
+    private PricingPolicy counting(PricingPolicy policy) {
+        return (product, quantity) -> {
+            calls.incrementAndGet();
+            return policy.calculatePrice(product, quantity);
+        };
+    }
+
+    private static Product createProduct(long price) {
+        return Product.create(ProductName.of("테스트 상품"), "설명", Money.of(price), Quantity.of(100),
+                CategoryId.generate());
+    }
+
+    private double count(String name, String key, String value) {
+        return registry.get(name).tag(key, value).counter().count();
+    }
+
+    @Nested
+    @DisplayName("조회 테스트")
+    class LookupTest {
+
+        @Test
+        @DisplayName("같은 상품과 수량은 한 번만 계산")
+        void sameKey_computedOnce() {
+            PriceQuoteCache cache = new PriceQuoteCache("test", countingPolicy, Options.defaults(), registry);
+            Product product = createProduct(10000);
+
+            assertEquals(Money.of(18000), cache.calculatePrice(product, Quantity.of(2)));
+            assertEquals(Money.of(18000), cache.calculatePrice(product, Quantity.of(2)));
+            assertEquals(Money.of(27000), cache.calculatePrice(product, Quantity.of(3)));
+
+            assertEquals(2, calls.get());
+            assertEquals(1, count("product.price.quotes", "result", "hit"));
+            assertEquals(2, count("product.price.quotes", "result", "miss"));
+            assertEquals(2, cache.size());
+        }
+
+        @Test
+        @DisplayName("최대 수량을 넘으면 캐시하지 않음")
+        void largeQuantity_bypassed() {
+            PriceQuoteCache cache = new PriceQuoteCache("test", countingPolicy, new Options(1 << 20, 10, 4), registry);
+            Product product = createProduct(10000);
+
+            cache.calculatePrice(product, Quantity.of(11));
+            cache.calculatePrice(product, Quantity.of(11));
+
+            assertEquals(2, calls.get());
+            assertEquals(2, count("product.price.quotes", "result", "bypass"));
+            assertEquals(0, cache.size());
+        }
+
+        @Test
+        @DisplayName("상품별 견적 수를 넘으면 가장 오래된 수량부터 버림")
+        void perProductLimit_dropsOldest() {
+            PriceQuoteCache cache = new PriceQuoteCache("test", countingPolicy, new Options(1 << 20, 100, 2), registry);
+            Product product = createProduct(10000);
+
+            cache.calculatePrice(product, Quantity.of(1));
+            cache.calculatePrice(product, Quantity.of(2));
+            cache.calculatePrice(product, Quantity.of(3));
+            assertEquals(3, calls.get());
+
+            cache.calculatePrice(product, Quantity.of(3));
+            cache.calculatePrice(product, Quantity.of(2));
+            assertEquals(3, calls.get());
+
+            cache.calculatePrice(product, Quantity.of(1));
+            assertEquals(4, calls.get());
+            assertEquals(2, cache.size());
+        }
+
+        @Test
+        @DisplayName("메모리 상한을 넘으면 견적을 밀어내고 지표에 기록")
+        void weightLimit_evicts() {
+            long limit = 10L * (PriceQuoteCache.ENTRY_BYTES + PriceQuoteCache.QUOTE_BYTES);
+            PriceQuoteCache cache = new PriceQuoteCache("test", countingPolicy, new Options(limit, 100, 4), registry);
+
+            for (int i = 0; i < 100; i++) {
+                cache.calculatePrice(createProduct(1000 + i), Quantity.of(1));
+            }
+
+            assertTrue(cache.size() <= 10);
+            assertTrue(cache.weight() <= limit);
+            assertEquals(100 - cache.size(), registry.get("product.price.quotes.evicted").counter().count());
+            assertEquals(cache.weight(), registry.get("product.price.quotes.weight").gauge().value());
+        }
+    }
+
+    @Nested
+    @DisplayName("무효화 테스트")
+    class InvalidationTest {
+
+        @Test
+        @DisplayName("가격 변경 이벤트를 처리하면 바뀐 가격으로 계산")
+        void priceChangedEvent_invalidatesProduct() {
+            PriceQuoteCache cache = new PriceQuoteCache("test", countingPolicy, Options.defaults(), registry);
+            DomainEventBus bus = DomainEventBus.sync(registry);
+            bus.subscribe(ProductPriceChangedEvent.class, cache);
+            Product product = createProduct(10000);
+            Product other = createProduct(5000);
+            cache.calculatePrice(product, Quantity.of(1));
+            cache.calculatePrice(other, Quantity.of(1));
+
+            product.changePrice(Money.of(8000));
+            bus.publishAll(product.pullDomainEvents());
+
+            assertEquals(1, cache.size());
+            assertEquals(Money.of(7200), cache.calculatePrice(product, Quantity.of(1)));
+            assertEquals(Money.of(4500), cache.calculatePrice(other, Quantity.of(1)));
+            assertEquals(3, calls.get());
+            assertEquals(1, count("product.price.quotes.invalidated", "cause", "price_changed"));
+        }
+
+        @Test
+        @DisplayName("이벤트 처리 전에 시작한 계산이 늦게 저장되어도 바뀐 가격의 상품에는 사용되지 않음")
+        void lateInsertFromOldPrice_notServed() throws Exception {
+            CountDownLatch computing = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            PricingPolicy slow = (product, quantity) -> {
+                computing.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return PricingPolicy.standard().calculatePrice(product, quantity);
+            };
+            PriceQuoteCache cache = new PriceQuoteCache("test", slow, Options.defaults(), registry);
+            Product product = createProduct(10000);
+            Product stale = Product.reconstitute(product.getId(), product.getName(), product.getDescription(),
+                    product.getPrice(), product.getStockQuantity(), product.getCategoryId(), product.getStatus(),
+                    product.getCreatedAt(), product.getUpdatedAt());
+
+            ExecutorService executor = Executors.newSingleThreadExecutor();
+            try {
+                Future<Money> old = executor.submit(() -> cache.calculatePrice(stale, Quantity.of(1)));
+                assertTrue(computing.await(5, TimeUnit.SECONDS));
+
+                product.changePrice(Money.of(8000));
+                cache.onEvents(List.of((ProductPriceChangedEvent) product.pullDomainEvents().get(1)));
+                release.countDown();
+                assertEquals(Money.of(10000), old.get(5, TimeUnit.SECONDS));
+
+                assertEquals(Money.of(8000), cache.calculatePrice(product, Quantity.of(1)));
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        @Test
+        @DisplayName("정책을 배포하면 버전이 올라가고 새 정책으로 계산")
+        void deploy_invalidatesAll() {
+            PriceQuoteCache cache = new PriceQuoteCache("test", countingPolicy, Options.defaults(), registry);
+            Product product = createProduct(10000);
+            cache.calculatePrice(product, Quantity.of(1));
+
+            long version = cache.deploy(counting(PricingPolicy.percentDiscount(20)));
+
+            assertEquals(2, version);
+            assertEquals(2, cache.policyVersion());
+            assertEquals(0, cache.size());
+            assertEquals(Money.of(8000), cache.calculatePrice(product, Quantity.of(1)));
+            assertEquals(Money.of(8000), cache.calculatePrice(product, Quantity.of(1)));
+            assertEquals(2, calls.get());
+            assertEquals(1, count("product.price.quotes.invalidated", "cause", "policy_deployed"));
+        }
+    }
+
+    @Nested
+    @DisplayName("검증 테스트")
+    class ValidationTest {
+
+        @Test
+        @DisplayName("잘못된 설정이면 예외")
+        void invalidOptions_throw() {
+            assertThrows(IllegalArgumentException.class, () -> new Options(0, 10, 4));
+            assertThrows(IllegalArgumentException.class, () -> new Options(1024, 0, 4));
+            assertThrows(IllegalArgumentException.class, () -> new Options(1024, 10, 0));
+        }
+
+        @Test
+        @DisplayName("null 정책이면 예외")
+        void nullPolicy_throws() {
+            assertThrows(NullPointerException.class,
+                    () -> new PriceQuoteCache("test", null, Options.defaults(), registry));
+            PriceQuoteCache cache = new PriceQuoteCache("test", countingPolicy, Options.defaults(), registry);
+            assertThrows(NullPointerException.class, () -> cache.deploy(null));
+        }
+    }
+}
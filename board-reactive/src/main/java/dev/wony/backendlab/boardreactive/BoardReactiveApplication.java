@@ -0,0 +1,12 @@
+package dev.wony.backendlab.boardreactive;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+@SpringBootApplication
+public class BoardReactiveApplication {
+
+    public static void main(String[] args) {
+        SpringApplication.run(BoardReactiveApplication.class, args);
+    }
+}
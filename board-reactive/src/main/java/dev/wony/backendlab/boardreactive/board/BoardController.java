@@ -0,0 +1,59 @@
+package dev.wony.backendlab.boardreactive.board;
+
+import dev.wony.backendlab.boardreactive.board.model.BoardDto;
+import dev.wony.backendlab.boardreactive.board.service.BoardService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 게시글 API (board 모듈 {@code BoardController}와 같은 요청/응답 계약)
+ */
+@RequestMapping("/boards")
+@RestController
+@RequiredArgsConstructor
+public class BoardController {
+
+    private final BoardService boardService;
+
+    @PostMapping
+    public Mono<ResponseEntity<BoardDto>> saveBoard(@RequestBody BoardDto boardDto) {
+        return boardService.save(boardDto)
+                .flatMap(registerBoard -> boardService.findById(registerBoard.getId()))
+                .map(ResponseEntity::ok);
+    }
+
+    /**
+     * 목록을 메모리에 모으지 않고 JSON 배열로 스트리밍한다.
+     */
+    @GetMapping
+    public ResponseEntity<Flux<BoardDto>> boards() {
+        return ResponseEntity.ok(boardService.findAll());
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<BoardDto>> board(@PathVariable Long id) {
+        return boardService.findById(id).map(ResponseEntity::ok);
+    }
+
+    @PutMapping("/{id}")
+    public Mono<ResponseEntity<BoardDto>> update(@PathVariable Long id, @RequestBody BoardDto boardDto) {
+        return boardService.update(id, boardDto)
+                .then(boardService.findById(id))
+                .map(ResponseEntity::ok);
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<Void>> delete(@PathVariable Long id) {
+        return boardService.deleteById(id).thenReturn(ResponseEntity.ok().build());
+    }
+}
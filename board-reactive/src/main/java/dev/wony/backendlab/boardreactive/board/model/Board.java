@@ -0,0 +1,60 @@
+package dev.wony.backendlab.boardreactive.board.model;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 (R2DBC)
+ * <p>
+ * 영속성 컨텍스트가 없으므로 변경은 새 인스턴스를 만들어 저장한다.
+ * 삭제는 board 모듈과 같이 soft delete 이며, 조회 쿼리에서 {@code deleted = false} 조건으로 제외한다.
+ * 테이블명은 dialect 규칙(H2 는 대문자)으로 quoting 되도록 {@link Table}에 이름을 지정하지 않는다.
+ */
+@Getter
+@Table
+@Builder(toBuilder = true, access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+@ToString
+public class Board {
+
+    @Id
+    private final Long id;
+
+    private final String title;
+
+    private final String content;
+
+    private final Long categoryId;
+
+    @CreatedDate
+    private final LocalDateTime createdAt;
+
+    @LastModifiedDate
+    private final LocalDateTime updatedAt;
+
+    private final boolean deleted;
+
+    private final LocalDateTime deletedAt;
+
+    private final long commentCount;
+
+    /**
+     * board 모듈과 같이 {@code categoryId}가 없으면 기존 카테고리를 유지한다.
+     */
+    public Board update(BoardDto boardDto) {
+        return this.toBuilder()
+                .title(boardDto.getTitle())
+                .content(boardDto.getContent())
+                .categoryId(boardDto.getCategoryId() != null ? boardDto.getCategoryId() : this.categoryId)
+                .build();
+    }
+}
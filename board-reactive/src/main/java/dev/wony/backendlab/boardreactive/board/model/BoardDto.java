@@ -0,0 +1,48 @@
+package dev.wony.backendlab.boardreactive.board.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 DTO (board 모듈의 {@code BoardDto}와 같은 JSON 계약)
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BoardDto {
+
+    private Long id;
+    private String title;
+    private String content;
+    private Long categoryId;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private Long commentCount;
+
+    public Board toEntity() {
+        return Board.builder()
+                .title(this.title)
+                .content(this.content)
+                .categoryId(this.categoryId)
+                .build();
+    }
+
+    public static BoardDto of(Board board) {
+        return BoardDto.builder()
+                .id(board.getId())
+                .title(board.getTitle())
+                .content(board.getContent())
+                .categoryId(board.getCategoryId())
+                .createdAt(board.getCreatedAt())
+                .updatedAt(board.getUpdatedAt())
+                .commentCount(board.getCommentCount())
+                .build();
+    }
+}
@@ -0,0 +1,19 @@
+package dev.wony.backendlab.boardreactive.board.repository;
+
+import dev.wony.backendlab.boardreactive.board.model.Board;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface BoardRepository extends ReactiveCrudRepository<Board, Long> {
+
+    Mono<Board> findByIdAndDeletedFalse(Long id);
+
+    Flux<Board> findAllByDeletedFalse();
+
+    @Modifying
+    @Query("update board set deleted = true, deleted_at = current_timestamp where id = :id and deleted = false")
+    Mono<Integer> softDeleteById(Long id);
+}
@@ -0,0 +1,18 @@
+package dev.wony.backendlab.boardreactive.board.service;
+
+import dev.wony.backendlab.boardreactive.board.model.BoardDto;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface BoardService {
+
+    Mono<BoardDto> save(BoardDto boardDto);
+
+    Mono<BoardDto> findById(Long id);
+
+    Flux<BoardDto> findAll();
+
+    Mono<Void> update(Long id, BoardDto boardDto);
+
+    Mono<Void> deleteById(Long id);
+}
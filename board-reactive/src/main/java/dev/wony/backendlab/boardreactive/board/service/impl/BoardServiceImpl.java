@@ -0,0 +1,55 @@
+package dev.wony.backendlab.boardreactive.board.service.impl;
+
+import dev.wony.backendlab.boardreactive.board.model.BoardDto;
+import dev.wony.backendlab.boardreactive.board.repository.BoardRepository;
+import dev.wony.backendlab.boardreactive.board.service.BoardService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class BoardServiceImpl implements BoardService {
+
+    private static final String BOARD_NOT_FOUND_MESSAGE = "게시글이 존재하지 않습니다.";
+
+    private final BoardRepository boardRepository;
+
+    @Override
+    public Mono<BoardDto> save(BoardDto boardDto) {
+        return boardRepository.save(boardDto.toEntity()).map(BoardDto::of);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Mono<BoardDto> findById(Long id) {
+        return boardRepository.findByIdAndDeletedFalse(id)
+                .switchIfEmpty(Mono.error(() -> new IllegalArgumentException(BOARD_NOT_FOUND_MESSAGE)))
+                .map(BoardDto::of);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Flux<BoardDto> findAll() {
+        return boardRepository.findAllByDeletedFalse().map(BoardDto::of);
+    }
+
+    @Override
+    public Mono<Void> update(Long id, BoardDto boardDto) {
+        return boardRepository.findByIdAndDeletedFalse(id)
+                .switchIfEmpty(Mono.error(() -> new IllegalArgumentException(BOARD_NOT_FOUND_MESSAGE)))
+                .flatMap(board -> boardRepository.save(board.update(boardDto)))
+                .then();
+    }
+
+    /**
+     * board 모듈과 같이 soft delete 한다. 존재하지 않는 게시글은 무시한다.
+     */
+    @Override
+    public Mono<Void> deleteById(Long id) {
+        return boardRepository.softDeleteById(id).then();
+    }
+}
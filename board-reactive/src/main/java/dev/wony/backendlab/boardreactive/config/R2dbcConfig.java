@@ -0,0 +1,12 @@
+package dev.wony.backendlab.boardreactive.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.r2dbc.config.EnableR2dbcAuditing;
+
+/**
+ * R2DBC 설정 클래스
+ */
+@Configuration
+@EnableR2dbcAuditing
+public class R2dbcConfig {
+}
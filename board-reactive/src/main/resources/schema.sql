@@ -0,0 +1,17 @@
+-- board 모듈 V1, V2 마이그레이션의 board 테이블과 같은 컬럼 구성 (id 는 R2DBC 가 생성 키를 받을 수 있도록 identity)
+create table if not exists board
+(
+    id            bigint generated by default as identity,
+    title         varchar(255),
+    content       varchar(255),
+    created_at    timestamp(6),
+    updated_at    timestamp(6),
+    deleted       boolean      default false not null,
+    deleted_at    timestamp(6),
+    comment_count bigint       default 0 not null,
+    category_id   bigint,
+    primary key (id)
+);
+
+create index if not exists idx_board_deleted_created_at on board (deleted, created_at);
+create index if not exists idx_board_category_id_id on board (category_id, id);
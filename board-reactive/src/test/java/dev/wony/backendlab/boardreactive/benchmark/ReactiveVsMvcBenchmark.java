@@ -0,0 +1,232 @@
+package dev.wony.backendlab.boardreactive.benchmark;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * board(MVC + JPA) vs board-reactive(WebFlux + R2DBC) 처리량/꼬리 지연/메모리 비교 벤치마크
+ * <p>
+ * 두 애플리케이션을 같은 힙 설정의 별도 JVM 으로 띄우고, 동시 연결 {@code benchmark.connections}개를 유지한 채
+ * {@code GET /boards/{id}}를 호출한다. 부하 종료 직후 서버의 heap 사용량, live thread 수, RSS 를 함께 기록한다.
+ * board 모듈의 요청 유입 제어와 SQL 지표/tracing 은 스택 자체의 차이만 보이도록 끈다.
+ * r2dbc-h2 는 임베디드 H2 를 감싼 드라이버라 DB 호출 자체는 네트워크 I/O 없이 실행된다. (원격 DB 대비 reactive 이점이 작게 나온다)
+ * <p>
+ * 실행: {@code ./gradlew :board-reactive:benchmark -Dbenchmark.connections=5000 -Dbenchmark.requests=100000}
+ * 결과: {@code board-reactive/build/reports/benchmark/reactive-vs-mvc.json} (테스트 리포트에도 스택별 항목으로 남긴다)
+ */
+@Tag("benchmark")
+@DisplayName("MVC vs Reactive 벤치마크")
+class ReactiveVsMvcBenchmark {
+
+    private static final int CONNECTIONS = Integer.getInteger("benchmark.connections", 5_000);
+    private static final int REQUESTS = Integer.getInteger("benchmark.requests", 100_000);
+    private static final int WARMUP_REQUESTS = Integer.getInteger("benchmark.warmup-requests", 10_000);
+    private static final String SERVER_HEAP = System.getProperty("benchmark.server-heap", "512m");
+    private static final int SEED_BOARDS = 100;
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+    @Test
+    @DisplayName("동시 연결 수를 유지한 채 두 스택의 처리량, p99, 메모리를 비교한다")
+    void compareStacks(TestReporter testReporter) throws Exception {
+        Result mvc = run("mvc-jpa", System.getProperty("benchmark.mvc.classpath"),
+                "dev.wony.backendlab.board.BoardApplication",
+                "--board.admission.enabled=false",
+                "--board.sql-metrics.enabled=false",
+                "--board.tracing.collector.enabled=false",
+                "--management.tracing.sampling.probability=0.0",
+                "--spring.jpa.show-sql=false",
+                "--server.tomcat.max-connections=" + (CONNECTIONS + 1_000),
+                "--server.tomcat.max-keep-alive-requests=-1");
+        Result reactive = run("webflux-r2dbc", System.getProperty("benchmark.reactive.classpath"),
+                "dev.wony.backendlab.boardreactive.BoardReactiveApplication");
+
+        testReporter.publishEntry(mvc.stack(), mvc.toJson());
+        testReporter.publishEntry(reactive.stack(), reactive.toJson());
+        Path report = Path.of("build", "reports", "benchmark", "reactive-vs-mvc.json");
+        Files.createDirectories(report.getParent());
+        Files.writeString(report, "[" + mvc.toJson() + "," + reactive.toJson() + "]");
+    }
+
+    private Result run(String stack, String classpath, String mainClass, String... args) throws Exception {
+        if (classpath == null) {
+            throw new IllegalStateException("benchmark.*.classpath 가 없습니다. ./gradlew :board-reactive:benchmark 로 실행하세요.");
+        }
+        int port = freePort();
+        List<String> command = new ArrayList<>(List.of(
+                ProcessHandle.current().info().command().orElse("java"),
+                "-Xms" + SERVER_HEAP, "-Xmx" + SERVER_HEAP,
+                "-cp", classpath, mainClass,
+                "--server.port=" + port,
+                "--management.endpoints.web.exposure.include=health,metrics"));
+        command.addAll(List.of(args));
+        Process server = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(Path.of("build", stack + "-server.log").toFile())
+                .start();
+        HttpClient client = HttpClient.newBuilder()
+                .executor(Executors.newFixedThreadPool(Math.max(2, Runtime.getRuntime().availableProcessors())))
+                .connectTimeout(Duration.ofSeconds(30))
+                .build();
+        try {
+            awaitReady(client, port);
+            List<Long> ids = seed(client, port);
+            fire(client, port, ids, WARMUP_REQUESTS);
+            Result result = fire(client, port, ids, REQUESTS);
+            return result.withServerStats(stack,
+                    metric(client, port, "jvm.memory.used?tag=area:heap") / (1024 * 1024),
+                    (int) metric(client, port, "jvm.threads.live"),
+                    rssMegabytes(server.pid()));
+        } finally {
+            server.destroy();
+            server.waitFor(30, TimeUnit.SECONDS);
+        }
+    }
+
+    private void awaitReady(HttpClient client, int port) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(120);
+        while (System.nanoTime() < deadline) {
+            try {
+                HttpResponse<Void> response = client.send(HttpRequest.newBuilder(
+                        URI.create("http://localhost:" + port + "/actuator/health")).build(),
+                        HttpResponse.BodyHandlers.discarding());
+                if (response.statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException e) {
+                // 아직 기동 중
+            }
+            Thread.sleep(200);
+        }
+        throw new IllegalStateException("서버가 기동되지 않았습니다. port=" + port);
+    }
+
+    private List<Long> seed(HttpClient client, int port) throws IOException, InterruptedException {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < SEED_BOARDS; i++) {
+            String body = jsonMapper.writeValueAsString(Map.of("title", "제목" + i, "content", "내용" + i));
+            HttpResponse<String> response = client.send(HttpRequest.newBuilder(
+                            URI.create("http://localhost:" + port + "/boards"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build(), HttpResponse.BodyHandlers.ofString());
+            ids.add(jsonMapper.readTree(response.body()).get("id").asLong());
+        }
+        return ids;
+    }
+
+    /**
+     * 동시에 진행 중인 요청(= 열린 연결) 수를 {@link #CONNECTIONS}개로 유지한다.
+     */
+    private Result fire(HttpClient client, int port, List<Long> ids, int requests) throws InterruptedException {
+        Semaphore inFlight = new Semaphore(CONNECTIONS);
+        long[] latencies = new long[requests];
+        AtomicInteger errors = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(requests);
+
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < requests; i++) {
+            inFlight.acquire();
+            int index = i;
+            URI uri = URI.create("http://localhost:" + port + "/boards/" + ids.get(i % ids.size()));
+            long begin = System.nanoTime();
+            client.sendAsync(HttpRequest.newBuilder(uri).GET().build(), HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, e) -> {
+                        latencies[index] = System.nanoTime() - begin;
+                        if (e != null || response.statusCode() != 200) {
+                            errors.incrementAndGet();
+                        }
+                        inFlight.release();
+                        done.countDown();
+                    });
+        }
+        done.await(30, TimeUnit.MINUTES);
+        return Result.of(latencies, errors.get(), System.nanoTime() - startedAt);
+    }
+
+    private double metric(HttpClient client, int port, String name) throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(
+                URI.create("http://localhost:" + port + "/actuator/metrics/" + name)).build(),
+                HttpResponse.BodyHandlers.ofString());
+        JsonNode measurements = jsonMapper.readTree(response.body()).get("measurements");
+        return measurements == null ? -1 : measurements.get(0).get("value").asDouble();
+    }
+
+    /**
+     * Linux 에서만 측정한다. (그 외 OS 는 -1)
+     */
+    private static double rssMegabytes(long pid) {
+        try {
+            for (String line : Files.readAllLines(Path.of("/proc", String.valueOf(pid), "status"))) {
+                if (line.startsWith("VmRSS:")) {
+                    return Long.parseLong(line.replaceAll("\\D", "")) / 1024.0;
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            // 측정 불가
+        }
+        return -1;
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private record Result(String stack, int connections, int requests, int errors, double throughput,
+                          double p50Millis, double p99Millis, double p999Millis,
+                          double heapUsedMb, int liveThreads, double rssMb) {
+
+        static Result of(long[] latencies, int errors, long elapsedNanos) {
+            long[] sorted = Arrays.copyOf(latencies, latencies.length);
+            Arrays.sort(sorted);
+            return new Result(null, CONNECTIONS, sorted.length, errors,
+                    sorted.length / (elapsedNanos / 1_000_000_000.0),
+                    percentile(sorted, 0.50), percentile(sorted, 0.99), percentile(sorted, 0.999),
+                    0, 0, 0);
+        }
+
+        private static double percentile(long[] sorted, double p) {
+            int index = (int) Math.min(sorted.length - 1, Math.ceil(p * sorted.length) - 1);
+            return sorted[Math.max(0, index)] / 1_000_000.0;
+        }
+
+        Result withServerStats(String stack, double heapUsedMb, int liveThreads, double rssMb) {
+            return new Result(stack, connections, requests, errors, throughput,
+                    p50Millis, p99Millis, p999Millis, heapUsedMb, liveThreads, rssMb);
+        }
+
+        String toJson() {
+            return String.format(
+                    "{\"stack\":\"%s\",\"connections\":%d,\"requests\":%d,\"errors\":%d,\"throughput\":%.1f,"
+                            + "\"p50Millis\":%.2f,\"p99Millis\":%.2f,\"p999Millis\":%.2f,"
+                            + "\"heapUsedMb\":%.1f,\"liveThreads\":%d,\"rssMb\":%.1f}",
+                    stack, connections, requests, errors, throughput, p50Millis, p99Millis, p999Millis,
+                    heapUsedMb, liveThreads, rssMb);
+        }
+    }
+}
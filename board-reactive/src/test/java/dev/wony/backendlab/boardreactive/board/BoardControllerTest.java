@@ -0,0 +1,96 @@
+package dev.wony.backendlab.boardreactive.board;
+
+import dev.wony.backendlab.boardreactive.board.model.BoardDto;
+import dev.wony.backendlab.boardreactive.board.service.BoardService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webflux.test.autoconfigure.WebFluxTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@WebFluxTest(BoardController.class)
+@DisplayName("BoardController(Reactive) 테스트")
+class BoardControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @MockitoBean
+    private BoardService boardService;
+
+    @Test
+    @DisplayName("게시글 저장 요청 시 저장된 게시글을 반환한다")
+    void saveBoard_ReturnsSavedBoard() {
+        // given
+        BoardDto savedDto = BoardDto.builder().id(1L).title("테스트 제목").content("테스트 내용").build();
+        when(boardService.save(any(BoardDto.class))).thenReturn(Mono.just(savedDto));
+        when(boardService.findById(anyLong())).thenReturn(Mono.just(savedDto));
+
+        // when & then
+        webTestClient.post().uri("/boards")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"title\":\"테스트 제목\",\"content\":\"테스트 내용\"}")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.id").isEqualTo(1)
+                .jsonPath("$.title").isEqualTo("테스트 제목");
+    }
+
+    @Test
+    @DisplayName("전체 게시글 조회 요청 시 게시글 목록을 JSON 배열로 반환한다")
+    void boards_ReturnsBoardList() {
+        // given
+        when(boardService.findAll()).thenReturn(Flux.just(
+                BoardDto.builder().id(1L).title("제목1").content("내용1").build(),
+                BoardDto.builder().id(2L).title("제목2").content("내용2").build()));
+
+        // when & then
+        webTestClient.get().uri("/boards")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(2)
+                .jsonPath("$[0].title").isEqualTo("제목1");
+    }
+
+    @Test
+    @DisplayName("게시글 수정 요청 시 수정된 게시글을 반환한다")
+    void update_ReturnsUpdatedBoard() {
+        // given
+        BoardDto updatedDto = BoardDto.builder().id(1L).title("수정된 제목").content("수정된 내용").build();
+        when(boardService.update(eq(1L), any(BoardDto.class))).thenReturn(Mono.empty());
+        when(boardService.findById(1L)).thenReturn(Mono.just(updatedDto));
+
+        // when & then
+        webTestClient.put().uri("/boards/1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"title\":\"수정된 제목\",\"content\":\"수정된 내용\"}")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.title").isEqualTo("수정된 제목");
+    }
+
+    @Test
+    @DisplayName("게시글 삭제 요청 시 200 을 반환한다")
+    void delete_ReturnsOk() {
+        // given
+        when(boardService.deleteById(1L)).thenReturn(Mono.empty());
+
+        // when & then
+        webTestClient.delete().uri("/boards/1")
+                .exchange()
+                .expectStatus().isOk();
+    }
+}
@@ -0,0 +1,83 @@
+package dev.wony.backendlab.boardreactive.board.repository;
+
+import dev.wony.backendlab.boardreactive.board.model.Board;
+import dev.wony.backendlab.boardreactive.board.model.BoardDto;
+import dev.wony.backendlab.boardreactive.config.R2dbcConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.r2dbc.test.autoconfigure.DataR2dbcTest;
+import org.springframework.context.annotation.Import;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataR2dbcTest
+@Import(R2dbcConfig.class)
+@DisplayName("BoardRepository(R2DBC) 테스트")
+class BoardRepositoryTest {
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @BeforeEach
+    void setUp() {
+        boardRepository.deleteAll().block();
+    }
+
+    @Test
+    @DisplayName("게시글 저장 시 ID 와 생성 시각이 채워진다")
+    void save_Board() {
+        // given
+        Board board = BoardDto.builder().title("테스트 제목").content("테스트 내용").build().toEntity();
+
+        // when & then
+        StepVerifier.create(boardRepository.save(board))
+                .assertNext(saved -> {
+                    assertThat(saved.getId()).isNotNull();
+                    assertThat(saved.getCreatedAt()).isNotNull();
+                    assertThat(saved.getTitle()).isEqualTo("테스트 제목");
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("카테고리를 저장하고, 수정 요청에 카테고리가 없으면 기존 카테고리를 유지한다")
+    void save_KeepsCategoryWhenUpdateOmitsIt() {
+        // given
+        Board saved = boardRepository.save(
+                BoardDto.builder().title("제목").content("내용").categoryId(7L).build().toEntity()).block();
+
+        // when
+        Board updated = boardRepository.save(
+                saved.update(BoardDto.builder().title("수정된 제목").content("내용").build())).block();
+
+        // then
+        StepVerifier.create(boardRepository.findByIdAndDeletedFalse(updated.getId()))
+                .assertNext(board -> {
+                    assertThat(board.getTitle()).isEqualTo("수정된 제목");
+                    assertThat(BoardDto.of(board).getCategoryId()).isEqualTo(7L);
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("soft delete 된 게시글은 조회되지 않는다")
+    void softDeleteById_ExcludesFromQueries() {
+        // given
+        Board saved = boardRepository.save(
+                BoardDto.builder().title("제목").content("내용").build().toEntity()).block();
+
+        // when
+        Integer deleted = boardRepository.softDeleteById(saved.getId()).block();
+
+        // then
+        assertThat(deleted).isEqualTo(1);
+        StepVerifier.create(boardRepository.findByIdAndDeletedFalse(saved.getId())).verifyComplete();
+        StepVerifier.create(boardRepository.findAllByDeletedFalse()).verifyComplete();
+        StepVerifier.create(boardRepository.findById(saved.getId()))
+                .assertNext(board -> assertThat(board.isDeleted()).isTrue())
+                .verifyComplete();
+    }
+}
@@ -0,0 +1,50 @@
+package dev.wony.backendlab.board.benchmark;
+
+import dev.wony.backendlab.board.board.model.Board;
+import dev.wony.backendlab.board.board.model.BoardDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link BoardDto#of(Board)} / {@link BoardDto#toEntity()} 매핑 비용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BoardMappingBenchmark {
+
+    private BoardDto boardDto;
+    private Board board;
+
+    @Setup
+    public void setUp() {
+        boardDto = BoardDto.builder()
+                .id(1L)
+                .title("벤치마크 제목")
+                .content("벤치마크 내용")
+                .categoryId(10L)
+                .createdAt(LocalDateTime.of(2025, 1, 1, 10, 0))
+                .updatedAt(LocalDateTime.of(2025, 1, 1, 10, 0))
+                .commentCount(3L)
+                .build();
+        board = boardDto.toEntity();
+    }
+
+    @Benchmark
+    public BoardDto of() {
+        return BoardDto.of(board);
+    }
+
+    @Benchmark
+    public Board toEntity() {
+        return boardDto.toEntity();
+    }
+}
@@ -0,0 +1,53 @@
+package dev.wony.backendlab.board.benchmark;
+
+import dev.wony.backendlab.board.board.model.BoardDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code GET /boards} 응답 크기별 Jackson 직렬화 비용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BoardSerializationBenchmark {
+
+    @Param({"1", "100", "1000"})
+    private int size;
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+    private List<BoardDto> boards;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 10, 0);
+        boards = new ArrayList<>(size);
+        for (long id = 1; id <= size; id++) {
+            boards.add(BoardDto.builder()
+                    .id(id)
+                    .title("벤치마크 제목 " + id)
+                    .content("벤치마크 내용 " + id)
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .commentCount(id % 10)
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return jsonMapper.writeValueAsBytes(boards);
+    }
+}
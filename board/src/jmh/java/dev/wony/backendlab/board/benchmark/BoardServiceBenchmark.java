@@ -0,0 +1,90 @@
+package dev.wony.backendlab.board.benchmark;
+
+import dev.wony.backendlab.board.BoardApplication;
+import dev.wony.backendlab.board.board.model.BoardDto;
+import dev.wony.backendlab.board.board.service.BoardService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code BoardServiceImpl.findAll/findById} 비용 (임베디드 H2 + 시드 데이터)
+ * <p>
+ * 2차 캐시/query cache 를 켠 구성과 끈 구성을 {@code secondLevelCache} 파라미터로 비교한다.
+ * 웹 서버, 요청 유입 제어, SQL 지표, tracing 은 끄고 서비스 계층만 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BoardServiceBenchmark {
+
+    private static final String INSERT_SQL = """
+            insert into board (id, title, content, created_at, updated_at, deleted, comment_count)
+            values (?, ?, ?, current_timestamp, current_timestamp, false, 0)
+            """;
+
+    @Param({"100", "10000"})
+    private int boards;
+
+    @Param({"true", "false"})
+    private boolean secondLevelCache;
+
+    private ConfigurableApplicationContext context;
+    private BoardService boardService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(BoardApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.datasource.url=jdbc:h2:mem:jmh-" + boards + "-" + secondLevelCache,
+                        "--spring.jpa.show-sql=false",
+                        "--spring.jpa.properties.hibernate.generate_statistics=false",
+                        "--spring.jpa.properties.hibernate.cache.use_second_level_cache=" + secondLevelCache,
+                        "--spring.jpa.properties.hibernate.cache.use_query_cache=" + secondLevelCache,
+                        "--board.sql-metrics.enabled=false",
+                        "--board.tracing.collector.enabled=false",
+                        "--management.tracing.sampling.probability=0.0",
+                        "--logging.level.root=WARN");
+        seed(context.getBean(JdbcTemplate.class));
+        boardService = context.getBean(BoardService.class);
+    }
+
+    private void seed(JdbcTemplate jdbcTemplate) {
+        List<Object[]> args = new ArrayList<>(boards);
+        for (long id = 1; id <= boards; id++) {
+            args.add(new Object[]{id, "벤치마크 제목 " + id, "벤치마크 내용 " + id});
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, args);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<BoardDto> findAll() {
+        return boardService.findAll();
+    }
+
+    @Benchmark
+    public BoardDto findById() {
+        return boardService.findById(ThreadLocalRandom.current().nextLong(1, boards + 1));
+    }
+}
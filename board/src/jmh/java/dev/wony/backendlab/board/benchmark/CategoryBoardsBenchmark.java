@@ -0,0 +1,110 @@
+package dev.wony.backendlab.board.benchmark;
+
+import dev.wony.backendlab.board.BoardApplication;
+import dev.wony.backendlab.board.board.model.BoardPageDto;
+import dev.wony.backendlab.board.category.model.BoardCategoryDto;
+import dev.wony.backendlab.board.category.service.CategoryService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code CategoryServiceImpl.findBoards} 비용 (최상위 카테고리 하위 트리 전체 게시글의 keyset 페이지 조회)
+ * <p>
+ * 최상위 카테고리 1개 아래에 하위 10개, 각 하위마다 다시 10개의 카테고리를 두고
+ * {@code boards} 건의 게시글을 하위 카테고리에 고르게 흩어 둔다. (임베디드 H2)
+ * 첫 페이지, 중간 cursor 페이지, 잎 카테고리 첫 페이지를 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CategoryBoardsBenchmark {
+
+    private static final String INSERT_SQL = """
+            insert into board (id, title, content, created_at, updated_at, deleted, comment_count, category_id)
+            values (?, ?, ?, current_timestamp, current_timestamp, false, 0, ?)
+            """;
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"100000"})
+    private int boards;
+
+    private ConfigurableApplicationContext context;
+    private CategoryService categoryService;
+    private Long rootId;
+    private Long leafId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(BoardApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.datasource.url=jdbc:h2:mem:jmh-category-" + boards,
+                        "--spring.jpa.show-sql=false",
+                        "--spring.jpa.properties.hibernate.generate_statistics=false",
+                        "--board.sql-metrics.enabled=false",
+                        "--board.tracing.collector.enabled=false",
+                        "--management.tracing.sampling.probability=0.0",
+                        "--logging.level.root=WARN");
+        categoryService = context.getBean(CategoryService.class);
+        seed(context.getBean(JdbcTemplate.class));
+    }
+
+    private void seed(JdbcTemplate jdbcTemplate) {
+        rootId = categoryService.create(BoardCategoryDto.builder().name("root").build()).getId();
+        List<Long> descendants = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            Long childId = categoryService.create(
+                    BoardCategoryDto.builder().name("child-" + i).parentId(rootId).build()).getId();
+            descendants.add(childId);
+            for (int j = 0; j < 10; j++) {
+                descendants.add(categoryService.create(
+                        BoardCategoryDto.builder().name("leaf-" + i + "-" + j).parentId(childId).build()).getId());
+            }
+        }
+        leafId = descendants.get(descendants.size() - 1);
+
+        Random random = new Random(36);
+        List<Object[]> args = new ArrayList<>(boards);
+        for (long id = 1; id <= boards; id++) {
+            args.add(new Object[]{id, "벤치마크 제목 " + id, "벤치마크 내용 " + id,
+                    descendants.get(random.nextInt(descendants.size()))});
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, args);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public BoardPageDto rootFirstPage() {
+        return categoryService.findBoards(rootId, null, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public BoardPageDto rootMiddlePage() {
+        return categoryService.findBoards(rootId, (long) boards / 2, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public BoardPageDto leafFirstPage() {
+        return categoryService.findBoards(leafId, null, PAGE_SIZE);
+    }
+}
@@ -0,0 +1,192 @@
+package dev.wony.backendlab.board.benchmark;
+
+import dev.wony.backendlab.board.BoardApplication;
+import dev.wony.backendlab.board.board.model.BoardDto;
+import dev.wony.backendlab.board.board.service.BoardService;
+import dev.wony.backendlab.board.board.service.impl.BoardServiceImpl;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.server.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 플랫폼 스레드(기본) vs virtual thread 프로파일 처리량/꼬리 지연 비교 벤치마크
+ * <p>
+ * 구성별로 애플리케이션을 띄우고 JMH 스레드 {@value #CLIENTS}개가 동시에 {@code GET /boards/{id}}를 호출한다.
+ * 처리량은 Throughput, p50/p99/p99.9 지연은 SampleTime 결과로, 200 이 아닌 응답 수는 {@code errors} 보조 지표로 남는다.
+ * H2 in-memory 는 지연이 거의 없어 스레드 모델 차이가 드러나지 않으므로, 서비스 호출마다 원격 DB 왕복을 흉내 내는 지연을 넣는다.
+ * DB 동시성 예산(동시 처리 한도, permit 대기 시간)은 두 구성에 동일하게 적용하여 스레드 모델만 달라지도록 한다.
+ * <p>
+ * virtual thread 는 JDK 21 이상에서만 켜지므로 fork JVM 을 지정해 실행한다.
+ * {@code ./gradlew :board:jmh -PjmhIncludes=ThreadingModel -PjmhJvm=/path/to/jdk-21/bin/java}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(ThreadingModelBenchmark.CLIENTS)
+public class ThreadingModelBenchmark {
+
+    static final int CLIENTS = 200;
+    private static final int SEED_BOARDS = 100;
+
+    @Param({"platform-threads", "virtual-threads"})
+    private String profile;
+
+    @Param({"5"})
+    private long dbLatencyMillis;
+
+    private ConfigurableApplicationContext context;
+    private ExecutorService clientExecutor;
+    private HttpClient client;
+    private List<URI> uris;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(BoardApplication.class, SimulatedDbLatency.class);
+        if (!"platform-threads".equals(profile)) {
+            builder.profiles(profile);
+        }
+        context = builder.run(
+                "--server.port=0",
+                "--spring.jpa.show-sql=false",
+                "--benchmark.db-latency-ms=" + dbLatencyMillis,
+                "--board.sql-metrics.enabled=false",
+                "--board.tracing.collector.enabled=false",
+                "--management.tracing.sampling.probability=0.0",
+                "--logging.level.root=WARN",
+                "--board.admission.read.capacity=100000000",
+                "--board.admission.read.refill-per-second=100000000",
+                "--board.admission.max-concurrent-requests=16",
+                "--board.admission.max-wait=1s");
+        BoardService boardService = context.getBean(BoardServiceImpl.class);
+        for (int i = 0; i < SEED_BOARDS; i++) {
+            boardService.save(BoardDto.builder().title("제목" + i).content("내용" + i).build());
+        }
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        uris = boardService.findAll().stream()
+                .map(board -> URI.create("http://localhost:" + port + "/boards/" + board.getId()))
+                .toList();
+
+        clientExecutor = Executors.newFixedThreadPool(CLIENTS);
+        client = HttpClient.newBuilder()
+                .executor(clientExecutor)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    /**
+     * 클라이언트 executor 는 HttpClient 가 닫지 않으므로 trial 마다 직접 종료한다.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        clientExecutor.shutdownNow();
+        clientExecutor.awaitTermination(10, TimeUnit.SECONDS);
+        context.close();
+    }
+
+    /**
+     * 200 이 아닌 응답과 I/O 실패 횟수 (JMH 결과에 {@code errors} 로 함께 기록된다)
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Outcomes {
+
+        public long errors;
+    }
+
+    @Benchmark
+    public int getBoard(Outcomes outcomes) throws InterruptedException {
+        URI uri = uris.get(ThreadLocalRandom.current().nextInt(uris.size()));
+        try {
+            int status = client.send(HttpRequest.newBuilder(uri).GET().build(), HttpResponse.BodyHandlers.discarding())
+                    .statusCode();
+            if (status != 200) {
+                outcomes.errors++;
+            }
+            return status;
+        } catch (IOException e) {
+            outcomes.errors++;
+            return -1;
+        }
+    }
+
+    /**
+     * 서비스 호출마다 원격 DB 왕복 지연을 흉내 낸다. (동시성 제한 permit 을 쥔 상태에서 지연된다)
+     */
+    @Configuration(proxyBeanMethods = false)
+    static class SimulatedDbLatency {
+
+        @Bean
+        @Primary
+        BoardService latencyInjectingBoardService(BoardServiceImpl delegate, Environment environment) {
+            long latencyMillis = environment.getProperty("benchmark.db-latency-ms", Long.class, 0L);
+            return new BoardService() {
+                @Override
+                public BoardDto save(BoardDto boardDto) {
+                    return delegate.save(boardDto);
+                }
+
+                @Override
+                public BoardDto findById(Long id) {
+                    sleep(latencyMillis);
+                    return delegate.findById(id);
+                }
+
+                @Override
+                public List<BoardDto> findAll() {
+                    return delegate.findAll();
+                }
+
+                @Override
+                public void update(Long id, BoardDto boardDto) {
+                    delegate.update(id, boardDto);
+                }
+
+                @Override
+                public void deleteById(Long id) {
+                    delegate.deleteById(id);
+                }
+
+                @Override
+                public void deleteAll() {
+                    delegate.deleteAll();
+                }
+            };
+        }
+
+        private static void sleep(long millis) {
+            try {
+                Thread.sleep(millis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -2,7 +2,18 @@ package dev.wony.backendlab.board.board;
 
 import dev.wony.backendlab.board.board.model.BoardDto;
 import dev.wony.backendlab.board.board.service.BoardService;
+import dev.wony.backendlab.board.common.client.ClientKeyResolver;
+import dev.wony.backendlab.board.common.exception.ErrorCode;
+import dev.wony.backendlab.board.common.idempotency.IdempotencyException;
+import dev.wony.backendlab.board.common.idempotency.IdempotencyStore;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -10,30 +21,101 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 게시글 API
+ * <p>
+ * 조회 응답에는 ETag(내용 기반)와 Last-Modified({@code updatedAt})를 붙이고 매 요청 재검증({@code no-cache})하도록 한다.
+ * 조건부 요청이 일치하면 본문 직렬화 없이 304 를 반환한다.
+ * 댓글 수는 {@code updatedAt} 변경 없이 바뀌므로 ETag 에 포함한다.
+ * 같은 URL 에서 JSON 과 CBOR 를 모두 제공하므로 {@code Vary: Accept}를 붙이고 응답 형식도 ETag 에 포함한다.
+ * <p>
+ * 등록 요청에 {@code Idempotency-Key}가 있으면 같은 키의 재시도는 게시글 테이블에 접근하지 않고 처음 응답을 그대로 돌려준다.
+ * 키는 클라이언트별로 구분하므로 다른 클라이언트가 같은 키를 보내도 서로의 응답을 받지 않는다.
+ */
 @RequestMapping("/boards")
 @RestController
 @RequiredArgsConstructor
 public class BoardController {
 
+    private static final CacheControl CACHE_CONTROL = CacheControl.noCache();
+    static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final int MAX_IDEMPOTENCY_KEY_LENGTH = 128;
+    private static final List<MediaType> REPRESENTATIONS = List.of(MediaType.APPLICATION_JSON, MediaType.APPLICATION_CBOR);
+
     private final BoardService boardService;
+    private final IdempotencyStore<BoardDto> boardIdempotencyStore;
+    private final ClientKeyResolver clientKeyResolver;
 
     @PostMapping
-    public ResponseEntity<BoardDto> saveBoard(@RequestBody BoardDto boardDto) {
+    public ResponseEntity<BoardDto> saveBoard(
+            @RequestHeader(name = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            @RequestBody BoardDto boardDto,
+            HttpServletRequest request) {
+        if (StringUtils.isBlank(idempotencyKey)) {
+            return ResponseEntity.ok(register(boardDto));
+        }
+        if (idempotencyKey.length() > MAX_IDEMPOTENCY_KEY_LENGTH) {
+            throw new IdempotencyException(ErrorCode.INVALID_IDEMPOTENCY_KEY);
+        }
+        String scopedKey = clientKeyResolver.resolve(request) + '\n' + idempotencyKey;
+        IdempotencyStore.Result<BoardDto> result =
+                boardIdempotencyStore.execute(scopedKey, fingerprint(boardDto), () -> register(boardDto));
+        return ResponseEntity.ok()
+                .header(IDEMPOTENT_REPLAYED_HEADER, String.valueOf(result.replayed()))
+                .body(result.response());
+    }
+
+    private BoardDto register(BoardDto boardDto) {
         BoardDto registerBoard = boardService.save(boardDto);
-        return ResponseEntity.ok(boardService.findById(registerBoard.getId()));
+        return boardService.findById(registerBoard.getId());
     }
 
+    /**
+     * 목록은 삭제/보관으로 행이 빠져도 최대 {@code updatedAt}이 바뀌지 않으므로 Last-Modified 없이 ETag 로만 재검증한다.
+     */
     @GetMapping
-    public ResponseEntity<?> boards() {
-        return ResponseEntity.ok(boardService.findAll());
+    public ResponseEntity<?> boards(@RequestHeader(name = HttpHeaders.ACCEPT, required = false) String accept) {
+        List<BoardDto> boards = boardService.findAll();
+        MediaType representation = representation(accept);
+        Hasher hasher = putRepresentation(Hashing.murmur3_128().newHasher(), representation);
+        for (BoardDto board : boards) {
+            putVersion(hasher, board);
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CACHE_CONTROL)
+                .varyBy(HttpHeaders.ACCEPT)
+                .contentType(representation)
+                .eTag(weakETag(hasher))
+                .body(boards);
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<BoardDto> board(@PathVariable Long id) {
-        return ResponseEntity.ok(boardService.findById(id));
+    public ResponseEntity<BoardDto> board(@PathVariable Long id,
+                                          @RequestHeader(name = HttpHeaders.ACCEPT, required = false) String accept) {
+        BoardDto board = boardService.findById(id);
+        MediaType representation = representation(accept);
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .cacheControl(CACHE_CONTROL)
+                .varyBy(HttpHeaders.ACCEPT)
+                .contentType(representation)
+                .eTag(weakETag(putVersion(putRepresentation(Hashing.murmur3_128().newHasher(), representation), board)));
+        if (board.getUpdatedAt() != null) {
+            builder.lastModified(toEpochMillis(board.getUpdatedAt()));
+        }
+        return builder.body(board);
     }
 
     @PutMapping("/{id}")
@@ -47,4 +129,60 @@ public class BoardController {
         boardService.deleteById(id);
         return ResponseEntity.ok().build();
     }
+
+    /**
+     * Accept 헤더에서 품질값이 가장 높은 제공 가능 형식을 고른다. (없거나 맞는 형식이 없으면 JSON)
+     */
+    static MediaType representation(String accept) {
+        if (StringUtils.isBlank(accept)) {
+            return MediaType.APPLICATION_JSON;
+        }
+        List<MediaType> requested;
+        try {
+            requested = new ArrayList<>(MediaType.parseMediaTypes(accept));
+        } catch (IllegalArgumentException e) {
+            return MediaType.APPLICATION_JSON;
+        }
+        requested.sort(Comparator.comparingDouble(MediaType::getQualityValue).reversed());
+        for (MediaType mediaType : requested) {
+            for (MediaType representation : REPRESENTATIONS) {
+                if (mediaType.getQualityValue() > 0 && mediaType.isCompatibleWith(representation)) {
+                    return representation;
+                }
+            }
+        }
+        return MediaType.APPLICATION_JSON;
+    }
+
+    private static Hasher putRepresentation(Hasher hasher, MediaType representation) {
+        return hasher.putString(representation.getSubtype(), StandardCharsets.UTF_8).putChar('\0');
+    }
+
+    private static Hasher putVersion(Hasher hasher, BoardDto board) {
+        return hasher.putLong(board.getId() == null ? 0L : board.getId())
+                .putLong(board.getUpdatedAt() == null ? 0L : toEpochMillis(board.getUpdatedAt()))
+                .putLong(board.getCommentCount() == null ? 0L : board.getCommentCount());
+    }
+
+    /**
+     * 같은 키로 다른 내용을 등록하려는 요청을 구분하기 위한 요청 본문 해시
+     */
+    private static String fingerprint(BoardDto boardDto) {
+        return Hashing.murmur3_128().newHasher()
+                .putString(Objects.toString(boardDto.getTitle(), ""), StandardCharsets.UTF_8)
+                .putChar('\0')
+                .putString(Objects.toString(boardDto.getContent(), ""), StandardCharsets.UTF_8)
+                .putChar('\0')
+                .putLong(boardDto.getCategoryId() == null ? 0L : boardDto.getCategoryId())
+                .hash()
+                .toString();
+    }
+
+    private static String weakETag(Hasher hasher) {
+        return "W/\"" + hasher.hash() + "\"";
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
 }
@@ -0,0 +1,41 @@
+package dev.wony.backendlab.board.board;
+
+import dev.wony.backendlab.board.board.snapshot.BoardSnapshot;
+import dev.wony.backendlab.board.board.snapshot.LatestBoardSnapshotRefresher;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+
+/**
+ * 최신 게시글 API (프론트 페이지용)
+ * <p>
+ * 미리 직렬화해 둔 off-heap 스냅샷을 그대로 응답 스트림에 쓴다. 응답 형식은 {@code GET /boards}와 같은 게시글 배열이다.
+ * 스냅샷은 게시글 변경 후 {@code board.snapshot.refresh-interval} 이내에 반영된다.
+ */
+@RestController
+@RequiredArgsConstructor
+public class LatestBoardController {
+
+    private static final String CACHE_CONTROL = CacheControl.noCache().getHeaderValue();
+
+    private final LatestBoardSnapshotRefresher latestBoardSnapshotRefresher;
+
+    @GetMapping("/boards/latest")
+    public void latestBoards(ServletWebRequest request, HttpServletResponse response) throws IOException {
+        BoardSnapshot snapshot = latestBoardSnapshotRefresher.current();
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        if (request.checkNotModified(snapshot.eTag())) {
+            return;
+        }
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(snapshot.sizeInBytes());
+        snapshot.writeTo(response.getOutputStream());
+    }
+}
@@ -1,10 +1,13 @@
 package dev.wony.backendlab.board.board.model;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -12,14 +15,41 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.SQLDelete;
+import org.hibernate.annotations.SQLRestriction;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
 
 
+/**
+ * 게시글 엔티티
+ * <p>
+ * 삭제는 soft delete로 처리되며, 삭제된 게시글은 {@link SQLRestriction}에 의해 조회 대상에서 제외된다.
+ * H2는 partial index(WHERE 절 인덱스)를 지원하지 않으므로 {@code deleted}를 선두 컬럼으로 둔 복합 인덱스로
+ * 살아있는 게시글만 스캔하도록 한다.
+ * <p>
+ * 인덱스는 {@code db/migration} 의 Flyway 스크립트와 동일하게 유지한다. ({@code prod} 프로파일은 스키마를 validate 한다)
+ * <p>
+ * 2차 캐시 region {@code board} 에 캐싱되며, region 크기와 만료 시간은 {@code application.conf} 에서 설정한다.
+ */
 @Getter
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "board")
+@Table(name = "board", indexes = {
+        @Index(name = "idx_board_deleted_created_at", columnList = "deleted, createdAt"),
+        @Index(name = "idx_board_created_at", columnList = "createdAt"),
+        @Index(name = "idx_board_updated_at", columnList = "updatedAt"),
+        @Index(name = "idx_board_title", columnList = "title"),
+        @Index(name = "idx_board_category_id_id", columnList = "categoryId, id")
+})
+@SQLDelete(sql = "update board set deleted = true, deleted_at = current_timestamp where id = ?")
+@SQLRestriction("deleted = false")
 @Builder(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
 @NoArgsConstructor
@@ -36,14 +66,40 @@ public class Board {
 
     private String content;
 
+    /**
+     * 소속 카테고리 (없으면 null)
+     */
+    private Long categoryId;
+
     @CreationTimestamp
     private LocalDateTime createdAt;
 
     @UpdateTimestamp
     private LocalDateTime updatedAt;
 
+    @Builder.Default
+    @Column(nullable = false)
+    private boolean deleted = false;
+
+    private LocalDateTime deletedAt;
+
+    /**
+     * 댓글 수 (비정규화)
+     * <p>
+     * 댓글 등록 시 즉시 갱신하지 않고 {@code CommentCountAggregator}가 모아서 일괄 반영하며,
+     * 어긋난 값은 {@code CommentCountReconciler}가 주기적으로 보정한다.
+     * 두 경로 모두 JDBC 로 직접 증감하므로, 엔티티의 INSERT/UPDATE 에서는 이 컬럼을 쓰지 않아 그 사이 반영된 증감분을 덮어쓰지 않는다.
+     */
+    @Builder.Default
+    @ColumnDefault("0")
+    @Column(nullable = false, insertable = false, updatable = false)
+    private long commentCount = 0L;
+
     public void update(BoardDto boardDto) {
         this.title = boardDto.getTitle();
         this.content = boardDto.getContent();
+        if (boardDto.getCategoryId() != null) {
+            this.categoryId = boardDto.getCategoryId();
+        }
     }
 }
@@ -0,0 +1,51 @@
+package dev.wony.backendlab.board.board.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관(cold tier) 게시글 엔티티
+ * <p>
+ * 보관 기간이 지난 게시글은 {@code board} 테이블에서 이 테이블로 이동한다.
+ * 행은 네이티브 INSERT ... SELECT로만 적재되므로 애플리케이션에서는 조회 용도로만 사용한다.
+ */
+@Getter
+@Entity
+@Table(name = "board_archive", indexes = {
+        @Index(name = "idx_board_archive_archived_at", columnList = "archivedAt")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@ToString
+public class BoardArchive {
+
+    @Id
+    @Column(name = "id", nullable = false)
+    private Long id;
+
+    private String title;
+
+    private String content;
+
+    private Long categoryId;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+
+    @Column(nullable = false)
+    private boolean deleted;
+
+    private LocalDateTime deletedAt;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+}
@@ -0,0 +1,17 @@
+package dev.wony.backendlab.board.board.model;
+
+/**
+ * 게시글 변경 이벤트 (트랜잭션 커밋 후 읽기 모델 갱신에 사용)
+ *
+ * @param boardId 변경된 게시글 ID (보관, 전체 삭제처럼 여러 게시글이 한꺼번에 바뀌면 null)
+ */
+public record BoardChangedEvent(Long boardId) {
+
+    public static BoardChangedEvent bulk() {
+        return new BoardChangedEvent(null);
+    }
+
+    public boolean isBulk() {
+        return boardId == null;
+    }
+}
@@ -19,14 +19,17 @@ public class BoardDto {
     private Long id;
     private String title;
     private String content;
+    private Long categoryId;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long commentCount;
 
     public Board toEntity() {
         return Board.builder()
                 .id(this.id)
                 .title(this.title)
                 .content(this.content)
+                .categoryId(this.categoryId)
                 .build();
     }
 
@@ -35,8 +38,10 @@ public class BoardDto {
                 .id(board.getId())
                 .title(board.getTitle())
                 .content(board.getContent())
+                .categoryId(board.getCategoryId())
                 .createdAt(board.getCreatedAt())
                 .updatedAt(board.getUpdatedAt())
+                .commentCount(board.getCommentCount())
                 .build();
     }
 }
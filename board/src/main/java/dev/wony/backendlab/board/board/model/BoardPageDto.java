@@ -0,0 +1,24 @@
+package dev.wony.backendlab.board.board.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 게시글 keyset 페이지
+ * <p>
+ * 다음 페이지는 {@code nextCursor}를 cursor 로 넘겨 조회한다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BoardPageDto {
+
+    private List<BoardDto> boards;
+    private Long nextCursor;
+    private boolean hasNext;
+}
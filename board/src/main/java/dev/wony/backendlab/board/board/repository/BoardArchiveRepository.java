@@ -0,0 +1,30 @@
+package dev.wony.backendlab.board.board.repository;
+
+import dev.wony.backendlab.board.board.model.BoardArchive;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface BoardArchiveRepository extends JpaRepository<BoardArchive, Long> {
+
+    /**
+     * 게시글을 엔티티 로딩 없이 INSERT ... SELECT 한 번으로 보관 테이블에 복사한다.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "board_archive"))
+    @Query(value = """
+            insert into board_archive (id, title, content, category_id, created_at, updated_at, deleted, deleted_at,
+                                       archived_at)
+            select id, title, content, category_id, created_at, updated_at, deleted, deleted_at, :archivedAt
+            from board
+            where id in (:ids)
+            """, nativeQuery = true)
+    int copyFromBoard(@Param("ids") List<Long> ids, @Param("archivedAt") LocalDateTime archivedAt);
+}
@@ -0,0 +1,62 @@
+package dev.wony.backendlab.board.board.repository;
+
+import dev.wony.backendlab.board.board.model.Board;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게시글 댓글 수(비정규화 컬럼) 갱신 저장소
+ * <p>
+ * JPQL bulk update 는 게시글 2차 캐시 region 전체를 무효화하므로, JDBC 로 직접 갱신한 뒤 변경된 게시글만 캐시에서 제거한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class BoardCommentCountRepository {
+
+    private static final String INCREASE_SQL =
+            "update board set comment_count = comment_count + ? where id = ?";
+
+    private static final String RECONCILE_SQL = """
+            update board b
+            set comment_count = (select count(*) from board_comment c where c.board_id = b.id)
+            where b.id between ? and ?
+              and b.comment_count <> (select count(*) from board_comment c where c.board_id = b.id)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+
+    /**
+     * 게시글별 증감분을 JDBC batch 한 번으로 반영한다.
+     */
+    public void increaseAll(Map<Long, Long> deltas) {
+        List<Object[]> args = new ArrayList<>(deltas.size());
+        deltas.forEach((boardId, delta) -> args.add(new Object[]{delta, boardId}));
+        jdbcTemplate.batchUpdate(INCREASE_SQL, args);
+        deltas.keySet().forEach(boardId -> entityManagerFactory.getCache().evict(Board.class, boardId));
+    }
+
+    /**
+     * ID 범위 내 게시글의 댓글 수를 실제 댓글 수로 보정한다.
+     *
+     * @return 보정된 게시글 수
+     */
+    public int reconcile(long fromId, long toId) {
+        int updated = jdbcTemplate.update(RECONCILE_SQL, fromId, toId);
+        if (updated > 0) {
+            entityManagerFactory.getCache().evict(Board.class);
+        }
+        return updated;
+    }
+
+    public long findMaxId() {
+        Long maxId = jdbcTemplate.queryForObject("select max(id) from board", Long.class);
+        return maxId == null ? 0L : maxId;
+    }
+}
@@ -1,7 +1,91 @@
 package dev.wony.backendlab.board.board.repository;
 
 import dev.wony.backendlab.board.board.model.Board;
+import dev.wony.backendlab.board.category.model.CategoryPostCount;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 public interface BoardRepository extends JpaRepository<Board, Long> {
+
+    /**
+     * 게시글 목록 조회 (query cache region {@code board-list})
+     */
+    @Override
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "board-list")
+    })
+    List<Board> findAll();
+
+    /**
+     * 최신 게시글부터 조회한다. (최신 게시글 스냅샷 생성용)
+     */
+    List<Board> findAllByOrderByIdDesc(Limit limit);
+
+    /**
+     * 카테고리 하위 트리(자기 자신 포함)의 최신 게시글부터 조회한다. (첫 페이지)
+     * <p>
+     * closure table 로 하위 카테고리를 한 번에 찾고, (category_id, id) 인덱스로 카테고리별 최신 게시글만 읽는다.
+     */
+    @Query("""
+            select b from Board b
+            where b.categoryId in (select c.descendantId from BoardCategoryClosure c where c.ancestorId = :categoryId)
+            order by b.id desc
+            """)
+    List<Board> findByCategorySubtree(@Param("categoryId") Long categoryId, Limit limit);
+
+    /**
+     * cursor 보다 오래된 카테고리 하위 트리 게시글을 조회한다. (다음 페이지)
+     */
+    @Query("""
+            select b from Board b
+            where b.categoryId in (select c.descendantId from BoardCategoryClosure c where c.ancestorId = :categoryId)
+              and b.id < :cursor
+            order by b.id desc
+            """)
+    List<Board> findByCategorySubtreeAndIdLessThan(@Param("categoryId") Long categoryId,
+                                                   @Param("cursor") Long cursor, Limit limit);
+
+    /**
+     * 주어진 게시글 중 살아있는 게시글 수를 카테고리별로 집계한다. (물리 삭제 전 카테고리 게시글 수 차감용)
+     */
+    @Query(value = """
+            select category_id as categoryId, count(*) as postCount
+            from board
+            where id in (:ids) and deleted = false and category_id is not null
+            group by category_id
+            """, nativeQuery = true)
+    List<CategoryPostCount> countLiveByCategoryIdIn(@Param("ids") List<Long> ids);
+
+    /**
+     * soft delete 여부와 관계없이 물리적으로 남아있는 게시글 ID를 chunk 단위로 조회한다.
+     */
+    @Query(value = "select id from board order by id limit :limit", nativeQuery = true)
+    List<Long> findIdChunk(@Param("limit") int limit);
+
+    /**
+     * 기준 시각 이전에 작성된 게시글 ID를 chunk 단위로 조회한다. (soft delete 포함)
+     */
+    @Query(value = "select id from board where created_at < :cutoff order by id limit :limit", nativeQuery = true)
+    List<Long> findIdChunkCreatedBefore(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+
+    /**
+     * 엔티티를 로딩하지 않고 단일 DELETE 문으로 물리 삭제한다.
+     * query space 를 {@code board}로 지정하여 2차 캐시 전체가 아닌 게시글 region 만 무효화한다.
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "board"))
+    @Query(value = "delete from board where id in (:ids)", nativeQuery = true)
+    int hardDeleteAllByIdIn(@Param("ids") List<Long> ids);
 }
@@ -0,0 +1,43 @@
+package dev.wony.backendlab.board.board.scheduler;
+
+import dev.wony.backendlab.board.board.service.BoardArchiveService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관 기간이 지난 게시글을 보관 테이블로 이동하는 배치
+ * <p>
+ * chunk 마다 별도 트랜잭션으로 커밋하므로 잠금 범위와 undo 로그가 chunk 크기로 제한된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "board.archive", name = "enabled", havingValue = "true")
+public class BoardArchiveScheduler {
+
+    private final BoardArchiveService boardArchiveService;
+
+    @Value("${board.archive.retention-days:365}")
+    private int retentionDays;
+
+    @Value("${board.archive.chunk-size:500}")
+    private int chunkSize;
+
+    @Scheduled(cron = "${board.archive.cron:0 0 4 * * *}")
+    public void archive() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+        long total = 0;
+        int moved;
+        do {
+            moved = boardArchiveService.archiveChunk(cutoff, chunkSize);
+            total += moved;
+        } while (moved == chunkSize);
+        log.info("게시글 보관 완료 - cutoff: {}, moved: {}", cutoff, total);
+    }
+}
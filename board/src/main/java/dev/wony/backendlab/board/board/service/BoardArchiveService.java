@@ -0,0 +1,14 @@
+package dev.wony.backendlab.board.board.service;
+
+import java.time.LocalDateTime;
+
+public interface BoardArchiveService {
+
+    /**
+     * 기준 시각 이전에 작성된 게시글 중 최대 chunkSize 건을 보관 테이블로 이동한다.
+     * 한 번의 호출이 하나의 트랜잭션이며, 반환값이 chunkSize 보다 작으면 더 이상 이동할 대상이 없다.
+     *
+     * @return 이동한 게시글 수
+     */
+    int archiveChunk(LocalDateTime cutoff, int chunkSize);
+}
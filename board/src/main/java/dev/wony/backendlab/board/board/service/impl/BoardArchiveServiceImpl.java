@@ -0,0 +1,47 @@
+package dev.wony.backendlab.board.board.service.impl;
+
+import dev.wony.backendlab.board.board.model.BoardChangedEvent;
+import dev.wony.backendlab.board.board.repository.BoardArchiveRepository;
+import dev.wony.backendlab.board.board.repository.BoardRepository;
+import dev.wony.backendlab.board.board.service.BoardArchiveService;
+import dev.wony.backendlab.board.category.model.CategoryPostCountChangedEvent;
+import dev.wony.backendlab.board.comment.repository.CommentArchiveRepository;
+import dev.wony.backendlab.board.comment.repository.CommentRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class BoardArchiveServiceImpl implements BoardArchiveService {
+
+    private final BoardRepository boardRepository;
+    private final BoardArchiveRepository boardArchiveRepository;
+    private final CommentRepository commentRepository;
+    private final CommentArchiveRepository commentArchiveRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 게시글의 댓글도 같은 트랜잭션에서 {@code board_comment_archive}로 옮긴다.
+     */
+    @Override
+    public int archiveChunk(LocalDateTime cutoff, int chunkSize) {
+        List<Long> ids = boardRepository.findIdChunkCreatedBefore(cutoff, chunkSize);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        eventPublisher.publishEvent(
+                CategoryPostCountChangedEvent.removed(boardRepository.countLiveByCategoryIdIn(ids)));
+        LocalDateTime archivedAt = LocalDateTime.now();
+        boardArchiveRepository.copyFromBoard(ids, archivedAt);
+        commentArchiveRepository.copyFromComment(ids, archivedAt);
+        commentRepository.hardDeleteAllByBoardIdIn(ids);
+        eventPublisher.publishEvent(BoardChangedEvent.bulk());
+        return boardRepository.hardDeleteAllByIdIn(ids);
+    }
+}
@@ -1,14 +1,22 @@
 package dev.wony.backendlab.board.board.service.impl;
 
 import dev.wony.backendlab.board.board.model.Board;
+import dev.wony.backendlab.board.board.model.BoardChangedEvent;
 import dev.wony.backendlab.board.board.model.BoardDto;
 import dev.wony.backendlab.board.board.repository.BoardRepository;
 import dev.wony.backendlab.board.board.service.BoardService;
+import dev.wony.backendlab.board.category.model.CategoryPostCountChangedEvent;
+import dev.wony.backendlab.board.category.repository.BoardCategoryRepository;
+import dev.wony.backendlab.board.comment.repository.CommentRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 @Service
@@ -17,12 +25,27 @@ import java.util.stream.Collectors;
 public class BoardServiceImpl implements BoardService {
 
     private static final String BOARD_NOT_FOUND_MESSAGE = "게시글이 존재하지 않습니다.";
+    private static final String CATEGORY_NOT_FOUND_MESSAGE = "카테고리가 존재하지 않습니다.";
+    private static final int DELETE_CHUNK_SIZE = 1_000;
 
     private final BoardRepository boardRepository;
+    private final BoardCategoryRepository boardCategoryRepository;
+    private final CommentRepository commentRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
 
+    /**
+     * 카테고리 게시글 수는 여기서 갱신하지 않고 커밋 후 {@code CategoryPostCountAggregator}가 일괄 반영한다.
+     */
     @Override
     public BoardDto save(BoardDto boardDto) {
-        return BoardDto.of(boardRepository.save(boardDto.toEntity()));
+        validateCategory(boardDto.getCategoryId());
+        Board board = boardRepository.save(boardDto.toEntity());
+        eventPublisher.publishEvent(new BoardChangedEvent(board.getId()));
+        if (board.getCategoryId() != null) {
+            eventPublisher.publishEvent(CategoryPostCountChangedEvent.moved(null, board.getCategoryId()));
+        }
+        return BoardDto.of(board);
     }
 
     @Override
@@ -44,16 +67,61 @@ public class BoardServiceImpl implements BoardService {
     public void update(Long id, BoardDto boardDto) {
         Board board = boardRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException(BOARD_NOT_FOUND_MESSAGE));
+        validateCategory(boardDto.getCategoryId());
+        Long previousCategoryId = board.getCategoryId();
         board.update(boardDto);
+        eventPublisher.publishEvent(new BoardChangedEvent(id));
+        if (!Objects.equals(previousCategoryId, board.getCategoryId())) {
+            eventPublisher.publishEvent(CategoryPostCountChangedEvent.moved(previousCategoryId, board.getCategoryId()));
+        }
     }
 
+    /**
+     * {@link Board}의 {@code @SQLDelete}에 의해 soft delete 된다.
+     */
     @Override
     public void deleteById(Long id) {
-        boardRepository.deleteById(id);
+        boardRepository.findById(id).ifPresent(board -> {
+            boardRepository.delete(board);
+            eventPublisher.publishEvent(new BoardChangedEvent(id));
+            if (board.getCategoryId() != null) {
+                eventPublisher.publishEvent(CategoryPostCountChangedEvent.moved(board.getCategoryId(), null));
+            }
+        });
     }
 
+    /**
+     * 엔티티를 하나씩 로딩해 삭제하는 대신 chunk 단위 bulk DELETE로 물리 삭제한다.
+     * chunk 마다 별도 트랜잭션으로 커밋되어 대량 삭제 시에도 잠금 범위가 제한된다.
+     * 카테고리 게시글 수 감소분은 삭제와 같은 트랜잭션에서 발행되어 해당 chunk 가 커밋된 경우에만 반영된다.
+     * 댓글은 FK 가 없으므로 같은 트랜잭션에서 함께 지워 고아 댓글이 남지 않게 한다.
+     */
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void deleteAll() {
-        boardRepository.deleteAll();
+        int deleted;
+        do {
+            deleted = Objects.requireNonNull(transactionTemplate.execute(status -> deleteChunk()));
+        } while (deleted == DELETE_CHUNK_SIZE);
+        eventPublisher.publishEvent(BoardChangedEvent.bulk());
+    }
+
+    private int deleteChunk() {
+        List<Long> ids = boardRepository.findIdChunk(DELETE_CHUNK_SIZE);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        CategoryPostCountChangedEvent removed =
+                CategoryPostCountChangedEvent.removed(boardRepository.countLiveByCategoryIdIn(ids));
+        commentRepository.hardDeleteAllByBoardIdIn(ids);
+        boardRepository.hardDeleteAllByIdIn(ids);
+        eventPublisher.publishEvent(removed);
+        return ids.size();
+    }
+
+    private void validateCategory(Long categoryId) {
+        if (categoryId != null && !boardCategoryRepository.existsById(categoryId)) {
+            throw new IllegalArgumentException(CATEGORY_NOT_FOUND_MESSAGE);
+        }
     }
 }
@@ -0,0 +1,188 @@
+package dev.wony.backendlab.board.board.snapshot;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 직렬화된 게시글 목록의 불변 off-heap 스냅샷
+ * <p>
+ * 게시글 JSON 을 ID 내림차순으로 {@code [a,b,...]} 형태의 JSON 배열 그대로 direct buffer 에 이어 붙여 두고,
+ * 요청 시에는 버퍼를 그대로 응답 스트림에 쓴다. (요청마다 JPA 조회나 Jackson 직렬화를 하지 않는다)
+ * 힙에는 게시글별 ID/위치/길이 원시 배열만 둔다.
+ * <p>
+ * 갱신은 {@link #merge}로 새 스냅샷을 만들어 교체한다. 변경된 게시글만 새로 직렬화하고 나머지는 기존 버퍼에서 복사한다.
+ * 이전 스냅샷의 버퍼는 참조가 사라지면 GC 가 해제한다.
+ * <p>
+ * 버전은 기동할 때마다 1부터 다시 시작하므로 ETag 에는 기동마다 새로 정하는 epoch 를 함께 넣는다.
+ * (재기동 전 ETag 로 보낸 조건부 요청이 다른 내용의 스냅샷과 일치하지 않도록)
+ */
+public final class BoardSnapshot {
+
+    private static final byte ARRAY_START = '[';
+    private static final byte ARRAY_END = ']';
+    private static final byte SEPARATOR = ',';
+
+    static final String BOOT_EPOCH = Long.toHexString(ThreadLocalRandom.current().nextLong());
+
+    private static final BoardSnapshot EMPTY = new BoardSnapshot(0L, new long[0], new int[0], new int[0],
+            ByteBuffer.allocateDirect(2).put(ARRAY_START).put(ARRAY_END).flip().asReadOnlyBuffer());
+
+    private final long version;
+    private final long[] ids;
+    private final int[] offsets;
+    private final int[] lengths;
+    private final ByteBuffer buffer;
+    private final String eTag;
+
+    private BoardSnapshot(long version, long[] ids, int[] offsets, int[] lengths, ByteBuffer buffer) {
+        this.version = version;
+        this.eTag = "W/\"" + BOOT_EPOCH + '-' + version + "\"";
+        this.ids = ids;
+        this.offsets = offsets;
+        this.lengths = lengths;
+        this.buffer = buffer;
+    }
+
+    public static BoardSnapshot empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 전체 스냅샷을 만든다.
+     *
+     * @param entries ID 내림차순 게시글 JSON
+     */
+    public static BoardSnapshot of(long version, List<Map.Entry<Long, byte[]>> entries) {
+        long[] ids = new long[entries.size()];
+        byte[][] sources = new byte[entries.size()][];
+        for (int i = 0; i < entries.size(); i++) {
+            ids[i] = entries.get(i).getKey();
+            sources[i] = entries.get(i).getValue();
+        }
+        return assemble(version, ids, sources, EMPTY);
+    }
+
+    /**
+     * 변경분을 반영한 새 스냅샷을 만든다.
+     *
+     * @param upserts  새로 직렬화한 게시글 JSON (추가 또는 수정)
+     * @param removals 삭제된 게시글 ID
+     * @param capacity 보관할 최신 게시글 수
+     */
+    public BoardSnapshot merge(long version, Map<Long, byte[]> upserts, Set<Long> removals, int capacity) {
+        long[] candidates = new long[ids.length + upserts.size()];
+        int count = 0;
+        for (long id : ids) {
+            if (!upserts.containsKey(id) && !removals.contains(id)) {
+                candidates[count++] = id;
+            }
+        }
+        for (Long id : upserts.keySet()) {
+            candidates[count++] = id;
+        }
+        Arrays.sort(candidates, 0, count);
+
+        int size = Math.min(count, capacity);
+        long[] mergedIds = new long[size];
+        byte[][] sources = new byte[size][];
+        for (int i = 0; i < size; i++) {
+            mergedIds[i] = candidates[count - 1 - i];
+            sources[i] = upserts.get(mergedIds[i]);
+        }
+        return assemble(version, mergedIds, sources, this);
+    }
+
+    /**
+     * {@code sources[i]}가 null 이면 {@code previous}의 버퍼에서 같은 게시글 구간을 복사한다.
+     */
+    private static BoardSnapshot assemble(long version, long[] ids, byte[][] sources, BoardSnapshot previous) {
+        int[] lengths = new int[ids.length];
+        int[] previousIndexes = new int[ids.length];
+        int total = 2 + Math.max(0, ids.length - 1);
+        for (int i = 0; i < ids.length; i++) {
+            if (sources[i] != null) {
+                lengths[i] = sources[i].length;
+            } else {
+                previousIndexes[i] = previous.indexOf(ids[i]);
+                lengths[i] = previous.lengths[previousIndexes[i]];
+            }
+            total += lengths[i];
+        }
+
+        ByteBuffer target = ByteBuffer.allocateDirect(total);
+        int[] offsets = new int[ids.length];
+        target.put(ARRAY_START);
+        for (int i = 0; i < ids.length; i++) {
+            if (i > 0) {
+                target.put(SEPARATOR);
+            }
+            offsets[i] = target.position();
+            if (sources[i] != null) {
+                target.put(sources[i]);
+            } else {
+                int offset = previous.offsets[previousIndexes[i]];
+                target.put(previous.buffer.duplicate().limit(offset + lengths[i]).position(offset));
+            }
+        }
+        target.put(ARRAY_END).flip();
+        return new BoardSnapshot(version, ids, offsets, lengths, target.asReadOnlyBuffer());
+    }
+
+    /**
+     * ID 내림차순 배열에서 이진 탐색한다.
+     */
+    private int indexOf(long id) {
+        int low = 0;
+        int high = ids.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (ids[mid] > id) {
+                low = mid + 1;
+            } else if (ids[mid] < id) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    public boolean contains(long id) {
+        return indexOf(id) >= 0;
+    }
+
+    public void writeTo(OutputStream out) throws IOException {
+        WritableByteChannel channel = Channels.newChannel(out);
+        ByteBuffer source = buffer.duplicate();
+        while (source.hasRemaining()) {
+            channel.write(source);
+        }
+    }
+
+    public String eTag() {
+        return eTag;
+    }
+
+    public long version() {
+        return version;
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    /**
+     * off-heap 버퍼 크기(byte)
+     */
+    public int sizeInBytes() {
+        return buffer.capacity();
+    }
+}
@@ -0,0 +1,183 @@
+package dev.wony.backendlab.board.board.snapshot;
+
+import dev.wony.backendlab.board.board.model.Board;
+import dev.wony.backendlab.board.board.model.BoardChangedEvent;
+import dev.wony.backendlab.board.board.model.BoardDto;
+import dev.wony.backendlab.board.board.repository.BoardRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 최신 게시글 읽기 모델({@link BoardSnapshot}) 갱신기
+ * <p>
+ * 게시글 변경 커밋 후 변경된 ID 만 모아 두었다가 주기적으로 해당 게시글만 다시 읽어 스냅샷에 반영한다.
+ * 보관/전체 삭제처럼 여러 게시글이 바뀌었거나, 삭제로 보관 개수가 모자라게 되면 전체를 다시 만든다.
+ * 댓글 수처럼 게시글 변경 이벤트 없이 바뀌는 값은 주기적인 전체 갱신으로 따라잡는다.
+ * <p>
+ * 지표: {@code board.snapshot.bytes}(off-heap 크기), {@code board.snapshot.boards},
+ * {@code board.snapshot.refresh}(갱신 소요 시간), {@code board.snapshot.lag}(커밋부터 스냅샷 반영까지 지연)
+ */
+@Slf4j
+@Component
+public class LatestBoardSnapshotRefresher {
+
+    private static final long NOT_PENDING = 0L;
+
+    private final BoardRepository boardRepository;
+    private final JsonMapper jsonMapper;
+    private final int capacity;
+
+    private final Map<Long, Long> changedAt = new ConcurrentHashMap<>();
+    private final AtomicLong bulkChangedAt = new AtomicLong(NOT_PENDING);
+    private volatile BoardSnapshot snapshot;
+    private long version;
+
+    private final Timer fullRefreshTimer;
+    private final Timer incrementalRefreshTimer;
+    private final Timer lagTimer;
+
+    public LatestBoardSnapshotRefresher(BoardRepository boardRepository,
+                                        JsonMapper jsonMapper,
+                                        ObjectProvider<MeterRegistry> meterRegistryProvider,
+                                        @Value("${board.snapshot.size:2000}") int capacity) {
+        this.boardRepository = boardRepository;
+        this.jsonMapper = jsonMapper;
+        this.capacity = capacity;
+        MeterRegistry meterRegistry = meterRegistryProvider.getIfAvailable(SimpleMeterRegistry::new);
+        this.fullRefreshTimer = refreshTimer(meterRegistry, "full");
+        this.incrementalRefreshTimer = refreshTimer(meterRegistry, "incremental");
+        this.lagTimer = Timer.builder("board.snapshot.lag")
+                .description("게시글 변경 커밋부터 스냅샷 반영까지 걸린 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        Gauge.builder("board.snapshot.bytes", this, refresher -> refresher.current().sizeInBytes())
+                .baseUnit("bytes")
+                .description("스냅샷 off-heap 버퍼 크기")
+                .register(meterRegistry);
+        Gauge.builder("board.snapshot.boards", this, refresher -> refresher.current().size())
+                .description("스냅샷에 담긴 게시글 수")
+                .register(meterRegistry);
+    }
+
+    private static Timer refreshTimer(MeterRegistry meterRegistry, String mode) {
+        return Timer.builder("board.snapshot.refresh")
+                .tag("mode", mode)
+                .register(meterRegistry);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBoardChanged(BoardChangedEvent event) {
+        long now = System.nanoTime();
+        if (event.isBulk()) {
+            bulkChangedAt.compareAndSet(NOT_PENDING, now);
+        } else {
+            changedAt.putIfAbsent(event.boardId(), now);
+        }
+    }
+
+    /**
+     * 현재 스냅샷. 아직 만들어지지 않았으면 먼저 만든다.
+     */
+    public BoardSnapshot current() {
+        BoardSnapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        refresh();
+        return snapshot;
+    }
+
+    /**
+     * 모인 변경분을 스냅샷에 반영한다.
+     */
+    @Scheduled(fixedDelayString = "${board.snapshot.refresh-interval:200}")
+    public synchronized void refresh() {
+        long bulkSince = bulkChangedAt.getAndSet(NOT_PENDING);
+        Map<Long, Long> changes = drainChanges();
+        if (snapshot == null || bulkSince != NOT_PENDING) {
+            rebuild();
+        } else if (!changes.isEmpty()) {
+            apply(changes.keySet());
+        }
+        recordLag(bulkSince, changes);
+    }
+
+    /**
+     * 이벤트 없이 바뀐 값(댓글 수 등)을 반영하기 위해 주기적으로 전체를 다시 만든다.
+     */
+    @Scheduled(fixedDelayString = "${board.snapshot.full-refresh-interval:60000}",
+            initialDelayString = "${board.snapshot.full-refresh-interval:60000}")
+    public synchronized void rebuild() {
+        long startedAt = System.nanoTime();
+        List<Map.Entry<Long, byte[]>> entries = new ArrayList<>(capacity);
+        for (Board board : boardRepository.findAllByOrderByIdDesc(Limit.of(capacity))) {
+            entries.add(new AbstractMap.SimpleImmutableEntry<>(board.getId(), serialize(board)));
+        }
+        snapshot = BoardSnapshot.of(++version, entries);
+        fullRefreshTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+    }
+
+    private void apply(Set<Long> boardIds) {
+        long startedAt = System.nanoTime();
+        Map<Long, byte[]> upserts = new HashMap<>();
+        for (Board board : boardRepository.findAllById(boardIds)) {
+            upserts.put(board.getId(), serialize(board));
+        }
+        Set<Long> removals = new HashSet<>(boardIds);
+        removals.removeAll(upserts.keySet());
+
+        if (snapshot.size() == capacity && removals.stream().anyMatch(snapshot::contains)) {
+            // 삭제로 빈 자리를 채울 다음 게시글을 스냅샷만으로는 알 수 없다.
+            rebuild();
+            return;
+        }
+        snapshot = snapshot.merge(++version, upserts, removals, capacity);
+        incrementalRefreshTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+    }
+
+    private Map<Long, Long> drainChanges() {
+        Map<Long, Long> changes = new HashMap<>();
+        for (Long boardId : changedAt.keySet()) {
+            Long since = changedAt.remove(boardId);
+            if (since != null) {
+                changes.put(boardId, since);
+            }
+        }
+        return changes;
+    }
+
+    private void recordLag(long bulkSince, Map<Long, Long> changes) {
+        long oldest = changes.values().stream().mapToLong(Long::longValue).min().orElse(NOT_PENDING);
+        if (bulkSince != NOT_PENDING && (oldest == NOT_PENDING || bulkSince < oldest)) {
+            oldest = bulkSince;
+        }
+        if (oldest != NOT_PENDING) {
+            lagTimer.record(System.nanoTime() - oldest, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private byte[] serialize(Board board) {
+        return jsonMapper.writeValueAsBytes(BoardDto.of(board));
+    }
+}
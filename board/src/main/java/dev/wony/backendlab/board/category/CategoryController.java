@@ -0,0 +1,39 @@
+package dev.wony.backendlab.board.category;
+
+import dev.wony.backendlab.board.board.model.BoardPageDto;
+import dev.wony.backendlab.board.category.model.BoardCategoryDto;
+import dev.wony.backendlab.board.category.service.CategoryService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RequestMapping("/categories")
+@RestController
+@RequiredArgsConstructor
+public class CategoryController {
+
+    private final CategoryService categoryService;
+
+    @PostMapping
+    public ResponseEntity<BoardCategoryDto> saveCategory(@RequestBody BoardCategoryDto categoryDto) {
+        return ResponseEntity.ok(categoryService.create(categoryDto));
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<BoardCategoryDto> category(@PathVariable Long id) {
+        return ResponseEntity.ok(categoryService.findById(id));
+    }
+
+    @GetMapping("/{id}/boards")
+    public ResponseEntity<BoardPageDto> boards(@PathVariable Long id,
+                                               @RequestParam(required = false) Long cursor,
+                                               @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(categoryService.findBoards(id, cursor, size));
+    }
+}
@@ -0,0 +1,65 @@
+package dev.wony.backendlab.board.category.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시판 카테고리 (포럼)
+ * <p>
+ * 계층 구조는 {@link BoardCategoryClosure}(closure table)에 모든 조상-자손 쌍으로 저장하여
+ * 하위 트리 조회를 재귀 없이 한 번의 인덱스 조회로 처리한다.
+ * 하위 트리 게시글 수는 {@code CategoryPostCountAggregator}가 증감분을 모아 조상 카테고리에 일괄 반영한다.
+ */
+@Getter
+@Entity
+@Table(name = "board_category")
+@Builder(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@ToString
+public class BoardCategory {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", nullable = false)
+    private Long id;
+
+    @Column(nullable = false)
+    private String name;
+
+    private Long parentId;
+
+    @Column(nullable = false)
+    private int depth;
+
+    /**
+     * 자신과 모든 하위 카테고리에 속한 게시글 수 (soft delete 제외)
+     */
+    @Builder.Default
+    @Column(nullable = false)
+    private long subtreePostCount = 0L;
+
+    @CreationTimestamp
+    private LocalDateTime createdAt;
+
+    public static BoardCategory root(String name) {
+        return BoardCategory.builder().name(name).depth(0).build();
+    }
+
+    public BoardCategory child(String name) {
+        return BoardCategory.builder().name(name).parentId(this.id).depth(this.depth + 1).build();
+    }
+}
@@ -0,0 +1,51 @@
+package dev.wony.backendlab.board.category.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.io.Serializable;
+
+/**
+ * 카테고리 closure table (조상-자손 쌍, 자기 자신 포함)
+ * <p>
+ * PK(ancestor_id, descendant_id)로 하위 트리를, descendant_id 인덱스로 조상 경로를 조회한다.
+ */
+@Getter
+@Entity
+@IdClass(BoardCategoryClosure.Key.class)
+@Table(name = "board_category_closure", indexes = {
+        @Index(name = "idx_board_category_closure_descendant_id", columnList = "descendantId")
+})
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@ToString
+public class BoardCategoryClosure {
+
+    @Id
+    private Long ancestorId;
+
+    @Id
+    private Long descendantId;
+
+    @Column(nullable = false)
+    private int depth;
+
+    @Getter
+    @EqualsAndHashCode
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Long ancestorId;
+        private Long descendantId;
+    }
+}
@@ -0,0 +1,32 @@
+package dev.wony.backendlab.board.category.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BoardCategoryDto {
+
+    private Long id;
+    private String name;
+    private Long parentId;
+    private Integer depth;
+    private Long subtreePostCount;
+
+    public static BoardCategoryDto of(BoardCategory category) {
+        return BoardCategoryDto.builder()
+                .id(category.getId())
+                .name(category.getName())
+                .parentId(category.getParentId())
+                .depth(category.getDepth())
+                .subtreePostCount(category.getSubtreePostCount())
+                .build();
+    }
+}
@@ -0,0 +1,11 @@
+package dev.wony.backendlab.board.category.model;
+
+/**
+ * 카테고리별 게시글 수 집계 결과 (native query projection)
+ */
+public interface CategoryPostCount {
+
+    Long getCategoryId();
+
+    long getPostCount();
+}
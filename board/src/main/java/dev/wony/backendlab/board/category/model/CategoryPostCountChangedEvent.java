@@ -0,0 +1,35 @@
+package dev.wony.backendlab.board.category.model;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 카테고리별 게시글 수 증감 이벤트 (트랜잭션 커밋 후 하위 트리 게시글 수 집계에 사용)
+ *
+ * @param deltas 카테고리 ID 별 직접 소속 게시글 수 증감분
+ */
+public record CategoryPostCountChangedEvent(Map<Long, Long> deltas) {
+
+    /**
+     * 게시글이 {@code from} 카테고리에서 {@code to} 카테고리로 옮겨졌다. (등록은 from, 삭제는 to 가 null)
+     */
+    public static CategoryPostCountChangedEvent moved(Long from, Long to) {
+        if (from == null) {
+            return new CategoryPostCountChangedEvent(Map.of(to, 1L));
+        }
+        if (to == null) {
+            return new CategoryPostCountChangedEvent(Map.of(from, -1L));
+        }
+        return new CategoryPostCountChangedEvent(Map.of(from, -1L, to, 1L));
+    }
+
+    /**
+     * 카테고리별로 집계된 게시글들이 한꺼번에 제거되었다. (보관, 전체 삭제)
+     */
+    public static CategoryPostCountChangedEvent removed(List<CategoryPostCount> counts) {
+        Map<Long, Long> deltas = new HashMap<>();
+        counts.forEach(count -> deltas.put(count.getCategoryId(), -count.getPostCount()));
+        return new CategoryPostCountChangedEvent(deltas);
+    }
+}
@@ -0,0 +1,32 @@
+package dev.wony.backendlab.board.category.repository;
+
+import dev.wony.backendlab.board.category.model.BoardCategoryClosure;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface BoardCategoryClosureRepository extends JpaRepository<BoardCategoryClosure, BoardCategoryClosure.Key> {
+
+    /**
+     * 자기 자신을 가리키는 행(depth 0)을 추가한다.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            insert into board_category_closure (ancestor_id, descendant_id, depth)
+            values (:categoryId, :categoryId, 0)
+            """, nativeQuery = true)
+    int insertSelf(@Param("categoryId") Long categoryId);
+
+    /**
+     * 부모의 모든 조상(부모 자신 포함)을 새 카테고리의 조상으로 복사한다.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            insert into board_category_closure (ancestor_id, descendant_id, depth)
+            select ancestor_id, :categoryId, depth + 1
+            from board_category_closure
+            where descendant_id = :parentId
+            """, nativeQuery = true)
+    int insertPath(@Param("categoryId") Long categoryId, @Param("parentId") Long parentId);
+}
@@ -0,0 +1,55 @@
+package dev.wony.backendlab.board.category.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 카테고리 하위 트리 게시글 수(비정규화 컬럼) 갱신 저장소
+ * <p>
+ * 게시글이 속한 카테고리의 증감분을 closure table 로 찾은 모든 조상 카테고리에 한 번의 UPDATE 로 반영한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class BoardCategoryCountRepository {
+
+    private static final String INCREASE_SQL = """
+            update board_category
+            set subtree_post_count = subtree_post_count + ?
+            where id in (select ancestor_id from board_category_closure where descendant_id = ?)
+            """;
+
+    private static final String RECOUNT_SQL = """
+            update board_category c
+            set subtree_post_count = (
+                select count(*)
+                from board_category_closure cc
+                join board b on b.category_id = cc.descendant_id
+                where cc.ancestor_id = c.id
+                  and b.deleted = false)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 카테고리별 증감분을 조상 카테고리까지 JDBC batch 한 번으로 반영한다.
+     */
+    public void increaseAll(Map<Long, Long> deltas) {
+        List<Object[]> args = new ArrayList<>(deltas.size());
+        deltas.forEach((categoryId, delta) -> args.add(new Object[]{delta, categoryId}));
+        jdbcTemplate.batchUpdate(INCREASE_SQL, args);
+    }
+
+    /**
+     * 모든 카테고리의 하위 트리 게시글 수를 다시 계산한다.
+     *
+     * @return 갱신된 카테고리 수
+     */
+    public int recountAll() {
+        return jdbcTemplate.update(RECOUNT_SQL);
+    }
+}
@@ -0,0 +1,7 @@
+package dev.wony.backendlab.board.category.repository;
+
+import dev.wony.backendlab.board.category.model.BoardCategory;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface BoardCategoryRepository extends JpaRepository<BoardCategory, Long> {
+}
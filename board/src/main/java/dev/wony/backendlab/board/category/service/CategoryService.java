@@ -0,0 +1,16 @@
+package dev.wony.backendlab.board.category.service;
+
+import dev.wony.backendlab.board.board.model.BoardPageDto;
+import dev.wony.backendlab.board.category.model.BoardCategoryDto;
+
+public interface CategoryService {
+
+    BoardCategoryDto create(BoardCategoryDto categoryDto);
+
+    BoardCategoryDto findById(Long id);
+
+    /**
+     * 카테고리와 모든 하위 카테고리의 게시글을 최신순으로 조회한다.
+     */
+    BoardPageDto findBoards(Long id, Long cursor, int size);
+}
@@ -0,0 +1,83 @@
+package dev.wony.backendlab.board.category.service.impl;
+
+import dev.wony.backendlab.board.category.model.CategoryPostCountChangedEvent;
+import dev.wony.backendlab.board.category.repository.BoardCategoryCountRepository;
+import dev.wony.backendlab.board.common.counter.DeltaBuffer;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+
+/**
+ * 카테고리 하위 트리 게시글 수 증감분 집계기
+ * <p>
+ * 게시글 등록/이동/삭제 커밋 후 카테고리별 증감분을 메모리에 누적하고, 주기적으로 조상 카테고리까지 일괄 반영한다.
+ * 같은 포럼에 글이 몰려도 조상 카테고리 행 UPDATE 는 flush 주기당 한 번이다.
+ * 반영 전 장애로 유실된 증감분은 {@link #recount()}가 보정한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CategoryPostCountAggregator {
+
+    private final DeltaBuffer pending = new DeltaBuffer();
+
+    private final BoardCategoryCountRepository boardCategoryCountRepository;
+
+    /**
+     * 게시글 변경이 커밋된 경우에만 반영한다. (롤백된 삭제/이동으로 게시글 수가 어긋나지 않도록)
+     */
+    @TransactionalEventListener
+    public void onPostCountChanged(CategoryPostCountChangedEvent event) {
+        event.deltas().forEach(this::increase);
+    }
+
+    public void increase(Long categoryId, long delta) {
+        pending.add(categoryId, delta);
+    }
+
+    public boolean hasPending(Long categoryId) {
+        return pending.hasPending(categoryId);
+    }
+
+    /**
+     * 누적된 증감분을 반영한다. 반영에 실패하면 증감분을 되돌려 다음 주기에 재시도한다.
+     *
+     * @return 반영된 카테고리 수 (조상 제외)
+     */
+    @Scheduled(fixedDelayString = "${board.category.count-flush-interval:1000}")
+    public synchronized int flush() {
+        Map<Long, Long> deltas = pending.drain();
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+        try {
+            boardCategoryCountRepository.increaseAll(deltas);
+        } catch (RuntimeException e) {
+            pending.restore(deltas);
+            log.warn("카테고리 게시글 수 반영 실패 - categories: {}", deltas.size(), e);
+            return 0;
+        }
+        return deltas.size();
+    }
+
+    /**
+     * 누적된 증감분을 먼저 반영한 뒤 전체 카테고리의 게시글 수를 다시 계산한다.
+     */
+    @Scheduled(cron = "${board.category.recount-cron:0 45 3 * * *}")
+    public synchronized int recount() {
+        flush();
+        int recounted = boardCategoryCountRepository.recountAll();
+        log.info("카테고리 게시글 수 재계산 완료 - categories: {}", recounted);
+        return recounted;
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
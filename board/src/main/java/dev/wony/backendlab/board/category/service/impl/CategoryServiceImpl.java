@@ -0,0 +1,86 @@
+package dev.wony.backendlab.board.category.service.impl;
+
+import dev.wony.backendlab.board.board.model.Board;
+import dev.wony.backendlab.board.board.model.BoardDto;
+import dev.wony.backendlab.board.board.model.BoardPageDto;
+import dev.wony.backendlab.board.board.repository.BoardRepository;
+import dev.wony.backendlab.board.category.model.BoardCategory;
+import dev.wony.backendlab.board.category.model.BoardCategoryDto;
+import dev.wony.backendlab.board.category.repository.BoardCategoryClosureRepository;
+import dev.wony.backendlab.board.category.repository.BoardCategoryRepository;
+import dev.wony.backendlab.board.category.service.CategoryService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class CategoryServiceImpl implements CategoryService {
+
+    private static final String CATEGORY_NOT_FOUND_MESSAGE = "카테고리가 존재하지 않습니다.";
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final BoardCategoryRepository boardCategoryRepository;
+    private final BoardCategoryClosureRepository boardCategoryClosureRepository;
+    private final BoardRepository boardRepository;
+
+    /**
+     * 카테고리를 추가하면서 closure table 에 자기 자신과 모든 조상 경로를 함께 기록한다.
+     */
+    @Override
+    public BoardCategoryDto create(BoardCategoryDto categoryDto) {
+        BoardCategory category;
+        if (categoryDto.getParentId() == null) {
+            category = boardCategoryRepository.save(BoardCategory.root(categoryDto.getName()));
+        } else {
+            BoardCategory parent = getCategory(categoryDto.getParentId());
+            category = boardCategoryRepository.save(parent.child(categoryDto.getName()));
+            boardCategoryClosureRepository.insertPath(category.getId(), parent.getId());
+        }
+        boardCategoryClosureRepository.insertSelf(category.getId());
+        return BoardCategoryDto.of(category);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public BoardCategoryDto findById(Long id) {
+        return BoardCategoryDto.of(getCategory(id));
+    }
+
+    /**
+     * 다음 페이지 존재 여부를 COUNT 없이 판단하기 위해 size + 1 건을 조회한다.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public BoardPageDto findBoards(Long id, Long cursor, int size) {
+        if (!boardCategoryRepository.existsById(id)) {
+            throw new IllegalArgumentException(CATEGORY_NOT_FOUND_MESSAGE);
+        }
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        Limit limit = Limit.of(pageSize + 1);
+        List<Board> boards = cursor == null
+                ? boardRepository.findByCategorySubtree(id, limit)
+                : boardRepository.findByCategorySubtreeAndIdLessThan(id, cursor, limit);
+
+        boolean hasNext = boards.size() > pageSize;
+        List<BoardDto> page = boards.stream()
+                .limit(pageSize)
+                .map(BoardDto::of)
+                .collect(Collectors.toList());
+        return BoardPageDto.builder()
+                .boards(page)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? page.get(page.size() - 1).getId() : null)
+                .build();
+    }
+
+    private BoardCategory getCategory(Long id) {
+        return boardCategoryRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException(CATEGORY_NOT_FOUND_MESSAGE));
+    }
+}
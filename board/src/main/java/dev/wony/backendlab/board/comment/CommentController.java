@@ -0,0 +1,34 @@
+package dev.wony.backendlab.board.comment;
+
+import dev.wony.backendlab.board.comment.model.CommentDto;
+import dev.wony.backendlab.board.comment.model.CommentPageDto;
+import dev.wony.backendlab.board.comment.service.CommentService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RequestMapping("/boards/{boardId}/comments")
+@RestController
+@RequiredArgsConstructor
+public class CommentController {
+
+    private final CommentService commentService;
+
+    @PostMapping
+    public ResponseEntity<CommentDto> saveComment(@PathVariable Long boardId, @RequestBody CommentDto commentDto) {
+        return ResponseEntity.ok(commentService.save(boardId, commentDto));
+    }
+
+    @GetMapping
+    public ResponseEntity<CommentPageDto> comments(@PathVariable Long boardId,
+                                                   @RequestParam(required = false) Long cursor,
+                                                   @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(commentService.findByBoardId(boardId, cursor, size));
+    }
+}
@@ -0,0 +1,51 @@
+package dev.wony.backendlab.board.comment.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 댓글 엔티티
+ * <p>
+ * 게시글별 keyset 페이지네이션({@code board_id = ? and id < ? order by id desc})을 위해
+ * (board_id, id) 복합 인덱스를 둔다.
+ */
+@Getter
+@Entity
+@Table(name = "board_comment", indexes = {
+        @Index(name = "idx_board_comment_board_id_id", columnList = "boardId, id")
+})
+@Builder(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@ToString
+public class Comment {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", nullable = false)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long boardId;
+
+    private String author;
+
+    private String content;
+
+    @CreationTimestamp
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,45 @@
+package dev.wony.backendlab.board.comment.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관(cold tier) 댓글 엔티티
+ * <p>
+ * 게시글이 {@code board_archive}로 이동할 때 그 게시글의 댓글도 같은 트랜잭션에서 이 테이블로 이동한다.
+ * 행은 네이티브 INSERT ... SELECT로만 적재되므로 애플리케이션에서는 조회 용도로만 사용한다.
+ */
+@Getter
+@Entity
+@Table(name = "board_comment_archive", indexes = {
+        @Index(name = "idx_board_comment_archive_board_id_id", columnList = "boardId, id")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@ToString
+public class CommentArchive {
+
+    @Id
+    @Column(name = "id", nullable = false)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long boardId;
+
+    private String author;
+
+    private String content;
+
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+}
@@ -0,0 +1,7 @@
+package dev.wony.backendlab.board.comment.model;
+
+/**
+ * 댓글 등록 이벤트 (트랜잭션 커밋 후 댓글 수 집계에 사용)
+ */
+public record CommentCreatedEvent(Long boardId) {
+}
@@ -0,0 +1,42 @@
+package dev.wony.backendlab.board.comment.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommentDto {
+
+    private Long id;
+    private Long boardId;
+    private String author;
+    private String content;
+    private LocalDateTime createdAt;
+
+    public Comment toEntity(Long boardId) {
+        return Comment.builder()
+                .boardId(boardId)
+                .author(this.author)
+                .content(this.content)
+                .build();
+    }
+
+    public static CommentDto of(Comment comment) {
+        return CommentDto.builder()
+                .id(comment.getId())
+                .boardId(comment.getBoardId())
+                .author(comment.getAuthor())
+                .content(comment.getContent())
+                .createdAt(comment.getCreatedAt())
+                .build();
+    }
+}
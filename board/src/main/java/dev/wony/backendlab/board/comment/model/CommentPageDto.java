@@ -0,0 +1,24 @@
+package dev.wony.backendlab.board.comment.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 댓글 keyset 페이지
+ * <p>
+ * 다음 페이지는 {@code nextCursor}를 cursor 로 넘겨 조회한다. OFFSET 을 쓰지 않으므로 뒤쪽 페이지도 조회 비용이 같다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommentPageDto {
+
+    private List<CommentDto> comments;
+    private Long nextCursor;
+    private boolean hasNext;
+}
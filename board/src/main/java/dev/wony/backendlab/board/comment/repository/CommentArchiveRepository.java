@@ -0,0 +1,29 @@
+package dev.wony.backendlab.board.comment.repository;
+
+import dev.wony.backendlab.board.comment.model.CommentArchive;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface CommentArchiveRepository extends JpaRepository<CommentArchive, Long> {
+
+    /**
+     * 게시글들의 댓글을 엔티티 로딩 없이 INSERT ... SELECT 한 번으로 보관 테이블에 복사한다.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "board_comment_archive"))
+    @Query(value = """
+            insert into board_comment_archive (id, board_id, author, content, created_at, archived_at)
+            select id, board_id, author, content, created_at, :archivedAt
+            from board_comment
+            where board_id in (:boardIds)
+            """, nativeQuery = true)
+    int copyFromComment(@Param("boardIds") List<Long> boardIds, @Param("archivedAt") LocalDateTime archivedAt);
+}
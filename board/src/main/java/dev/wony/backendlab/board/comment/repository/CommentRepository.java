@@ -0,0 +1,36 @@
+package dev.wony.backendlab.board.comment.repository;
+
+import dev.wony.backendlab.board.comment.model.Comment;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface CommentRepository extends JpaRepository<Comment, Long> {
+
+    /**
+     * 게시글의 최신 댓글부터 조회한다. (첫 페이지)
+     */
+    List<Comment> findByBoardIdOrderByIdDesc(Long boardId, Limit limit);
+
+    /**
+     * cursor 보다 오래된 댓글을 조회한다. (다음 페이지)
+     */
+    List<Comment> findByBoardIdAndIdLessThanOrderByIdDesc(Long boardId, Long cursor, Limit limit);
+
+    long countByBoardId(Long boardId);
+
+    /**
+     * 게시글들의 댓글을 엔티티 로딩 없이 단일 DELETE 문으로 물리 삭제한다. (게시글 물리 삭제/보관과 같은 트랜잭션에서 호출)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "board_comment"))
+    @Query(value = "delete from board_comment where board_id in (:boardIds)", nativeQuery = true)
+    int hardDeleteAllByBoardIdIn(@Param("boardIds") List<Long> boardIds);
+}
@@ -0,0 +1,40 @@
+package dev.wony.backendlab.board.comment.scheduler;
+
+import dev.wony.backendlab.board.board.repository.BoardCommentCountRepository;
+import dev.wony.backendlab.board.comment.service.impl.CommentCountAggregator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게시글 댓글 수 보정 배치
+ * <p>
+ * 비정규화된 댓글 수를 실제 댓글 수와 비교해 어긋난 게시글만 갱신한다.
+ * ID 범위 chunk 단위로 실행하여 한 번에 잠그는 행 수를 제한한다.
+ * 보정 직전에 누적된 증가분을 먼저 반영하지만, 보정 도중 커밋된 댓글로 생긴 일시적인 오차는 다음 실행에서 보정된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommentCountReconciler {
+
+    private final BoardCommentCountRepository boardCommentCountRepository;
+    private final CommentCountAggregator commentCountAggregator;
+
+    @Value("${board.comment.reconcile.chunk-size:1000}")
+    private int chunkSize;
+
+    @Scheduled(cron = "${board.comment.reconcile.cron:0 30 3 * * *}")
+    public int reconcile() {
+        commentCountAggregator.flush();
+        long maxId = boardCommentCountRepository.findMaxId();
+        int repaired = 0;
+        for (long fromId = 1; fromId <= maxId; fromId += chunkSize) {
+            repaired += boardCommentCountRepository.reconcile(fromId, fromId + chunkSize - 1);
+        }
+        log.info("댓글 수 보정 완료 - maxId: {}, repaired: {}", maxId, repaired);
+        return repaired;
+    }
+}
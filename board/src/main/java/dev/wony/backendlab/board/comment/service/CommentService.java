@@ -0,0 +1,16 @@
+package dev.wony.backendlab.board.comment.service;
+
+import dev.wony.backendlab.board.comment.model.CommentDto;
+import dev.wony.backendlab.board.comment.model.CommentPageDto;
+
+public interface CommentService {
+
+    CommentDto save(Long boardId, CommentDto commentDto);
+
+    /**
+     * 게시글의 댓글을 최신순으로 keyset 페이지 조회한다.
+     *
+     * @param cursor 이전 페이지의 {@code nextCursor} (첫 페이지는 null)
+     */
+    CommentPageDto findByBoardId(Long boardId, Long cursor, int size);
+}
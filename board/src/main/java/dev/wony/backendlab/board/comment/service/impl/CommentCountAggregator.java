@@ -0,0 +1,69 @@
+package dev.wony.backendlab.board.comment.service.impl;
+
+import dev.wony.backendlab.board.board.repository.BoardCommentCountRepository;
+import dev.wony.backendlab.board.comment.model.CommentCreatedEvent;
+import dev.wony.backendlab.board.common.counter.DeltaBuffer;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+
+/**
+ * 게시글 댓글 수 증가분 집계기
+ * <p>
+ * 댓글 등록 커밋 후 게시글별 증가분을 메모리에 누적하고, 주기적으로 JDBC batch 한 번에 반영한다.
+ * 인기 게시글에 댓글이 몰려도 게시글 행 UPDATE 는 flush 주기당 한 번이다.
+ * 반영 전 장애로 유실된 증가분은 {@code CommentCountReconciler}가 보정한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommentCountAggregator {
+
+    private final DeltaBuffer pending = new DeltaBuffer();
+
+    private final BoardCommentCountRepository boardCommentCountRepository;
+
+    @TransactionalEventListener
+    public void onCommentCreated(CommentCreatedEvent event) {
+        increase(event.boardId(), 1L);
+    }
+
+    public void increase(Long boardId, long delta) {
+        pending.add(boardId, delta);
+    }
+
+    public boolean hasPending(Long boardId) {
+        return pending.hasPending(boardId);
+    }
+
+    /**
+     * 누적된 증가분을 반영한다. 반영에 실패하면 증가분을 되돌려 다음 주기에 재시도한다.
+     *
+     * @return 반영된 게시글 수
+     */
+    @Scheduled(fixedDelayString = "${board.comment.count-flush-interval:1000}")
+    public synchronized int flush() {
+        Map<Long, Long> deltas = pending.drain();
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+        try {
+            boardCommentCountRepository.increaseAll(deltas);
+        } catch (RuntimeException e) {
+            pending.restore(deltas);
+            log.warn("댓글 수 반영 실패 - boards: {}", deltas.size(), e);
+            return 0;
+        }
+        return deltas.size();
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
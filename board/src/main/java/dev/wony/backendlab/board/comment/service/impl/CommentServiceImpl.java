@@ -0,0 +1,68 @@
+package dev.wony.backendlab.board.comment.service.impl;
+
+import dev.wony.backendlab.board.board.repository.BoardRepository;
+import dev.wony.backendlab.board.comment.model.Comment;
+import dev.wony.backendlab.board.comment.model.CommentCreatedEvent;
+import dev.wony.backendlab.board.comment.model.CommentDto;
+import dev.wony.backendlab.board.comment.model.CommentPageDto;
+import dev.wony.backendlab.board.comment.repository.CommentRepository;
+import dev.wony.backendlab.board.comment.service.CommentService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class CommentServiceImpl implements CommentService {
+
+    private static final String BOARD_NOT_FOUND_MESSAGE = "게시글이 존재하지 않습니다.";
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final CommentRepository commentRepository;
+    private final BoardRepository boardRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 게시글의 댓글 수는 여기서 갱신하지 않는다.
+     * 커밋 후 {@link CommentCountAggregator}가 증가분을 모아 일괄 반영하므로 게시글 행 잠금 경합이 없다.
+     */
+    @Override
+    public CommentDto save(Long boardId, CommentDto commentDto) {
+        if (!boardRepository.existsById(boardId)) {
+            throw new IllegalArgumentException(BOARD_NOT_FOUND_MESSAGE);
+        }
+        Comment comment = commentRepository.save(commentDto.toEntity(boardId));
+        eventPublisher.publishEvent(new CommentCreatedEvent(boardId));
+        return CommentDto.of(comment);
+    }
+
+    /**
+     * 다음 페이지 존재 여부를 COUNT 없이 판단하기 위해 size + 1 건을 조회한다.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CommentPageDto findByBoardId(Long boardId, Long cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        Limit limit = Limit.of(pageSize + 1);
+        List<Comment> comments = cursor == null
+                ? commentRepository.findByBoardIdOrderByIdDesc(boardId, limit)
+                : commentRepository.findByBoardIdAndIdLessThanOrderByIdDesc(boardId, cursor, limit);
+
+        boolean hasNext = comments.size() > pageSize;
+        List<CommentDto> page = comments.stream()
+                .limit(pageSize)
+                .map(CommentDto::of)
+                .collect(Collectors.toList());
+        return CommentPageDto.builder()
+                .comments(page)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? page.get(page.size() - 1).getId() : null)
+                .build();
+    }
+}
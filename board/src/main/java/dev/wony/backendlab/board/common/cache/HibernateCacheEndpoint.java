@@ -0,0 +1,91 @@
+package dev.wony.backendlab.board.common.cache;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Hibernate 2차 캐시/쿼리 캐시 region 별 통계 actuator endpoint ({@code /actuator/hibernatecache})
+ * <p>
+ * hit/miss/put 은 Hibernate 통계에서, eviction 은 JCache 표준 통계 MBean({@code CacheStatisticsMXBean})에서 읽는다.
+ */
+@Component
+@Endpoint(id = "hibernatecache")
+public class HibernateCacheEndpoint {
+
+    private static final String JCACHE_STATISTICS_PATTERN = "javax.cache:type=CacheStatistics,Cache=%s,*";
+
+    private final Statistics statistics;
+    private final MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+
+    public HibernateCacheEndpoint(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @ReadOperation
+    public Map<String, RegionStatistics> regions() {
+        Map<String, RegionStatistics> regions = new TreeMap<>();
+        for (String regionName : statistics.getSecondLevelCacheRegionNames()) {
+            regions.put(regionName, region(regionName));
+        }
+        return regions;
+    }
+
+    @ReadOperation
+    public RegionStatistics region(@Selector String regionName) {
+        CacheRegionStatistics region = statistics.getCacheRegionStatistics(regionName);
+        if (region == null) {
+            return null;
+        }
+        return RegionStatistics.of(region, evictions(regionName));
+    }
+
+    private long evictions(String regionName) {
+        try {
+            Set<ObjectName> names = mBeanServer.queryNames(
+                    new ObjectName(String.format(JCACHE_STATISTICS_PATTERN, ObjectName.quote(regionName))), null);
+            if (names.isEmpty()) {
+                names = mBeanServer.queryNames(
+                        new ObjectName(String.format(JCACHE_STATISTICS_PATTERN, regionName)), null);
+            }
+            long evictions = 0;
+            for (ObjectName name : names) {
+                evictions += (Long) mBeanServer.getAttribute(name, "CacheEvictions");
+            }
+            return evictions;
+        } catch (Exception e) {
+            return -1L;
+        }
+    }
+
+    /**
+     * region 통계
+     *
+     * @param hitRatio  hit / (hit + miss), 조회가 없으면 0
+     * @param evictions JCache 통계가 없으면 -1
+     */
+    public record RegionStatistics(long hits, long misses, long puts, double hitRatio,
+                                   long evictions, long elementsInMemory) {
+
+        static RegionStatistics of(CacheRegionStatistics region, long evictions) {
+            long hits = region.getHitCount();
+            long misses = region.getMissCount();
+            long lookups = hits + misses;
+            return new RegionStatistics(hits, misses, region.getPutCount(),
+                    lookups == 0 ? 0.0 : (double) hits / lookups,
+                    evictions, region.getElementCountInMemory());
+        }
+    }
+}
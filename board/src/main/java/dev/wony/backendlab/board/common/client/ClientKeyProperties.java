@@ -0,0 +1,19 @@
+package dev.wony.backendlab.board.common.client;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.List;
+
+/**
+ * 클라이언트 식별 설정
+ *
+ * @param header         신뢰할 수 있는 프록시가 전달하는 클라이언트 식별 헤더
+ * @param trustedProxies 식별 헤더를 믿을 수 있는 프록시 주소 목록 (그 외 요청의 헤더는 무시한다)
+ */
+@ConfigurationProperties(prefix = "board.client-key")
+public record ClientKeyProperties(
+        @DefaultValue("X-Client-Id") String header,
+        @DefaultValue List<String> trustedProxies
+) {
+}
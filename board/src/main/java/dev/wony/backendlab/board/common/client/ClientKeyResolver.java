@@ -0,0 +1,39 @@
+package dev.wony.backendlab.board.common.client;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.apache.commons.lang3.StringUtils;
+
+import java.security.Principal;
+import java.util.Set;
+
+/**
+ * 요청 클라이언트 식별자 결정기 (rate limit 버킷, 멱등 키 범위에 사용)
+ * <p>
+ * 클라이언트가 임의로 바꿀 수 있는 값을 그대로 쓰면 요청마다 새 버킷/키 공간을 얻을 수 있으므로
+ * 인증 주체 → 신뢰할 수 있는 프록시가 전달한 식별 헤더 → 원격 IP 순으로 결정한다.
+ */
+public class ClientKeyResolver {
+
+    private final String header;
+    private final Set<String> trustedProxies;
+
+    public ClientKeyResolver(ClientKeyProperties properties) {
+        this.header = properties.header();
+        this.trustedProxies = Set.copyOf(properties.trustedProxies());
+    }
+
+    public String resolve(HttpServletRequest request) {
+        Principal principal = request.getUserPrincipal();
+        if (principal != null) {
+            return "user:" + principal.getName();
+        }
+        String remoteAddr = request.getRemoteAddr();
+        if (trustedProxies.contains(remoteAddr)) {
+            String clientKey = request.getHeader(header);
+            if (StringUtils.isNotBlank(clientKey)) {
+                return "client:" + clientKey;
+            }
+        }
+        return "ip:" + remoteAddr;
+    }
+}
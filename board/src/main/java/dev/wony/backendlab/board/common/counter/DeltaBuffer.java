@@ -0,0 +1,47 @@
+package dev.wony.backendlab.board.common.counter;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 키별 증감분 버퍼
+ * <p>
+ * 비정규화 카운터를 행마다 즉시 UPDATE 하지 않고 증감분을 모았다가 한 번에 반영할 때 사용한다.
+ * 키별 누적과 꺼내기가 각각 원자적이므로 꺼내는 도중 들어온 증감분은 유실되지 않고 다음 반영으로 넘어간다.
+ */
+public class DeltaBuffer {
+
+    private final ConcurrentHashMap<Long, Long> pending = new ConcurrentHashMap<>();
+
+    public void add(Long key, long delta) {
+        pending.merge(key, delta, Long::sum);
+    }
+
+    public boolean hasPending(Long key) {
+        return pending.containsKey(key);
+    }
+
+    /**
+     * 누적된 증감분을 꺼낸다. 합이 0 인 키는 제외한다.
+     */
+    public Map<Long, Long> drain() {
+        Map<Long, Long> deltas = new HashMap<>();
+        for (Long key : pending.keySet()) {
+            pending.computeIfPresent(key, (k, delta) -> {
+                if (delta != 0L) {
+                    deltas.put(k, delta);
+                }
+                return null;
+            });
+        }
+        return deltas;
+    }
+
+    /**
+     * 반영에 실패한 증감분을 되돌린다.
+     */
+    public void restore(Map<Long, Long> deltas) {
+        deltas.forEach(this::add);
+    }
+}
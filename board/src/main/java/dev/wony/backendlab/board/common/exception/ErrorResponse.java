@@ -0,0 +1,8 @@
+package dev.wony.backendlab.board.common.exception;
+
+public record ErrorResponse(String code, String message) {
+
+    public static ErrorResponse of(ErrorCode errorCode) {
+        return new ErrorResponse(errorCode.name(), errorCode.getMessage());
+    }
+}
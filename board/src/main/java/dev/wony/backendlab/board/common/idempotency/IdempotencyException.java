@@ -0,0 +1,18 @@
+package dev.wony.backendlab.board.common.idempotency;
+
+import dev.wony.backendlab.board.common.exception.ErrorCode;
+import lombok.Getter;
+
+/**
+ * Idempotency-Key 처리 중 거절된 요청
+ */
+@Getter
+public class IdempotencyException extends RuntimeException {
+
+    private final ErrorCode errorCode;
+
+    public IdempotencyException(ErrorCode errorCode) {
+        super(errorCode.getMessage());
+        this.errorCode = errorCode;
+    }
+}
@@ -0,0 +1,21 @@
+package dev.wony.backendlab.board.common.idempotency;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 멱등 요청 설정
+ *
+ * @param ttl          처리 결과 보관 기간 (이 기간 안의 재시도는 원래 응답을 돌려받는다)
+ * @param maximumSize  보관하는 처리 결과 최대 개수 (초과 시 오래된 순으로 제거)
+ * @param inFlightWait 같은 키의 요청이 처리 중일 때 결과를 기다리는 시간 (초과 시 409)
+ */
+@ConfigurationProperties(prefix = "board.idempotency")
+public record IdempotencyProperties(
+        @DefaultValue("24h") Duration ttl,
+        @DefaultValue("10000") long maximumSize,
+        @DefaultValue("10s") Duration inFlightWait
+) {
+}
@@ -0,0 +1,149 @@
+package dev.wony.backendlab.board.common.idempotency;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import dev.wony.backendlab.board.common.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency-Key 별 처리 결과 저장소
+ * <p>
+ * 1. 완료된 결과는 크기/TTL 제한이 있는 Caffeine cache 에 보관하고, 같은 키의 재시도에는 저장된 응답을 그대로 돌려준다.
+ * 2. 처리 중인 키는 {@link ConcurrentHashMap#putIfAbsent}로 선점한 {@link CompletableFuture}에 등록하여,
+ * 동시에 들어온 중복 요청은 잠금 없이 먼저 들어온 요청의 결과를 기다린다. (처리는 키당 한 번)
+ * 3. 같은 키에 다른 요청 본문(fingerprint)이 오면 422 로 거절한다.
+ * <p>
+ * 실패한 요청은 ({@link Error} 포함) 보관하지 않으므로 같은 키로 다시 시도할 수 있고, 기다리던 중복 요청은 대기 시간을 채우지 않고 바로 실패한다.
+ *
+ * @param <T> 응답 타입 (보관 후 변경하지 않는다)
+ */
+public class IdempotencyStore<T> {
+
+    private static final String METRIC_NAME = "board.idempotency.requests";
+
+    private final Cache<String, StoredResponse<T>> completed;
+    private final Map<String, CompletableFuture<StoredResponse<T>>> inFlight = new ConcurrentHashMap<>();
+    private final Duration inFlightWait;
+    private final Counter executed;
+    private final Counter replayed;
+    private final Counter joined;
+    private final Counter mismatched;
+
+    public IdempotencyStore(String name, IdempotencyProperties properties, MeterRegistry meterRegistry) {
+        this.completed = Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .expireAfterWrite(properties.ttl())
+                .recordStats()
+                .build();
+        this.inFlightWait = properties.inFlightWait();
+        this.executed = counter(meterRegistry, name, "executed");
+        this.replayed = counter(meterRegistry, name, "replayed");
+        this.joined = counter(meterRegistry, name, "joined");
+        this.mismatched = counter(meterRegistry, name, "mismatched");
+        CaffeineCacheMetrics.monitor(meterRegistry, completed, "idempotency-" + name);
+        Gauge.builder("board.idempotency.in_flight", inFlight, Map::size)
+                .tag("store", name)
+                .description("처리 중인 Idempotency-Key 수")
+                .register(meterRegistry);
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String name, String outcome) {
+        return Counter.builder(METRIC_NAME)
+                .tag("store", name)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 키에 대해 {@code action}을 최대 한 번 실행한다.
+     *
+     * @param key         Idempotency-Key (호출자가 클라이언트 식별자로 범위를 나눈 값)
+     * @param fingerprint 요청 본문 식별값
+     * @param action      최초 요청일 때만 실행할 처리
+     */
+    public Result<T> execute(String key, String fingerprint, Supplier<T> action) {
+        StoredResponse<T> stored = completed.getIfPresent(key);
+        if (stored != null) {
+            return replay(stored, fingerprint, replayed);
+        }
+
+        CompletableFuture<StoredResponse<T>> future = new CompletableFuture<>();
+        CompletableFuture<StoredResponse<T>> running = inFlight.putIfAbsent(key, future);
+        if (running != null) {
+            return replay(await(running), fingerprint, joined);
+        }
+        try {
+            // 앞선 요청이 결과를 보관하고 inFlight 에서 빠지는 사이에 선점한 경우
+            stored = completed.getIfPresent(key);
+            if (stored != null) {
+                future.complete(stored);
+                return replay(stored, fingerprint, replayed);
+            }
+            stored = new StoredResponse<>(fingerprint, action.get());
+            completed.put(key, stored);
+            future.complete(stored);
+            executed.increment();
+            return new Result<>(stored.response(), false);
+        } catch (Throwable e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    private Result<T> replay(StoredResponse<T> stored, String fingerprint, Counter outcome) {
+        if (!stored.fingerprint().equals(fingerprint)) {
+            mismatched.increment();
+            throw new IdempotencyException(ErrorCode.IDEMPOTENCY_KEY_REUSED);
+        }
+        outcome.increment();
+        return new Result<>(stored.response(), true);
+    }
+
+    /**
+     * 먼저 들어온 요청이 실패하면 같은 예외를 던진다.
+     */
+    private StoredResponse<T> await(CompletableFuture<StoredResponse<T>> running) {
+        try {
+            return running.get(inFlightWait.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new IdempotencyException(ErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IdempotencyException(ErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+        }
+    }
+
+    public long size() {
+        completed.cleanUp();
+        return completed.estimatedSize();
+    }
+
+    private record StoredResponse<T>(String fingerprint, T response) {
+    }
+
+    /**
+     * @param response 응답
+     * @param replayed 이전 요청의 응답을 재사용했는지 여부
+     */
+    public record Result<T>(T response, boolean replayed) {
+    }
+}
@@ -0,0 +1,90 @@
+package dev.wony.backendlab.board.common.ratelimit;
+
+import dev.wony.backendlab.board.common.client.ClientKeyResolver;
+import dev.wony.backendlab.board.common.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 유입 제어 인터셉터
+ * <p>
+ * 1. 클라이언트 × 엔드포인트 분류별 토큰 버킷으로 rate limit (초과 시 429)
+ *    클라이언트는 {@link ClientKeyResolver}로 식별한다. (임의의 헤더 값으로 새 버킷을 얻을 수 없다)
+ * 2. 동시 처리 요청 수 제한으로 DB 커넥션 풀 포화 전에 load shedding (초과 시 503)
+ */
+public class AdmissionControlInterceptor implements HandlerInterceptor {
+
+    private static final String PERMIT_ATTRIBUTE = AdmissionControlInterceptor.class.getName() + ".PERMIT";
+    private static final String METRIC_NAME = "board.admission.requests";
+
+    private final RateLimitStore rateLimitStore;
+    private final ConcurrencyLimiter concurrencyLimiter;
+    private final ClientKeyResolver clientKeyResolver;
+    private final AdmissionControlProperties properties;
+    private final Map<EndpointClass, Counter> admitted = new EnumMap<>(EndpointClass.class);
+    private final Map<EndpointClass, Counter> rateLimited = new EnumMap<>(EndpointClass.class);
+    private final Map<EndpointClass, Counter> shed = new EnumMap<>(EndpointClass.class);
+
+    public AdmissionControlInterceptor(RateLimitStore rateLimitStore, ConcurrencyLimiter concurrencyLimiter,
+                                       ClientKeyResolver clientKeyResolver, AdmissionControlProperties properties,
+                                       MeterRegistry meterRegistry) {
+        this.rateLimitStore = rateLimitStore;
+        this.concurrencyLimiter = concurrencyLimiter;
+        this.clientKeyResolver = clientKeyResolver;
+        this.properties = properties;
+        for (EndpointClass endpointClass : EndpointClass.values()) {
+            admitted.put(endpointClass, counter(meterRegistry, endpointClass, "admitted"));
+            rateLimited.put(endpointClass, counter(meterRegistry, endpointClass, "rate_limited"));
+            shed.put(endpointClass, counter(meterRegistry, endpointClass, "shed"));
+        }
+        Gauge.builder("board.admission.in_flight", concurrencyLimiter, ConcurrencyLimiter::inFlight)
+                .description("동시 처리 중인 요청 수")
+                .register(meterRegistry);
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, EndpointClass endpointClass, String outcome) {
+        return Counter.builder(METRIC_NAME)
+                .tag("endpoint.class", endpointClass.name().toLowerCase())
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        EndpointClass endpointClass = EndpointClass.of(request.getMethod());
+        String key = clientKeyResolver.resolve(request) + ':' + endpointClass.name();
+
+        long waitNanos = rateLimitStore.tryConsume(key, properties.bucket(endpointClass), System.nanoTime());
+        if (waitNanos > 0) {
+            rateLimited.get(endpointClass).increment();
+            throw new AdmissionRejectedException(ErrorCode.TOO_MANY_REQUESTS, toRetryAfterSeconds(waitNanos));
+        }
+        if (!concurrencyLimiter.tryAcquire()) {
+            shed.get(endpointClass).increment();
+            throw new AdmissionRejectedException(ErrorCode.SERVICE_BUSY, 1);
+        }
+        request.setAttribute(PERMIT_ATTRIBUTE, Boolean.TRUE);
+        admitted.get(endpointClass).increment();
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getAttribute(PERMIT_ATTRIBUTE) != null) {
+            request.removeAttribute(PERMIT_ATTRIBUTE);
+            concurrencyLimiter.release();
+        }
+    }
+
+    private static long toRetryAfterSeconds(long waitNanos) {
+        return Math.max(1L, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+    }
+}
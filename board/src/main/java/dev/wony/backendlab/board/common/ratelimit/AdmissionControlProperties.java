@@ -0,0 +1,44 @@
+package dev.wony.backendlab.board.common.ratelimit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 요청 유입 제어 설정
+ *
+ * @param enabled               사용 여부
+ * @param maxConcurrentRequests 동시 처리 요청 한도 (DB 커넥션 풀 크기 이하로 설정)
+ * @param maxWait               동시 처리 한도 초과 시 permit 대기 시간 (0이면 즉시 거절)
+ * @param read                  조회 요청 버킷 (설정이 없으면 용량 200, 초당 100)
+ * @param write                 변경 요청 버킷 (설정이 없으면 용량 20, 초당 5)
+ * @param maxBuckets            메모리에 유지하는 버킷 최대 개수 (초과 시 오래 쓰이지 않은 순으로 제거)
+ * @param bucketIdleTimeout     마지막 사용 후 버킷을 유지하는 기간
+ */
+@ConfigurationProperties(prefix = "board.admission")
+public record AdmissionControlProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("8") int maxConcurrentRequests,
+        @DefaultValue("0ms") Duration maxWait,
+        BucketSpec read,
+        BucketSpec write,
+        @DefaultValue("100000") long maxBuckets,
+        @DefaultValue("10m") Duration bucketIdleTimeout
+) {
+
+    private static final BucketSpec DEFAULT_READ = new BucketSpec(200, 100);
+    private static final BucketSpec DEFAULT_WRITE = new BucketSpec(20, 5);
+
+    /**
+     * 조회/변경 버킷은 기본값이 서로 달라 {@link DefaultValue}로 표현할 수 없으므로 여기서 채운다.
+     */
+    public AdmissionControlProperties {
+        read = read != null ? read : DEFAULT_READ;
+        write = write != null ? write : DEFAULT_WRITE;
+    }
+
+    public BucketSpec bucket(EndpointClass endpointClass) {
+        return endpointClass == EndpointClass.READ ? read : write;
+    }
+}
@@ -0,0 +1,20 @@
+package dev.wony.backendlab.board.common.ratelimit;
+
+import dev.wony.backendlab.board.common.exception.ErrorCode;
+import lombok.Getter;
+
+/**
+ * 요청 유입 제어(rate limit, 동시성 제한)에 의해 거절된 요청
+ */
+@Getter
+public class AdmissionRejectedException extends RuntimeException {
+
+    private final ErrorCode errorCode;
+    private final long retryAfterSeconds;
+
+    public AdmissionRejectedException(ErrorCode errorCode, long retryAfterSeconds) {
+        super(errorCode.getMessage());
+        this.errorCode = errorCode;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,16 @@
+package dev.wony.backendlab.board.common.ratelimit;
+
+/**
+ * 토큰 버킷 설정
+ *
+ * @param capacity        최대 버스트 크기
+ * @param refillPerSecond 초당 충전 토큰 수
+ */
+public record BucketSpec(long capacity, double refillPerSecond) {
+
+    public BucketSpec {
+        if (capacity <= 0 || refillPerSecond <= 0) {
+            throw new IllegalArgumentException("버킷 용량과 충전 속도는 0보다 커야 합니다.");
+        }
+    }
+}
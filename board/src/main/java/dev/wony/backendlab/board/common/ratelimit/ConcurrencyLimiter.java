@@ -0,0 +1,52 @@
+package dev.wony.backendlab.board.common.ratelimit;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 동시 처리 요청 수 제한
+ * <p>
+ * DB 커넥션 풀이 고갈되어 모든 요청이 커넥션 대기로 밀리기 전에, 허용치를 넘는 요청은 거절(load shedding)한다.
+ * 대기 시간이 0이면 즉시 거절하고, 0보다 크면 그 시간만큼 permit 을 기다린다.
+ * 대기 비용이 싼 virtual thread 환경에서는 짧게 기다리는 편이 거절보다 낫다.
+ */
+public class ConcurrencyLimiter {
+
+    private final int maxConcurrent;
+    private final long maxWaitNanos;
+    private final Semaphore permits;
+
+    public ConcurrencyLimiter(int maxConcurrent) {
+        this(maxConcurrent, Duration.ZERO);
+    }
+
+    public ConcurrencyLimiter(int maxConcurrent, Duration maxWait) {
+        if (maxConcurrent <= 0) {
+            throw new IllegalArgumentException("동시 요청 한도는 0보다 커야 합니다.");
+        }
+        this.maxConcurrent = maxConcurrent;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.permits = new Semaphore(maxConcurrent, true);
+    }
+
+    public boolean tryAcquire() {
+        if (maxWaitNanos <= 0) {
+            return permits.tryAcquire();
+        }
+        try {
+            return permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    public void release() {
+        permits.release();
+    }
+
+    public int inFlight() {
+        return maxConcurrent - permits.availablePermits();
+    }
+}
@@ -0,0 +1,17 @@
+package dev.wony.backendlab.board.common.ratelimit;
+
+/**
+ * rate limit 버킷을 분리하는 엔드포인트 분류
+ */
+public enum EndpointClass {
+
+    READ,
+    WRITE;
+
+    public static EndpointClass of(String httpMethod) {
+        return switch (httpMethod) {
+            case "GET", "HEAD", "OPTIONS" -> READ;
+            default -> WRITE;
+        };
+    }
+}
@@ -0,0 +1,57 @@
+package dev.wony.backendlab.board.common.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+
+/**
+ * Caffeine 기반 in-memory 버킷 저장소
+ * <p>
+ * 클라이언트 수만큼 버킷이 늘어나므로 개수 상한과 미사용 만료를 둔다.
+ * 제거된 버킷은 다음 요청에서 가득 찬 상태로 다시 만들어진다.
+ * <p>
+ * 유휴 정리는 버킷을 먼저 폐기(가득 찬 상태일 때만 CAS)한 뒤 같은 버킷일 때만 제거하므로, 정리와 겹친 소비가 사라지지 않는다.
+ * 폐기된 버킷을 받은 요청은 새 버킷으로 다시 시도한다.
+ */
+public class InMemoryRateLimitStore implements RateLimitStore {
+
+    private final Cache<String, TokenBucket> buckets;
+
+    public InMemoryRateLimitStore(long maximumSize, Duration idleTimeout) {
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterAccess(idleTimeout)
+                .build();
+    }
+
+    @Override
+    public long tryConsume(String key, BucketSpec spec, long nowNanos) {
+        while (true) {
+            TokenBucket bucket = buckets.getIfPresent(key);
+            if (bucket == null) {
+                bucket = buckets.get(key, k -> new TokenBucket(spec.capacity(), spec.refillPerSecond(), nowNanos));
+            }
+            long waitNanos = bucket.tryConsume(nowNanos);
+            if (waitNanos != TokenBucket.RETIRED) {
+                return waitNanos;
+            }
+            buckets.asMap().remove(key, bucket);
+        }
+    }
+
+    @Override
+    public void evictIdle(long nowNanos) {
+        buckets.asMap().forEach((key, bucket) -> {
+            if (bucket.retireIfFull(nowNanos)) {
+                buckets.asMap().remove(key, bucket);
+            }
+        });
+        buckets.cleanUp();
+    }
+
+    long size() {
+        buckets.cleanUp();
+        return buckets.estimatedSize();
+    }
+}
@@ -0,0 +1,22 @@
+package dev.wony.backendlab.board.common.ratelimit;
+
+/**
+ * rate limit 버킷 저장소
+ * <p>
+ * 단일 인스턴스에서는 {@link InMemoryRateLimitStore}를 사용하고,
+ * 여러 인스턴스가 한도를 공유해야 하면 Redis 등 외부 저장소 구현으로 교체한다.
+ */
+public interface RateLimitStore {
+
+    /**
+     * key 에 해당하는 버킷에서 토큰 하나를 소비한다.
+     *
+     * @return 소비에 성공하면 0, 실패하면 재시도까지 남은 시간(ns)
+     */
+    long tryConsume(String key, BucketSpec spec, long nowNanos);
+
+    /**
+     * 가득 찬(= 한동안 사용되지 않은) 버킷을 정리한다.
+     */
+    void evictIdle(long nowNanos);
+}
@@ -0,0 +1,89 @@
+package dev.wony.backendlab.board.common.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * lock-free 토큰 버킷
+ * <p>
+ * GCRA(Generic Cell Rate Algorithm)로 구현하여 상태를 "이론적 도착 시각(TAT)" 하나의 long 으로 유지한다.
+ * 토큰 수와 마지막 충전 시각을 따로 갱신할 필요가 없으므로 CAS 한 번으로 원자적으로 소비할 수 있고,
+ * 요청마다 객체를 할당하지 않는다.
+ */
+public class TokenBucket {
+
+    /**
+     * 폐기된 버킷에서 {@link #tryConsume}이 돌려주는 값. 호출자는 저장소에서 버킷을 다시 조회해야 한다.
+     */
+    public static final long RETIRED = -1L;
+
+    private static final long RETIRED_TAT = Long.MIN_VALUE;
+
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final AtomicLong theoreticalArrivalNanos;
+
+    /**
+     * @param capacity        최대 버스트 크기 (버킷 용량)
+     * @param refillPerSecond 초당 충전되는 토큰 수
+     * @param nowNanos        생성 시각 (버킷은 가득 찬 상태로 시작한다)
+     */
+    public TokenBucket(long capacity, double refillPerSecond, long nowNanos) {
+        if (capacity <= 0 || refillPerSecond <= 0) {
+            throw new IllegalArgumentException("버킷 용량과 충전 속도는 0보다 커야 합니다.");
+        }
+        this.emissionIntervalNanos = Math.max(1L, (long) (1_000_000_000L / refillPerSecond));
+        this.burstToleranceNanos = emissionIntervalNanos * capacity;
+        this.theoreticalArrivalNanos = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * 토큰 하나를 소비한다.
+     *
+     * @return 소비에 성공하면 0, 실패하면 다음 토큰이 충전될 때까지 남은 시간(ns), 폐기된 버킷이면 {@link #RETIRED}
+     */
+    public long tryConsume(long nowNanos) {
+        while (true) {
+            long tat = theoreticalArrivalNanos.get();
+            if (tat == RETIRED_TAT) {
+                return RETIRED;
+            }
+            long newTat = Math.max(tat, nowNanos) + emissionIntervalNanos;
+            long waitNanos = newTat - nowNanos - burstToleranceNanos;
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+            if (theoreticalArrivalNanos.compareAndSet(tat, newTat)) {
+                return 0L;
+            }
+        }
+    }
+
+    /**
+     * 버킷이 가득 찬 상태인지 확인한다. 가득 찬 버킷은 새로 만든 버킷과 동일하므로 제거해도 된다.
+     */
+    public boolean isFull(long nowNanos) {
+        return theoreticalArrivalNanos.get() <= nowNanos;
+    }
+
+    /**
+     * 가득 찬 상태일 때만 버킷을 폐기한다.
+     * <p>
+     * 확인과 폐기가 같은 CAS 이므로, 그 사이에 소비가 끼어들면 폐기하지 않는다. 폐기 후의 소비는 {@link #RETIRED}를 받는다.
+     *
+     * @return 폐기했거나 이미 폐기된 버킷이면 true
+     */
+    public boolean retireIfFull(long nowNanos) {
+        while (true) {
+            long tat = theoreticalArrivalNanos.get();
+            if (tat == RETIRED_TAT) {
+                return true;
+            }
+            if (tat > nowNanos) {
+                return false;
+            }
+            if (theoreticalArrivalNanos.compareAndSet(tat, RETIRED_TAT)) {
+                return true;
+            }
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package dev.wony.backendlab.board.common.sql;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 샘플링 SQL 로거
+ * <p>
+ * {@code show-sql} 은 모든 SQL 을 stdout 으로 동기 출력하므로, 대신 N 건 중 1 건만 {@code board.sql} 로거로 남긴다.
+ * 로거는 {@code logback-spring.xml} 에서 AsyncAppender 에 연결되어 요청 스레드가 로그 I/O 를 기다리지 않는다.
+ * SQL 문자열은 변경하지 않고 그대로 반환한다.
+ */
+public class SampledSqlStatementInspector implements StatementInspector {
+
+    private static final Logger SQL_LOG = LoggerFactory.getLogger("board.sql");
+
+    private final AtomicLong counter = new AtomicLong();
+    private final int sampleRate;
+
+    public SampledSqlStatementInspector(int sampleRate) {
+        if (sampleRate < 1) {
+            throw new IllegalArgumentException("sampleRate 는 1 이상이어야 합니다.");
+        }
+        this.sampleRate = sampleRate;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        if (SQL_LOG.isDebugEnabled() && isSampled()) {
+            SQL_LOG.debug(sql);
+        }
+        return sql;
+    }
+
+    boolean isSampled() {
+        return counter.getAndIncrement() % sampleRate == 0;
+    }
+}
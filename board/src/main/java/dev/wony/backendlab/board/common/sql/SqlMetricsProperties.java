@@ -0,0 +1,23 @@
+package dev.wony.backendlab.board.common.sql;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * SQL 실행 지표 설정
+ *
+ * @param enabled             사용 여부
+ * @param slowQueryThreshold  slow query 로 기록할 실행 시간 기준
+ * @param nPlusOneThreshold   한 요청 안에서 같은 SELECT 형태가 이 횟수 이상 실행되면 N+1 로 판단
+ * @param maxStatementTags    지표 태그로 구분하는 문장 형태 최대 개수 (초과한 형태는 {@code other}로 묶는다)
+ */
+@ConfigurationProperties(prefix = "board.sql-metrics")
+public record SqlMetricsProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("200ms") Duration slowQueryThreshold,
+        @DefaultValue("5") int nPlusOneThreshold,
+        @DefaultValue("200") int maxStatementTags
+) {
+}
@@ -0,0 +1,38 @@
+package dev.wony.backendlab.board.common.sql;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 요청 단위 SELECT 형태별 실행 횟수
+ * <p>
+ * 요청을 처리하는 스레드에 묶이므로 요청 밖(스케줄러, @Async)에서 실행된 SQL 은 집계하지 않는다.
+ */
+public final class SqlRequestContext {
+
+    private static final ThreadLocal<Map<String, Integer>> COUNTS = new ThreadLocal<>();
+
+    private SqlRequestContext() {
+    }
+
+    public static void begin() {
+        COUNTS.set(new HashMap<>());
+    }
+
+    public static void record(String shape) {
+        Map<String, Integer> counts = COUNTS.get();
+        if (counts != null) {
+            counts.merge(shape, 1, Integer::sum);
+        }
+    }
+
+    /**
+     * 요청을 종료하고 형태별 실행 횟수를 반환한다.
+     */
+    public static Map<String, Integer> end() {
+        Map<String, Integer> counts = COUNTS.get();
+        COUNTS.remove();
+        return counts == null ? Collections.emptyMap() : counts;
+    }
+}
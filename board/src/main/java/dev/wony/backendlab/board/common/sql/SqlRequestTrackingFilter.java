@@ -0,0 +1,66 @@
+package dev.wony.backendlab.board.common.sql;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * 요청 단위 N+1 감지 필터
+ * <p>
+ * 한 요청 안에서 같은 SELECT 형태가 기준 횟수 이상 실행되면 경고 로그와 {@code board.sql.n_plus_one} 지표를 남긴다.
+ * 지표의 {@code statement} 태그는 {@code board.sql.statements}와 같은 {@link SqlStatementTags}로 정해 상한을 함께 지킨다.
+ */
+@Slf4j
+public class SqlRequestTrackingFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+    private final int nPlusOneThreshold;
+    private final SqlStatementTags statementTags;
+
+    public SqlRequestTrackingFilter(MeterRegistry meterRegistry, SqlMetricsProperties properties,
+                                    SqlStatementTags statementTags) {
+        this.meterRegistry = meterRegistry;
+        this.nPlusOneThreshold = properties.nPlusOneThreshold();
+        this.statementTags = statementTags;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        SqlRequestContext.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            report(request, SqlRequestContext.end());
+        }
+    }
+
+    private void report(HttpServletRequest request, Map<String, Integer> counts) {
+        counts.forEach((shape, count) -> {
+            if (count >= nPlusOneThreshold) {
+                String endpoint = request.getMethod() + ' ' + resolvePattern(request);
+                log.warn("N+1 의심 - {} : {}회 실행 - {}", endpoint, count, shape);
+                Counter.builder("board.sql.n_plus_one")
+                        .description("같은 SELECT 형태가 한 요청 안에서 반복 실행된 횟수")
+                        .tag("endpoint", endpoint)
+                        .tag("statement", statementTags.resolve(shape))
+                        .register(meterRegistry)
+                        .increment();
+            }
+        });
+    }
+
+    private static String resolvePattern(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern == null ? "UNKNOWN" : pattern.toString();
+    }
+}
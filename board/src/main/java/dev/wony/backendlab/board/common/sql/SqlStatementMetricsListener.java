@@ -0,0 +1,93 @@
+package dev.wony.backendlab.board.common.sql;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SQL 실행 지표 리스너
+ * <p>
+ * 1. 문장 형태별 실행 횟수와 지연 시간 histogram ({@code board.sql.statements})
+ *    태그로 구분하는 문장 형태 수에 상한을 두고, 초과한 형태는 {@code statement=other}로 묶는다. ({@link SqlStatementTags})
+ * 2. 기준 시간 이상 걸린 문장은 정규화한 문장 형태만 slow query 로그로 남김 (리터럴, 바인딩 값은 남기지 않는다)
+ * 3. 요청 안에서 실행된 SELECT 형태를 {@link SqlRequestContext}에 기록 (N+1 판단용)
+ */
+@Slf4j
+public class SqlStatementMetricsListener implements QueryExecutionListener {
+
+    private static final String TIMER_NAME = "board.sql.statements";
+    private static final int MAX_CACHED_SHAPES = 10_000;
+
+    private final MeterRegistry meterRegistry;
+    private final long slowQueryThresholdMillis;
+    private final SqlStatementTags statementTags;
+    private final Map<String, String> shapes = new ConcurrentHashMap<>();
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+    private final Counter slowQueries;
+
+    public SqlStatementMetricsListener(MeterRegistry meterRegistry, SqlMetricsProperties properties,
+                                       SqlStatementTags statementTags) {
+        this.meterRegistry = meterRegistry;
+        this.slowQueryThresholdMillis = properties.slowQueryThreshold().toMillis();
+        this.statementTags = statementTags;
+        this.slowQueries = Counter.builder("board.sql.slow_queries")
+                .description("slow query 로 기록된 문장 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        String outcome = execInfo.isSuccess() ? "success" : "error";
+        for (QueryInfo queryInfo : queryInfoList) {
+            String shape = shapeOf(queryInfo.getQuery());
+            timer(shape, outcome).record(execInfo.getElapsedTime(), TimeUnit.MILLISECONDS);
+            if ("select".equals(SqlStatementShape.operation(shape))) {
+                SqlRequestContext.record(shape);
+            }
+            if (execInfo.getElapsedTime() >= slowQueryThresholdMillis) {
+                slowQueries.increment();
+                log.warn("slow query {}ms - {}", execInfo.getElapsedTime(), shape);
+            }
+        }
+    }
+
+    /**
+     * 정규화 결과를 SQL 원문 기준으로 캐싱한다. 리터럴이 섞인 SQL 로 캐시가 무한히 커지지 않도록 상한을 둔다.
+     */
+    private String shapeOf(String sql) {
+        String shape = shapes.get(sql);
+        if (shape != null) {
+            return shape;
+        }
+        shape = SqlStatementShape.normalize(sql);
+        if (shapes.size() < MAX_CACHED_SHAPES) {
+            shapes.put(sql, shape);
+        }
+        return shape;
+    }
+
+    private Timer timer(String shape, String outcome) {
+        String operation = SqlStatementShape.operation(shape);
+        String statement = statementTags.resolve(shape);
+        return timers.computeIfAbsent(outcome + '|' + operation + '|' + statement, key -> Timer.builder(TIMER_NAME)
+                .description("SQL 문장 형태별 실행 시간")
+                .tag("operation", operation)
+                .tag("statement", statement)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+}
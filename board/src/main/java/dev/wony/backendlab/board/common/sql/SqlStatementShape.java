@@ -0,0 +1,40 @@
+package dev.wony.backendlab.board.common.sql;
+
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * SQL 문장 형태(shape) 정규화
+ * <p>
+ * 리터럴과 IN 목록 길이를 지워 같은 형태의 문장을 하나의 지표로 묶는다.
+ * ({@code in (?, ?, ?)} 와 {@code in (?)} 는 같은 형태)
+ */
+public final class SqlStatementShape {
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private SqlStatementShape() {
+    }
+
+    public static String normalize(String sql) {
+        String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        shape = IN_LIST.matcher(shape).replaceAll("(?)");
+        return WHITESPACE.matcher(shape).replaceAll(" ").trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 문장 종류 (select, insert, update, delete, other)
+     */
+    public static String operation(String shape) {
+        int end = shape.indexOf(' ');
+        String keyword = end < 0 ? shape : shape.substring(0, end);
+        return switch (keyword) {
+            case "select", "insert", "update", "delete" -> keyword;
+            default -> "other";
+        };
+    }
+}
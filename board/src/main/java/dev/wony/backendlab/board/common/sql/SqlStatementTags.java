@@ -0,0 +1,39 @@
+package dev.wony.backendlab.board.common.sql;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * SQL 문장 형태 지표 태그 값 결정
+ * <p>
+ * 먼저 관측된 {@code maxStatementTags}개 형태만 태그 값으로 쓰고, 나머지는 {@code other}로 묶는다. (동적 SQL 로 시계열이 무한히 늘어나지 않도록)
+ * {@code board.sql.statements}와 {@code board.sql.n_plus_one}이 같은 인스턴스를 공유해 두 지표를 합쳐 상한을 지킨다.
+ */
+public class SqlStatementTags {
+
+    static final String OTHER_STATEMENT = "other";
+
+    private final int maxStatementTags;
+    private final Set<String> taggedShapes = ConcurrentHashMap.newKeySet();
+
+    public SqlStatementTags(int maxStatementTags) {
+        this.maxStatementTags = maxStatementTags;
+    }
+
+    /**
+     * @param shape 정규화한 문장 형태
+     * @return 태그 값 (상한을 넘은 새 형태면 {@code other})
+     */
+    public String resolve(String shape) {
+        if (taggedShapes.contains(shape)) {
+            return shape;
+        }
+        synchronized (taggedShapes) {
+            if (taggedShapes.contains(shape) || taggedShapes.size() < maxStatementTags) {
+                taggedShapes.add(shape);
+                return shape;
+            }
+        }
+        return OTHER_STATEMENT;
+    }
+}
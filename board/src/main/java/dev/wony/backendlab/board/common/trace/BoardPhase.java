@@ -0,0 +1,61 @@
+package dev.wony.backendlab.board.common.trace;
+
+import io.micrometer.common.KeyValues;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Locale;
+
+/**
+ * 요청 처리 구간
+ * <p>
+ * 구간별 observation 은 {@code board.phase} 이름으로 기록되며, phase/endpoint 태그로 엔드포인트별 지연 시간 histogram 이 집계된다.
+ */
+public enum BoardPhase {
+
+    CONTROLLER,
+    SERVICE,
+    REPOSITORY,
+    SERIALIZATION;
+
+    public static final String OBSERVATION_NAME = "board.phase";
+
+    private static final String NO_ENDPOINT = "none";
+
+    public String tagValue() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 구간 observation 을 생성한다. (시작은 호출하는 쪽에서 한다)
+     *
+     * @param detail span 이름에 붙일 상세 정보 (예: {@code BoardServiceImpl.findById})
+     */
+    public Observation observation(ObservationRegistry registry, String detail) {
+        return Observation.createNotStarted(OBSERVATION_NAME, registry)
+                .contextualName(tagValue() + ' ' + detail)
+                .lowCardinalityKeyValues(KeyValues.of("phase", tagValue(), "endpoint", currentEndpoint()))
+                .highCardinalityKeyValue("target", detail);
+    }
+
+    /**
+     * 현재 요청의 엔드포인트 (HTTP 메서드 + 매핑 패턴). 요청 밖에서 호출되면 {@code none}.
+     */
+    static String currentEndpoint() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes servletAttributes)) {
+            return NO_ENDPOINT;
+        }
+        return endpointOf(servletAttributes.getRequest());
+    }
+
+    static String endpointOf(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern == null ? NO_ENDPOINT : request.getMethod() + ' ' + pattern;
+    }
+}
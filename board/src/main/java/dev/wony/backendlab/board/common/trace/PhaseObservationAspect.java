@@ -0,0 +1,73 @@
+package dev.wony.backendlab.board.common.trace;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * controller / service / repository 구간 observation aspect
+ * <p>
+ * 트랜잭션 advice 보다 바깥에서 실행되므로 service 구간에는 dirty checking, flush, commit 시간이 포함된다.
+ * (service 구간 - 하위 repository 구간 = 영속성 컨텍스트 flush 와 commit 비용)
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class PhaseObservationAspect {
+
+    private final ObservationRegistry observationRegistry;
+
+    public PhaseObservationAspect(ObservationRegistry observationRegistry) {
+        this.observationRegistry = observationRegistry;
+    }
+
+    @Around("@within(org.springframework.web.bind.annotation.RestController) && within(dev.wony.backendlab.board..*)")
+    public Object observeController(ProceedingJoinPoint joinPoint) throws Throwable {
+        return observe(BoardPhase.CONTROLLER, joinPoint);
+    }
+
+    @Around("@within(org.springframework.stereotype.Service) && within(dev.wony.backendlab.board..*)")
+    public Object observeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return observe(BoardPhase.SERVICE, joinPoint);
+    }
+
+    @Around("target(org.springframework.data.repository.Repository) || within(dev.wony.backendlab.board..repository..*)")
+    public Object observeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return observe(BoardPhase.REPOSITORY, joinPoint);
+    }
+
+    private Object observe(BoardPhase phase, ProceedingJoinPoint joinPoint) throws Throwable {
+        Observation observation = phase.observation(observationRegistry, targetOf(joinPoint)).start();
+        Observation.Scope scope = observation.openScope();
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            observation.error(e);
+            throw e;
+        } finally {
+            scope.close();
+            observation.stop();
+        }
+    }
+
+    /**
+     * Spring Data repository 는 구현체가 프록시이므로 선언된 인터페이스 이름을 사용한다.
+     */
+    private static String targetOf(ProceedingJoinPoint joinPoint) {
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        Class<?> type = joinPoint.getTarget() == null ? signature.getDeclaringType() : joinPoint.getTarget().getClass();
+        for (Class<?> candidate : type.getInterfaces()) {
+            if (candidate.getName().startsWith("dev.wony.backendlab.board")) {
+                type = candidate;
+                break;
+            }
+        }
+        return type.getSimpleName() + '.' + signature.getName();
+    }
+}
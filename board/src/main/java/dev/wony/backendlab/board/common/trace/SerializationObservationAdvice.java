@@ -0,0 +1,68 @@
+package dev.wony.backendlab.board.common.trace;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * 응답 직렬화 구간 observation
+ * <p>
+ * 메시지 컨버터가 응답 본문을 쓰기 직전({@link #beforeBodyWrite})에 시작하고,
+ * 핸들러 처리가 끝난 뒤({@link #afterCompletion}) 종료한다. 그 사이가 Jackson 직렬화와 응답 쓰기 시간이다.
+ */
+@ControllerAdvice(basePackages = "dev.wony.backendlab.board")
+public class SerializationObservationAdvice implements ResponseBodyAdvice<Object>, HandlerInterceptor {
+
+    private static final String OBSERVATION_ATTRIBUTE = SerializationObservationAdvice.class.getName() + ".OBSERVATION";
+
+    private final ObjectProvider<ObservationRegistry> observationRegistry;
+
+    public SerializationObservationAdvice(ObjectProvider<ObservationRegistry> observationRegistry) {
+        this.observationRegistry = observationRegistry;
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (request instanceof ServletServerHttpRequest servletRequest) {
+            HttpServletRequest httpRequest = servletRequest.getServletRequest();
+            if (httpRequest.getAttribute(OBSERVATION_ATTRIBUTE) == null) {
+                String detail = body == null ? "empty" : body.getClass().getSimpleName();
+                Observation observation = BoardPhase.SERIALIZATION
+                        .observation(observationRegistry.getIfAvailable(() -> ObservationRegistry.NOOP), detail)
+                        .start();
+                httpRequest.setAttribute(OBSERVATION_ATTRIBUTE, observation);
+            }
+        }
+        return body;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        Object observation = request.getAttribute(OBSERVATION_ATTRIBUTE);
+        if (observation instanceof Observation serialization) {
+            request.removeAttribute(OBSERVATION_ATTRIBUTE);
+            if (ex != null) {
+                serialization.error(ex);
+            }
+            serialization.stop();
+        }
+    }
+}
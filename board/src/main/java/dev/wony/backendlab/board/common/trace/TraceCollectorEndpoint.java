@@ -0,0 +1,77 @@
+package dev.wony.backendlab.board.common.trace;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로컬 collector 대용 trace 조회 actuator endpoint ({@code /actuator/traces})
+ */
+@Endpoint(id = "traces")
+public class TraceCollectorEndpoint {
+
+    private static final int MAX_TRACES = 20;
+    private static final AttributeKey<String> PHASE = AttributeKey.stringKey("phase");
+
+    private final InMemorySpanCollector collector;
+
+    public TraceCollectorEndpoint(InMemorySpanCollector collector) {
+        this.collector = collector;
+    }
+
+    /**
+     * 최근 trace 목록 (최신순)
+     */
+    @ReadOperation
+    public List<TraceSummary> traces() {
+        Map<String, List<SpanData>> byTrace = groupByTrace(collector.spans());
+        List<TraceSummary> traces = new ArrayList<>();
+        byTrace.forEach((traceId, spans) -> traces.add(TraceSummary.of(traceId, spans)));
+        traces.sort(Comparator.comparingLong(TraceSummary::startEpochNanos).reversed());
+        return traces.subList(0, Math.min(MAX_TRACES, traces.size()));
+    }
+
+    @ReadOperation
+    public TraceSummary trace(@Selector String traceId) {
+        List<SpanData> spans = groupByTrace(collector.spans()).get(traceId);
+        return spans == null ? null : TraceSummary.of(traceId, spans);
+    }
+
+    private static Map<String, List<SpanData>> groupByTrace(List<SpanData> spans) {
+        Map<String, List<SpanData>> byTrace = new LinkedHashMap<>();
+        for (SpanData span : spans) {
+            byTrace.computeIfAbsent(span.getTraceId(), key -> new ArrayList<>()).add(span);
+        }
+        return byTrace;
+    }
+
+    public record TraceSummary(String traceId, long startEpochNanos, long durationMicros, List<SpanSummary> spans) {
+
+        static TraceSummary of(String traceId, List<SpanData> spans) {
+            List<SpanData> sorted = new ArrayList<>(spans);
+            sorted.sort(Comparator.comparingLong(SpanData::getStartEpochNanos));
+            long start = sorted.get(0).getStartEpochNanos();
+            long end = sorted.stream().mapToLong(SpanData::getEndEpochNanos).max().orElse(start);
+            return new TraceSummary(traceId, start, TimeUnit.NANOSECONDS.toMicros(end - start),
+                    sorted.stream().map(SpanSummary::of).toList());
+        }
+    }
+
+    public record SpanSummary(String name, String spanId, String parentSpanId, String phase, long durationMicros) {
+
+        static SpanSummary of(SpanData span) {
+            return new SpanSummary(span.getName(), span.getSpanId(), span.getParentSpanId(),
+                    span.getAttributes().get(PHASE),
+                    TimeUnit.NANOSECONDS.toMicros(span.getEndEpochNanos() - span.getStartEpochNanos()));
+        }
+    }
+}
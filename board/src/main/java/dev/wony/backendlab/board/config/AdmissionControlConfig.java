@@ -0,0 +1,74 @@
+package dev.wony.backendlab.board.config;
+
+import dev.wony.backendlab.board.common.client.ClientKeyResolver;
+import dev.wony.backendlab.board.common.ratelimit.AdmissionControlInterceptor;
+import dev.wony.backendlab.board.common.ratelimit.AdmissionControlProperties;
+import dev.wony.backendlab.board.common.ratelimit.ConcurrencyLimiter;
+import dev.wony.backendlab.board.common.ratelimit.InMemoryRateLimitStore;
+import dev.wony.backendlab.board.common.ratelimit.RateLimitStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * 게시판 API 요청 유입 제어 설정 클래스
+ */
+@Configuration
+@EnableConfigurationProperties(AdmissionControlProperties.class)
+@Import(ClientKeyConfig.class)
+@ConditionalOnProperty(prefix = "board.admission", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class AdmissionControlConfig implements WebMvcConfigurer {
+
+    private static final long IDLE_BUCKET_EVICTION_INTERVAL_MILLIS = 60_000L;
+
+    private final AdmissionControlProperties properties;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final ObjectProvider<RateLimitStore> rateLimitStore;
+    private final ObjectProvider<ClientKeyResolver> clientKeyResolver;
+
+    public AdmissionControlConfig(AdmissionControlProperties properties,
+                                  ObjectProvider<MeterRegistry> meterRegistry,
+                                  ObjectProvider<RateLimitStore> rateLimitStore,
+                                  ObjectProvider<ClientKeyResolver> clientKeyResolver) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.rateLimitStore = rateLimitStore;
+        this.clientKeyResolver = clientKeyResolver;
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public RateLimitStore rateLimitStore() {
+        return new InMemoryRateLimitStore(properties.maxBuckets(), properties.bucketIdleTimeout());
+    }
+
+    @Bean
+    public ConcurrencyLimiter boardConcurrencyLimiter() {
+        return new ConcurrencyLimiter(properties.maxConcurrentRequests(), properties.maxWait());
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new AdmissionControlInterceptor(
+                        rateLimitStore.getObject(),
+                        boardConcurrencyLimiter(),
+                        clientKeyResolver.getObject(),
+                        properties,
+                        meterRegistry.getIfAvailable(SimpleMeterRegistry::new)))
+                .addPathPatterns("/boards", "/boards/**", "/categories", "/categories/**");
+    }
+
+    @Scheduled(fixedDelay = IDLE_BUCKET_EVICTION_INTERVAL_MILLIS)
+    public void evictIdleBuckets() {
+        rateLimitStore.getObject().evictIdle(System.nanoTime());
+    }
+}
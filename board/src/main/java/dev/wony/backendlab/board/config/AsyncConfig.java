@@ -0,0 +1,16 @@
+package dev.wony.backendlab.board.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+/**
+ * 비동기 실행 설정 클래스
+ * <p>
+ * 실행기는 Spring Boot 가 자동 구성하는 {@code applicationTaskExecutor}를 사용한다.
+ * {@code spring.threads.virtual.enabled=true} 이면 virtual thread 기반 실행기로 바뀌며,
+ * 이때 동시 실행 수는 {@code spring.task.execution.simple.concurrency-limit}으로 제한한다.
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+}
@@ -0,0 +1,20 @@
+package dev.wony.backendlab.board.config;
+
+import dev.wony.backendlab.board.common.client.ClientKeyProperties;
+import dev.wony.backendlab.board.common.client.ClientKeyResolver;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 클라이언트 식별 설정 클래스
+ */
+@Configuration
+@EnableConfigurationProperties(ClientKeyProperties.class)
+public class ClientKeyConfig {
+
+    @Bean
+    public ClientKeyResolver clientKeyResolver(ClientKeyProperties properties) {
+        return new ClientKeyResolver(properties);
+    }
+}
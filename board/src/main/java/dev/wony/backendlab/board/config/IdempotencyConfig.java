@@ -0,0 +1,27 @@
+package dev.wony.backendlab.board.config;
+
+import dev.wony.backendlab.board.board.model.BoardDto;
+import dev.wony.backendlab.board.common.idempotency.IdempotencyProperties;
+import dev.wony.backendlab.board.common.idempotency.IdempotencyStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+
+/**
+ * 멱등 요청(Idempotency-Key) 설정 클래스
+ */
+@Configuration
+@EnableConfigurationProperties(IdempotencyProperties.class)
+@Import(ClientKeyConfig.class)
+public class IdempotencyConfig {
+
+    @Bean
+    public IdempotencyStore<BoardDto> boardIdempotencyStore(IdempotencyProperties properties,
+                                                            ObjectProvider<MeterRegistry> meterRegistry) {
+        return new IdempotencyStore<>("board", properties, meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+    }
+}
@@ -0,0 +1,12 @@
+package dev.wony.backendlab.board.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 설정 클래스
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
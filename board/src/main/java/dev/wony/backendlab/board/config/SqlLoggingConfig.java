@@ -0,0 +1,24 @@
+package dev.wony.backendlab.board.config;
+
+import dev.wony.backendlab.board.common.sql.SampledSqlStatementInspector;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 샘플링 SQL 로깅 설정 클래스
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "board.sql-log", name = "enabled", havingValue = "true")
+public class SqlLoggingConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer sampledSqlLoggingCustomizer(
+            @Value("${board.sql-log.sample-rate:100}") int sampleRate) {
+        SampledSqlStatementInspector inspector = new SampledSqlStatementInspector(sampleRate);
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, inspector);
+    }
+}
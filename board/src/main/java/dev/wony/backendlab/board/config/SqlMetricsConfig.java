@@ -0,0 +1,67 @@
+package dev.wony.backendlab.board.config;
+
+import dev.wony.backendlab.board.common.sql.SqlMetricsProperties;
+import dev.wony.backendlab.board.common.sql.SqlRequestTrackingFilter;
+import dev.wony.backendlab.board.common.sql.SqlStatementMetricsListener;
+import dev.wony.backendlab.board.common.sql.SqlStatementTags;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * SQL 실행 지표 설정 클래스
+ * <p>
+ * DataSource 를 datasource-proxy 로 감싸 JPA, JdbcTemplate, Flyway 가 실행하는 모든 SQL 을 집계한다.
+ */
+@Configuration
+@EnableConfigurationProperties(SqlMetricsProperties.class)
+@ConditionalOnProperty(prefix = "board.sql-metrics", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SqlMetricsConfig {
+
+    @Bean
+    public SqlStatementTags sqlStatementTags(SqlMetricsProperties properties) {
+        return new SqlStatementTags(properties.maxStatementTags());
+    }
+
+    @Bean
+    public SqlStatementMetricsListener sqlStatementMetricsListener(ObjectProvider<MeterRegistry> meterRegistry,
+                                                                   SqlMetricsProperties properties,
+                                                                   SqlStatementTags sqlStatementTags) {
+        return new SqlStatementMetricsListener(meterRegistry.getIfAvailable(SimpleMeterRegistry::new), properties,
+                sqlStatementTags);
+    }
+
+    @Bean
+    public SqlRequestTrackingFilter sqlRequestTrackingFilter(ObjectProvider<MeterRegistry> meterRegistry,
+                                                             SqlMetricsProperties properties,
+                                                             SqlStatementTags sqlStatementTags) {
+        return new SqlRequestTrackingFilter(meterRegistry.getIfAvailable(SimpleMeterRegistry::new), properties,
+                sqlStatementTags);
+    }
+
+    @Bean
+    public static BeanPostProcessor sqlMetricsDataSourcePostProcessor(
+            ObjectProvider<SqlStatementMetricsListener> listener) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name(beanName)
+                            .listener(listener.getObject())
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+}
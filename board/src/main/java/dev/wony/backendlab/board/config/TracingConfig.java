@@ -0,0 +1,45 @@
+package dev.wony.backendlab.board.config;
+
+import dev.wony.backendlab.board.common.trace.InMemorySpanCollector;
+import dev.wony.backendlab.board.common.trace.SerializationObservationAdvice;
+import dev.wony.backendlab.board.common.trace.TraceCollectorEndpoint;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * 요청 구간 tracing 설정 클래스
+ */
+@Configuration
+public class TracingConfig implements WebMvcConfigurer {
+
+    private final SerializationObservationAdvice serializationObservationAdvice;
+
+    public TracingConfig(SerializationObservationAdvice serializationObservationAdvice) {
+        this.serializationObservationAdvice = serializationObservationAdvice;
+    }
+
+    /**
+     * 다른 인터셉터가 요청을 거절해도 직렬화 observation 이 종료되도록 가장 먼저 등록한다.
+     */
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(serializationObservationAdvice).order(Ordered.HIGHEST_PRECEDENCE);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "board.tracing.collector", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public InMemorySpanCollector inMemorySpanCollector(@Value("${board.tracing.collector.max-spans:2000}") int maxSpans) {
+        return new InMemorySpanCollector(maxSpans);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "board.tracing.collector", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public TraceCollectorEndpoint traceCollectorEndpoint(InMemorySpanCollector inMemorySpanCollector) {
+        return new TraceCollectorEndpoint(inMemorySpanCollector);
+    }
+}
@@ -1,7 +1,22 @@
 package dev.wony.backendlab.board.member.repository;
 
 import dev.wony.backendlab.board.member.model.Member;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.util.List;
 
 public interface MemberRepository extends JpaRepository<Member, Long> {
+
+    /**
+     * 회원 목록 조회 (query cache region {@code member-list})
+     */
+    @Override
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "member-list")
+    })
+    List<Member> findAll();
 }
@@ -0,0 +1,58 @@
+-- 게시판 초기 스키마 (prod 프로파일은 ddl-auto: validate 로 이 스키마를 엔티티와 대조한다)
+
+create sequence board_seq start with 1 increment by 50;
+
+create table board
+(
+    id            bigint       not null,
+    title         varchar(255),
+    content       varchar(255),
+    created_at    timestamp(6),
+    updated_at    timestamp(6),
+    deleted       boolean      default false not null,
+    deleted_at    timestamp(6),
+    comment_count bigint       default 0 not null,
+    primary key (id)
+);
+
+create index idx_board_deleted_created_at on board (deleted, created_at);
+create index idx_board_created_at on board (created_at);
+create index idx_board_updated_at on board (updated_at);
+-- 제목 접두어 검색(title like '검색어%')용 인덱스
+create index idx_board_title on board (title);
+
+create table board_archive
+(
+    id          bigint       not null,
+    title       varchar(255),
+    content     varchar(255),
+    created_at  timestamp(6),
+    updated_at  timestamp(6),
+    deleted     boolean      not null,
+    deleted_at  timestamp(6),
+    archived_at timestamp(6) not null,
+    primary key (id)
+);
+
+create index idx_board_archive_archived_at on board_archive (archived_at);
+
+create table board_comment
+(
+    id         bigint generated by default as identity,
+    board_id   bigint not null,
+    author     varchar(255),
+    content    varchar(255),
+    created_at timestamp(6),
+    primary key (id)
+);
+
+create index idx_board_comment_board_id_id on board_comment (board_id, id);
+
+create table member
+(
+    id         bigint generated by default as identity,
+    name       varchar(255),
+    created_at timestamp(6),
+    updated_at timestamp(6),
+    primary key (id)
+);
@@ -0,0 +1,30 @@
+-- 게시판 카테고리(포럼) 계층 구조
+-- 계층은 closure table(board_category_closure)에 모든 조상-자손 쌍으로 저장한다.
+
+create table board_category
+(
+    id                 bigint generated by default as identity,
+    name               varchar(255) not null,
+    parent_id          bigint,
+    depth              integer      not null,
+    subtree_post_count bigint       default 0 not null,
+    created_at         timestamp(6),
+    primary key (id)
+);
+
+create table board_category_closure
+(
+    ancestor_id   bigint  not null,
+    descendant_id bigint  not null,
+    depth         integer not null,
+    primary key (ancestor_id, descendant_id)
+);
+
+-- 조상 경로 조회(게시글 수 증감 반영)용 인덱스. 하위 트리 조회는 PK(ancestor_id, descendant_id)를 사용한다.
+create index idx_board_category_closure_descendant_id on board_category_closure (descendant_id);
+
+alter table board add column category_id bigint;
+-- 카테고리별 최신 게시글 keyset 조회용 인덱스
+create index idx_board_category_id_id on board (category_id, id);
+
+alter table board_archive add column category_id bigint;
@@ -0,0 +1,14 @@
+-- 보관(cold tier) 댓글. 게시글이 board_archive 로 이동할 때 댓글도 함께 이동한다.
+
+create table board_comment_archive
+(
+    id          bigint       not null,
+    board_id    bigint       not null,
+    author      varchar(255),
+    content     varchar(255),
+    created_at  timestamp(6),
+    archived_at timestamp(6) not null,
+    primary key (id)
+);
+
+create index idx_board_comment_archive_board_id_id on board_comment_archive (board_id, id);
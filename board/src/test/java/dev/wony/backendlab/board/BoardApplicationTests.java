@@ -1,5 +1,6 @@
 package dev.wony.backendlab.board;
 
+import net.ttddyy.dsproxy.support.ProxyDataSource;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -8,6 +9,9 @@ import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -18,6 +22,9 @@ class BoardApplicationTests {
     @Autowired
     MockMvc mockMvc;
 
+    @Autowired
+    DataSource dataSource;
+
     @Test
     @DisplayName("Index 호출")
     void callIndex() throws Exception {
@@ -28,4 +35,11 @@ class BoardApplicationTests {
                 )
                 .andExpect(status().isOk());
     }
+
+    @Test
+    @DisplayName("DataSource 는 SQL 지표 수집용 proxy 로 감싸진다")
+    void dataSourceIsProxied() {
+        // given & when & then
+        assertThat(dataSource).isInstanceOf(ProxyDataSource.class);
+    }
 }
@@ -0,0 +1,50 @@
+package dev.wony.backendlab.board;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * prod 프로파일은 Flyway 로 스키마를 만들고 Hibernate 가 validate 하므로, 컨텍스트가 뜨면 마이그레이션과 엔티티가 일치한다.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:migration-test")
+@ActiveProfiles("prod")
+@DisplayName("스키마 마이그레이션 테스트")
+class SchemaMigrationTest {
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("마이그레이션 적용 후 엔티티 스키마 검증을 통과한다")
+    void migrate_ValidatesAgainstEntities() {
+        // given & when
+        int pending = flyway.info().pending().length;
+
+        // then
+        assertThat(pending).isZero();
+        assertThat(flyway.info().current().getVersion().getVersion()).isEqualTo("3");
+    }
+
+    @Test
+    @DisplayName("게시글 조회용 인덱스가 생성된다")
+    void migrate_CreatesBoardIndexes() {
+        // given & when
+        List<String> indexes = jdbcTemplate.queryForList(
+                "select index_name from information_schema.indexes where table_name = 'BOARD'", String.class);
+
+        // then
+        assertThat(indexes).contains("IDX_BOARD_CREATED_AT", "IDX_BOARD_UPDATED_AT", "IDX_BOARD_TITLE");
+    }
+}
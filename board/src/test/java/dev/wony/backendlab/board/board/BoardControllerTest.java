@@ -3,26 +3,36 @@ package dev.wony.backendlab.board.board;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import dev.wony.backendlab.board.board.model.BoardDto;
 import dev.wony.backendlab.board.board.service.BoardService;
+import dev.wony.backendlab.board.config.IdempotencyConfig;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(BoardController.class)
+@Import(IdempotencyConfig.class)
 @DisplayName("BoardController 테스트")
 class BoardControllerTest {
 
@@ -65,6 +75,88 @@ class BoardControllerTest {
                 .andExpect(jsonPath("$.title").value("테스트 제목"));
     }
 
+    @Test
+    @DisplayName("같은 Idempotency-Key 로 재시도하면 다시 저장하지 않고 처음 응답을 반환한다")
+    void saveBoard_ReplaysWithSameIdempotencyKey() throws Exception {
+        // given
+        BoardDto requestDto = BoardDto.builder().title("테스트 제목").content("테스트 내용").build();
+        BoardDto savedDto = BoardDto.builder().id(1L).title("테스트 제목").content("테스트 내용").build();
+        when(boardService.save(any(BoardDto.class))).thenReturn(savedDto);
+        when(boardService.findById(1L)).thenReturn(savedDto);
+        String body = objectMapper.writeValueAsString(requestDto);
+        mockMvc.perform(post("/boards")
+                        .header("Idempotency-Key", "retry-key")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Idempotent-Replayed", "false"));
+
+        // when & then
+        mockMvc.perform(post("/boards")
+                        .header("Idempotency-Key", "retry-key")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Idempotent-Replayed", "true"))
+                .andExpect(jsonPath("$.id").value(1L));
+        verify(boardService, times(1)).save(any(BoardDto.class));
+        verify(boardService, times(1)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("다른 클라이언트가 같은 Idempotency-Key 를 보내면 서로의 응답을 받지 않고 각각 저장한다")
+    void saveBoard_IdempotencyKeyScopedByClient() throws Exception {
+        // given
+        BoardDto requestDto = BoardDto.builder().title("테스트 제목").content("테스트 내용").build();
+        BoardDto savedDto = BoardDto.builder().id(1L).title("테스트 제목").content("테스트 내용").build();
+        when(boardService.save(any(BoardDto.class))).thenReturn(savedDto);
+        when(boardService.findById(1L)).thenReturn(savedDto);
+        String body = objectMapper.writeValueAsString(requestDto);
+        mockMvc.perform(post("/boards")
+                        .header("Idempotency-Key", "shared-key")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body)
+                        .with(request -> {
+                            request.setRemoteAddr("10.0.0.1");
+                            return request;
+                        }))
+                .andExpect(header().string("Idempotent-Replayed", "false"));
+
+        // when & then
+        mockMvc.perform(post("/boards")
+                        .header("Idempotency-Key", "shared-key")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body)
+                        .with(request -> {
+                            request.setRemoteAddr("10.0.0.2");
+                            return request;
+                        }))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Idempotent-Replayed", "false"));
+        verify(boardService, times(2)).save(any(BoardDto.class));
+    }
+
+    @Test
+    @DisplayName("같은 Idempotency-Key 로 다른 내용을 등록하면 422 를 반환한다")
+    void saveBoard_RejectsReusedIdempotencyKey() throws Exception {
+        // given
+        BoardDto savedDto = BoardDto.builder().id(1L).title("제목").build();
+        when(boardService.save(any(BoardDto.class))).thenReturn(savedDto);
+        when(boardService.findById(1L)).thenReturn(savedDto);
+        mockMvc.perform(post("/boards")
+                .header("Idempotency-Key", "reused-key")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(BoardDto.builder().title("제목").build())));
+
+        // when & then
+        mockMvc.perform(post("/boards")
+                        .header("Idempotency-Key", "reused-key")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(BoardDto.builder().title("다른 제목").build())))
+                .andExpect(status().isUnprocessableContent())
+                .andExpect(jsonPath("$.code").value("IDEMPOTENCY_KEY_REUSED"));
+    }
+
     @Test
     @DisplayName("전체 게시글 조회 요청 시 게시글 목록을 반환한다")
     void boards_ReturnsBoardList() throws Exception {
@@ -134,4 +226,80 @@ class BoardControllerTest {
         mockMvc.perform(delete("/boards/1"))
                 .andExpect(status().isOk());
     }
+
+    @Test
+    @DisplayName("게시글 단건 조회 시 ETag 가 일치하면 본문 없이 304 를 반환한다")
+    void board_ReturnsNotModifiedWhenETagMatches() throws Exception {
+        // given
+        BoardDto boardDto = BoardDto.builder()
+                .id(1L)
+                .title("테스트 제목")
+                .content("테스트 내용")
+                .updatedAt(LocalDateTime.of(2025, 1, 1, 10, 0))
+                .commentCount(3L)
+                .build();
+        when(boardService.findById(1L)).thenReturn(boardDto);
+        String eTag = mockMvc.perform(get("/boards/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("Last-Modified"))
+                .andExpect(header().string("Cache-Control", "no-cache"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        // when & then
+        mockMvc.perform(get("/boards/1").header("If-None-Match", eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("댓글 수가 바뀌면 게시글 ETag 도 바뀐다")
+    void board_ETagChangesWithCommentCount() throws Exception {
+        // given
+        BoardDto before = BoardDto.builder().id(1L).title("제목").updatedAt(LocalDateTime.of(2025, 1, 1, 10, 0))
+                .commentCount(3L).build();
+        BoardDto after = BoardDto.builder().id(1L).title("제목").updatedAt(LocalDateTime.of(2025, 1, 1, 10, 0))
+                .commentCount(4L).build();
+        when(boardService.findById(1L)).thenReturn(before, after);
+        String eTag = mockMvc.perform(get("/boards/1"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        // when & then
+        mockMvc.perform(get("/boards/1").header("If-None-Match", eTag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.commentCount").value(4));
+    }
+
+    @Test
+    @DisplayName("Accept 가 application/cbor 이면 CBOR 로 응답한다")
+    void board_NegotiatesCbor() throws Exception {
+        // given
+        when(boardService.findById(1L)).thenReturn(BoardDto.builder().id(1L).title("테스트 제목").build());
+
+        // when & then
+        mockMvc.perform(get("/boards/1").accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_CBOR));
+    }
+
+    @Test
+    @DisplayName("JSON 과 CBOR 응답은 Vary: Accept 를 붙이고 서로 다른 ETag 를 가진다")
+    void board_ETagAndVaryDependOnRepresentation() throws Exception {
+        // given
+        when(boardService.findById(1L)).thenReturn(BoardDto.builder().id(1L).title("테스트 제목")
+                .updatedAt(LocalDateTime.of(2025, 1, 1, 10, 0)).build());
+        String jsonETag = mockMvc.perform(get("/boards/1").accept(MediaType.APPLICATION_JSON))
+                .andExpect(header().string("Vary", containsString("Accept")))
+                .andReturn().getResponse().getHeader("ETag");
+        String cborETag = mockMvc.perform(get("/boards/1").accept(MediaType.APPLICATION_CBOR))
+                .andExpect(header().string("Vary", containsString("Accept")))
+                .andReturn().getResponse().getHeader("ETag");
+
+        // when & then
+        assertThat(jsonETag).isNotEqualTo(cborETag);
+        mockMvc.perform(get("/boards/1").accept(MediaType.APPLICATION_CBOR).header("If-None-Match", jsonETag))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_CBOR));
+        mockMvc.perform(get("/boards/1").accept(MediaType.APPLICATION_JSON).header("If-None-Match", jsonETag))
+                .andExpect(status().isNotModified());
+    }
 }
@@ -0,0 +1,70 @@
+package dev.wony.backendlab.board.board;
+
+import dev.wony.backendlab.board.board.model.BoardDto;
+import dev.wony.backendlab.board.board.service.BoardService;
+import dev.wony.backendlab.board.board.snapshot.LatestBoardSnapshotRefresher;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@AutoConfigureMockMvc
+@SpringBootTest
+@DisplayName("LatestBoardController 테스트")
+class LatestBoardControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private BoardService boardService;
+
+    @Autowired
+    private LatestBoardSnapshotRefresher latestBoardSnapshotRefresher;
+
+    @Test
+    @DisplayName("게시글 등록/수정/삭제가 스냅샷 갱신 후 최신 게시글 응답에 반영된다")
+    void latestBoards_ReflectsChangesAfterRefresh() throws Exception {
+        // given
+        Long id = boardService.save(BoardDto.builder().title("제목").content("내용").build()).getId();
+        latestBoardSnapshotRefresher.refresh();
+
+        // when & then
+        mockMvc.perform(get("/boards/latest"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(id))
+                .andExpect(jsonPath("$[0].title").value("제목"));
+
+        boardService.update(id, BoardDto.builder().title("수정된 제목").content("내용").build());
+        latestBoardSnapshotRefresher.refresh();
+        mockMvc.perform(get("/boards/latest"))
+                .andExpect(jsonPath("$[0].title").value("수정된 제목"));
+
+        boardService.deleteById(id);
+        latestBoardSnapshotRefresher.refresh();
+        mockMvc.perform(get("/boards/latest"))
+                .andExpect(jsonPath("$[*].id", not(hasItem(id.intValue()))));
+    }
+
+    @Test
+    @DisplayName("스냅샷이 바뀌지 않았으면 304 를 반환한다")
+    void latestBoards_ReturnsNotModified() throws Exception {
+        // given
+        latestBoardSnapshotRefresher.refresh();
+        String eTag = mockMvc.perform(get("/boards/latest"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        // when & then
+        mockMvc.perform(get("/boards/latest").header("If-None-Match", eTag))
+                .andExpect(status().isNotModified());
+    }
+}
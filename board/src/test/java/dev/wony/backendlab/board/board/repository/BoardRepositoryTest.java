@@ -2,23 +2,33 @@ package dev.wony.backendlab.board.board.repository;
 
 import dev.wony.backendlab.board.board.model.Board;
 import dev.wony.backendlab.board.board.model.BoardDto;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
 @DataJpaTest
+@Import(BoardCommentCountRepository.class)
 @DisplayName("BoardRepository 테스트")
 class BoardRepositoryTest {
 
     @Autowired
     private BoardRepository boardRepository;
 
+    @Autowired
+    private BoardCommentCountRepository boardCommentCountRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
     @Test
     @DisplayName("게시글 저장 테스트")
     void save_Board() {
@@ -87,4 +97,60 @@ class BoardRepositoryTest {
         Optional<Board> deletedBoard = boardRepository.findById(board.getId());
         assertThat(deletedBoard).isEmpty();
     }
+
+    @Test
+    @DisplayName("게시글 삭제 시 행은 남고 조회 대상에서만 제외된다")
+    void delete_Board_SoftDeleted() {
+        // given
+        Board board = boardRepository.save(BoardDto.builder()
+                .title("테스트 제목")
+                .content("테스트 내용")
+                .build()
+                .toEntity());
+
+        // when
+        boardRepository.deleteById(board.getId());
+        boardRepository.flush();
+
+        // then
+        assertThat(boardRepository.findAll()).isEmpty();
+        assertThat(boardRepository.findIdChunk(10)).containsExactly(board.getId());
+    }
+
+    @Test
+    @DisplayName("ID 목록으로 게시글을 bulk 물리 삭제한다")
+    void hardDeleteAllByIdIn_Boards() {
+        // given
+        Board board1 = boardRepository.save(BoardDto.builder().title("제목1").content("내용1").build().toEntity());
+        Board board2 = boardRepository.save(BoardDto.builder().title("제목2").content("내용2").build().toEntity());
+        Board board3 = boardRepository.save(BoardDto.builder().title("제목3").content("내용3").build().toEntity());
+
+        // when
+        int deleted = boardRepository.hardDeleteAllByIdIn(List.of(board1.getId(), board2.getId()));
+
+        // then
+        assertThat(deleted).isEqualTo(2);
+        assertThat(boardRepository.findIdChunk(10)).containsExactly(board3.getId());
+    }
+
+    @Test
+    @DisplayName("게시글을 읽은 뒤 반영된 댓글 수 증감분을 게시글 수정이 덮어쓰지 않는다")
+    void update_AfterCommentCountIncrease_KeepsCommentCount() {
+        // given
+        Board board = boardRepository.save(BoardDto.builder().title("제목").content("내용").build().toEntity());
+        entityManager.flush();
+        entityManager.clear();
+        Board loaded = boardRepository.findById(board.getId()).orElseThrow();
+        boardCommentCountRepository.increaseAll(Map.of(board.getId(), 3L));
+
+        // when
+        loaded.update(BoardDto.builder().title("수정된 제목").content("수정된 내용").build());
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        Board found = boardRepository.findById(board.getId()).orElseThrow();
+        assertThat(found.getTitle()).isEqualTo("수정된 제목");
+        assertThat(found.getCommentCount()).isEqualTo(3L);
+    }
 }
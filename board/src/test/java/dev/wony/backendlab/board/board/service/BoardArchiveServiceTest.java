@@ -0,0 +1,120 @@
+package dev.wony.backendlab.board.board.service;
+
+import dev.wony.backendlab.board.board.model.Board;
+import dev.wony.backendlab.board.board.model.BoardArchive;
+import dev.wony.backendlab.board.board.model.BoardDto;
+import dev.wony.backendlab.board.board.repository.BoardArchiveRepository;
+import dev.wony.backendlab.board.board.repository.BoardRepository;
+import dev.wony.backendlab.board.board.service.impl.BoardArchiveServiceImpl;
+import dev.wony.backendlab.board.comment.model.CommentArchive;
+import dev.wony.backendlab.board.comment.model.CommentDto;
+import dev.wony.backendlab.board.comment.repository.CommentArchiveRepository;
+import dev.wony.backendlab.board.comment.repository.CommentRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DataJpaTest
+@Import(BoardArchiveServiceImpl.class)
+@DisplayName("BoardArchiveService 테스트")
+class BoardArchiveServiceTest {
+
+    @Autowired
+    private BoardArchiveService boardArchiveService;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private BoardArchiveRepository boardArchiveRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private CommentArchiveRepository commentArchiveRepository;
+
+    @Test
+    @DisplayName("기준 시각 이전 게시글을 chunk 크기만큼 보관 테이블로 이동한다")
+    void archiveChunk_MovesBoardsUpToChunkSize() {
+        // given
+        Board board1 = boardRepository.save(BoardDto.builder().title("제목1").content("내용1").build().toEntity());
+        Board board2 = boardRepository.save(BoardDto.builder().title("제목2").content("내용2").build().toEntity());
+        Board board3 = boardRepository.save(BoardDto.builder().title("제목3").content("내용3").build().toEntity());
+        LocalDateTime cutoff = LocalDateTime.now().plusDays(1);
+
+        // when
+        int moved = boardArchiveService.archiveChunk(cutoff, 2);
+
+        // then
+        assertThat(moved).isEqualTo(2);
+        assertThat(boardArchiveRepository.findAll())
+                .extracting(BoardArchive::getId)
+                .containsExactlyInAnyOrder(board1.getId(), board2.getId());
+        assertThat(boardRepository.findIdChunk(10)).containsExactly(board3.getId());
+    }
+
+    @Test
+    @DisplayName("보관하는 게시글의 댓글도 보관 테이블로 이동하고 남은 게시글의 댓글은 그대로 둔다")
+    void archiveChunk_MovesCommentsOfArchivedBoards() {
+        // given
+        Board archived = boardRepository.save(BoardDto.builder().title("제목1").content("내용1").build().toEntity());
+        Board remaining = boardRepository.save(BoardDto.builder().title("제목2").content("내용2").build().toEntity());
+        commentRepository.save(CommentDto.builder().author("작성자").content("댓글1").build().toEntity(archived.getId()));
+        commentRepository.save(CommentDto.builder().author("작성자").content("댓글2").build().toEntity(archived.getId()));
+        commentRepository.save(CommentDto.builder().author("작성자").content("댓글3").build().toEntity(remaining.getId()));
+
+        // when
+        boardArchiveService.archiveChunk(LocalDateTime.now().plusDays(1), 1);
+
+        // then
+        assertThat(commentRepository.countByBoardId(archived.getId())).isZero();
+        assertThat(commentRepository.countByBoardId(remaining.getId())).isEqualTo(1);
+        assertThat(commentArchiveRepository.findAll())
+                .extracting(CommentArchive::getBoardId, CommentArchive::getContent)
+                .containsExactlyInAnyOrder(
+                        tuple(archived.getId(), "댓글1"),
+                        tuple(archived.getId(), "댓글2"));
+    }
+
+    @Test
+    @DisplayName("soft delete 된 게시글도 보관 대상에 포함된다")
+    void archiveChunk_IncludesSoftDeletedBoards() {
+        // given
+        Board board = boardRepository.save(BoardDto.builder().title("제목").content("내용").build().toEntity());
+        boardRepository.deleteById(board.getId());
+        boardRepository.flush();
+
+        // when
+        int moved = boardArchiveService.archiveChunk(LocalDateTime.now().plusDays(1), 10);
+
+        // then
+        assertThat(moved).isEqualTo(1);
+        List<BoardArchive> archives = boardArchiveRepository.findAll();
+        assertThat(archives).hasSize(1);
+        assertThat(archives.get(0).isDeleted()).isTrue();
+        assertThat(archives.get(0).getArchivedAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("기준 시각 이후 게시글은 이동하지 않는다")
+    void archiveChunk_SkipsRecentBoards() {
+        // given
+        boardRepository.save(BoardDto.builder().title("제목").content("내용").build().toEntity());
+
+        // when
+        int moved = boardArchiveService.archiveChunk(LocalDateTime.now().minusDays(1), 10);
+
+        // then
+        assertThat(moved).isZero();
+        assertThat(boardArchiveRepository.count()).isZero();
+    }
+}
@@ -0,0 +1,79 @@
+package dev.wony.backendlab.board.board.service;
+
+import dev.wony.backendlab.board.board.model.BoardChangedEvent;
+import dev.wony.backendlab.board.board.repository.BoardRepository;
+import dev.wony.backendlab.board.board.service.impl.BoardServiceImpl;
+import dev.wony.backendlab.board.category.model.CategoryPostCountChangedEvent;
+import dev.wony.backendlab.board.category.repository.BoardCategoryRepository;
+import dev.wony.backendlab.board.comment.repository.CommentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("BoardService 테스트")
+class BoardServiceTest {
+
+    private BoardRepository boardRepository;
+    private CommentRepository commentRepository;
+    private ApplicationEventPublisher eventPublisher;
+    private PlatformTransactionManager transactionManager;
+    private BoardService boardService;
+
+    @BeforeEach
+    void setUp() {
+        boardRepository = mock(BoardRepository.class);
+        commentRepository = mock(CommentRepository.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        transactionManager = mock(PlatformTransactionManager.class);
+        boardService = new BoardServiceImpl(boardRepository, mock(BoardCategoryRepository.class), commentRepository,
+                eventPublisher,
+                new TransactionTemplate(transactionManager));
+    }
+
+    @Test
+    @DisplayName("전체 삭제는 chunk 의 댓글과 게시글을 지운 뒤 같은 트랜잭션에서 카테고리 게시글 수 감소분을 발행한다")
+    void deleteAll_PublishesCountChangeAfterDelete() {
+        // given
+        when(boardRepository.findIdChunk(anyInt())).thenReturn(List.of(1L, 2L));
+        when(boardRepository.countLiveByCategoryIdIn(List.of(1L, 2L))).thenReturn(List.of());
+
+        // when
+        boardService.deleteAll();
+
+        // then
+        InOrder inOrder = inOrder(commentRepository, boardRepository, eventPublisher, transactionManager);
+        inOrder.verify(commentRepository).hardDeleteAllByBoardIdIn(List.of(1L, 2L));
+        inOrder.verify(boardRepository).hardDeleteAllByIdIn(List.of(1L, 2L));
+        inOrder.verify(eventPublisher).publishEvent(any(CategoryPostCountChangedEvent.class));
+        inOrder.verify(transactionManager).commit(any());
+        inOrder.verify(eventPublisher).publishEvent(any(BoardChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("삭제가 실패하면 카테고리 게시글 수 감소분을 발행하지 않고 롤백한다")
+    void deleteAll_DeleteFails_DoesNotPublishCountChange() {
+        // given
+        when(boardRepository.findIdChunk(anyInt())).thenReturn(List.of(1L, 2L));
+        when(boardRepository.hardDeleteAllByIdIn(List.of(1L, 2L))).thenThrow(new IllegalStateException("삭제 실패"));
+
+        // when & then
+        assertThatThrownBy(() -> boardService.deleteAll()).isInstanceOf(IllegalStateException.class);
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+        verify(transactionManager).rollback(any());
+    }
+}
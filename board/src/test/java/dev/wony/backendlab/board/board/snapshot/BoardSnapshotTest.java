@@ -0,0 +1,83 @@
+package dev.wony.backendlab.board.board.snapshot;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("BoardSnapshot 테스트")
+class BoardSnapshotTest {
+
+    @Test
+    @DisplayName("게시글 JSON 을 ID 내림차순 JSON 배열로 이어 붙인다")
+    void of_WritesJsonArray() throws IOException {
+        // given & when
+        BoardSnapshot snapshot = BoardSnapshot.of(1L, List.of(entry(2L), entry(1L)));
+
+        // then
+        assertThat(read(snapshot)).isEqualTo("[{\"id\":2},{\"id\":1}]");
+        assertThat(snapshot.sizeInBytes()).isEqualTo(read(snapshot).length());
+    }
+
+    @Test
+    @DisplayName("변경분만 교체하고 보관 개수를 넘는 오래된 게시글은 밀어낸다")
+    void merge_ReplacesChangedAndKeepsLatest() throws IOException {
+        // given
+        BoardSnapshot snapshot = BoardSnapshot.of(1L, List.of(entry(3L), entry(2L), entry(1L)));
+
+        // when
+        BoardSnapshot merged = snapshot.merge(2L,
+                Map.of(4L, json("{\"id\":4}"), 2L, json("{\"id\":2,\"title\":\"수정\"}")), Set.of(), 3);
+
+        // then
+        assertThat(read(merged)).isEqualTo("[{\"id\":4},{\"id\":3},{\"id\":2,\"title\":\"수정\"}]");
+        assertThat(merged.contains(1L)).isFalse();
+        assertThat(merged.eTag()).isNotEqualTo(snapshot.eTag());
+    }
+
+    @Test
+    @DisplayName("ETag 에는 기동마다 바뀌는 epoch 가 들어가 재기동 전 ETag 와 겹치지 않는다")
+    void eTag_IncludesBootEpoch() {
+        // given
+        BoardSnapshot snapshot = BoardSnapshot.of(1L, List.of(entry(1L)));
+
+        // when & then
+        assertThat(snapshot.eTag()).isEqualTo("W/\"" + BoardSnapshot.BOOT_EPOCH + "-1\"");
+        assertThat(snapshot.eTag()).isNotEqualTo("W/\"1\"");
+    }
+
+    @Test
+    @DisplayName("삭제된 게시글은 스냅샷에서 제거한다")
+    void merge_RemovesDeleted() throws IOException {
+        // given
+        BoardSnapshot snapshot = BoardSnapshot.of(1L, List.of(entry(2L), entry(1L)));
+
+        // when
+        BoardSnapshot merged = snapshot.merge(2L, Map.of(), Set.of(2L, 1L), 10);
+
+        // then
+        assertThat(read(merged)).isEqualTo("[]");
+        assertThat(merged.size()).isZero();
+    }
+
+    private static Map.Entry<Long, byte[]> entry(long id) {
+        return Map.entry(id, json("{\"id\":" + id + "}"));
+    }
+
+    private static byte[] json(String json) {
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String read(BoardSnapshot snapshot) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        snapshot.writeTo(out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+}
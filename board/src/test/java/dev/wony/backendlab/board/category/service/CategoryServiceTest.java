@@ -0,0 +1,110 @@
+package dev.wony.backendlab.board.category.service;
+
+import dev.wony.backendlab.board.board.model.BoardDto;
+import dev.wony.backendlab.board.board.model.BoardPageDto;
+import dev.wony.backendlab.board.board.repository.BoardRepository;
+import dev.wony.backendlab.board.category.model.BoardCategoryDto;
+import dev.wony.backendlab.board.category.repository.BoardCategoryCountRepository;
+import dev.wony.backendlab.board.category.service.impl.CategoryPostCountAggregator;
+import dev.wony.backendlab.board.category.service.impl.CategoryServiceImpl;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({CategoryServiceImpl.class, CategoryPostCountAggregator.class, BoardCategoryCountRepository.class})
+@DisplayName("CategoryService 테스트")
+class CategoryServiceTest {
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private CategoryPostCountAggregator categoryPostCountAggregator;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("하위 카테고리를 포함한 게시글을 최신순 keyset 페이지로 조회한다")
+    void findBoards_ReturnsSubtreeBoards() {
+        // given
+        BoardCategoryDto root = categoryService.create(BoardCategoryDto.builder().name("개발").build());
+        BoardCategoryDto child = categoryService.create(BoardCategoryDto.builder().name("백엔드").parentId(root.getId()).build());
+        BoardCategoryDto grandChild = categoryService.create(BoardCategoryDto.builder().name("자바").parentId(child.getId()).build());
+        BoardCategoryDto other = categoryService.create(BoardCategoryDto.builder().name("잡담").build());
+        saveBoard(root.getId());
+        saveBoard(child.getId());
+        saveBoard(grandChild.getId());
+        saveBoard(other.getId());
+
+        // when
+        BoardPageDto firstPage = categoryService.findBoards(root.getId(), null, 2);
+        BoardPageDto lastPage = categoryService.findBoards(root.getId(), firstPage.getNextCursor(), 2);
+        BoardPageDto childPage = categoryService.findBoards(child.getId(), null, 10);
+
+        // then
+        assertThat(grandChild.getDepth()).isEqualTo(2);
+        assertThat(firstPage.getBoards()).extracting(BoardDto::getCategoryId)
+                .containsExactly(grandChild.getId(), child.getId());
+        assertThat(firstPage.isHasNext()).isTrue();
+        assertThat(lastPage.getBoards()).extracting(BoardDto::getCategoryId).containsExactly(root.getId());
+        assertThat(lastPage.isHasNext()).isFalse();
+        assertThat(childPage.getBoards()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("카테고리 게시글 수 증감분을 모든 조상 카테고리에 반영한다")
+    void flush_AppliesDeltasToAncestors() {
+        // given
+        BoardCategoryDto root = categoryService.create(BoardCategoryDto.builder().name("개발").build());
+        BoardCategoryDto child = categoryService.create(BoardCategoryDto.builder().name("백엔드").parentId(root.getId()).build());
+        BoardCategoryDto sibling = categoryService.create(BoardCategoryDto.builder().name("프론트엔드").parentId(root.getId()).build());
+        categoryPostCountAggregator.increase(child.getId(), 1L);
+        categoryPostCountAggregator.increase(child.getId(), 1L);
+        categoryPostCountAggregator.increase(sibling.getId(), 1L);
+
+        // when
+        int flushed = categoryPostCountAggregator.flush();
+        entityManager.clear();
+
+        // then
+        assertThat(flushed).isEqualTo(2);
+        assertThat(categoryPostCountAggregator.hasPending(child.getId())).isFalse();
+        assertThat(categoryService.findById(root.getId()).getSubtreePostCount()).isEqualTo(3L);
+        assertThat(categoryService.findById(child.getId()).getSubtreePostCount()).isEqualTo(2L);
+        assertThat(categoryService.findById(sibling.getId()).getSubtreePostCount()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("어긋난 카테고리 게시글 수를 실제 게시글 수로 다시 계산한다")
+    void recount_RepairsDrift() {
+        // given
+        BoardCategoryDto root = categoryService.create(BoardCategoryDto.builder().name("개발").build());
+        BoardCategoryDto child = categoryService.create(BoardCategoryDto.builder().name("백엔드").parentId(root.getId()).build());
+        saveBoard(child.getId());
+        saveBoard(child.getId());
+        categoryPostCountAggregator.increase(child.getId(), 5L);
+        entityManager.flush();
+
+        // when
+        categoryPostCountAggregator.recount();
+        entityManager.clear();
+
+        // then
+        assertThat(categoryService.findById(root.getId()).getSubtreePostCount()).isEqualTo(2L);
+        assertThat(categoryService.findById(child.getId()).getSubtreePostCount()).isEqualTo(2L);
+    }
+
+    private void saveBoard(Long categoryId) {
+        boardRepository.save(BoardDto.builder().title("제목").content("내용").categoryId(categoryId).build().toEntity());
+    }
+}
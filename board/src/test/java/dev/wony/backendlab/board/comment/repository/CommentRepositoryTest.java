@@ -0,0 +1,60 @@
+package dev.wony.backendlab.board.comment.repository;
+
+import dev.wony.backendlab.board.comment.model.Comment;
+import dev.wony.backendlab.board.comment.model.CommentDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@DisplayName("CommentRepository 테스트")
+class CommentRepositoryTest {
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Test
+    @DisplayName("cursor 기준으로 게시글의 댓글을 최신순 keyset 조회한다")
+    void findByBoardIdAndIdLessThan_KeysetPage() {
+        // given
+        List<Comment> saved = IntStream.rangeClosed(1, 5)
+                .mapToObj(i -> commentRepository.save(
+                        CommentDto.builder().author("작성자").content("댓글" + i).build().toEntity(1L)))
+                .toList();
+        commentRepository.save(CommentDto.builder().author("작성자").content("다른 게시글").build().toEntity(2L));
+
+        // when
+        List<Comment> firstPage = commentRepository.findByBoardIdOrderByIdDesc(1L, Limit.of(2));
+        List<Comment> secondPage = commentRepository.findByBoardIdAndIdLessThanOrderByIdDesc(
+                1L, firstPage.get(1).getId(), Limit.of(2));
+
+        // then
+        assertThat(firstPage).extracting(Comment::getId)
+                .containsExactly(saved.get(4).getId(), saved.get(3).getId());
+        assertThat(secondPage).extracting(Comment::getId)
+                .containsExactly(saved.get(2).getId(), saved.get(1).getId());
+    }
+
+    @Test
+    @DisplayName("게시글 ID 목록으로 댓글을 bulk 물리 삭제한다")
+    void hardDeleteAllByBoardIdIn_Comments() {
+        // given
+        commentRepository.save(CommentDto.builder().author("작성자").content("댓글1").build().toEntity(1L));
+        commentRepository.save(CommentDto.builder().author("작성자").content("댓글2").build().toEntity(2L));
+        commentRepository.save(CommentDto.builder().author("작성자").content("댓글3").build().toEntity(3L));
+
+        // when
+        int deleted = commentRepository.hardDeleteAllByBoardIdIn(List.of(1L, 2L));
+
+        // then
+        assertThat(deleted).isEqualTo(2);
+        assertThat(commentRepository.findAll()).extracting(Comment::getBoardId).containsExactly(3L);
+    }
+}
@@ -0,0 +1,100 @@
+package dev.wony.backendlab.board.comment.service;
+
+import dev.wony.backendlab.board.board.model.Board;
+import dev.wony.backendlab.board.board.model.BoardDto;
+import dev.wony.backendlab.board.board.repository.BoardCommentCountRepository;
+import dev.wony.backendlab.board.board.repository.BoardRepository;
+import dev.wony.backendlab.board.comment.model.CommentDto;
+import dev.wony.backendlab.board.comment.model.CommentPageDto;
+import dev.wony.backendlab.board.comment.scheduler.CommentCountReconciler;
+import dev.wony.backendlab.board.comment.service.impl.CommentCountAggregator;
+import dev.wony.backendlab.board.comment.service.impl.CommentServiceImpl;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({CommentServiceImpl.class, CommentCountAggregator.class, CommentCountReconciler.class,
+        BoardCommentCountRepository.class})
+@DisplayName("CommentService 테스트")
+class CommentServiceTest {
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private CommentCountAggregator commentCountAggregator;
+
+    @Autowired
+    private CommentCountReconciler commentCountReconciler;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("댓글 페이지는 다음 페이지 cursor 를 함께 반환한다")
+    void findByBoardId_ReturnsNextCursor() {
+        // given
+        Board board = boardRepository.save(BoardDto.builder().title("제목").content("내용").build().toEntity());
+        for (int i = 0; i < 3; i++) {
+            commentService.save(board.getId(), CommentDto.builder().author("작성자").content("댓글" + i).build());
+        }
+
+        // when
+        CommentPageDto firstPage = commentService.findByBoardId(board.getId(), null, 2);
+        CommentPageDto lastPage = commentService.findByBoardId(board.getId(), firstPage.getNextCursor(), 2);
+
+        // then
+        assertThat(firstPage.getComments()).hasSize(2);
+        assertThat(firstPage.isHasNext()).isTrue();
+        assertThat(lastPage.getComments()).hasSize(1);
+        assertThat(lastPage.isHasNext()).isFalse();
+        assertThat(lastPage.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("누적된 댓글 수 증가분을 게시글별로 한 번에 반영한다")
+    void flush_AppliesAggregatedDeltas() {
+        // given
+        Board board = boardRepository.saveAndFlush(BoardDto.builder().title("제목").content("내용").build().toEntity());
+        commentCountAggregator.increase(board.getId(), 1L);
+        commentCountAggregator.increase(board.getId(), 1L);
+        commentCountAggregator.increase(board.getId(), 1L);
+
+        // when
+        int flushed = commentCountAggregator.flush();
+        entityManager.clear();
+
+        // then
+        assertThat(flushed).isEqualTo(1);
+        assertThat(commentCountAggregator.hasPending(board.getId())).isFalse();
+        assertThat(boardRepository.findById(board.getId()).orElseThrow().getCommentCount()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("어긋난 댓글 수를 실제 댓글 수로 보정한다")
+    void reconcile_RepairsDrift() {
+        // given
+        Board board = boardRepository.saveAndFlush(BoardDto.builder().title("제목").content("내용").build().toEntity());
+        commentService.save(board.getId(), CommentDto.builder().author("작성자").content("댓글1").build());
+        commentService.save(board.getId(), CommentDto.builder().author("작성자").content("댓글2").build());
+        commentCountAggregator.increase(board.getId(), 5L);
+        entityManager.flush();
+
+        // when
+        int repaired = commentCountReconciler.reconcile();
+        entityManager.clear();
+
+        // then
+        assertThat(repaired).isEqualTo(1);
+        assertThat(boardRepository.findById(board.getId()).orElseThrow().getCommentCount()).isEqualTo(2L);
+    }
+}
@@ -0,0 +1,94 @@
+package dev.wony.backendlab.board.common.cache;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.configuration.TypesafeConfigurator;
+import com.typesafe.config.ConfigFactory;
+import dev.wony.backendlab.board.board.model.Board;
+import dev.wony.backendlab.board.board.model.BoardDto;
+import dev.wony.backendlab.board.board.repository.BoardRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Hibernate 2차 캐시 테스트")
+class HibernateCacheEndpointTest {
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private HibernateCacheEndpoint endpoint;
+
+    @BeforeEach
+    void setUp() {
+        endpoint = new HibernateCacheEndpoint(entityManagerFactory);
+        entityManagerFactory.unwrap(SessionFactory.class).getStatistics().clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        boardRepository.hardDeleteAllByIdIn(boardRepository.findIdChunk(1_000));
+    }
+
+    @Test
+    @DisplayName("다른 트랜잭션의 findById는 2차 캐시에서 조회된다")
+    void findById_HitsSecondLevelCache() {
+        // given
+        Board board = boardRepository.save(BoardDto.builder().title("제목").content("내용").build().toEntity());
+
+        // when
+        boardRepository.findById(board.getId());
+        boardRepository.findById(board.getId());
+
+        // then
+        HibernateCacheEndpoint.RegionStatistics statistics = endpoint.region("board");
+        assertThat(statistics.hits()).isEqualTo(2);
+        assertThat(statistics.hitRatio()).isEqualTo(1.0);
+        assertThat(statistics.evictions()).isZero();
+    }
+
+    @Test
+    @DisplayName("목록 조회는 query cache에 저장되고 게시글 변경 시 무효화된다")
+    void findAll_UsesQueryCache() {
+        // given
+        boardRepository.save(BoardDto.builder().title("제목1").content("내용1").build().toEntity());
+
+        // when
+        boardRepository.findAll();
+        boardRepository.findAll();
+        boardRepository.save(BoardDto.builder().title("제목2").content("내용2").build().toEntity());
+
+        // then
+        assertThat(endpoint.region("board-list").hits()).isEqualTo(1);
+        assertThat(boardRepository.findAll()).hasSize(2);
+        assertThat(endpoint.regions()).containsKeys("board", "board-list");
+    }
+
+    @Test
+    @DisplayName("쿼리 캐시 무효화 기준 시각 region 은 크기 제한 없이 설정된다")
+    void updateTimestampsRegion_IsUnbounded() {
+        // given & when
+        CaffeineConfiguration<Object, Object> timestamps =
+                TypesafeConfigurator.from(ConfigFactory.load(), "default-update-timestamps-region").orElseThrow();
+        CaffeineConfiguration<Object, Object> boardList =
+                TypesafeConfigurator.from(ConfigFactory.load(), "board-list").orElseThrow();
+
+        // then
+        assertThat(timestamps.getMaximumSize()).isEmpty();
+        assertThat(timestamps.getMaximumWeight()).isEmpty();
+        assertThat(boardList.getMaximumSize()).hasValue(200);
+    }
+}
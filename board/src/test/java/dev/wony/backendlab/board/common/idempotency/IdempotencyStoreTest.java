@@ -0,0 +1,161 @@
+package dev.wony.backendlab.board.common.idempotency;
+
+import dev.wony.backendlab.board.common.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("IdempotencyStore 테스트")
+class IdempotencyStoreTest {
+
+    private final IdempotencyStore<String> store = new IdempotencyStore<>("test",
+            new IdempotencyProperties(Duration.ofMinutes(1), 100, Duration.ofSeconds(5)), new SimpleMeterRegistry());
+
+    @Test
+    @DisplayName("같은 키의 재시도는 처리를 다시 실행하지 않고 처음 응답을 돌려준다")
+    void execute_ReplaysStoredResponse() {
+        // given
+        AtomicInteger executions = new AtomicInteger();
+        store.execute("key", "body", () -> "응답" + executions.incrementAndGet());
+
+        // when
+        IdempotencyStore.Result<String> replay = store.execute("key", "body", () -> "응답" + executions.incrementAndGet());
+
+        // then
+        assertThat(replay.response()).isEqualTo("응답1");
+        assertThat(replay.replayed()).isTrue();
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("같은 키로 다른 요청 본문을 보내면 거절한다")
+    void execute_RejectsDifferentFingerprint() {
+        // given
+        store.execute("key", "body", () -> "응답");
+
+        // when & then
+        assertThatThrownBy(() -> store.execute("key", "other", () -> "다른 응답"))
+                .isInstanceOf(IdempotencyException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.IDEMPOTENCY_KEY_REUSED);
+    }
+
+    @Test
+    @DisplayName("실패한 요청은 보관하지 않아 같은 키로 다시 시도할 수 있다")
+    void execute_DoesNotStoreFailure() {
+        // given
+        assertThatThrownBy(() -> store.execute("key", "body", () -> {
+            throw new IllegalStateException("실패");
+        })).isInstanceOf(IllegalStateException.class);
+
+        // when
+        IdempotencyStore.Result<String> retry = store.execute("key", "body", () -> "응답");
+
+        // then
+        assertThat(retry.response()).isEqualTo("응답");
+        assertThat(retry.replayed()).isFalse();
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 중복 요청은 한 번만 처리하고 같은 응답을 공유한다")
+    void execute_Concurrently_ExecutesOnce() throws InterruptedException {
+        // given
+        int threads = 16;
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+        ConcurrentHashMap.KeySetView<String, Boolean> responses = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // when
+        for (int i = 0; i < threads; i++) {
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    responses.add(store.execute("key", "body", () -> {
+                        sleep(50);
+                        return "응답" + executions.incrementAndGet();
+                    }).response());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        done.await(10, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // then
+        assertThat(executions).hasValue(1);
+        assertThat(responses).containsExactly("응답1");
+    }
+
+    @Test
+    @DisplayName("처리 중 Error 가 나도 기다리던 중복 요청은 바로 실패하고 같은 키로 다시 시도할 수 있다")
+    void execute_ErrorInAction_ReleasesKey() throws Exception {
+        // given
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch fail = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        Future<?> first = executor.submit(() -> store.execute("key", "body", () -> {
+            running.countDown();
+            await(fail);
+            throw new AssertionError("처리 실패");
+        }));
+        running.await(5, TimeUnit.SECONDS);
+        Future<Throwable> joiner = executor.submit(() -> {
+            try {
+                store.execute("key", "body", () -> "중복 처리");
+                return null;
+            } catch (RuntimeException e) {
+                return e;
+            }
+        });
+        sleep(100);
+
+        // when
+        long startedAt = System.nanoTime();
+        fail.countDown();
+
+        // then
+        assertThatThrownBy(() -> first.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(AssertionError.class);
+        assertThat(joiner.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(IllegalStateException.class)
+                .hasCauseInstanceOf(AssertionError.class);
+        assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isLessThan(Duration.ofSeconds(5));
+        executor.shutdown();
+
+        IdempotencyStore.Result<String> retry = store.execute("key", "body", () -> "응답");
+        assertThat(retry.response()).isEqualTo("응답");
+        assertThat(retry.replayed()).isFalse();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package dev.wony.backendlab.board.common.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("AdmissionControlProperties 테스트")
+class AdmissionControlPropertiesTest {
+
+    @Test
+    @DisplayName("버킷 설정이 없으면 조회/변경 버킷 기본값을 쓴다")
+    void bind_WithoutBuckets_UsesDefaults() {
+        // given
+        Binder binder = new Binder(new MapConfigurationPropertySource(Map.of("board.admission.enabled", "true")));
+
+        // when
+        AdmissionControlProperties properties =
+                binder.bindOrCreate("board.admission", AdmissionControlProperties.class);
+
+        // then
+        assertThat(properties.bucket(EndpointClass.READ)).isEqualTo(new BucketSpec(200, 100));
+        assertThat(properties.bucket(EndpointClass.WRITE)).isEqualTo(new BucketSpec(20, 5));
+    }
+
+    @Test
+    @DisplayName("설정한 버킷만 바꾸고 나머지는 기본값을 유지한다")
+    void bind_OnlyWriteBucket_KeepsReadDefault() {
+        // given
+        Binder binder = new Binder(new MapConfigurationPropertySource(Map.of(
+                "board.admission.write.capacity", "2",
+                "board.admission.write.refill-per-second", "1")));
+
+        // when
+        AdmissionControlProperties properties =
+                binder.bindOrCreate("board.admission", AdmissionControlProperties.class);
+
+        // then
+        assertThat(properties.bucket(EndpointClass.READ)).isEqualTo(new BucketSpec(200, 100));
+        assertThat(properties.bucket(EndpointClass.WRITE)).isEqualTo(new BucketSpec(2, 1));
+    }
+}
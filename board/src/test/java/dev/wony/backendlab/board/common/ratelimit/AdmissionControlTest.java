@@ -0,0 +1,91 @@
+package dev.wony.backendlab.board.common.ratelimit;
+
+import dev.wony.backendlab.board.board.BoardController;
+import dev.wony.backendlab.board.board.service.BoardService;
+import dev.wony.backendlab.board.config.IdempotencyConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import java.util.List;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(BoardController.class)
+@Import(IdempotencyConfig.class)
+@TestPropertySource(properties = {
+        "board.client-key.trusted-proxies=127.0.0.1",
+        "board.admission.write.capacity=2",
+        "board.admission.write.refill-per-second=0.001"
+})
+@DisplayName("요청 유입 제어 테스트")
+class AdmissionControlTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private BoardService boardService;
+
+    @Test
+    @DisplayName("클라이언트별 변경 요청 한도를 넘으면 429와 Retry-After를 반환한다")
+    void writeRequests_OverLimit_Returns429() throws Exception {
+        // given & when & then
+        mockMvc.perform(delete("/boards/1").header("X-Client-Id", "client-a"))
+                .andExpect(status().isOk());
+        mockMvc.perform(delete("/boards/1").header("X-Client-Id", "client-a"))
+                .andExpect(status().isOk());
+        mockMvc.perform(delete("/boards/1").header("X-Client-Id", "client-a"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists(HttpHeaders.RETRY_AFTER))
+                .andExpect(jsonPath("$.code").value("TOO_MANY_REQUESTS"));
+    }
+
+    @Test
+    @DisplayName("버킷은 클라이언트와 엔드포인트 분류별로 분리된다")
+    void buckets_SeparatedByClientAndEndpointClass() throws Exception {
+        // given
+        when(boardService.findAll()).thenReturn(List.of());
+        mockMvc.perform(delete("/boards/1").header("X-Client-Id", "client-b"));
+        mockMvc.perform(delete("/boards/1").header("X-Client-Id", "client-b"));
+
+        // when & then
+        mockMvc.perform(get("/boards").header("X-Client-Id", "client-b"))
+                .andExpect(status().isOk());
+        mockMvc.perform(delete("/boards/1").header("X-Client-Id", "client-c"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("신뢰하지 않는 주소에서 온 식별 헤더는 무시하고 원격 IP 로 버킷을 나눈다")
+    void untrustedClientHeader_IgnoredAndKeyedByRemoteAddress() throws Exception {
+        // given
+        mockMvc.perform(delete("/boards/1").header("X-Client-Id", "rotating-1").with(remoteAddr("10.0.0.7")));
+        mockMvc.perform(delete("/boards/1").header("X-Client-Id", "rotating-2").with(remoteAddr("10.0.0.7")));
+
+        // when & then
+        mockMvc.perform(delete("/boards/1").header("X-Client-Id", "rotating-3").with(remoteAddr("10.0.0.7")))
+                .andExpect(status().isTooManyRequests());
+        mockMvc.perform(delete("/boards/1").with(remoteAddr("10.0.0.8")))
+                .andExpect(status().isOk());
+    }
+
+    private static RequestPostProcessor remoteAddr(String address) {
+        return request -> {
+            request.setRemoteAddr(address);
+            return request;
+        };
+    }
+}
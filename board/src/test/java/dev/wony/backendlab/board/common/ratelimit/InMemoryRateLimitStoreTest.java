@@ -0,0 +1,115 @@
+package dev.wony.backendlab.board.common.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("InMemoryRateLimitStore 테스트")
+class InMemoryRateLimitStoreTest {
+
+    private static final BucketSpec SPEC = new BucketSpec(1, 1.0);
+
+    @Test
+    @DisplayName("서로 다른 키가 계속 들어와도 버킷 수는 상한을 넘지 않는다")
+    void manyKeys_BoundedByMaximumSize() {
+        // given
+        InMemoryRateLimitStore store = new InMemoryRateLimitStore(100, Duration.ofMinutes(10));
+
+        // when
+        for (int i = 0; i < 10_000; i++) {
+            store.tryConsume("client-" + i, SPEC, 0L);
+        }
+
+        // then
+        assertThat(store.size()).isLessThanOrEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("같은 키는 같은 버킷을 공유한다")
+    void sameKey_SharesBucket() {
+        // given
+        InMemoryRateLimitStore store = new InMemoryRateLimitStore(100, Duration.ofMinutes(10));
+
+        // when & then
+        assertThat(store.tryConsume("client", SPEC, 0L)).isZero();
+        assertThat(store.tryConsume("client", SPEC, 0L)).isPositive();
+    }
+
+    @Test
+    @DisplayName("유휴 버킷 정리는 사용 중인 버킷을 지우지 않는다")
+    void evictIdle_KeepsBucketInUse() {
+        // given
+        InMemoryRateLimitStore store = new InMemoryRateLimitStore(100, Duration.ofMinutes(10));
+        store.tryConsume("busy", SPEC, 0L);
+        store.tryConsume("idle", SPEC, -2_000_000_000L);
+
+        // when
+        store.evictIdle(0L);
+
+        // then
+        assertThat(store.size()).isEqualTo(1);
+        assertThat(store.tryConsume("busy", SPEC, 0L)).isPositive();
+    }
+
+    @Test
+    @DisplayName("정리와 소비가 겹쳐도 버킷이 다시 채워져 용량보다 많이 소비되지 않는다")
+    void evictIdle_ConcurrentWithConsume_DoesNotRefill() throws Exception {
+        // given: 키마다 토큰 1개, 두 스레드가 같은 키를 한 번씩 소비하는 동안 정리가 계속 돈다
+        InMemoryRateLimitStore store = new InMemoryRateLimitStore(100_000, Duration.ofMinutes(10));
+        int keys = 20_000;
+        int consumers = 2;
+        ExecutorService executor = Executors.newFixedThreadPool(consumers + 1);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicInteger consumed = new AtomicInteger();
+
+        // when
+        Future<?> evictor = executor.submit(() -> {
+            await(start);
+            while (running.get()) {
+                store.evictIdle(0L);
+            }
+        });
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < consumers; i++) {
+            futures.add(executor.submit(() -> {
+                await(start);
+                for (int key = 0; key < keys; key++) {
+                    if (store.tryConsume("client-" + key, SPEC, 0L) == 0L) {
+                        consumed.incrementAndGet();
+                    }
+                }
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        running.set(false);
+        evictor.get(30, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // then
+        assertThat(consumed.get()).isEqualTo(keys);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package dev.wony.backendlab.board.common.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TokenBucket 테스트")
+class TokenBucketTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    @DisplayName("용량만큼 연속 소비 후 다음 요청은 대기 시간을 반환한다")
+    void tryConsume_ExhaustsCapacity() {
+        // given
+        TokenBucket bucket = new TokenBucket(3, 1, 0L);
+
+        // when & then
+        assertThat(bucket.tryConsume(0L)).isZero();
+        assertThat(bucket.tryConsume(0L)).isZero();
+        assertThat(bucket.tryConsume(0L)).isZero();
+        assertThat(bucket.tryConsume(0L)).isEqualTo(SECOND);
+    }
+
+    @Test
+    @DisplayName("시간이 지나면 충전 속도만큼 토큰이 다시 생긴다")
+    void tryConsume_RefillsOverTime() {
+        // given
+        TokenBucket bucket = new TokenBucket(1, 2, 0L);
+        bucket.tryConsume(0L);
+
+        // when & then
+        assertThat(bucket.tryConsume(SECOND / 4)).isPositive();
+        assertThat(bucket.tryConsume(SECOND / 2)).isZero();
+        assertThat(bucket.isFull(SECOND)).isTrue();
+    }
+
+    @Test
+    @DisplayName("동시에 소비해도 용량을 초과해서 허용하지 않는다")
+    void tryConsume_Concurrently_NeverExceedsCapacity() throws InterruptedException {
+        // given
+        TokenBucket bucket = new TokenBucket(1_000, 0.001, 0L);
+        AtomicInteger acquired = new AtomicInteger();
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch done = new CountDownLatch(threads);
+
+        // when
+        for (int i = 0; i < threads; i++) {
+            executor.execute(() -> {
+                for (int j = 0; j < 1_000; j++) {
+                    if (bucket.tryConsume(0L) == 0L) {
+                        acquired.incrementAndGet();
+                    }
+                }
+                done.countDown();
+            });
+        }
+        done.await(10, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // then
+        assertThat(acquired.get()).isEqualTo(1_000);
+    }
+
+    @Test
+    @DisplayName("가득 찬 버킷만 폐기되고, 폐기된 버킷은 소비 대신 RETIRED 를 반환한다")
+    void retireIfFull_OnlyWhenFull() {
+        // given
+        TokenBucket bucket = new TokenBucket(2, 1, 0L);
+        bucket.tryConsume(0L);
+
+        // when & then
+        assertThat(bucket.retireIfFull(0L)).isFalse();
+        assertThat(bucket.tryConsume(0L)).isZero();
+        assertThat(bucket.retireIfFull(2 * SECOND)).isTrue();
+        assertThat(bucket.tryConsume(2 * SECOND)).isEqualTo(TokenBucket.RETIRED);
+    }
+}
@@ -0,0 +1,62 @@
+package dev.wony.backendlab.board.common.sql;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SqlRequestTrackingFilter 테스트")
+class SqlRequestTrackingFilterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private SqlStatementTags statementTags;
+    private SqlRequestTrackingFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        SqlMetricsProperties properties = new SqlMetricsProperties(true, Duration.ofMillis(200), 3, 1);
+        statementTags = new SqlStatementTags(properties.maxStatementTags());
+        filter = new SqlRequestTrackingFilter(meterRegistry, properties, statementTags);
+    }
+
+    @Test
+    @DisplayName("N+1 지표의 문장 태그도 문장 형태 태그 상한을 넘으면 other 로 묶는다")
+    void doFilter_CapsNPlusOneStatementTag() throws Exception {
+        // given (다른 지표가 태그 상한을 이미 채운 상태)
+        statementTags.resolve("select name from item where id = ?");
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/boards/1/comments");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/boards/{id}/comments");
+
+        // when
+        filter.doFilter(request, new MockHttpServletResponse(), repeat("select * from board_comment where id = ?", 3));
+        filter.doFilter(request, new MockHttpServletResponse(), repeat("select name from item where id = ?", 3));
+
+        // then
+        assertThat(meterRegistry.find("board.sql.n_plus_one").counters())
+                .extracting(counter -> counter.getId().getTag("statement"))
+                .containsExactlyInAnyOrder("other", "select name from item where id = ?");
+        Counter other = meterRegistry.get("board.sql.n_plus_one")
+                .tag("endpoint", "GET /boards/{id}/comments")
+                .tag("statement", "other")
+                .counter();
+        assertThat(other.count()).isEqualTo(1);
+    }
+
+    private static FilterChain repeat(String shape, int times) {
+        return (request, response) -> {
+            for (int i = 0; i < times; i++) {
+                SqlRequestContext.record(shape);
+            }
+        };
+    }
+}
@@ -0,0 +1,101 @@
+package dev.wony.backendlab.board.common.sql;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SqlStatementMetricsListener 테스트")
+class SqlStatementMetricsListenerTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        SqlMetricsProperties properties = new SqlMetricsProperties(true, Duration.ofMillis(200), 3, 3);
+        DataSource dataSource = ProxyDataSourceBuilder
+                .create(new DriverManagerDataSource("jdbc:h2:mem:sql-metrics;DB_CLOSE_DELAY=-1", "sa", ""))
+                .listener(new SqlStatementMetricsListener(meterRegistry, properties,
+                        new SqlStatementTags(properties.maxStatementTags())))
+                .build();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("create table if not exists item (id bigint primary key, name varchar(20))");
+    }
+
+    @Test
+    @DisplayName("리터럴과 IN 목록 길이가 달라도 같은 문장 형태로 정규화한다")
+    void normalize_CollapsesLiteralsAndInList() {
+        // given
+        String first = "SELECT *  FROM item WHERE id IN (?, ?, ?) AND name = 'a'";
+        String second = "select * from item where id in (?) and name = 'bb'";
+
+        // when & then
+        assertThat(SqlStatementShape.normalize(first)).isEqualTo(SqlStatementShape.normalize(second));
+        assertThat(SqlStatementShape.operation(SqlStatementShape.normalize(first))).isEqualTo("select");
+    }
+
+    @Test
+    @DisplayName("문장 형태별로 실행 횟수와 지연 시간을 기록한다")
+    void afterQuery_RecordsTimerPerShape() {
+        // given & when
+        for (long id = 1; id <= 3; id++) {
+            jdbcTemplate.queryForList("select name from item where id = ?", String.class, id);
+        }
+
+        // then
+        Timer timer = meterRegistry.get("board.sql.statements")
+                .tag("operation", "select")
+                .tag("statement", "select name from item where id = ?")
+                .timer();
+        assertThat(timer.count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("태그로 구분하는 문장 형태 수를 넘으면 나머지는 other 로 묶는다")
+    void afterQuery_CapsDistinctStatementTags() {
+        // given (setUp 의 create table 형태가 첫 번째 태그를 차지한다)
+
+        // when
+        for (int column = 0; column < 6; column++) {
+            jdbcTemplate.queryForList("select name as c" + column + " from item where id = ?", String.class, 1L);
+        }
+
+        // then
+        assertThat(meterRegistry.find("board.sql.statements").timers()
+                .stream()
+                .map(timer -> timer.getId().getTag("statement"))
+                .distinct())
+                .hasSize(4)
+                .contains("other");
+        assertThat(meterRegistry.get("board.sql.statements").tag("statement", "other").timer().count())
+                .isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("요청 안에서 반복된 SELECT 형태를 집계한다")
+    void afterQuery_CountsRepeatedSelectsWithinRequest() {
+        // given
+        SqlRequestContext.begin();
+
+        // when
+        for (long id = 1; id <= 4; id++) {
+            jdbcTemplate.queryForList("select name from item where id = ?", String.class, id);
+        }
+        Map<String, Integer> counts = SqlRequestContext.end();
+
+        // then
+        assertThat(counts).containsEntry("select name from item where id = ?", 4);
+    }
+}
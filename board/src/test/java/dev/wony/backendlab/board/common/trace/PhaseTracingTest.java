@@ -0,0 +1,104 @@
+package dev.wony.backendlab.board.common.trace;
+
+import dev.wony.backendlab.board.board.model.BoardDto;
+import dev.wony.backendlab.board.board.service.BoardService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@AutoConfigureMockMvc
+@SpringBootTest
+@DisplayName("요청 구간 tracing 테스트")
+class PhaseTracingTest {
+
+    private static final AttributeKey<String> PHASE = AttributeKey.stringKey("phase");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private BoardService boardService;
+
+    @Autowired
+    private InMemorySpanCollector collector;
+
+    @Autowired
+    private SdkTracerProvider tracerProvider;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        collector.clear();
+    }
+
+    @Test
+    @DisplayName("게시글 수정 요청의 구간별 span 이 하나의 trace 로 수집된다")
+    void update_CollectsPhaseSpansInOneTrace() throws Exception {
+        // given
+        Long id = boardService.save(BoardDto.builder().title("제목").content("내용").build()).getId();
+        tracerProvider.forceFlush().join(5, TimeUnit.SECONDS);
+        collector.clear();
+
+        // when
+        mockMvc.perform(put("/boards/{id}", id)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"수정 제목\",\"content\":\"수정 내용\"}"))
+                .andExpect(status().isOk());
+        tracerProvider.forceFlush().join(5, TimeUnit.SECONDS);
+
+        // then
+        Map<String, List<SpanData>> byTrace = collector.spans().stream()
+                .collect(Collectors.groupingBy(SpanData::getTraceId));
+        assertThat(byTrace).hasSize(1);
+        Set<String> phases = byTrace.values().iterator().next().stream()
+                .map(span -> span.getAttributes().get(PHASE))
+                .collect(Collectors.toSet());
+        assertThat(phases).contains("controller", "service", "repository", "serialization");
+    }
+
+    @Test
+    @DisplayName("구간별 지연 시간이 엔드포인트 태그와 함께 집계된다")
+    void update_RecordsPhaseTimerPerEndpoint() throws Exception {
+        // given
+        Long id = boardService.save(BoardDto.builder().title("제목").content("내용").build()).getId();
+
+        // when
+        mockMvc.perform(put("/boards/{id}", id)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"수정 제목\",\"content\":\"수정 내용\"}"))
+                .andExpect(status().isOk());
+
+        // then
+        assertThat(meterRegistry.get(BoardPhase.OBSERVATION_NAME)
+                .tag("endpoint", "PUT /boards/{id}")
+                .tag("phase", "serialization")
+                .timer()
+                .count()).isPositive();
+        assertThat(meterRegistry.get(BoardPhase.OBSERVATION_NAME)
+                .tag("endpoint", "PUT /boards/{id}")
+                .tag("phase", "service")
+                .timer()
+                .count()).isGreaterThanOrEqualTo(2);
+    }
+}